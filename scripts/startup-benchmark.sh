@@ -0,0 +1,79 @@
+#!/usr/bin/env bash
+# Measures the time from launching the application until it answers its first request, for the default
+# setup and for each fast-startup option, and prints the median of several runs.
+#
+# Usage: scripts/startup-benchmark.sh [runs]
+#   JAR            the application jar (default: target/app.jar, built with mvn -Pfast-startup package)
+#   URL            the request awaited (default: the readiness probe)
+#   TIMEOUT        seconds to wait for one start (default: 120)
+# The database and Redis configured in application.properties, or through SPRING_* environment variables,
+# must be reachable.
+
+set -euo pipefail
+
+RUNS="${1:-5}"
+JAR="${JAR:-target/app.jar}"
+URL="${URL:-http://localhost:7070/actuator/health/readiness}"
+TIMEOUT="${TIMEOUT:-120}"
+WORK_DIR="$(mktemp -d)"
+trap 'rm -rf "$WORK_DIR"' EXIT
+
+if [[ ! -f "$JAR" ]]; then
+    echo "Missing $JAR; build it with: mvn -Pfast-startup clean package -DskipTests" >&2
+    exit 1
+fi
+
+java -Djarmode=tools -jar "$JAR" extract --destination "$WORK_DIR/application" > /dev/null
+EXTRACTED_JAR="$WORK_DIR/application/$(basename "$JAR")"
+java -XX:ArchiveClassesAtExit="$WORK_DIR/app.jsa" -Dspring.context.exit=onRefresh \
+    -Dspring.profiles.active=fast-startup -Dmanagement.endpoint.health.probes.enabled=true \
+    -jar "$EXTRACTED_JAR" > "$WORK_DIR/training.log" 2>&1 || true
+
+now_millis() {
+    date +%s%3N
+}
+
+# Starts the application with the given JVM options, waits for the first successful response and prints
+# the elapsed milliseconds.
+time_to_first_request() {
+    local started_at pid elapsed
+    started_at="$(now_millis)"
+    java "$@" > "$WORK_DIR/run.log" 2>&1 &
+    pid=$!
+    until curl -fs -o /dev/null "$URL"; do
+        if ! kill -0 "$pid" 2> /dev/null; then
+            echo "Application exited; see its log:" >&2
+            tail -n 50 "$WORK_DIR/run.log" >&2
+            exit 1
+        fi
+        if (( $(now_millis) - started_at > TIMEOUT * 1000 )); then
+            kill "$pid"
+            echo "No response from $URL within $TIMEOUT s" >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    elapsed=$(( $(now_millis) - started_at ))
+    kill "$pid"
+    wait "$pid" 2> /dev/null || true
+    echo "$elapsed"
+}
+
+benchmark() {
+    local name="$1"
+    shift
+    local times=()
+    for (( run = 0; run < RUNS; run++ )); do
+        times+=("$(time_to_first_request "$@")")
+    done
+    local sorted
+    mapfile -t sorted < <(printf '%s\n' "${times[@]}" | sort -n)
+    printf '%-24s median %6s ms   runs: %s\n' "$name" "${sorted[$(( (RUNS - 1) / 2 ))]}" "${sorted[*]}"
+}
+
+PROBES=-Dmanagement.endpoint.health.probes.enabled=true
+benchmark "default" $PROBES -jar "$JAR"
+benchmark "fast-startup profile" -Dspring.profiles.active=fast-startup -jar "$JAR"
+benchmark "+ AOT" -Dspring.profiles.active=fast-startup -Dspring.aot.enabled=true -jar "$JAR"
+benchmark "+ AOT + AppCDS" -XX:SharedArchiveFile="$WORK_DIR/app.jsa" -Dspring.profiles.active=fast-startup \
+    -Dspring.aot.enabled=true -jar "$EXTRACTED_JAR"
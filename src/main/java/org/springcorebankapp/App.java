@@ -3,20 +3,30 @@ package org.springcorebankapp;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.core.Ordered;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 /**
  * The main class of the application, which serves as the entry point for the Spring Boot application.
  * <p>
  * This class is annotated with {@link SpringBootApplication} to enable Spring Boot auto-configuration,
  * component scanning, and other necessary configurations. The {@link EnableCaching} annotation is also
- * used to enable caching functionality in the application.
+ * used to enable caching functionality in the application, and {@link EnableScheduling} enables
+ * the background jobs such as the scheduled transfers dispatcher.
+ * </p>
+ * <p>
+ * Transactions are ordered to wrap the cache interceptor, so cache entries are populated and evicted while
+ * the row locks of the surrounding transaction are held.
  * </p>
  *
  * @author Mukhammed Lolo
  * @version 1.0.0
  */
-@EnableCaching
+@EnableCaching(order = Ordered.LOWEST_PRECEDENCE)
+@EnableTransactionManagement(order = Ordered.LOWEST_PRECEDENCE - 1)
+@EnableScheduling
 @SpringBootApplication
 public class App {
 
@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
+import org.springcorebankapp.fx.Currency;
 
 import java.io.Serializable;
 import java.util.Objects;
@@ -24,6 +26,8 @@ import java.util.Objects;
  *     <li>Unique account identification with an auto-generated ID.</li>
  *     <li>Storage of user ID to link the account to its owner.</li>
  *     <li>Tracking of the account's current monetary balance.</li>
+ *     <li>The currency the balance is held in.</li>
+ *     <li>A version incremented on every change, used for optimistic checks and HTTP entity tags.</li>
  * </ul>
  *
  * @author Mukhammed Lolo
@@ -34,7 +38,8 @@ import java.util.Objects;
 @Setter
 @Entity
 //@RedisHash("Account")
-@Table(name = "accounts")
+@Table(name = "accounts",
+        indexes = @Index(name = "idx_accounts_user_balances", columnList = "user_id, id"))
 public class Account implements Serializable {
 
     /**
@@ -62,28 +67,65 @@ public class Account implements Serializable {
      * The monetary balance currently held in the account.
      * <p>
      * Maps to the "money_amount" column in the "accounts" table and represents
-     * the amount of funds available in the account.
+     * the amount of funds available in the account, in the minor unit of its currency.
      * </p>
      */
     @Column(name = "money_amount")
-    private int moneyAmount;
+    private long moneyAmount;
+
+    /**
+     * The currency the balance is held in.
+     * <p>
+     * Maps to the "currency" column in the "accounts" table. Accounts created before currencies
+     * were introduced are held in {@link Currency#USD}.
+     * </p>
+     */
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'USD'")
+    @Column(name = "currency", nullable = false, length = 3)
+    private Currency currency = Currency.USD;
+
+    /**
+     * The version of the account, incremented by every change to it.
+     * <p>
+     * Maps to the "version" column in the "accounts" table. Set-based updates that bypass JPA must increment
+     * it as well, since it is the basis of the entity tags returned for the account.
+     * </p>
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private long version;
 
     /**
      * Constructs a new {@code Account} with the specified user ID and initial balance.
      *
      * @param userId      the unique identifier of the user who owns the account
-     * @param moneyAmount the initial monetary balance of the account
+     * @param moneyAmount the initial monetary balance of the account, in minor units
+     */
+    public Account(int userId, long moneyAmount) {
+        this.userId = userId;
+        this.moneyAmount = moneyAmount;
+    }
+
+    /**
+     * Constructs a new {@code Account} with the specified user ID, initial balance and currency.
+     *
+     * @param userId      the unique identifier of the user who owns the account
+     * @param moneyAmount the initial monetary balance of the account, in minor units
+     * @param currency    the currency the balance is held in
      */
-    public Account(int userId, int moneyAmount) {
+    public Account(int userId, long moneyAmount, Currency currency) {
         this.userId = userId;
         this.moneyAmount = moneyAmount;
+        this.currency = currency;
     }
 
     /**
      * Compares this account with another object for equality.
      * <p>
      * Two accounts are considered equal if their {@code id}, {@code userId},
-     * and {@code moneyAmount} are identical.
+     * {@code moneyAmount} and {@code currency} are identical.
      * </p>
      *
      * @param o the object to be compared with this account
@@ -94,27 +136,28 @@ public class Account implements Serializable {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Account account = (Account) o;
-        return id == account.id && userId == account.userId && moneyAmount == account.moneyAmount;
+        return id == account.id && userId == account.userId && moneyAmount == account.moneyAmount
+                && currency == account.currency;
     }
 
     /**
      * Computes a hash code for this account based on its fields.
      * <p>
      * The hash code is calculated using the {@code id}, {@code userId},
-     * and {@code moneyAmount} fields to ensure consistent results.
+     * {@code moneyAmount} and {@code currency} fields to ensure consistent results.
      * </p>
      *
      * @return the hash code value of this account
      */
     @Override
     public int hashCode() {
-        return Objects.hash(id, userId, moneyAmount);
+        return Objects.hash(id, userId, moneyAmount, currency);
     }
 
     /**
      * Returns a string representation of this account.
      * <p>
-     * The string contains the account's {@code id}, {@code userId}, and {@code moneyAmount}.
+     * The string contains the account's {@code id}, {@code userId}, {@code moneyAmount} and {@code currency}.
      * </p>
      *
      * @return a string representation of the account
@@ -125,6 +168,7 @@ public class Account implements Serializable {
                 "id=" + id +
                 ", userId=" + userId +
                 ", moneyAmount=" + moneyAmount +
+                ", currency=" + currency +
                 '}';
     }
 }
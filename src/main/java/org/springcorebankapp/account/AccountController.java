@@ -7,11 +7,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springcorebankapp.exception.AccountNotFoundException;
 import org.springcorebankapp.exception.UserNotFoundException;
+import org.springcorebankapp.exception.VelocityLimitExceededException;
+import org.springcorebankapp.fx.Currency;
+import org.springcorebankapp.util.ETags;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
+import java.util.List;
+
 @Tag(name = "Account Controller", description = "Operations related to account management")
 @RestController
 @RequestMapping("/accounts")
@@ -25,7 +32,7 @@ public class AccountController {
 
     @Operation(
             summary = "Create a new account",
-            description = "Creates a new account for a user specified by their login.",
+            description = "Creates a new account for a user specified by their login, optionally in a given currency.",
             tags = {"Account Controller"}
     )
     @ApiResponses(value = {
@@ -36,9 +43,15 @@ public class AccountController {
     @PostMapping("/create-account")
     public ResponseEntity<String> createAccount(
             @Parameter(description = "Login of the user for whom the account is created", required = true)
-            @RequestParam("login") String login) {
+            @RequestParam("login") String login,
+            @Parameter(description = "Currency of the account; the default currency if omitted")
+            @RequestParam(value = "currency", required = false) Currency currency) {
         try {
-            accountService.createAccount(login);
+            if (currency == null) {
+                accountService.createAccount(login);
+            } else {
+                accountService.createAccount(login, currency);
+            }
             return ResponseEntity.ok("Account for user with login = %s created".formatted(login));
         } catch (UserNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).body("User with login = %s not found".formatted(login));
@@ -49,45 +62,116 @@ public class AccountController {
 
     @Operation(
             summary = "Find an account by ID",
-            description = "Retrieves an account's details using its unique ID.",
+            description = "Retrieves an account's details using its unique ID. Supports conditional requests with If-None-Match.",
             tags = {"Account Controller"}
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Account found and returned successfully"),
+            @ApiResponse(responseCode = "304", description = "Account unchanged since the version identified by If-None-Match"),
             @ApiResponse(responseCode = "404", description = "Account not found"),
             @ApiResponse(responseCode = "500", description = "Unexpected server error")
     })
     @GetMapping("/find-account-by-id")
     public ResponseEntity<Account> findAccountById(
             @Parameter(description = "Unique ID of the account", required = true)
-            @RequestParam("id") Integer id) {
+            @RequestParam("id") Integer id,
+            @Parameter(description = "Entity tags of the client's cached copies")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            return ResponseEntity.ok(accountService.findAccountById(id));
-        } catch (AccountNotFoundException e) {
+            Account account = accountService.findAccountById(id);
+            String eTag = ETags.of(account.getId(), account.getVersion());
+            if (ETags.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            return ResponseEntity.ok().eTag(eTag).body(account);
+        } catch (AccountNotFoundException | javax.security.auth.login.AccountNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
         }
     }
 
+    @Operation(
+            summary = "Find accounts by ID",
+            description = "Retrieves several accounts at once, in the order of the given IDs. Cached accounts are read "
+                    + "in one cache round trip and all others with one query; IDs without an account are skipped.",
+            tags = {"Account Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Found accounts returned successfully"),
+            @ApiResponse(responseCode = "400", description = "Too many IDs"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping(params = "ids")
+    public ResponseEntity<List<Account>> findAccountsByIds(
+            @Parameter(description = "Comma-separated IDs of the accounts", required = true)
+            @RequestParam("ids") List<Integer> ids) {
+        try {
+            return ResponseEntity.ok(accountService.findAccountsByIds(ids));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    @Operation(
+            summary = "List an account's movements",
+            description = "Returns the account's deposits, withdrawals, transfers, closure sweeps and adjustments, "
+                    + "newest first, one page at a time. Pass the returned nextCursor to fetch the following page.",
+            tags = {"Account Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Page of movements returned successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid page size or cursor"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping("/{id}/history")
+    public ResponseEntity<AccountHistoryPage> findHistory(
+            @Parameter(description = "ID of the account", required = true)
+            @PathVariable("id") int id,
+            @Parameter(description = "Earliest movement time included, e.g. 2024-01-01T00:00:00Z")
+            @RequestParam(value = "from", required = false) Instant from,
+            @Parameter(description = "Movement time excluded onwards; ignored with a cursor")
+            @RequestParam(value = "to", required = false) Instant to,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "Maximum number of movements")
+            @RequestParam(value = "limit", defaultValue = "50") int limit) {
+        try {
+            return ResponseEntity.ok(accountService.findHistory(id, from, to, cursor, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
     @Operation(
             summary = "Deposit money into an account",
-            description = "Adds a specified amount to the account balance.",
+            description = "Adds a specified amount to the account balance. Amounts are in minor units of the "
+                    + "account's currency (e.g. cents), no longer in whole units: 100 deposits 1.00 USD but 100 JPY.",
             tags = {"Account Controller"}
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Deposit successful"),
+            @ApiResponse(responseCode = "400", description = "Amount not positive or overflowing the balance"),
+            @ApiResponse(responseCode = "404", description = "Account not found"),
             @ApiResponse(responseCode = "500", description = "Unexpected server error")
     })
     @PutMapping("/deposit-account")
     public ResponseEntity<String> depositAccount(
             @Parameter(description = "ID of the account", required = true)
             @RequestParam("id") Integer id,
-            @Parameter(description = "Amount to deposit", required = true)
-            @RequestParam("amount") Integer amount) {
+            @Parameter(description = "Amount to deposit, in minor units", required = true)
+            @RequestParam("amount") Long amount) {
         try {
             accountService.depositAccount(id, amount);
             return ResponseEntity.ok("Account deposited successfully");
+        } catch (AccountNotFoundException | javax.security.auth.login.AccountNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
         }
@@ -95,22 +179,29 @@ public class AccountController {
 
     @Operation(
             summary = "Withdraw money from an account",
-            description = "Removes a specified amount from the account balance.",
+            description = "Removes a specified amount from the account balance. Amounts are in minor units of the "
+                    + "account's currency (e.g. cents), no longer in whole units: 100 withdraws 1.00 USD but 100 JPY.",
             tags = {"Account Controller"}
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Withdrawal successful"),
+            @ApiResponse(responseCode = "400", description = "Amount not positive, exceeding the balance or overflowing"),
+            @ApiResponse(responseCode = "404", description = "Account not found"),
             @ApiResponse(responseCode = "500", description = "Unexpected server error")
     })
     @PutMapping("/withdraw-from-account")
     public ResponseEntity<String> withdrawAccount(
             @Parameter(description = "ID of the account", required = true)
             @RequestParam("id") Integer id,
-            @Parameter(description = "Amount to withdraw", required = true)
-            @RequestParam("amount") Integer amount) {
+            @Parameter(description = "Amount to withdraw, in minor units", required = true)
+            @RequestParam("amount") Long amount) {
         try {
             accountService.withdrawFromAccount(id, amount);
             return ResponseEntity.ok("Account withdrawn successfully");
+        } catch (AccountNotFoundException | javax.security.auth.login.AccountNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
         }
@@ -123,6 +214,8 @@ public class AccountController {
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Account closed successfully"),
+            @ApiResponse(responseCode = "400", description = "The account is the user's only account"),
+            @ApiResponse(responseCode = "404", description = "Account not found"),
             @ApiResponse(responseCode = "500", description = "Unexpected server error")
     })
     @DeleteMapping("/close-account")
@@ -132,6 +225,10 @@ public class AccountController {
         try {
             accountService.closeAccount(id);
             return ResponseEntity.ok("Account closed successfully");
+        } catch (AccountNotFoundException | javax.security.auth.login.AccountNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
         }
@@ -139,11 +236,15 @@ public class AccountController {
 
     @Operation(
             summary = "Transfer money between accounts",
-            description = "Transfers a specified amount of money from one account to another.",
+            description = "Transfers a specified amount of money from one account to another. Amounts are in minor "
+                    + "units of the source account's currency (e.g. cents), no longer in whole units.",
             tags = {"Account Controller"}
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Transfer successful"),
+            @ApiResponse(responseCode = "400", description = "Amount not positive, exceeding the balance or overflowing"),
+            @ApiResponse(responseCode = "404", description = "Account not found"),
+            @ApiResponse(responseCode = "429", description = "Velocity limit exceeded"),
             @ApiResponse(responseCode = "500", description = "Unexpected server error")
     })
     @PutMapping("/transfer")
@@ -152,11 +253,17 @@ public class AccountController {
             @RequestParam("fromAccountId") int fromAccountId,
             @Parameter(description = "ID of the account to transfer money to", required = true)
             @RequestParam("toAccountId") int toAccountId,
-            @Parameter(description = "Amount to transfer", required = true)
-            @RequestParam("amountToTransfer") int amountToTransfer) {
+            @Parameter(description = "Amount to transfer, in minor units of the source account's currency", required = true)
+            @RequestParam("amountToTransfer") long amountToTransfer) {
         try {
             accountService.transfer(fromAccountId, toAccountId, amountToTransfer);
             return ResponseEntity.ok("Account transfer successfully");
+        } catch (VelocityLimitExceededException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).body(e.getMessage());
+        } catch (AccountNotFoundException | javax.security.auth.login.AccountNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException | ArithmeticException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
         }
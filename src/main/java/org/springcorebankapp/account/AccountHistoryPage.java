@@ -0,0 +1,29 @@
+package org.springcorebankapp.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * A page of an account's movements returned by {@link AccountService#findHistory}.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AccountHistoryPage {
+
+    /**
+     * The movements of the page, newest first.
+     */
+    private final List<AccountMovement> movements;
+
+    /**
+     * The cursor of the next page, or {@code null} if this is the last page.
+     */
+    private final String nextCursor;
+}
@@ -0,0 +1,133 @@
+package org.springcorebankapp.account;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Represents a single money movement on an account.
+ * <p>
+ * This class is a JPA entity that maps to the "account_movements" table in the database.
+ * Every change of an account balance is recorded as a movement in the same transaction as the change,
+ * so the sum of an account's movements always explains its balance.
+ * </p>
+ * <p>
+ * The table is partitioned by month of {@code created_at}; see {@code MovementPartitionService}.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Signed amount of the balance change and the kind of movement.</li>
+ *     <li>Counterparty account of transfers and closure sweeps.</li>
+ *     <li>Commission withheld from cross-user transfers.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "account_movements",
+        indexes = @Index(name = "idx_account_movements_account_created", columnList = "account_id, created_at, id"))
+public class AccountMovement implements Serializable {
+
+    /**
+     * Unique identifier for the movement.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    /**
+     * Identifier of the account whose balance changed.
+     */
+    @Column(name = "account_id", nullable = false)
+    private int accountId;
+
+    /**
+     * Identifier of the other account of a transfer or closure sweep, if any.
+     */
+    @Column(name = "counterparty_account_id")
+    private Integer counterpartyAccountId;
+
+    /**
+     * The kind of movement.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 16)
+    private MovementType type;
+
+    /**
+     * The signed balance change in minor units: positive for credits, negative for debits.
+     */
+    @Column(name = "amount", nullable = false)
+    private long amount;
+
+    /**
+     * The commission withheld by the bank; only non-zero on {@link MovementType#TRANSFER_OUT}
+     * and {@link MovementType#FX_OUT} movements.
+     */
+    @Column(name = "fee", nullable = false)
+    private long fee;
+
+    /**
+     * The time of the movement.
+     */
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /**
+     * Constructs a new {@code AccountMovement}.
+     *
+     * @param accountId             the ID of the account whose balance changed
+     * @param counterpartyAccountId the ID of the other account, or {@code null}
+     * @param type                  the kind of movement
+     * @param amount                the signed balance change
+     * @param fee                   the commission withheld by the bank
+     * @param createdAt             the time of the movement
+     */
+    public AccountMovement(int accountId, Integer counterpartyAccountId, MovementType type,
+                           long amount, long fee, Instant createdAt) {
+        this.accountId = accountId;
+        this.counterpartyAccountId = counterpartyAccountId;
+        this.type = type;
+        this.amount = amount;
+        this.fee = fee;
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        AccountMovement that = (AccountMovement) o;
+        return id == that.id && accountId == that.accountId && amount == that.amount && fee == that.fee
+                && Objects.equals(counterpartyAccountId, that.counterpartyAccountId) && type == that.type
+                && Objects.equals(createdAt, that.createdAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, accountId, counterpartyAccountId, type, amount, fee, createdAt);
+    }
+
+    @Override
+    public String toString() {
+        return "AccountMovement{" +
+                "id=" + id +
+                ", accountId=" + accountId +
+                ", counterpartyAccountId=" + counterpartyAccountId +
+                ", type=" + type +
+                ", amount=" + amount +
+                ", fee=" + fee +
+                ", createdAt=" + createdAt +
+                '}';
+    }
+}
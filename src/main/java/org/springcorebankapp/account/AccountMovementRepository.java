@@ -0,0 +1,50 @@
+package org.springcorebankapp.account;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for the {@link AccountMovement} ledger.
+ *
+ * @see AccountMovement
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Repository
+public interface AccountMovementRepository extends JpaRepository<AccountMovement, Long> {
+
+    /**
+     * Finds a page of an account's movements, newest first, strictly before a keyset position.
+     * <p>
+     * The row comparison on {@code (created_at, id)} is an index range condition on
+     * {@code idx_account_movements_account_created}, so every page costs the same however deep it is, and
+     * only the partitions overlapping {@code [from, beforeCreatedAt]} are scanned.
+     * </p>
+     *
+     * @param accountId       the ID of the account
+     * @param from            the earliest movement time included
+     * @param beforeCreatedAt the time of the keyset position
+     * @param beforeId        the ID of the keyset position
+     * @param limit           the maximum number of movements
+     * @return the movements ordered by time and ID, descending
+     */
+    @Query(value = """
+            SELECT * FROM account_movements
+            WHERE account_id = :accountId
+              AND created_at >= :from
+              AND (created_at, id) < (:beforeCreatedAt, :beforeId)
+            ORDER BY created_at DESC, id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<AccountMovement> findHistoryPage(@Param("accountId") int accountId,
+                                          @Param("from") Instant from,
+                                          @Param("beforeCreatedAt") Instant beforeCreatedAt,
+                                          @Param("beforeId") long beforeId,
+                                          @Param("limit") int limit);
+}
@@ -1,8 +1,13 @@
 package org.springcorebankapp.account;
 
+import org.springcorebankapp.fx.Currency;
+import org.springcorebankapp.util.Money;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
 /**
  * Configuration properties for account management.
  * <p>
@@ -13,8 +18,12 @@ import org.springframework.stereotype.Component;
  *
  * <h2>Key Features:</h2>
  * <ul>
- *     <li>Manages the default amount assigned to new accounts.</li>
- *     <li>Defines the commission percentage for account-to-account transfers.</li>
+ *     <li>Manages the default amount, in minor units, assigned to new accounts.</li>
+ *     <li>Defines the commission rate for account-to-account transfers as a fixed-point value in parts per million.</li>
+ *     <li>Defines the rounding mode of the transfer commission.</li>
+ *     <li>Defines the currency of accounts opened without an explicit currency.</li>
+ *     <li>Defines the largest page of account history returned at once.</li>
+ *     <li>Defines the most accounts looked up at once.</li>
  * </ul>
  *
  * <p>
@@ -29,50 +38,137 @@ import org.springframework.stereotype.Component;
 public class AccountProperties {
 
     /**
-     * The default amount of money assigned to a new account.
+     * The default amount of money, in minor units, assigned to a new account.
      * <p>
      * This value is injected from the configuration property {@code account.default-amount}.
      * </p>
      */
-    private final int defaultAccountAmount;
+    private final long defaultAccountAmount;
+
+    /**
+     * The commission rate for money transfers in parts per million.
+     * <p>
+     * This value is converted from the decimal configuration property {@code account.transfer.commission}.
+     * </p>
+     */
+    private final long transferCommissionPpm;
+
+    /**
+     * The rounding mode of the transfer commission.
+     * <p>
+     * This value is injected from the configuration property {@code account.transfer.commission-rounding}.
+     * </p>
+     */
+    private final RoundingMode transferCommissionRounding;
+
+    /**
+     * The currency of accounts opened without an explicit currency.
+     * <p>
+     * This value is injected from the configuration property {@code account.default-currency}.
+     * </p>
+     */
+    private final Currency defaultCurrency;
+
+    /**
+     * The largest number of movements returned in one page of account history.
+     * <p>
+     * This value is injected from the configuration property {@code account.history.max-page-size}.
+     * </p>
+     */
+    private final int historyMaxPageSize;
 
     /**
-     * The commission rate for money transfers.
+     * The largest number of accounts looked up in one request.
      * <p>
-     * This value is injected from the configuration property {@code account.transfer.commission}.
+     * This value is injected from the configuration property {@code account.multi-get.max-ids}.
      * </p>
      */
-    private final double transferCommission;
+    private final int multiGetMaxIds;
 
     /**
-     * Constructs a new {@code AccountProperties} instance with the specified default account amount
-     * and transfer commission rate.
+     * Constructs a new {@code AccountProperties} instance with the specified default account amount,
+     * transfer commission rate, commission rounding mode, default currency, history page size and
+     * multi-get size.
      *
-     * @param defaultAccountAmount the default monetary amount assigned to new accounts,
-     *                             injected from {@code account.default-amount}
-     * @param transferCommission   the commission rate for transfers, injected from {@code account.transfer.commission}
+     * @param defaultAccountAmount       the default monetary amount, in minor units, assigned to new accounts,
+     *                                   injected from {@code account.default-amount}
+     * @param transferCommission         the decimal commission rate for transfers, e.g. {@code 0.01},
+     *                                   injected from {@code account.transfer.commission}
+     * @param transferCommissionRounding the rounding mode of the transfer commission,
+     *                                   injected from {@code account.transfer.commission-rounding}
+     * @param defaultCurrency            the currency of accounts opened without an explicit currency,
+     *                                   injected from {@code account.default-currency}
+     * @param historyMaxPageSize         the largest number of movements returned in one page of account history,
+     *                                   injected from {@code account.history.max-page-size}
+     * @param multiGetMaxIds             the largest number of accounts looked up in one request,
+     *                                   injected from {@code account.multi-get.max-ids}
+     * @throws ArithmeticException if the commission rate is finer than one part per million
      */
-    public AccountProperties(@Value("${account.default-amount}") int defaultAccountAmount,
-                             @Value("${account.transfer.commission}") double transferCommission) {
+    public AccountProperties(@Value("${account.default-amount}") long defaultAccountAmount,
+                             @Value("${account.transfer.commission}") BigDecimal transferCommission,
+                             @Value("${account.transfer.commission-rounding}") RoundingMode transferCommissionRounding,
+                             @Value("${account.default-currency}") Currency defaultCurrency,
+                             @Value("${account.history.max-page-size}") int historyMaxPageSize,
+                             @Value("${account.multi-get.max-ids}") int multiGetMaxIds) {
         this.defaultAccountAmount = defaultAccountAmount;
-        this.transferCommission = transferCommission;
+        this.transferCommissionPpm = Money.toPpm(transferCommission);
+        this.transferCommissionRounding = transferCommissionRounding;
+        this.defaultCurrency = defaultCurrency;
+        this.historyMaxPageSize = historyMaxPageSize;
+        this.multiGetMaxIds = multiGetMaxIds;
     }
 
     /**
-     * Returns the default monetary amount assigned to new accounts.
+     * Returns the default monetary amount, in minor units, assigned to new accounts.
      *
      * @return the default account amount
      */
-    public int getDefaultAccountAmount() {
+    public long getDefaultAccountAmount() {
         return defaultAccountAmount;
     }
 
     /**
-     * Returns the commission rate applied to account-to-account transfers.
+     * Returns the commission rate applied to account-to-account transfers in parts per million.
+     *
+     * @return the transfer commission rate in parts per million
+     */
+    public long getTransferCommissionPpm() {
+        return transferCommissionPpm;
+    }
+
+    /**
+     * Returns the rounding mode of the transfer commission.
+     *
+     * @return the transfer commission rounding mode
+     */
+    public RoundingMode getTransferCommissionRounding() {
+        return transferCommissionRounding;
+    }
+
+    /**
+     * Returns the currency of accounts opened without an explicit currency.
+     *
+     * @return the default currency
+     */
+    public Currency getDefaultCurrency() {
+        return defaultCurrency;
+    }
+
+    /**
+     * Returns the largest number of movements returned in one page of account history.
+     *
+     * @return the maximum history page size
+     */
+    public int getHistoryMaxPageSize() {
+        return historyMaxPageSize;
+    }
+
+    /**
+     * Returns the largest number of accounts looked up in one request.
      *
-     * @return the transfer commission rate
+     * @return the maximum number of account IDs per lookup
      */
-    public double getTransferCommission() {
-        return transferCommission;
+    public int getMultiGetMaxIds() {
+        return multiGetMaxIds;
     }
 }
@@ -1,9 +1,15 @@
 package org.springcorebankapp.account;
 
+import jakarta.persistence.LockModeType;
+import org.springcorebankapp.user.UserAccountVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,6 +24,8 @@ import java.util.Optional;
  * <ul>
  *     <li>Supports standard CRUD operations for {@code Account} entities.</li>
  *     <li>Provides a custom method to find accounts by a specific user ID.</li>
+ *     <li>Provides the bounds of the account ID space for range-partitioned batch jobs.</li>
+ *     <li>Provides row-locking reads that serialize concurrent balance changes.</li>
  * </ul>
  *
  * <p>
@@ -48,4 +56,92 @@ public interface AccountRepository extends JpaRepository<Account, Integer> {
      * or an empty {@link Optional} if no accounts are associated with the given user ID
      */
     Optional<List<Account>> findByUserId(int userId);
+
+    /**
+     * Finds an account and locks its row until the end of the transaction ({@code SELECT ... FOR UPDATE}).
+     * <p>
+     * Balance changes must read the account through this method, acquiring the locks of several accounts
+     * in ascending ID order, so that concurrent changes neither lose updates nor deadlock.
+     * </p>
+     *
+     * @param id the ID of the account
+     * @return an {@link Optional} containing the locked account, or an empty {@link Optional} if not found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<Account> findWithLockById(int id);
+
+    /**
+     * Finds accounts by ID with one query, without locking their rows.
+     *
+     * @param ids the IDs of the accounts
+     * @return the found accounts ordered by ID; IDs without an account are skipped
+     */
+    @Query("select a from Account a where a.id in :ids order by a.id")
+    List<Account> findByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Returns the current versions of accounts, without loading the accounts.
+     * <p>
+     * Used after caching accounts to detect balance changes committed since they were read.
+     * </p>
+     *
+     * @param ids the IDs of the accounts
+     * @return the IDs and versions of the existing accounts
+     */
+    @Query("select a.id as accountId, a.version as version from Account a where a.id in :ids")
+    List<UserAccountVersion> findVersionsByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Finds all accounts of a user, locking their rows in ascending ID order.
+     *
+     * @param userId the ID of the user
+     * @return the locked accounts ordered by ID
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.userId = :userId order by a.id")
+    List<Account> findAllWithLockByUserId(@Param("userId") int userId);
+
+    /**
+     * Finds accounts by ID, locking their rows in ascending ID order.
+     *
+     * @param ids the IDs of the accounts
+     * @return the locked accounts ordered by ID; IDs without an account are skipped
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select a from Account a where a.id in :ids order by a.id")
+    List<Account> findAllWithLockByIdIn(@Param("ids") Collection<Integer> ids);
+
+    /**
+     * Returns the ID of the user owning an account, without loading the account.
+     *
+     * @param id the ID of the account
+     * @return an {@link Optional} containing the user ID, or an empty {@link Optional} if not found
+     */
+    @Query("select a.userId from Account a where a.id = :id")
+    Optional<Integer> findUserIdById(@Param("id") int id);
+
+    /**
+     * Returns the IDs of a user's accounts in ascending order, without loading the accounts.
+     *
+     * @param userId the ID of the user
+     * @return the account IDs
+     */
+    @Query("select a.id from Account a where a.userId = :userId order by a.id")
+    List<Integer> findIdsByUserId(@Param("userId") int userId);
+
+    /**
+     * Returns the smallest account ID.
+     *
+     * @return the smallest account ID, or {@code null} if there are no accounts
+     */
+    @Query("select min(a.id) from Account a")
+    Integer findMinId();
+
+    /**
+     * Returns the largest account ID.
+     *
+     * @return the largest account ID, or {@code null} if there are no accounts
+     */
+    @Query("select max(a.id) from Account a")
+    Integer findMaxId();
 }
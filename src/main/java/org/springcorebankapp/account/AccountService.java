@@ -1,16 +1,44 @@
 package org.springcorebankapp.account;
 
+import org.springcorebankapp.audit.AuditEventType;
+import org.springcorebankapp.audit.AuditLog;
+import org.springcorebankapp.balance.UserBalanceChange;
+import org.springcorebankapp.balance.UserBalanceService;
+import org.springcorebankapp.cache.MultiGetCache;
+import org.springcorebankapp.cache.NegativeLookupCache;
 import org.springcorebankapp.exception.UserNotFoundException;
+import org.springcorebankapp.exception.VelocityLimitExceededException;
+import org.springcorebankapp.fx.Currency;
+import org.springcorebankapp.fx.FxRateService;
+import org.springcorebankapp.index.BalanceIndex;
+import org.springcorebankapp.index.UserAccountDirectory;
+import org.springcorebankapp.risk.VelocityCheckService;
+import org.springcorebankapp.user.LoginFilterService;
 import org.springcorebankapp.user.User;
+import org.springcorebankapp.user.UserAccountVersion;
 import org.springcorebankapp.user.UserRepository;
+import org.springcorebankapp.util.Money;
+import org.springcorebankapp.util.TransactionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import javax.security.auth.login.AccountNotFoundException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 /**
  * Service class for managing bank accounts.
@@ -25,8 +53,14 @@ import java.util.List;
  * <ul>
  *     <li>Account creation with default balances.</li>
  *     <li>Retrieval of accounts by ID or user ID, with caching support.</li>
+ *     <li>Lookup of many accounts at once in one cache round trip and one query.</li>
  *     <li>Deposit, withdrawal, and transfer functionality with validation and caching.</li>
  *     <li>Account closure logic, ensuring rules are followed before deletion.</li>
+ *     <li>Recording of every balance change in the {@link AccountMovement} ledger.</li>
+ *     <li>Velocity limits on outgoing transfers, checked before any balance changes.</li>
+ *     <li>Accounts in different currencies, with cross-currency transfers at the current FX rates.</li>
+ *     <li>Balances in minor units with overflow-checked, allocation-free {@link Money} arithmetic.</li>
+ *     <li>Per-user balance totals kept up to date in the transaction of every balance change.</li>
  * </ul>
  *
  * <p>
@@ -48,6 +82,16 @@ import java.util.List;
 @Transactional
 public class AccountService {
 
+    /**
+     * Upper bound of histories requested without one, later than any movement time.
+     */
+    private static final Instant HISTORY_END = Instant.parse("9999-12-31T00:00:00Z");
+
+    /**
+     * Name of the cache of the accounts, keyed by account ID.
+     */
+    private static final String ACCOUNTS_CACHE = "accounts";
+
     /**
      * Repository for managing {@link Account} entities.
      * <p>
@@ -76,7 +120,98 @@ public class AccountService {
     private UserRepository userRepository;
 
     /**
-     * Creates a new account for a user with a default balance.
+     * Repository for the {@link AccountMovement} ledger.
+     * <p>
+     * Every balance change is recorded as a movement in the same transaction as the change.
+     * </p>
+     */
+    @Autowired
+    private AccountMovementRepository accountMovementRepository;
+
+    /**
+     * Pre-transfer risk stage enforcing velocity limits.
+     * <p>
+     * Checks run in memory before any balance is changed.
+     * </p>
+     */
+    @Autowired
+    private VelocityCheckService velocityCheckService;
+
+    /**
+     * Current foreign exchange rates.
+     * <p>
+     * Used to convert transfers and closure sweeps between accounts held in different currencies.
+     * </p>
+     */
+    @Autowired
+    private FxRateService fxRateService;
+
+    /**
+     * Append-only audit trail of money movements.
+     * <p>
+     * Movements are appended once their transaction commits, so rolled-back changes are never audited.
+     * </p>
+     */
+    @Autowired
+    private AuditLog auditLog;
+
+    /**
+     * Recently failed account lookups.
+     * <p>
+     * Repeated lookups of unknown account IDs are rejected without a database query.
+     * </p>
+     */
+    @Autowired
+    private NegativeLookupCache negativeLookupCache;
+
+    /**
+     * Index of existing logins.
+     * <p>
+     * Accounts for logins that definitely do not exist are rejected without a database query.
+     * </p>
+     */
+    @Autowired
+    private LoginFilterService loginFilterService;
+
+    /**
+     * Per-user balance totals.
+     * <p>
+     * Every balance change adds its deltas to the totals of the affected users in the same transaction.
+     * </p>
+     */
+    @Autowired
+    private UserBalanceService userBalanceService;
+
+    /**
+     * Local index of account balances.
+     * <p>
+     * Every balance change hands the committed state of its accounts to the index once it commits.
+     * </p>
+     */
+    @Autowired
+    private BalanceIndex balanceIndex;
+
+    /**
+     * Directory of account owners and user account lists.
+     * <p>
+     * Resolves the owner of an account and the IDs of a user's accounts without a database query, and is
+     * kept current by account creation and closure.
+     * </p>
+     */
+    @Autowired
+    private UserAccountDirectory userAccountDirectory;
+
+    /**
+     * Cache manager of the account cache.
+     * <p>
+     * Used directly by lookups of many accounts, which read and fill the cache in batches.
+     * </p>
+     */
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Creates a new account for a user with a default balance in the default currency.
      *
      * @param login the username of the user for whom the account is to be created
      * @return the created {@link Account} entity
@@ -84,74 +219,231 @@ public class AccountService {
      */
     @CacheEvict(value = "accounts", key = "#login")
     public Account createAccount(String login) {
-        User user = userRepository.findByLogin(login)
+        return createAccount(login, accountProperties.getDefaultCurrency());
+    }
+
+    /**
+     * Creates a new account for a user with a default balance in the given currency.
+     *
+     * @param login    the username of the user for whom the account is to be created
+     * @param currency the currency the account is held in
+     * @return the created {@link Account} entity
+     * @throws UserNotFoundException if no user is found with the provided login
+     */
+    @CacheEvict(value = "accounts", key = "#login")
+    public Account createAccount(String login, Currency currency) {
+        if (!loginFilterService.mightExist(login)) {
+            throw new UserNotFoundException("User with username = %s not found".formatted(login));
+        }
+        User user = userRepository.findForShareByLogin(login)
                 .orElseThrow(() ->
                         new UserNotFoundException("User with username = %s not found".formatted(login)));
 
-        Account account = new Account(user.getId(), accountProperties.getDefaultAccountAmount());
+        Account account = new Account(user.getId(), accountProperties.getDefaultAccountAmount(), currency);
         accountRepository.save(account);
+        accountMovementRepository.save(new AccountMovement(account.getId(), null, MovementType.OPENING,
+                account.getMoneyAmount(), 0, Instant.now()));
+        userBalanceService.recordChanges(new UserBalanceChange(user.getId(), currency, account.getMoneyAmount(), 1));
+        TransactionUtils.afterCommit(() -> {
+            negativeLookupCache.accountCreated(account.getId());
+            balanceIndex.update(account);
+            userAccountDirectory.accountCreated(user.getId(), account.getId());
+        });
         return account;
     }
 
     /**
      * Finds an account by its ID.
+     * <p>
+     * A cache miss reads the account without row locks, so reads neither wait for nor block balance changes.
+     * Once the account is cached its version is read again, and the entry is evicted if a balance change has
+     * committed since the read; a change committing later evicts the entry itself. Concurrent misses of the
+     * same account are coalesced into a single read, and an ID recently found missing is rejected without a
+     * database query.
+     * </p>
      *
      * @param id the ID of the account to retrieve
      * @return the found {@link Account} entity
      * @throws AccountNotFoundException if no account is found with the provided ID
      */
-    @Cacheable(value = "accounts", key = "#id")
+    @Transactional(readOnly = true)
     public Account findAccountById(int id) throws AccountNotFoundException {
-        return accountRepository.findById(id)
-                .orElseThrow(() -> new AccountNotFoundException("Account with id = %s not found".formatted(id)));
+        if (negativeLookupCache.isAccountMissing(id)) {
+            throw new AccountNotFoundException("Account with id = %s not found".formatted(id));
+        }
+        Cache cache = cacheManager.getCache(ACCOUNTS_CACHE);
+        if (cache == null) {
+            return loadAccount(id);
+        }
+        boolean[] loaded = new boolean[1];
+        Account account;
+        try {
+            account = cache.get(id, () -> {
+                loaded[0] = true;
+                return loadAccount(id);
+            });
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof AccountNotFoundException notFound) {
+                throw notFound;
+            }
+            throw e;
+        }
+        if (loaded[0]) {
+            evictChanged(cache, Map.of(id, account));
+        }
+        return account;
+    }
+
+    /**
+     * Finds several accounts by ID in two round trips.
+     * <p>
+     * All IDs are looked up in the account cache at once, with one {@code MGET} against Redis. All misses are
+     * then read with one query, without row locks, and cached in one pipeline; entries changed in between are
+     * evicted again as in {@link #findAccountById(int)}. IDs recently found missing are skipped without a query.
+     * </p>
+     *
+     * @param ids the IDs of the accounts, at most {@code account.multi-get.max-ids} distinct ones
+     * @return the found accounts in the order of the IDs, without duplicates; IDs without an account are skipped
+     * @throws IllegalArgumentException if more than {@code account.multi-get.max-ids} distinct IDs are given
+     */
+    @Transactional(readOnly = true)
+    public List<Account> findAccountsByIds(Collection<Integer> ids) {
+        Set<Integer> distinct = new LinkedHashSet<>(ids);
+        if (distinct.size() > accountProperties.getMultiGetMaxIds()) {
+            throw new IllegalArgumentException("At most %s accounts can be looked up at once: ids = %s"
+                    .formatted(accountProperties.getMultiGetMaxIds(), distinct.size()));
+        }
+        return findAccounts(distinct);
     }
 
     /**
      * Retrieves all accounts associated with a specific user ID.
+     * <p>
+     * The account IDs are resolved from the {@link UserAccountDirectory} and the accounts are read like
+     * {@link #findAccountsByIds(Collection)}, from the account cache and with one query for the misses, so
+     * no per-user list of accounts is cached.
+     * </p>
      *
      * @param userId the ID of the user
-     * @return a list of {@link Account} entities owned by the user
+     * @return a list of {@link Account} entities owned by the user, ordered by ID
      * @throws UserNotFoundException if no accounts are found for the user
      */
-    @Cacheable(value = "userAccounts", key = "#userId")
+    @Transactional(readOnly = true)
     public List<Account> getAllUserAccounts(int userId) {
-        return accountRepository.findByUserId(userId)
-                .orElseThrow(() ->
-                        new UserNotFoundException("User with id = %s not found".formatted(userId)));
+        int[] accountIds = userAccountDirectory.accountsOf(userId);
+        if (accountIds.length == 0) {
+            throw new UserNotFoundException("User with id = %s not found".formatted(userId));
+        }
+        return findAccounts(toSet(accountIds));
+    }
+
+    private List<Account> findAccounts(Set<Integer> distinct) {
+        Cache cache = cacheManager.getCache(ACCOUNTS_CACHE);
+        Map<Object, Cache.ValueWrapper> cached = cache != null ? MultiGetCache.getAll(cache, distinct) : Map.of();
+        List<Integer> misses = distinct.stream()
+                .filter(id -> !cached.containsKey(id) && !negativeLookupCache.isAccountMissing(id))
+                .toList();
+        Map<Integer, Account> loaded = new HashMap<>();
+        if (!misses.isEmpty()) {
+            for (Account account : accountRepository.findByIdIn(misses)) {
+                loaded.put(account.getId(), account);
+            }
+            misses.stream().filter(id -> !loaded.containsKey(id)).forEach(negativeLookupCache::accountMissing);
+            if (cache != null && !loaded.isEmpty()) {
+                MultiGetCache.putAll(cache, loaded);
+                evictChanged(cache, loaded);
+            }
+        }
+        List<Account> accounts = new ArrayList<>(distinct.size());
+        for (Integer id : distinct) {
+            Cache.ValueWrapper hit = cached.get(id);
+            Account account = hit != null ? (Account) hit.get() : loaded.get(id);
+            if (account != null) {
+                accounts.add(account);
+            }
+        }
+        return accounts;
+    }
+
+    /**
+     * Retrieves a page of an account's movements, newest first.
+     * <p>
+     * Pages are addressed by keyset rather than offset: each page ends with a cursor holding the time and ID
+     * of its last movement, and the next page starts strictly after it. A page deep in the history therefore
+     * costs as little as the first one, and movements recorded meanwhile do not shift the pages. The history
+     * of a closed account stays readable.
+     * </p>
+     *
+     * @param accountId the ID of the account
+     * @param from      the earliest movement time included, or {@code null} for no lower bound
+     * @param to        the movement time excluded onwards, or {@code null} for no upper bound;
+     *                  ignored when a cursor is given
+     * @param cursor    the cursor returned with the previous page, or {@code null} for the first page
+     * @param pageSize  the maximum number of movements, at most {@code account.history.max-page-size}
+     * @return the page of movements with the cursor of the next page
+     * @throws IllegalArgumentException if the page size is out of range or the cursor is invalid
+     */
+    @Transactional(readOnly = true)
+    public AccountHistoryPage findHistory(int accountId, Instant from, Instant to, String cursor, int pageSize) {
+        if (pageSize < 1 || pageSize > accountProperties.getHistoryMaxPageSize()) {
+            throw new IllegalArgumentException("Page size must be between 1 and %s: pageSize = %s"
+                    .formatted(accountProperties.getHistoryMaxPageSize(), pageSize));
+        }
+        HistoryCursor before = cursor != null
+                ? HistoryCursor.decode(cursor)
+                : new HistoryCursor(to != null ? to : HISTORY_END, Long.MIN_VALUE);
+        List<AccountMovement> movements = accountMovementRepository.findHistoryPage(accountId,
+                from != null ? from : Instant.EPOCH, before.getCreatedAt(), before.getId(), pageSize + 1);
+        if (movements.size() <= pageSize) {
+            return new AccountHistoryPage(movements, null);
+        }
+        List<AccountMovement> page = movements.subList(0, pageSize);
+        AccountMovement last = page.get(pageSize - 1);
+        return new AccountHistoryPage(List.copyOf(page),
+                new HistoryCursor(last.getCreatedAt(), last.getId()).encode());
     }
 
     /**
      * Deposits money into a specific account.
      *
      * @param accountId      the ID of the account to deposit money into
-     * @param moneyToDeposit the amount of money to deposit
+     * @param moneyToDeposit the amount of money to deposit, in minor units
      * @throws AccountNotFoundException if the account is not found
      * @throws IllegalArgumentException if the deposit amount is not positive
+     * @throws ArithmeticException      if the resulting balance overflows
      */
     @CacheEvict(value = "accounts", key = "#accountId")
-    public void depositAccount(int accountId, int moneyToDeposit) throws AccountNotFoundException {
-        var account = findAccountById(accountId);
+    public void depositAccount(int accountId, long moneyToDeposit) throws AccountNotFoundException {
+        var account = findAccountForUpdate(accountId);
         if(moneyToDeposit <= 0) {
             throw new IllegalArgumentException("Cannot deposit not positive money: amount = %s"
                     .formatted(moneyToDeposit));
         }
 
-        account.setMoneyAmount(account.getMoneyAmount() + moneyToDeposit);
+        account.setMoneyAmount(Money.add(account.getMoneyAmount(), moneyToDeposit));
         accountRepository.save(account);
+        accountMovementRepository.save(new AccountMovement(accountId, null, MovementType.DEPOSIT,
+                moneyToDeposit, 0, Instant.now()));
+        Currency currency = account.getCurrency();
+        userBalanceService.recordChanges(new UserBalanceChange(account.getUserId(), currency, moneyToDeposit, 0));
+        evictAccountsAfterCommit(accountId);
+        TransactionUtils.afterCommit(() -> balanceIndex.update(account));
+        TransactionUtils.afterCommit(() -> auditLog.append(AuditEventType.DEPOSIT, accountId, -1,
+                currency, currency, moneyToDeposit, 0, 0));
     }
 
     /**
      * Withdraws money from a specific account.
      *
      * @param accountId        the ID of the account to withdraw money from
-     * @param amountToWithdraw the amount of money to withdraw
+     * @param amountToWithdraw the amount of money to withdraw, in minor units
      * @throws AccountNotFoundException if the account is not found
      * @throws IllegalArgumentException if the withdrawal amount is not positive
      *                                  or exceeds the account's balance
      */
     @CacheEvict(value = "accounts", key = "#accountId")
-    public void withdrawFromAccount(int accountId, int amountToWithdraw) throws AccountNotFoundException {
-        var account = findAccountById(accountId);
+    public void withdrawFromAccount(int accountId, long amountToWithdraw) throws AccountNotFoundException {
+        var account = findAccountForUpdate(accountId);
 
         if(amountToWithdraw <= 0) {
             throw new IllegalArgumentException("Cannot withdraw not positive money: amount = %s"
@@ -162,28 +454,43 @@ public class AccountService {
                     .formatted(accountId, account.getMoneyAmount(), amountToWithdraw));
         }
 
-        account.setMoneyAmount(account.getMoneyAmount() - amountToWithdraw);
+        account.setMoneyAmount(Money.subtract(account.getMoneyAmount(), amountToWithdraw));
 
         accountRepository.save(account);
+        accountMovementRepository.save(new AccountMovement(accountId, null, MovementType.WITHDRAWAL,
+                -amountToWithdraw, 0, Instant.now()));
+        Currency currency = account.getCurrency();
+        userBalanceService.recordChanges(new UserBalanceChange(account.getUserId(), currency, -amountToWithdraw, 0));
+        evictAccountsAfterCommit(accountId);
+        TransactionUtils.afterCommit(() -> balanceIndex.update(account));
+        TransactionUtils.afterCommit(() -> auditLog.append(AuditEventType.WITHDRAWAL, accountId, -1,
+                currency, currency, amountToWithdraw, 0, 0));
     }
 
     /**
      * Closes a specific account, transferring its balance to another account if necessary.
      * <p>
      * This method ensures that a user cannot close their only account. If the account
-     * has a balance, the funds are transferred to another account owned by the same user.
-     * The account is then removed from the system.
+     * has a balance, the funds are transferred to another account owned by the same user,
+     * converted into that account's currency if necessary. The account is then removed from the system.
+     * All accounts of the user are locked for the duration of the closure.
      * </p>
      *
      * @param accountId the ID of the account to be closed
      * @throws AccountNotFoundException if the account is not found
      * @throws IllegalArgumentException if the user only has one account, preventing closure
      */
-    @CacheEvict(value = {"accounts", "userAccounts"}, allEntries = true)
+    @CacheEvict(value = "accounts", key = "#accountId")
     public void closeAccount(int accountId) throws AccountNotFoundException {
-        var accountToRemove = findAccountById(accountId);
-
-        List<Account> accountList = getAllUserAccounts(accountToRemove.getUserId());
+        int userId = userAccountDirectory.ownerOf(accountId);
+        if (userId == 0) {
+            throw new AccountNotFoundException("Account with id = %s not found".formatted(accountId));
+        }
+        List<Account> accountList = lockUserAccounts(userId, accountId);
+        var accountToRemove = accountList.stream()
+                .filter(it -> it.getId() == accountId)
+                .findFirst()
+                .orElseThrow(() -> new AccountNotFoundException("Account with id = %s not found".formatted(accountId)));
 
         if(accountList.size() == 1) {
             throw new IllegalArgumentException("Cannot close the only one account");
@@ -192,8 +499,36 @@ public class AccountService {
                 .filter(it->it.getId() != accountId)
                 .findFirst()
                 .orElseThrow();
-        accountToDeposit.setMoneyAmount(accountToDeposit.getMoneyAmount() + accountToRemove.getMoneyAmount());
+        long amountToDeposit = fxRateService.convert(accountToRemove.getMoneyAmount(),
+                accountToRemove.getCurrency(), accountToDeposit.getCurrency());
+        accountToDeposit.setMoneyAmount(Money.add(accountToDeposit.getMoneyAmount(), amountToDeposit));
         accountRepository.delete(accountToRemove);
+        if (accountToRemove.getMoneyAmount() != 0) {
+            boolean crossCurrency = accountToRemove.getCurrency() != accountToDeposit.getCurrency();
+            Instant now = Instant.now();
+            accountMovementRepository.saveAll(List.of(
+                    new AccountMovement(accountId, accountToDeposit.getId(),
+                            crossCurrency ? MovementType.FX_OUT : MovementType.CLOSURE_OUT,
+                            -accountToRemove.getMoneyAmount(), 0, now),
+                    new AccountMovement(accountToDeposit.getId(), accountId,
+                            crossCurrency ? MovementType.FX_IN : MovementType.CLOSURE_IN,
+                            amountToDeposit, 0, now)));
+        }
+        long closingBalance = accountToRemove.getMoneyAmount();
+        int depositAccountId = accountToDeposit.getId();
+        Currency currency = accountToRemove.getCurrency();
+        Currency depositCurrency = accountToDeposit.getCurrency();
+        userBalanceService.recordChanges(
+                new UserBalanceChange(userId, currency, -closingBalance, -1),
+                new UserBalanceChange(userId, depositCurrency, amountToDeposit, 0));
+        evictAccountsAfterCommit(accountId, depositAccountId);
+        TransactionUtils.afterCommit(() -> {
+            balanceIndex.remove(accountId);
+            balanceIndex.update(accountToDeposit);
+            userAccountDirectory.accountClosed(userId, accountId);
+        });
+        TransactionUtils.afterCommit(() -> auditLog.append(AuditEventType.CLOSURE, accountId, depositAccountId,
+                currency, depositCurrency, closingBalance, amountToDeposit, 0));
     }
 
     /**
@@ -201,21 +536,35 @@ public class AccountService {
      * <p>
      * This method allows transferring funds between two accounts, either within the same user
      * or between different users. If the transfer is between accounts of different users, a
-     * commission is applied to the amount being transferred. Both accounts' balances are updated
-     * accordingly, and changes are saved to the database.
+     * commission, rounded with the configured rounding mode, is withheld from the amount being
+     * transferred. If the accounts are held in different
+     * currencies, the amount net of commission is converted with the current {@link FxRateService} rates.
+     * Both accounts' balances are updated accordingly, and changes are saved to the database.
      * </p>
      *
      * @param fromAccountId    the ID of the account to transfer money from
      * @param toAccountId      the ID of the account to transfer money to
-     * @param amountToTransfer the amount of money to transfer
+     * @param amountToTransfer the amount of money to transfer, in minor units of the source account's currency
      * @throws AccountNotFoundException if either of the accounts is not found
      * @throws IllegalArgumentException if the transfer amount is not positive
      *                                  or if the source account's balance is insufficient
+     * @throws VelocityLimitExceededException if the transfer exceeds a velocity limit of the source account or user
+     * @throws ArithmeticException      if the credited balance overflows
      */
-    @CacheEvict(value = "accounts", allEntries = true)
-    public void transfer(int fromAccountId, int toAccountId, int amountToTransfer) throws AccountNotFoundException {
-        var accountFrom = findAccountById(fromAccountId);
-        var accountTo = findAccountById(toAccountId);
+    @Caching(evict = {
+            @CacheEvict(value = "accounts", key = "#fromAccountId"),
+            @CacheEvict(value = "accounts", key = "#toAccountId")
+    })
+    public void transfer(int fromAccountId, int toAccountId, long amountToTransfer) throws AccountNotFoundException {
+        Account accountFrom;
+        Account accountTo;
+        if (fromAccountId <= toAccountId) {
+            accountFrom = findAccountForUpdate(fromAccountId);
+            accountTo = findAccountForUpdate(toAccountId);
+        } else {
+            accountTo = findAccountForUpdate(toAccountId);
+            accountFrom = findAccountForUpdate(fromAccountId);
+        }
 
         if(amountToTransfer <= 0) {
             throw new IllegalArgumentException("Cannot transfer not positive money: amount = %s"
@@ -225,13 +574,125 @@ public class AccountService {
             throw new IllegalArgumentException("Cannot transfer from account: id = %s, moneyAmount= %s, attemptedTransfer = %s"
                     .formatted(accountFrom, accountFrom.getMoneyAmount(), amountToTransfer));
         }
+        velocityCheckService.checkTransfer(fromAccountId, accountFrom.getUserId(),
+                fxRateService.toBaseCurrency(amountToTransfer, accountFrom.getCurrency()));
 
-        int totalAmountToDeposit = accountTo.getUserId() != accountFrom.getUserId()
-                ? (int) (amountToTransfer * (1 - accountProperties.getTransferCommission()))
-                : amountToTransfer;
-        accountFrom.setMoneyAmount(accountFrom.getMoneyAmount() - amountToTransfer);
-        accountTo.setMoneyAmount(accountTo.getMoneyAmount() + totalAmountToDeposit);
+        long commission = accountTo.getUserId() != accountFrom.getUserId()
+                ? Money.percentOf(amountToTransfer, accountProperties.getTransferCommissionPpm(),
+                        accountProperties.getTransferCommissionRounding())
+                : 0;
+        long totalAmountToDeposit = fxRateService.convert(amountToTransfer - commission,
+                accountFrom.getCurrency(), accountTo.getCurrency());
+        accountFrom.setMoneyAmount(Money.subtract(accountFrom.getMoneyAmount(), amountToTransfer));
+        accountTo.setMoneyAmount(Money.add(accountTo.getMoneyAmount(), totalAmountToDeposit));
         accountRepository.save(accountFrom);
         accountRepository.save(accountTo);
+        boolean crossCurrency = accountFrom.getCurrency() != accountTo.getCurrency();
+        Instant now = Instant.now();
+        accountMovementRepository.saveAll(List.of(
+                new AccountMovement(fromAccountId, toAccountId,
+                        crossCurrency ? MovementType.FX_OUT : MovementType.TRANSFER_OUT,
+                        -amountToTransfer, commission, now),
+                new AccountMovement(toAccountId, fromAccountId,
+                        crossCurrency ? MovementType.FX_IN : MovementType.TRANSFER_IN,
+                        totalAmountToDeposit, 0, now)));
+        Currency fromCurrency = accountFrom.getCurrency();
+        Currency toCurrency = accountTo.getCurrency();
+        userBalanceService.recordChanges(
+                new UserBalanceChange(accountFrom.getUserId(), fromCurrency, -amountToTransfer, 0),
+                new UserBalanceChange(accountTo.getUserId(), toCurrency, totalAmountToDeposit, 0));
+        evictAccountsAfterCommit(fromAccountId, toAccountId);
+        TransactionUtils.afterCommit(() -> {
+            balanceIndex.update(accountFrom);
+            balanceIndex.update(accountTo);
+        });
+        TransactionUtils.afterCommit(() -> auditLog.append(AuditEventType.TRANSFER, fromAccountId, toAccountId,
+                fromCurrency, toCurrency, amountToTransfer, totalAmountToDeposit, commission));
+    }
+
+    /**
+     * Finds an account and locks it until the end of the transaction.
+     * <p>
+     * Every balance change reads its accounts through this method, locking several accounts in ascending
+     * ID order, so concurrent changes are serialized per account without deadlocks.
+     * </p>
+     *
+     * @param id the ID of the account
+     * @return the locked {@link Account}
+     * @throws AccountNotFoundException if no account is found with the provided ID
+     */
+    private Account findAccountForUpdate(int id) throws AccountNotFoundException {
+        return accountRepository.findWithLockById(id)
+                .orElseThrow(() -> new AccountNotFoundException("Account with id = %s not found".formatted(id)));
+    }
+
+    /**
+     * Locks the accounts of a user in ascending ID order, resolving their IDs from the
+     * {@link UserAccountDirectory}.
+     * <p>
+     * A list that may be stale, because it lacks the account or leaves it without a sibling, is completed by
+     * locking the user's accounts by user ID. Accounts created in the meantime have higher IDs than the ones
+     * already locked, so the lock order is kept.
+     * </p>
+     */
+    private List<Account> lockUserAccounts(int userId, int accountId) {
+        int[] accountIds = userAccountDirectory.accountsOf(userId);
+        if (accountIds.length > 1 && Arrays.binarySearch(accountIds, accountId) >= 0) {
+            List<Account> locked = accountRepository.findAllWithLockByIdIn(toSet(accountIds));
+            if (locked.size() > 1 && locked.stream().anyMatch(account -> account.getId() == accountId)) {
+                return locked;
+            }
+        }
+        return accountRepository.findAllWithLockByUserId(userId);
+    }
+
+    private static Set<Integer> toSet(int[] accountIds) {
+        Set<Integer> ids = new LinkedHashSet<>(accountIds.length * 2);
+        for (int accountId : accountIds) {
+            ids.add(accountId);
+        }
+        return ids;
+    }
+
+    private Account loadAccount(int id) throws AccountNotFoundException {
+        Optional<Account> account = accountRepository.findById(id);
+        if (account.isEmpty()) {
+            negativeLookupCache.accountMissing(id);
+            throw new AccountNotFoundException("Account with id = %s not found".formatted(id));
+        }
+        return account.get();
+    }
+
+    /**
+     * Evicts the just cached accounts whose row has changed or disappeared since they were read.
+     */
+    private void evictChanged(Cache cache, Map<Integer, Account> cached) {
+        Map<Integer, Long> versions = new HashMap<>();
+        for (UserAccountVersion version : accountRepository.findVersionsByIdIn(cached.keySet())) {
+            versions.put(version.getAccountId(), version.getVersion());
+        }
+        cached.forEach((id, account) -> {
+            if (!Long.valueOf(account.getVersion()).equals(versions.get(id))) {
+                cache.evict(id);
+            }
+        });
+    }
+
+    /**
+     * Evicts accounts from the account cache once the current transaction commits.
+     * <p>
+     * The {@code @CacheEvict} of a balance change runs before its transaction commits, so a concurrent cache
+     * miss can still cache the old balance; evicting again after the commit removes such an entry.
+     * </p>
+     */
+    private void evictAccountsAfterCommit(int... ids) {
+        TransactionUtils.afterCommit(() -> {
+            Cache cache = cacheManager.getCache(ACCOUNTS_CACHE);
+            if (cache != null) {
+                for (int id : ids) {
+                    cache.evict(id);
+                }
+            }
+        });
     }
 }
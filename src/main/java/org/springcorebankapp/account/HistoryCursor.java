@@ -0,0 +1,62 @@
+package org.springcorebankapp.account;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Keyset position in an account's history: the time and ID of the last movement of a page.
+ * <p>
+ * Encoded as an opaque URL-safe token, so clients pass it back unchanged and the position format can change
+ * without changing the API.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@AllArgsConstructor
+public class HistoryCursor {
+
+    /**
+     * The time of the last movement returned.
+     */
+    private final Instant createdAt;
+
+    /**
+     * The ID of the last movement returned.
+     */
+    private final long id;
+
+    /**
+     * Encodes the cursor.
+     *
+     * @return the URL-safe token
+     */
+    public String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((createdAt + "|" + id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor returned by {@link #encode()}.
+     *
+     * @param token the token
+     * @return the cursor
+     * @throws IllegalArgumentException if the token is not a valid cursor
+     */
+    public static HistoryCursor decode(String token) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = value.indexOf('|');
+            return new HistoryCursor(Instant.parse(value.substring(0, separator)),
+                    Long.parseLong(value.substring(separator + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Invalid history cursor: %s".formatted(token), e);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.springcorebankapp.account;
+
+/**
+ * Kinds of money movements recorded in the {@link AccountMovement} ledger.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public enum MovementType {
+
+    /**
+     * The default balance credited when an account is opened.
+     */
+    OPENING,
+
+    /**
+     * Money deposited into an account.
+     */
+    DEPOSIT,
+
+    /**
+     * Money withdrawn from an account.
+     */
+    WITHDRAWAL,
+
+    /**
+     * The debit side of a transfer; the withheld commission is recorded as the movement's fee.
+     */
+    TRANSFER_OUT,
+
+    /**
+     * The credit side of a transfer, net of commission.
+     */
+    TRANSFER_IN,
+
+    /**
+     * The balance swept out of an account being closed.
+     */
+    CLOSURE_OUT,
+
+    /**
+     * The balance swept into the remaining account of a user closing another account.
+     */
+    CLOSURE_IN,
+
+    /**
+     * The debit side of a transfer or closure sweep between accounts held in different currencies;
+     * the withheld commission, in the source currency, is recorded as the movement's fee.
+     */
+    FX_OUT,
+
+    /**
+     * The credit side of a transfer or closure sweep between accounts held in different currencies,
+     * converted into the currency of the credited account.
+     */
+    FX_IN,
+
+    /**
+     * Interest or fees applied by a bulk balance adjustment job.
+     */
+    ADJUSTMENT
+}
@@ -0,0 +1,43 @@
+package org.springcorebankapp.adjustment;
+
+/**
+ * Projection of an account touched by a set-based balance adjustment.
+ * <p>
+ * Returned by the chunk update queries of {@link BalanceAdjustmentRepository} so the affected
+ * cache entries can be evicted one by one instead of clearing whole caches, and the new
+ * balances handed to the {@link org.springcorebankapp.index.BalanceIndex}.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface AdjustedAccount {
+
+    /**
+     * Returns the ID of the adjusted account.
+     *
+     * @return the account ID
+     */
+    int getAccountId();
+
+    /**
+     * Returns the ID of the user owning the adjusted account.
+     *
+     * @return the user ID
+     */
+    int getUserId();
+
+    /**
+     * Returns the balance of the adjusted account after the adjustment.
+     *
+     * @return the balance in minor units
+     */
+    long getBalanceAfter();
+
+    /**
+     * Returns the version of the adjusted account after the adjustment.
+     *
+     * @return the account version
+     */
+    long getVersion();
+}
@@ -0,0 +1,25 @@
+package org.springcorebankapp.adjustment;
+
+/**
+ * Lifecycle states of a {@link BalanceAdjustmentJob}.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public enum AdjustmentJobStatus {
+
+    /**
+     * Chunks of the job are being processed, or are waiting to be resumed.
+     */
+    RUNNING,
+
+    /**
+     * Every chunk of the job has been processed.
+     */
+    COMPLETED,
+
+    /**
+     * At least one chunk failed; the job can be resumed from its checkpoints.
+     */
+    FAILED
+}
@@ -0,0 +1,20 @@
+package org.springcorebankapp.adjustment;
+
+/**
+ * Kinds of bulk balance adjustments.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public enum AdjustmentType {
+
+    /**
+     * Credits every positive balance with interest, expressed in basis points and rounded down.
+     */
+    INTEREST,
+
+    /**
+     * Debits a fixed maintenance fee from every positive balance, never taking a balance below zero.
+     */
+    FEE
+}
@@ -0,0 +1,72 @@
+package org.springcorebankapp.adjustment;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Audit record of a single balance change applied by a {@link BalanceAdjustmentJob}.
+ * <p>
+ * This class is a JPA entity that maps to the "balance_adjustments" table in the database.
+ * Records are written set-based by {@link BalanceAdjustmentRepository} in the same statement
+ * that changes the balances.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "balance_adjustments",
+        indexes = @Index(name = "idx_balance_adjustments_account", columnList = "account_id"))
+public class BalanceAdjustment implements Serializable {
+
+    /**
+     * Unique identifier for the record.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    /**
+     * Identifier of the job that applied the adjustment.
+     */
+    @Column(name = "job_id", nullable = false)
+    private int jobId;
+
+    /**
+     * Identifier of the adjusted account.
+     */
+    @Column(name = "account_id", nullable = false)
+    private int accountId;
+
+    /**
+     * Identifier of the user owning the adjusted account.
+     */
+    @Column(name = "user_id", nullable = false)
+    private int userId;
+
+    /**
+     * The signed balance change.
+     */
+    @Column(name = "delta", nullable = false)
+    private long delta;
+
+    /**
+     * The balance after the change.
+     */
+    @Column(name = "balance_after", nullable = false)
+    private long balanceAfter;
+
+    /**
+     * The time the change was applied.
+     */
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+}
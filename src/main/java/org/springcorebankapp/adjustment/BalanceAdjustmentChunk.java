@@ -0,0 +1,85 @@
+package org.springcorebankapp.adjustment;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.Instant;
+
+/**
+ * Checkpoint of one account ID range of a {@link BalanceAdjustmentJob}.
+ * <p>
+ * This class is a JPA entity that maps to the "balance_adjustment_chunks" table in the database.
+ * A chunk is marked completed in the same transaction that adjusts its accounts, so a resumed
+ * job never applies an adjustment twice.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "balance_adjustment_chunks",
+        indexes = @Index(name = "idx_balance_adjustment_chunks_job", columnList = "job_id, completed"))
+public class BalanceAdjustmentChunk implements Serializable {
+
+    /**
+     * Unique identifier for the chunk.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    /**
+     * Identifier of the job the chunk belongs to.
+     */
+    @Column(name = "job_id", nullable = false)
+    private int jobId;
+
+    /**
+     * The first account ID of the range, inclusive.
+     */
+    @Column(name = "from_account_id", nullable = false)
+    private int fromAccountId;
+
+    /**
+     * The last account ID of the range, inclusive.
+     */
+    @Column(name = "to_account_id", nullable = false)
+    private int toAccountId;
+
+    /**
+     * Whether the range has been processed.
+     */
+    @Column(name = "completed", nullable = false)
+    private boolean completed;
+
+    /**
+     * The number of accounts adjusted in the range.
+     */
+    @Column(name = "accounts_adjusted", nullable = false)
+    private int accountsAdjusted;
+
+    /**
+     * The time the range was processed.
+     */
+    @Column(name = "processed_at")
+    private Instant processedAt;
+
+    /**
+     * Constructs a new pending {@code BalanceAdjustmentChunk}.
+     *
+     * @param jobId         the ID of the job
+     * @param fromAccountId the first account ID of the range, inclusive
+     * @param toAccountId   the last account ID of the range, inclusive
+     */
+    public BalanceAdjustmentChunk(int jobId, int fromAccountId, int toAccountId) {
+        this.jobId = jobId;
+        this.fromAccountId = fromAccountId;
+        this.toAccountId = toAccountId;
+    }
+}
@@ -0,0 +1,55 @@
+package org.springcorebankapp.adjustment;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link BalanceAdjustmentChunk} checkpoints.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Repository
+public interface BalanceAdjustmentChunkRepository extends JpaRepository<BalanceAdjustmentChunk, Integer> {
+
+    /**
+     * Finds the chunks of a job that have not been processed yet.
+     *
+     * @param jobId the ID of the job
+     * @return the pending chunks, ordered by their first account ID
+     */
+    List<BalanceAdjustmentChunk> findByJobIdAndCompletedFalseOrderByFromAccountIdAsc(int jobId);
+
+    /**
+     * Counts the processed chunks of a job.
+     *
+     * @param jobId the ID of the job
+     * @return the number of processed chunks
+     */
+    long countByJobIdAndCompletedTrue(int jobId);
+
+    /**
+     * Marks a pending chunk as processed.
+     * <p>
+     * Called in the transaction that adjusts the chunk's accounts; a result of {@code 0} means the chunk
+     * has already been processed by another worker and must be skipped.
+     * </p>
+     *
+     * @param id               the ID of the chunk
+     * @param accountsAdjusted the number of accounts adjusted in the chunk
+     * @param processedAt      the processing time
+     * @return the number of updated rows, {@code 0} or {@code 1}
+     */
+    @Modifying
+    @Query("update BalanceAdjustmentChunk c set c.completed = true, c.accountsAdjusted = :accountsAdjusted, " +
+            "c.processedAt = :processedAt where c.id = :id and c.completed = false")
+    int markCompleted(@Param("id") int id,
+                      @Param("accountsAdjusted") int accountsAdjusted,
+                      @Param("processedAt") Instant processedAt);
+}
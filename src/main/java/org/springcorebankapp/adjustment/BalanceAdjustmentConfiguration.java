@@ -0,0 +1,34 @@
+package org.springcorebankapp.adjustment;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Configuration class for bulk balance adjustment jobs.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+public class BalanceAdjustmentConfiguration {
+
+    /**
+     * Configures and returns the executor processing adjustment chunks in parallel.
+     *
+     * @param balanceAdjustmentProperties the balance adjustment configuration properties
+     * @return a fixed-size executor with {@code adjustment.worker-threads} threads
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService balanceAdjustmentExecutor(BalanceAdjustmentProperties balanceAdjustmentProperties) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return Executors.newFixedThreadPool(balanceAdjustmentProperties.getWorkerThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "balance-adjustment-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
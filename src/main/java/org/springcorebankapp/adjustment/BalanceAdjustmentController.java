@@ -0,0 +1,120 @@
+package org.springcorebankapp.adjustment;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springcorebankapp.exception.BalanceAdjustmentJobNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Balance Adjustment Controller", description = "Operations related to bulk interest and fee jobs")
+@RestController
+@RequestMapping("/balance-adjustments")
+public class BalanceAdjustmentController {
+    private final BalanceAdjustmentService balanceAdjustmentService;
+
+    @Autowired
+    public BalanceAdjustmentController(BalanceAdjustmentService balanceAdjustmentService) {
+        this.balanceAdjustmentService = balanceAdjustmentService;
+    }
+
+    @Operation(
+            summary = "Start an interest job",
+            description = "Credits interest, rounded down, to every account with a positive balance.",
+            tags = {"Balance Adjustment Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job successfully started"),
+            @ApiResponse(responseCode = "400", description = "Rate is not positive"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @PostMapping("/start-interest-job")
+    public ResponseEntity<String> startInterestJob(
+            @Parameter(description = "Interest rate in basis points", required = true)
+            @RequestParam("rateBasisPoints") int rateBasisPoints) {
+        return startJob(AdjustmentType.INTEREST, rateBasisPoints);
+    }
+
+    @Operation(
+            summary = "Start a fee job",
+            description = "Debits a maintenance fee from every account with a positive balance, never below zero. "
+                    + "The fee is given in the base currency and converted into the currency of each account.",
+            tags = {"Balance Adjustment Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job successfully started"),
+            @ApiResponse(responseCode = "400", description = "Fee is not positive"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @PostMapping("/start-fee-job")
+    public ResponseEntity<String> startFeeJob(
+            @Parameter(description = "Fee amount, in minor units of the base currency", required = true)
+            @RequestParam("fee") long fee) {
+        return startJob(AdjustmentType.FEE, fee);
+    }
+
+    @Operation(
+            summary = "Resume a job",
+            description = "Resumes a failed or interrupted job from its checkpoints.",
+            tags = {"Balance Adjustment Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job successfully resumed"),
+            @ApiResponse(responseCode = "400", description = "Job has already completed"),
+            @ApiResponse(responseCode = "404", description = "Job not found"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @PutMapping("/resume-job")
+    public ResponseEntity<String> resumeJob(
+            @Parameter(description = "ID of the job", required = true)
+            @RequestParam("id") int id) {
+        try {
+            balanceAdjustmentService.resumeJob(id);
+            return ResponseEntity.ok("Balance adjustment job with id = %s resumed".formatted(id));
+        } catch (BalanceAdjustmentJobNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    @Operation(
+            summary = "Find a job by ID",
+            description = "Retrieves a job's status and progress using its unique ID.",
+            tags = {"Balance Adjustment Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Job found and returned successfully"),
+            @ApiResponse(responseCode = "404", description = "Job not found"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping("/find-job-by-id")
+    public ResponseEntity<BalanceAdjustmentJob> findJobById(
+            @Parameter(description = "Unique ID of the job", required = true)
+            @RequestParam("id") int id) {
+        try {
+            return ResponseEntity.ok(balanceAdjustmentService.findJobById(id));
+        } catch (BalanceAdjustmentJobNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    private ResponseEntity<String> startJob(AdjustmentType type, long value) {
+        try {
+            var job = balanceAdjustmentService.startJob(type, value);
+            return ResponseEntity.ok("Balance adjustment job with id = %s started".formatted(job.getId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package org.springcorebankapp.adjustment;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Represents a bulk balance adjustment job, such as monthly interest or maintenance fees.
+ * <p>
+ * This class is a JPA entity that maps to the "balance_adjustment_jobs" table in the database.
+ * The account ID space of a job is split into {@link BalanceAdjustmentChunk chunks} that are
+ * processed in parallel and checkpointed individually, so an interrupted job can be resumed.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "balance_adjustment_jobs",
+        indexes = @Index(name = "idx_balance_adjustment_jobs_status", columnList = "status"))
+public class BalanceAdjustmentJob implements Serializable {
+
+    /**
+     * Unique identifier for the job.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    /**
+     * The kind of adjustment applied by the job.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 16)
+    private AdjustmentType type;
+
+    /**
+     * The interest rate in basis points for {@link AdjustmentType#INTEREST} jobs,
+     * or the fee amount in minor units of the base currency for {@link AdjustmentType#FEE} jobs.
+     */
+    @Column(name = "adjustment_value", nullable = false)
+    private long value;
+
+    /**
+     * The current status of the job.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private AdjustmentJobStatus status;
+
+    /**
+     * The number of chunks the job was split into.
+     */
+    @Column(name = "total_chunks", nullable = false)
+    private int totalChunks;
+
+    /**
+     * The number of chunks processed so far; computed on lookup and not persisted.
+     */
+    @Transient
+    private long completedChunks;
+
+    /**
+     * The time the job was created.
+     */
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /**
+     * The time the last chunk of the job was processed.
+     */
+    @Column(name = "completed_at")
+    private Instant completedAt;
+
+    /**
+     * Constructs a new running {@code BalanceAdjustmentJob}.
+     *
+     * @param type      the kind of adjustment
+     * @param value     the interest rate in basis points or the fee amount in minor units of the base currency
+     * @param createdAt the time the job is created
+     */
+    public BalanceAdjustmentJob(AdjustmentType type, long value, Instant createdAt) {
+        this.type = type;
+        this.value = value;
+        this.createdAt = createdAt;
+        this.status = AdjustmentJobStatus.RUNNING;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BalanceAdjustmentJob that = (BalanceAdjustmentJob) o;
+        return id == that.id && value == that.value && totalChunks == that.totalChunks && type == that.type
+                && status == that.status && Objects.equals(createdAt, that.createdAt);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, type, value, status, totalChunks, createdAt);
+    }
+
+    @Override
+    public String toString() {
+        return "BalanceAdjustmentJob{" +
+                "id=" + id +
+                ", type=" + type +
+                ", value=" + value +
+                ", status=" + status +
+                ", totalChunks=" + totalChunks +
+                '}';
+    }
+}
@@ -0,0 +1,24 @@
+package org.springcorebankapp.adjustment;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link BalanceAdjustmentJob} entities.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Repository
+public interface BalanceAdjustmentJobRepository extends JpaRepository<BalanceAdjustmentJob, Integer> {
+
+    /**
+     * Finds all jobs with the given status.
+     *
+     * @param status the status of the jobs
+     * @return the jobs with the given status
+     */
+    List<BalanceAdjustmentJob> findByStatus(AdjustmentJobStatus status);
+}
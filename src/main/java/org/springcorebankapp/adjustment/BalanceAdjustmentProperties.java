@@ -0,0 +1,63 @@
+package org.springcorebankapp.adjustment;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for bulk balance adjustment jobs.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Defines the width of the account ID range processed in one transaction.</li>
+ *     <li>Defines how many chunks are processed in parallel.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class BalanceAdjustmentProperties {
+
+    /**
+     * The number of account IDs per chunk, injected from {@code adjustment.chunk-size}.
+     */
+    private final int chunkSize;
+
+    /**
+     * The number of chunks processed in parallel, injected from {@code adjustment.worker-threads}.
+     */
+    private final int workerThreads;
+
+    /**
+     * Constructs a new {@code BalanceAdjustmentProperties} instance.
+     *
+     * @param chunkSize     the number of account IDs per chunk
+     * @param workerThreads the number of chunks processed in parallel
+     */
+    public BalanceAdjustmentProperties(@Value("${adjustment.chunk-size}") int chunkSize,
+                                       @Value("${adjustment.worker-threads}") int workerThreads) {
+        this.chunkSize = chunkSize;
+        this.workerThreads = workerThreads;
+    }
+
+    /**
+     * Returns the number of account IDs per chunk.
+     *
+     * @return the chunk size
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * Returns the number of chunks processed in parallel.
+     *
+     * @return the number of worker threads
+     */
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+}
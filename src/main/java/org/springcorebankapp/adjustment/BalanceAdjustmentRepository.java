@@ -0,0 +1,126 @@
+package org.springcorebankapp.adjustment;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for the {@link BalanceAdjustment} audit records and the set-based
+ * balance updates that produce them.
+ * <p>
+ * Each update query locks the accounts of one ID range, changes their balances and writes one audit
+ * record and one {@link org.springcorebankapp.account.AccountMovement} per changed account in a single
+ * PostgreSQL statement, instead of loading and saving every {@code Account} entity. The same statement adds
+ * the changes to the owners' {@link org.springcorebankapp.balance.UserBalance} totals, in ascending
+ * (user, currency) order like every other balance change.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Repository
+public interface BalanceAdjustmentRepository extends JpaRepository<BalanceAdjustment, Long> {
+
+    /**
+     * Credits interest to every positive balance in the given account ID range.
+     *
+     * @param jobId           the ID of the job applying the interest
+     * @param fromAccountId   the first account ID of the range, inclusive
+     * @param toAccountId     the last account ID of the range, inclusive
+     * @param rateBasisPoints the interest rate in basis points; the interest is rounded down
+     * @return the adjusted accounts
+     */
+    @Query(value = """
+            WITH source AS (
+                SELECT id, CAST(FLOOR(money_amount * CAST(:rateBasisPoints AS NUMERIC) / 10000) AS BIGINT) AS delta
+                FROM accounts
+                WHERE id BETWEEN :fromAccountId AND :toAccountId AND money_amount > 0
+                ORDER BY id
+                FOR UPDATE
+            ), adjusted AS (
+                UPDATE accounts a SET money_amount = a.money_amount + s.delta, version = a.version + 1
+                FROM source s
+                WHERE a.id = s.id AND s.delta <> 0
+                RETURNING a.id AS account_id, a.user_id AS user_id, a.currency AS currency, s.delta AS delta,
+                          a.money_amount AS balance_after, a.version AS version
+            ), movements AS (
+                INSERT INTO account_movements (account_id, counterparty_account_id, type, amount, fee, created_at)
+                SELECT account_id, NULL, 'ADJUSTMENT', delta, 0, now() FROM adjusted
+            ), totals AS (
+                INSERT INTO user_balances (user_id, currency, total_balance, account_count)
+                SELECT user_id, currency, CAST(SUM(delta) AS BIGINT), 0 FROM adjusted
+                GROUP BY user_id, currency
+                ORDER BY user_id, currency
+                ON CONFLICT (user_id, currency) DO UPDATE
+                SET total_balance = user_balances.total_balance + EXCLUDED.total_balance
+            ), audit AS (
+                INSERT INTO balance_adjustments (job_id, account_id, user_id, delta, balance_after, created_at)
+                SELECT :jobId, account_id, user_id, delta, balance_after, now() FROM adjusted
+            )
+            SELECT account_id AS "accountId", user_id AS "userId", balance_after AS "balanceAfter",
+                   version AS "version"
+            FROM adjusted
+            """, nativeQuery = true)
+    List<AdjustedAccount> applyInterest(@Param("jobId") int jobId,
+                                        @Param("fromAccountId") int fromAccountId,
+                                        @Param("toAccountId") int toAccountId,
+                                        @Param("rateBasisPoints") long rateBasisPoints);
+
+    /**
+     * Debits a fee from every positive balance in the given account ID range, never below zero.
+     * <p>
+     * The fee is given per currency, as {@code fees[i]} minor units of {@code currencies[i]}; accounts in a
+     * currency without a fee are left unchanged.
+     * </p>
+     *
+     * @param jobId         the ID of the job applying the fee
+     * @param fromAccountId the first account ID of the range, inclusive
+     * @param toAccountId   the last account ID of the range, inclusive
+     * @param currencies    the names of the currencies the fees are given in
+     * @param fees          the fee amounts in minor units of the corresponding currencies
+     * @return the adjusted accounts
+     */
+    @Query(value = """
+            WITH fees AS (
+                SELECT f.currency, f.fee
+                FROM unnest(CAST(:currencies AS VARCHAR[]), CAST(:fees AS BIGINT[])) AS f(currency, fee)
+            ), source AS (
+                SELECT a.id, -LEAST(f.fee, a.money_amount) AS delta
+                FROM accounts a
+                JOIN fees f ON f.currency = a.currency
+                WHERE a.id BETWEEN :fromAccountId AND :toAccountId AND a.money_amount > 0
+                ORDER BY a.id
+                FOR UPDATE OF a
+            ), adjusted AS (
+                UPDATE accounts a SET money_amount = a.money_amount + s.delta, version = a.version + 1
+                FROM source s
+                WHERE a.id = s.id AND s.delta <> 0
+                RETURNING a.id AS account_id, a.user_id AS user_id, a.currency AS currency, s.delta AS delta,
+                          a.money_amount AS balance_after, a.version AS version
+            ), movements AS (
+                INSERT INTO account_movements (account_id, counterparty_account_id, type, amount, fee, created_at)
+                SELECT account_id, NULL, 'ADJUSTMENT', delta, 0, now() FROM adjusted
+            ), totals AS (
+                INSERT INTO user_balances (user_id, currency, total_balance, account_count)
+                SELECT user_id, currency, CAST(SUM(delta) AS BIGINT), 0 FROM adjusted
+                GROUP BY user_id, currency
+                ORDER BY user_id, currency
+                ON CONFLICT (user_id, currency) DO UPDATE
+                SET total_balance = user_balances.total_balance + EXCLUDED.total_balance
+            ), audit AS (
+                INSERT INTO balance_adjustments (job_id, account_id, user_id, delta, balance_after, created_at)
+                SELECT :jobId, account_id, user_id, delta, balance_after, now() FROM adjusted
+            )
+            SELECT account_id AS "accountId", user_id AS "userId", balance_after AS "balanceAfter",
+                   version AS "version"
+            FROM adjusted
+            """, nativeQuery = true)
+    List<AdjustedAccount> applyFee(@Param("jobId") int jobId,
+                                   @Param("fromAccountId") int fromAccountId,
+                                   @Param("toAccountId") int toAccountId,
+                                   @Param("currencies") String[] currencies,
+                                   @Param("fees") long[] fees);
+}
@@ -0,0 +1,247 @@
+package org.springcorebankapp.adjustment;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springcorebankapp.account.AccountRepository;
+import org.springcorebankapp.balance.UserBalanceService;
+import org.springcorebankapp.exception.BalanceAdjustmentJobNotFoundException;
+import org.springcorebankapp.fx.Currency;
+import org.springcorebankapp.fx.FxRateService;
+import org.springcorebankapp.fx.FxRateTable;
+import org.springcorebankapp.index.BalanceIndex;
+import org.springcorebankapp.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Service class for bulk balance adjustments such as monthly interest and maintenance fees.
+ * <p>
+ * A job splits the account ID space into fixed-width chunks. Every chunk is adjusted by a single set-based
+ * statement that also writes the {@link BalanceAdjustment} audit records, and is checkpointed in the same
+ * transaction. Chunks run in parallel on the {@code balanceAdjustmentExecutor}; after each chunk only the
+ * cache entries of the adjusted accounts and their owners are evicted.
+ * </p>
+ * <p>
+ * Fees are given in the base currency of the {@link FxRateService} and converted into the currency of each
+ * account at the rates current when its chunk is processed.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Interest and fee jobs over millions of accounts without loading {@code Account} entities.</li>
+ *     <li>Parallel chunk processing with per-chunk checkpoints.</li>
+ *     <li>Resumption of failed or interrupted jobs, also automatically at startup.</li>
+ * </ul>
+ *
+ * @see BalanceAdjustmentJob
+ * @see BalanceAdjustmentChunk
+ * @see BalanceAdjustmentRepository
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class BalanceAdjustmentService {
+    private final Logger logger = LoggerFactory.getLogger(BalanceAdjustmentService.class);
+
+    @Autowired
+    private BalanceAdjustmentJobRepository balanceAdjustmentJobRepository;
+    @Autowired
+    private BalanceAdjustmentChunkRepository balanceAdjustmentChunkRepository;
+    @Autowired
+    private BalanceAdjustmentRepository balanceAdjustmentRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private BalanceAdjustmentProperties balanceAdjustmentProperties;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private BalanceIndex balanceIndex;
+    @Autowired
+    private FxRateService fxRateService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    @Qualifier("balanceAdjustmentExecutor")
+    private ExecutorService balanceAdjustmentExecutor;
+
+    /**
+     * Creates a new job, splits the current account ID space into chunks and starts processing them
+     * once the job is committed.
+     *
+     * @param type  the kind of adjustment
+     * @param value the interest rate in basis points or the fee amount in minor units of the base currency
+     * @return the created {@link BalanceAdjustmentJob}
+     * @throws IllegalArgumentException if the value is not positive
+     */
+    public BalanceAdjustmentJob startJob(AdjustmentType type, long value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("Cannot start %s job with not positive value: value = %s"
+                    .formatted(type, value));
+        }
+        BalanceAdjustmentJob job = balanceAdjustmentJobRepository.save(
+                new BalanceAdjustmentJob(type, value, Instant.now()));
+
+        List<BalanceAdjustmentChunk> chunks = new ArrayList<>();
+        Integer minId = accountRepository.findMinId();
+        Integer maxId = accountRepository.findMaxId();
+        if (minId != null && maxId != null) {
+            long chunkSize = balanceAdjustmentProperties.getChunkSize();
+            for (long from = minId; from <= maxId; from += chunkSize) {
+                chunks.add(new BalanceAdjustmentChunk(job.getId(), (int) from, (int) Math.min(from + chunkSize - 1, maxId)));
+            }
+        }
+        balanceAdjustmentChunkRepository.saveAll(chunks);
+        job.setTotalChunks(chunks.size());
+        if (chunks.isEmpty()) {
+            job.setStatus(AdjustmentJobStatus.COMPLETED);
+            job.setCompletedAt(Instant.now());
+        } else {
+            TransactionUtils.afterCommit(() -> balanceAdjustmentExecutor.execute(() -> runJob(job.getId())));
+        }
+        return balanceAdjustmentJobRepository.save(job);
+    }
+
+    /**
+     * Resumes a failed or interrupted job from its checkpoints.
+     *
+     * @param id the ID of the job
+     * @throws BalanceAdjustmentJobNotFoundException if no job is found with the provided ID
+     * @throws IllegalArgumentException              if the job has already completed
+     */
+    public void resumeJob(int id) {
+        BalanceAdjustmentJob job = findJobById(id);
+        if (job.getStatus() == AdjustmentJobStatus.COMPLETED) {
+            throw new IllegalArgumentException("Cannot resume completed job: id = %s".formatted(id));
+        }
+        job.setStatus(AdjustmentJobStatus.RUNNING);
+        balanceAdjustmentJobRepository.save(job);
+        TransactionUtils.afterCommit(() -> balanceAdjustmentExecutor.execute(() -> runJob(id)));
+    }
+
+    /**
+     * Finds a job by its ID, including the number of chunks processed so far.
+     *
+     * @param id the ID of the job
+     * @return the found {@link BalanceAdjustmentJob}
+     * @throws BalanceAdjustmentJobNotFoundException if no job is found with the provided ID
+     */
+    @Transactional(readOnly = true)
+    public BalanceAdjustmentJob findJobById(int id) {
+        BalanceAdjustmentJob job = balanceAdjustmentJobRepository.findById(id)
+                .orElseThrow(() -> new BalanceAdjustmentJobNotFoundException(
+                        "Balance adjustment job with id = %s not found".formatted(id)));
+        job.setCompletedChunks(balanceAdjustmentChunkRepository.countByJobIdAndCompletedTrue(id));
+        return job;
+    }
+
+    /**
+     * Resumes the jobs that were running when the application was last stopped.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void resumeRunningJobs() {
+        for (BalanceAdjustmentJob job : balanceAdjustmentJobRepository.findByStatus(AdjustmentJobStatus.RUNNING)) {
+            logger.info("Resuming balance adjustment job with id = {}", job.getId());
+            balanceAdjustmentExecutor.execute(() -> runJob(job.getId()));
+        }
+    }
+
+    /**
+     * Submits every pending chunk of a job to the executor and records the outcome once all of them finish.
+     * Runs on an executor thread, outside of any transaction.
+     */
+    void runJob(int jobId) {
+        BalanceAdjustmentJob job = balanceAdjustmentJobRepository.findById(jobId).orElseThrow();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (BalanceAdjustmentChunk chunk
+                : balanceAdjustmentChunkRepository.findByJobIdAndCompletedFalseOrderByFromAccountIdAsc(jobId)) {
+            futures.add(CompletableFuture.runAsync(() -> processChunk(job, chunk), balanceAdjustmentExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, error) -> finishJob(jobId, error));
+    }
+
+    /**
+     * Adjusts and checkpoints one chunk in a single transaction, then evicts the affected cache entries
+     * and hands the new balances to the balance index.
+     */
+    void processChunk(BalanceAdjustmentJob job, BalanceAdjustmentChunk chunk) {
+        List<AdjustedAccount> adjustedAccounts = transactionTemplate.execute(status -> {
+            List<AdjustedAccount> adjusted = switch (job.getType()) {
+                case INTEREST -> balanceAdjustmentRepository.applyInterest(
+                        job.getId(), chunk.getFromAccountId(), chunk.getToAccountId(), job.getValue());
+                case FEE -> applyFee(job, chunk);
+            };
+            if (balanceAdjustmentChunkRepository.markCompleted(chunk.getId(), adjusted.size(), Instant.now()) == 0) {
+                status.setRollbackOnly();
+                return List.of();
+            }
+            return adjusted;
+        });
+        evictCaches(adjustedAccounts);
+    }
+
+    private List<AdjustedAccount> applyFee(BalanceAdjustmentJob job, BalanceAdjustmentChunk chunk) {
+        FxRateTable rateTable = fxRateService.getRateTable();
+        Currency[] currencies = Currency.values();
+        String[] names = new String[currencies.length];
+        long[] fees = new long[currencies.length];
+        for (int i = 0; i < currencies.length; i++) {
+            names[i] = currencies[i].name();
+            fees[i] = rateTable.convert(job.getValue(), rateTable.getBase(), currencies[i]);
+        }
+        return balanceAdjustmentRepository.applyFee(
+                job.getId(), chunk.getFromAccountId(), chunk.getToAccountId(), names, fees);
+    }
+
+    private void evictCaches(List<AdjustedAccount> adjustedAccounts) {
+        if (adjustedAccounts == null || adjustedAccounts.isEmpty()) {
+            return;
+        }
+        Cache accounts = cacheManager.getCache("accounts");
+        Cache userBalances = cacheManager.getCache(UserBalanceService.CACHE_NAME);
+        int lastUserId = -1;
+        for (AdjustedAccount adjustedAccount : adjustedAccounts) {
+            balanceIndex.update(adjustedAccount.getAccountId(), adjustedAccount.getUserId(),
+                    adjustedAccount.getBalanceAfter(), adjustedAccount.getVersion());
+            if (accounts != null) {
+                accounts.evict(adjustedAccount.getAccountId());
+            }
+            if (adjustedAccount.getUserId() != lastUserId) {
+                if (userBalances != null) {
+                    userBalances.evict(adjustedAccount.getUserId());
+                }
+                lastUserId = adjustedAccount.getUserId();
+            }
+        }
+    }
+
+    private void finishJob(int jobId, Throwable error) {
+        BalanceAdjustmentJob job = balanceAdjustmentJobRepository.findById(jobId).orElseThrow();
+        if (error == null && balanceAdjustmentChunkRepository.countByJobIdAndCompletedTrue(jobId) == job.getTotalChunks()) {
+            job.setStatus(AdjustmentJobStatus.COMPLETED);
+            job.setCompletedAt(Instant.now());
+            logger.info("Balance adjustment job with id = {} completed", jobId);
+        } else {
+            job.setStatus(AdjustmentJobStatus.FAILED);
+            logger.error("Balance adjustment job with id = {} failed", jobId, error);
+        }
+        balanceAdjustmentJobRepository.save(job);
+    }
+}
@@ -0,0 +1,55 @@
+package org.springcorebankapp.audit;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Instant;
+import java.util.List;
+
+@Tag(name = "Audit Controller", description = "Operations related to the audit trail of money movements")
+@RestController
+@RequestMapping("/audit")
+public class AuditController {
+    private final AuditLog auditLog;
+
+    @Autowired
+    public AuditController(AuditLog auditLog) {
+        this.auditLog = auditLog;
+    }
+
+    @Operation(
+            summary = "Find audit records of an account",
+            description = "Retrieves the audited money movements of an account within a time range.",
+            tags = {"Audit Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Records found and returned successfully"),
+            @ApiResponse(responseCode = "400", description = "The time range is empty"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping("/find-records")
+    public ResponseEntity<List<AuditRecord>> findRecords(
+            @Parameter(description = "ID of the account", required = true)
+            @RequestParam("accountId") int accountId,
+            @Parameter(description = "Start of the range, inclusive (ISO-8601 instant)", required = true)
+            @RequestParam("from") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @Parameter(description = "End of the range, exclusive (ISO-8601 instant)", required = true)
+            @RequestParam("to") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to) {
+        if (!from.isBefore(to)) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        try {
+            return ResponseEntity.ok(auditLog.findRecords(accountId, from, to));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package org.springcorebankapp.audit;
+
+/**
+ * Kinds of money movements recorded in the audit log.
+ * <p>
+ * Each constant has a fixed code stored in the binary records, so constants may be reordered
+ * but their codes must never change.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public enum AuditEventType {
+
+    /**
+     * Money deposited into an account.
+     */
+    DEPOSIT(1),
+
+    /**
+     * Money withdrawn from an account.
+     */
+    WITHDRAWAL(2),
+
+    /**
+     * Money transferred between two accounts.
+     */
+    TRANSFER(3),
+
+    /**
+     * The balance of a closed account swept into another account of the same user.
+     */
+    CLOSURE(4);
+
+    private static final AuditEventType[] BY_CODE = new AuditEventType[5];
+
+    static {
+        for (AuditEventType type : values()) {
+            BY_CODE[type.code] = type;
+        }
+    }
+
+    private final byte code;
+
+    AuditEventType(int code) {
+        this.code = (byte) code;
+    }
+
+    /**
+     * Returns the code stored in the binary records.
+     *
+     * @return the record code
+     */
+    public byte getCode() {
+        return code;
+    }
+
+    /**
+     * Returns the event type with the given record code.
+     *
+     * @param code the record code
+     * @return the event type, or {@code null} if the code is unknown
+     */
+    public static AuditEventType fromCode(byte code) {
+        return code > 0 && code < BY_CODE.length ? BY_CODE[code] : null;
+    }
+}
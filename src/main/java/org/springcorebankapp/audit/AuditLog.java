@@ -0,0 +1,197 @@
+package org.springcorebankapp.audit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springcorebankapp.fx.Currency;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only writer of the audit log of money movements.
+ * <p>
+ * Records are appended to the current memory-mapped {@link AuditSegment}; a new segment is started when the
+ * current one is full. Appending is a 64-byte copy into the page cache under a short lock and allocates nothing,
+ * so it can sit on the transfer path. Records become durable when {@link #flush()} forces the pages written since
+ * the previous flush, which happens every {@code audit.flush-interval-millis} and at shutdown; a crash of the
+ * process alone loses nothing, since the mapping is shared with the operating system.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Fixed-layout, checksummed records with gapless sequence numbers and non-decreasing timestamps.</li>
+ *     <li>Rotating, preallocated segment files named after their first sequence number.</li>
+ *     <li>Batched flushing outside the append lock.</li>
+ *     <li>Recovery of the last segment at startup, truncating a torn trailing record.</li>
+ * </ul>
+ *
+ * @see AuditRecord
+ * @see AuditLogReader
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class AuditLog {
+    private final Logger logger = LoggerFactory.getLogger(AuditLog.class);
+
+    private final ByteBuffer scratch = ByteBuffer.allocate(AuditRecord.SIZE).order(ByteOrder.LITTLE_ENDIAN);
+    private final CRC32 crc = new CRC32();
+
+    /**
+     * Segments that were rotated out but still have records to force.
+     */
+    private final List<AuditSegment> retiredSegments = new ArrayList<>();
+
+    private AuditSegment segment;
+    private int position;
+    private int flushedPosition;
+    private long nextSequence = 1;
+    private long lastTimestamp;
+
+    @Autowired
+    private AuditProperties auditProperties;
+
+    /**
+     * Opens the newest segment and positions the writer after its last complete record.
+     *
+     * @throws UncheckedIOException if the audit log directory cannot be opened
+     */
+    @PostConstruct
+    public synchronized void open() {
+        if (!auditProperties.isEnabled()) {
+            return;
+        }
+        try {
+            Path directory = Path.of(auditProperties.getDirectory());
+            Files.createDirectories(directory);
+            List<Path> segments = AuditSegment.list(directory);
+            if (segments.isEmpty()) {
+                segment = AuditSegment.openForWrite(directory, nextSequence, auditProperties.getSegmentSizeBytes());
+                return;
+            }
+            AuditSegment last = AuditSegment.openForRead(segments.get(segments.size() - 1));
+            segment = AuditSegment.openForWrite(directory, last.getFirstSequence(), last.capacity() * AuditRecord.SIZE);
+            position = segment.recoverCount(crc);
+            flushedPosition = position;
+            nextSequence = segment.getFirstSequence() + position;
+            if (position > 0) {
+                lastTimestamp = segment.get(position - 1, crc).getTimestamp().toEpochMilli();
+            }
+            logger.info("Opened audit log {} at sequence {}", segment.getPath(), nextSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open audit log", e);
+        }
+    }
+
+    /**
+     * Appends a record for a money movement.
+     *
+     * @param type                  the event type
+     * @param accountId             the account ID
+     * @param counterpartyAccountId the counterparty account ID, or {@code -1}
+     * @param currency              the currency of the account
+     * @param counterpartyCurrency  the currency of the counterparty account
+     * @param amount                the amount debited from or credited to the account, in minor units
+     * @param counterpartyAmount    the amount credited to the counterparty account, in minor units
+     * @param fee                   the commission withheld, in minor units of the account's currency
+     * @return the sequence number of the record, or {@code 0} if the audit log is disabled
+     * @throws UncheckedIOException if a new segment cannot be created
+     */
+    public synchronized long append(AuditEventType type, int accountId, int counterpartyAccountId,
+                                    Currency currency, Currency counterpartyCurrency,
+                                    long amount, long counterpartyAmount, long fee) {
+        if (segment == null) {
+            return 0;
+        }
+        if (position == segment.capacity()) {
+            rotate();
+        }
+        long sequence = nextSequence++;
+        lastTimestamp = Math.max(lastTimestamp, System.currentTimeMillis());
+        AuditRecord.encode(scratch, crc, sequence, lastTimestamp, type, accountId, counterpartyAccountId,
+                currency, counterpartyCurrency, amount, counterpartyAmount, fee);
+        segment.put(position++, scratch.array());
+        return sequence;
+    }
+
+    /**
+     * Forces the records appended since the previous flush to the storage device.
+     */
+    @Scheduled(fixedDelayString = "${audit.flush-interval-millis}")
+    public void flush() {
+        List<AuditSegment> retired;
+        AuditSegment current;
+        int from;
+        int to;
+        synchronized (this) {
+            if (segment == null) {
+                return;
+            }
+            retired = retiredSegments.isEmpty() ? List.of() : new ArrayList<>(retiredSegments);
+            retiredSegments.clear();
+            current = segment;
+            from = retired.isEmpty() ? flushedPosition : 0;
+            to = position;
+            flushedPosition = position;
+        }
+        for (AuditSegment segment : retired) {
+            segment.force(0, segment.capacity());
+        }
+        current.force(from, to);
+    }
+
+    /**
+     * Finds the records of an account within a time range.
+     *
+     * @param accountId the account ID, matched as either side of a movement
+     * @param from      the start of the range, inclusive
+     * @param to        the end of the range, exclusive
+     * @return the matching records in sequence order
+     * @throws UncheckedIOException if a segment cannot be read
+     */
+    public List<AuditRecord> findRecords(int accountId, Instant from, Instant to) {
+        try {
+            return AuditLogReader.query(Path.of(auditProperties.getDirectory()), accountId, from, to);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read audit log", e);
+        }
+    }
+
+    /**
+     * Forces all remaining records and stops appending.
+     */
+    @PreDestroy
+    public void close() {
+        flush();
+        synchronized (this) {
+            segment = null;
+        }
+    }
+
+    private void rotate() {
+        try {
+            AuditSegment next = AuditSegment.openForWrite(segment.getPath().getParent(), nextSequence,
+                    auditProperties.getSegmentSizeBytes());
+            retiredSegments.add(segment);
+            segment = next;
+            position = 0;
+            flushedPosition = 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot create audit log segment", e);
+        }
+    }
+}
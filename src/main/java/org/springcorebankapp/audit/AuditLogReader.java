@@ -0,0 +1,93 @@
+package org.springcorebankapp.audit;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Reader of the audit log, usable both by the application and as a stand-alone command-line tool.
+ * <p>
+ * Segments are scanned in sequence order. Since timestamps never decrease, segments whose successor starts
+ * before the requested range are skipped without being scanned, and the scan stops at the first record past it.
+ * </p>
+ *
+ * <pre>
+ * java -cp banking-app.jar org.springcorebankapp.audit.AuditLogReader data/audit 42 2024-07-01T00:00:00Z 2024-07-02T00:00:00Z
+ * </pre>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public final class AuditLogReader {
+
+    private AuditLogReader() {
+    }
+
+    /**
+     * Finds the records of an account, as either side of a movement, within a time range.
+     *
+     * @param directory the audit log directory
+     * @param accountId the account ID
+     * @param from      the start of the range, inclusive
+     * @param to        the end of the range, exclusive
+     * @return the matching records in sequence order
+     * @throws IOException if a segment cannot be read
+     */
+    public static List<AuditRecord> query(Path directory, int accountId, Instant from, Instant to) throws IOException {
+        CRC32 crc = new CRC32();
+        List<AuditRecord> records = new ArrayList<>();
+        List<AuditSegment> segments = new ArrayList<>();
+        for (Path path : AuditSegment.list(directory)) {
+            segments.add(AuditSegment.openForRead(path));
+        }
+        for (int i = 0; i < segments.size(); i++) {
+            if (i + 1 < segments.size() && startsBefore(segments.get(i + 1), from, crc)) {
+                continue;
+            }
+            AuditSegment segment = segments.get(i);
+            for (int index = 0; index < segment.capacity(); index++) {
+                AuditRecord record = segment.get(index, crc);
+                if (record == null || record.getSequence() != segment.getFirstSequence() + index) {
+                    break;
+                }
+                if (!record.getTimestamp().isBefore(to)) {
+                    return records;
+                }
+                if (!record.getTimestamp().isBefore(from)
+                        && (record.getAccountId() == accountId || record.getCounterpartyAccountId() == accountId)) {
+                    records.add(record);
+                }
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Prints the records of an account within a time range.
+     *
+     * @param args the audit log directory, the account ID, and the ISO-8601 start and end of the range
+     * @throws IOException if a segment cannot be read
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4) {
+            System.err.println("Usage: AuditLogReader <directory> <accountId> <from> <to>");
+            System.exit(2);
+        }
+        for (AuditRecord record : query(Path.of(args[0]), Integer.parseInt(args[1]),
+                Instant.parse(args[2]), Instant.parse(args[3]))) {
+            System.out.println(record);
+        }
+    }
+
+    /**
+     * Returns whether the first record of a segment is earlier than the given instant, in which case
+     * the preceding segment holds no records at or after it.
+     */
+    private static boolean startsBefore(AuditSegment segment, Instant instant, CRC32 crc) {
+        AuditRecord first = segment.get(0, crc);
+        return first != null && first.getTimestamp().isBefore(instant);
+    }
+}
@@ -0,0 +1,84 @@
+package org.springcorebankapp.audit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the audit log.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Defines the directory and the size of the audit log's segment files.</li>
+ *     <li>Defines how often appended records are forced to the storage device.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class AuditProperties {
+
+    /**
+     * Whether money movements are audited, injected from {@code audit.enabled}.
+     */
+    private final boolean enabled;
+
+    /**
+     * The directory holding the segment files, injected from {@code audit.directory}.
+     */
+    private final String directory;
+
+    /**
+     * The size of a segment file in bytes, injected from {@code audit.segment-size-bytes}.
+     */
+    private final int segmentSizeBytes;
+
+    /**
+     * Constructs a new {@code AuditProperties} instance.
+     *
+     * @param enabled          whether money movements are audited
+     * @param directory        the directory holding the segment files
+     * @param segmentSizeBytes the size of a segment file in bytes
+     * @throws IllegalArgumentException if the segment size cannot hold a single record
+     */
+    public AuditProperties(@Value("${audit.enabled}") boolean enabled,
+                           @Value("${audit.directory}") String directory,
+                           @Value("${audit.segment-size-bytes}") int segmentSizeBytes) {
+        if (segmentSizeBytes < AuditRecord.SIZE) {
+            throw new IllegalArgumentException("audit.segment-size-bytes must be at least " + AuditRecord.SIZE);
+        }
+        this.enabled = enabled;
+        this.directory = directory;
+        this.segmentSizeBytes = segmentSizeBytes - segmentSizeBytes % AuditRecord.SIZE;
+    }
+
+    /**
+     * Returns whether money movements are audited.
+     *
+     * @return {@code true} if the audit log is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the directory holding the segment files.
+     *
+     * @return the audit log directory
+     */
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns the size of a segment file, rounded down to a whole number of records.
+     *
+     * @return the segment size in bytes
+     */
+    public int getSegmentSizeBytes() {
+        return segmentSizeBytes;
+    }
+}
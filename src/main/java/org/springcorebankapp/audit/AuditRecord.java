@@ -0,0 +1,143 @@
+package org.springcorebankapp.audit;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.springcorebankapp.fx.Currency;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.zip.CRC32;
+
+/**
+ * A single record of the audit log.
+ * <p>
+ * Records have a fixed little-endian layout of {@value #SIZE} bytes, so the n-th record of a segment
+ * lives at offset {@code n * SIZE} and a segment can be scanned without any index:
+ * </p>
+ * <pre>
+ *  0  long  sequence (starts at 1, 0 marks unwritten space)
+ *  8  long  timestamp (epoch milliseconds, non-decreasing)
+ * 16  byte  event type code
+ * 17  byte  currency of the account (ordinal)
+ * 18  byte  currency of the counterparty account (ordinal)
+ * 19  byte  reserved
+ * 20  int   account ID
+ * 24  int   counterparty account ID, or -1
+ * 28  int   reserved
+ * 32  long  amount debited from or credited to the account, in minor units
+ * 40  long  amount credited to the counterparty account, in minor units
+ * 48  long  commission withheld, in minor units of the account's currency
+ * 56  int   reserved
+ * 60  int   CRC-32 of bytes 0..59
+ * </pre>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class AuditRecord {
+
+    /**
+     * The size of a record in bytes.
+     */
+    public static final int SIZE = 64;
+
+    private static final int CRC_OFFSET = 60;
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private final long sequence;
+    private final Instant timestamp;
+    private final AuditEventType type;
+    private final int accountId;
+    private final int counterpartyAccountId;
+    private final Currency currency;
+    private final Currency counterpartyCurrency;
+    private final long amount;
+    private final long counterpartyAmount;
+    private final long fee;
+
+    /**
+     * Encodes a record into a scratch buffer of {@link #SIZE} bytes, including its checksum.
+     * <p>
+     * Takes primitive values instead of an {@code AuditRecord}, so appending allocates nothing.
+     * </p>
+     *
+     * @param scratch               the little-endian buffer to encode into, at index {@code 0}
+     * @param crc                   the checksum calculator to reuse
+     * @param sequence              the sequence number of the record
+     * @param timestampMillis       the time of the record in epoch milliseconds
+     * @param type                  the event type
+     * @param accountId             the account ID
+     * @param counterpartyAccountId the counterparty account ID, or {@code -1}
+     * @param currency              the currency of the account
+     * @param counterpartyCurrency  the currency of the counterparty account
+     * @param amount                the amount debited from or credited to the account
+     * @param counterpartyAmount    the amount credited to the counterparty account
+     * @param fee                   the commission withheld
+     */
+    static void encode(ByteBuffer scratch, CRC32 crc, long sequence, long timestampMillis, AuditEventType type,
+                       int accountId, int counterpartyAccountId, Currency currency, Currency counterpartyCurrency,
+                       long amount, long counterpartyAmount, long fee) {
+        scratch.putLong(0, sequence)
+                .putLong(8, timestampMillis)
+                .put(16, type.getCode())
+                .put(17, (byte) currency.ordinal())
+                .put(18, (byte) counterpartyCurrency.ordinal())
+                .put(19, (byte) 0)
+                .putInt(20, accountId)
+                .putInt(24, counterpartyAccountId)
+                .putInt(28, 0)
+                .putLong(32, amount)
+                .putLong(40, counterpartyAmount)
+                .putLong(48, fee)
+                .putInt(56, 0);
+        crc.reset();
+        crc.update(scratch.array(), scratch.arrayOffset(), CRC_OFFSET);
+        scratch.putInt(CRC_OFFSET, (int) crc.getValue());
+    }
+
+    /**
+     * Decodes the record at the given offset.
+     *
+     * @param buffer the little-endian buffer holding the record
+     * @param offset the offset of the record
+     * @param crc    the checksum calculator to reuse
+     * @return the decoded record, or {@code null} if the space is unwritten or the record is torn
+     */
+    static AuditRecord decode(ByteBuffer buffer, int offset, CRC32 crc) {
+        long sequence = buffer.getLong(offset);
+        if (sequence == 0 || !isValid(buffer, offset, crc)) {
+            return null;
+        }
+        AuditEventType type = AuditEventType.fromCode(buffer.get(offset + 16));
+        int currency = buffer.get(offset + 17);
+        int counterpartyCurrency = buffer.get(offset + 18);
+        if (type == null || currency < 0 || currency >= CURRENCIES.length
+                || counterpartyCurrency < 0 || counterpartyCurrency >= CURRENCIES.length) {
+            return null;
+        }
+        return new AuditRecord(sequence, Instant.ofEpochMilli(buffer.getLong(offset + 8)), type,
+                buffer.getInt(offset + 20), buffer.getInt(offset + 24),
+                CURRENCIES[currency], CURRENCIES[counterpartyCurrency],
+                buffer.getLong(offset + 32), buffer.getLong(offset + 40), buffer.getLong(offset + 48));
+    }
+
+    /**
+     * Returns whether the record at the given offset has been written completely.
+     *
+     * @param buffer the little-endian buffer holding the record
+     * @param offset the offset of the record
+     * @param crc    the checksum calculator to reuse
+     * @return {@code true} if the record's checksum matches
+     */
+    static boolean isValid(ByteBuffer buffer, int offset, CRC32 crc) {
+        crc.reset();
+        crc.update(buffer.slice(offset, CRC_OFFSET));
+        return buffer.getInt(offset + CRC_OFFSET) == (int) crc.getValue();
+    }
+}
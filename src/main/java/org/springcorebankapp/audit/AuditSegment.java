@@ -0,0 +1,177 @@
+package org.springcorebankapp.audit;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * A memory-mapped, preallocated segment file of the audit log.
+ * <p>
+ * Segment files are named after the sequence number of their first record, zero-padded so that
+ * lexical order is sequence order. A segment is mapped once for its whole size; appending copies
+ * a record into the mapping, and durability is provided separately by {@link #force(int, int)}.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+class AuditSegment {
+    private static final String SUFFIX = ".audit";
+
+    private final Path path;
+    private final long firstSequence;
+    private final MappedByteBuffer buffer;
+
+    private AuditSegment(Path path, long firstSequence, MappedByteBuffer buffer) {
+        this.path = path;
+        this.firstSequence = firstSequence;
+        this.buffer = buffer;
+        this.buffer.order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    /**
+     * Creates or opens the segment starting at the given sequence number for writing.
+     *
+     * @param directory     the audit log directory
+     * @param firstSequence the sequence number of the segment's first record
+     * @param size          the size of the segment in bytes, a multiple of {@link AuditRecord#SIZE}
+     * @return the mapped segment
+     * @throws IOException if the file cannot be created or mapped
+     */
+    static AuditSegment openForWrite(Path directory, long firstSequence, int size) throws IOException {
+        Path path = directory.resolve(fileName(firstSequence));
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            int mappedSize = (int) Math.max(size, channel.size());
+            return new AuditSegment(path, firstSequence, channel.map(FileChannel.MapMode.READ_WRITE, 0, mappedSize));
+        }
+    }
+
+    /**
+     * Opens an existing segment read-only.
+     *
+     * @param path the segment file
+     * @return the mapped segment
+     * @throws IOException if the file cannot be mapped
+     */
+    static AuditSegment openForRead(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new AuditSegment(path, parseFirstSequence(path),
+                    channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Lists the segment files of a directory in sequence order.
+     *
+     * @param directory the audit log directory
+     * @return the segment files, oldest first
+     * @throws IOException if the directory cannot be listed
+     */
+    static List<Path> list(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            return new ArrayList<>(files
+                    .filter(file -> file.getFileName().toString().endsWith(SUFFIX))
+                    .sorted()
+                    .toList());
+        }
+    }
+
+    /**
+     * Finds the number of complete records, i.e. the index of the first unwritten or torn record.
+     *
+     * @param crc the checksum calculator to reuse
+     * @return the number of complete records
+     */
+    int recoverCount(CRC32 crc) {
+        int count = 0;
+        while (count < capacity()) {
+            int offset = count * AuditRecord.SIZE;
+            if (buffer.getLong(offset) != firstSequence + count || !AuditRecord.isValid(buffer, offset, crc)) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Copies an encoded record into the given slot.
+     *
+     * @param index  the slot index
+     * @param record the encoded record of {@link AuditRecord#SIZE} bytes
+     */
+    void put(int index, byte[] record) {
+        buffer.put(index * AuditRecord.SIZE, record, 0, AuditRecord.SIZE);
+    }
+
+    /**
+     * Reads the record in the given slot.
+     *
+     * @param index the slot index
+     * @param crc   the checksum calculator to reuse
+     * @return the record, or {@code null} if the slot is unwritten or torn
+     */
+    AuditRecord get(int index, CRC32 crc) {
+        return AuditRecord.decode(buffer, index * AuditRecord.SIZE, crc);
+    }
+
+    /**
+     * Forces the records in the given slot range to the storage device.
+     *
+     * @param fromIndex the first slot, inclusive
+     * @param toIndex   the last slot, exclusive
+     */
+    void force(int fromIndex, int toIndex) {
+        if (toIndex > fromIndex) {
+            buffer.force(fromIndex * AuditRecord.SIZE, (toIndex - fromIndex) * AuditRecord.SIZE);
+        }
+    }
+
+    /**
+     * Returns the number of record slots of the segment.
+     *
+     * @return the capacity in records
+     */
+    int capacity() {
+        return buffer.capacity() / AuditRecord.SIZE;
+    }
+
+    /**
+     * Returns the sequence number of the segment's first record.
+     *
+     * @return the first sequence number
+     */
+    long getFirstSequence() {
+        return firstSequence;
+    }
+
+    /**
+     * Returns the segment file.
+     *
+     * @return the segment file path
+     */
+    Path getPath() {
+        return path;
+    }
+
+    private static String fileName(long firstSequence) {
+        return "%020d%s".formatted(firstSequence, SUFFIX);
+    }
+
+    private static long parseFirstSequence(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SUFFIX.length()));
+    }
+}
@@ -0,0 +1,71 @@
+package org.springcorebankapp.balance;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springcorebankapp.fx.Currency;
+
+import java.io.Serializable;
+
+/**
+ * Total balance and number of a user's accounts held in one currency.
+ * <p>
+ * This class is a JPA entity that maps to the "user_balances" table in the database. Rows are never saved
+ * through JPA: the {@link UserBalanceService} applies every balance change to them with an atomic
+ * set-based update in the transaction of the change, and rebuilds them from the accounts on request.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@IdClass(UserBalanceId.class)
+@Table(name = "user_balances")
+public class UserBalance implements Serializable {
+
+    /**
+     * Identifier of the user.
+     */
+    @Id
+    @Column(name = "user_id", nullable = false)
+    private int userId;
+
+    /**
+     * The currency the user's accounts in this total are held in.
+     */
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(name = "currency", nullable = false, length = 3)
+    private Currency currency;
+
+    /**
+     * The sum of the balances of the user's accounts in this currency, in minor units.
+     */
+    @Column(name = "total_balance", nullable = false)
+    private long totalBalance;
+
+    /**
+     * The number of the user's accounts in this currency.
+     */
+    @Column(name = "account_count", nullable = false)
+    private int accountCount;
+
+    /**
+     * Constructs a new {@code UserBalance}.
+     *
+     * @param userId       the ID of the user
+     * @param currency     the currency of the total
+     * @param totalBalance the total balance in minor units
+     * @param accountCount the number of accounts
+     */
+    public UserBalance(int userId, Currency currency, long totalBalance, int accountCount) {
+        this.userId = userId;
+        this.currency = currency;
+        this.totalBalance = totalBalance;
+        this.accountCount = accountCount;
+    }
+}
@@ -0,0 +1,38 @@
+package org.springcorebankapp.balance;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springcorebankapp.fx.Currency;
+
+/**
+ * Change of a user's total in one currency caused by a balance change.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class UserBalanceChange {
+
+    /**
+     * Identifier of the user.
+     */
+    private final int userId;
+
+    /**
+     * The currency of the changed account.
+     */
+    private final Currency currency;
+
+    /**
+     * The change of the total balance, in minor units.
+     */
+    private final long balanceDelta;
+
+    /**
+     * The change of the number of accounts: {@code 1} when opened, {@code -1} when closed.
+     */
+    private final int countDelta;
+}
@@ -0,0 +1,67 @@
+package org.springcorebankapp.balance;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springcorebankapp.exception.UserNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "User Balance Controller", description = "Operations related to the per-user balance totals")
+@RestController
+@RequestMapping("/users")
+public class UserBalanceController {
+    private final UserBalanceService userBalanceService;
+
+    @Autowired
+    public UserBalanceController(UserBalanceService userBalanceService) {
+        this.userBalanceService = userBalanceService;
+    }
+
+    @Operation(
+            summary = "Get a user's balance",
+            description = "Returns the user's total balance and number of accounts per currency, and the net worth in the base currency "
+                    + "at the current rates, without loading the user's accounts.",
+            tags = {"User Balance Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Balance returned successfully"),
+            @ApiResponse(responseCode = "404", description = "User not found"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping("/{userId}/balance")
+    public ResponseEntity<UserBalanceSummary> getBalance(
+            @Parameter(description = "Unique ID of the user", required = true)
+            @PathVariable("userId") int userId) {
+        try {
+            return ResponseEntity.ok(userBalanceService.getSummary(userId));
+        } catch (UserNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    @Operation(
+            summary = "Rebuild the user balance totals",
+            description = "Recomputes the totals of all users from their accounts, user ID ranges in parallel. "
+                    + "Balance changes of the users of a range wait while it is rebuilt.",
+            tags = {"User Balance Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Totals rebuilt"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @PostMapping("/balances/rebuild")
+    public ResponseEntity<String> rebuild() {
+        try {
+            return ResponseEntity.ok("Rebuilt %s user balance totals".formatted(userBalanceService.rebuild()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+}
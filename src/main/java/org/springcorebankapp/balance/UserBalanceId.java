@@ -0,0 +1,32 @@
+package org.springcorebankapp.balance;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springcorebankapp.fx.Currency;
+
+import java.io.Serializable;
+
+/**
+ * Composite identifier of a {@link UserBalance}: the user and the currency of the total.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@EqualsAndHashCode
+public class UserBalanceId implements Serializable {
+
+    /**
+     * Identifier of the user.
+     */
+    private int userId;
+
+    /**
+     * The currency of the total.
+     */
+    private Currency currency;
+}
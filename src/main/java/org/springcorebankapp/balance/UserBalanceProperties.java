@@ -0,0 +1,63 @@
+package org.springcorebankapp.balance;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the per-user balance totals.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Defines the width of the user ID range rebuilt by a single transaction.</li>
+ *     <li>Defines how many ranges are rebuilt in parallel, bounding the load on the database.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class UserBalanceProperties {
+
+    /**
+     * The number of user IDs per rebuilt range, injected from {@code balance.rebuild.range-size}.
+     */
+    private final int rebuildRangeSize;
+
+    /**
+     * The number of ranges rebuilt in parallel, injected from {@code balance.rebuild.parallelism}.
+     */
+    private final int rebuildParallelism;
+
+    /**
+     * Constructs a new {@code UserBalanceProperties} instance.
+     *
+     * @param rebuildRangeSize   the number of user IDs per rebuilt range
+     * @param rebuildParallelism the number of ranges rebuilt in parallel
+     */
+    public UserBalanceProperties(@Value("${balance.rebuild.range-size}") int rebuildRangeSize,
+                                 @Value("${balance.rebuild.parallelism}") int rebuildParallelism) {
+        this.rebuildRangeSize = rebuildRangeSize;
+        this.rebuildParallelism = rebuildParallelism;
+    }
+
+    /**
+     * Returns the number of user IDs per rebuilt range.
+     *
+     * @return the range size
+     */
+    public int getRebuildRangeSize() {
+        return rebuildRangeSize;
+    }
+
+    /**
+     * Returns the number of ranges rebuilt in parallel.
+     *
+     * @return the parallelism
+     */
+    public int getRebuildParallelism() {
+        return rebuildParallelism;
+    }
+}
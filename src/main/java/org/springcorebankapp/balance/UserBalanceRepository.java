@@ -0,0 +1,122 @@
+package org.springcorebankapp.balance;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for the per-user {@link UserBalance} totals.
+ * <p>
+ * Totals are changed by atomic upserts that add a delta to the stored values, so concurrent balance
+ * changes of one user never lose each other's updates, and rebuilt by user ID range from the accounts.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Repository
+public interface UserBalanceRepository extends JpaRepository<UserBalance, UserBalanceId> {
+
+    /**
+     * Finds the totals of a user and locks their rows against concurrent changes until the end of the
+     * transaction ({@code SELECT ... FOR SHARE}).
+     * <p>
+     * Used when populating the cache: a balance change cannot commit and evict the cache entry between
+     * the read and the cache update, so stale totals are never cached.
+     * </p>
+     *
+     * @param userId the ID of the user
+     * @return the totals of the user ordered by currency, or an empty list if the user has no accounts
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    List<UserBalance> findForShareByUserIdOrderByCurrencyAsc(int userId);
+
+    /**
+     * Adds a change to the total of a user in a currency, creating the total if it does not exist yet.
+     *
+     * @param userId       the ID of the user
+     * @param currency     the currency of the total
+     * @param balanceDelta the change of the total balance, in minor units
+     * @param countDelta   the change of the number of accounts
+     * @return the number of rows written
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_balances (user_id, currency, total_balance, account_count)
+            VALUES (:userId, :currency, :balanceDelta, :countDelta)
+            ON CONFLICT (user_id, currency) DO UPDATE
+            SET total_balance = user_balances.total_balance + EXCLUDED.total_balance,
+                account_count = user_balances.account_count + EXCLUDED.account_count
+            """, nativeQuery = true)
+    int applyDelta(@Param("userId") int userId,
+                   @Param("currency") String currency,
+                   @Param("balanceDelta") long balanceDelta,
+                   @Param("countDelta") int countDelta);
+
+    /**
+     * Locks the users of an ID range, in ascending ID order, until the end of the transaction, so no
+     * account can be opened for them meanwhile.
+     *
+     * @param fromUserId the first user ID of the range, inclusive
+     * @param toUserId   the last user ID of the range, inclusive
+     * @return the IDs of the locked users
+     */
+    @Query(value = "SELECT id FROM users WHERE id BETWEEN :fromUserId AND :toUserId ORDER BY id FOR UPDATE",
+            nativeQuery = true)
+    List<Integer> lockUsers(@Param("fromUserId") int fromUserId, @Param("toUserId") int toUserId);
+
+    /**
+     * Locks the accounts of the users of an ID range against balance changes, in ascending account ID order
+     * like every balance change, until the end of the transaction.
+     * <p>
+     * A change in progress is waited for, so the totals computed afterwards include it.
+     * </p>
+     *
+     * @param fromUserId the first user ID of the range, inclusive
+     * @param toUserId   the last user ID of the range, inclusive
+     * @return the number of locked accounts
+     */
+    @Query(value = """
+            SELECT COUNT(*) FROM (
+                SELECT id FROM accounts
+                WHERE user_id BETWEEN :fromUserId AND :toUserId
+                ORDER BY id
+                FOR SHARE
+            ) locked
+            """, nativeQuery = true)
+    long lockAccounts(@Param("fromUserId") int fromUserId, @Param("toUserId") int toUserId);
+
+    /**
+     * Deletes the totals of the users of an ID range.
+     *
+     * @param fromUserId the first user ID of the range, inclusive
+     * @param toUserId   the last user ID of the range, inclusive
+     * @return the number of deleted totals
+     */
+    @Modifying
+    @Query(value = "DELETE FROM user_balances WHERE user_id BETWEEN :fromUserId AND :toUserId", nativeQuery = true)
+    int deleteRange(@Param("fromUserId") int fromUserId, @Param("toUserId") int toUserId);
+
+    /**
+     * Computes the totals of the users of an ID range from their accounts.
+     *
+     * @param fromUserId the first user ID of the range, inclusive
+     * @param toUserId   the last user ID of the range, inclusive
+     * @return the number of totals written
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO user_balances (user_id, currency, total_balance, account_count)
+            SELECT user_id, currency, CAST(COALESCE(SUM(money_amount), 0) AS BIGINT), CAST(COUNT(*) AS INTEGER)
+            FROM accounts
+            WHERE user_id BETWEEN :fromUserId AND :toUserId
+            GROUP BY user_id, currency
+            """, nativeQuery = true)
+    int insertRange(@Param("fromUserId") int fromUserId, @Param("toUserId") int toUserId);
+}
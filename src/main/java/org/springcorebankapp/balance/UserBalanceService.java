@@ -0,0 +1,205 @@
+package org.springcorebankapp.balance;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springcorebankapp.exception.UserNotFoundException;
+import org.springcorebankapp.fx.FxRateService;
+import org.springcorebankapp.user.UserRepository;
+import org.springcorebankapp.util.Money;
+import org.springcorebankapp.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Service maintaining the per-user {@link UserBalance} totals.
+ * <p>
+ * Every balance change of the {@code AccountService} and of the bulk adjustments adds its deltas to the
+ * totals of the affected users in its own transaction, so a user's net worth is read from one row per
+ * currency instead of loading and summing all of the user's accounts.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Atomic delta upserts applied in ascending (user, currency) order, so concurrent changes of the same
+ *     users neither lose updates nor deadlock.</li>
+ *     <li>Cached totals, evicted once the changing transaction commits and read under a shared row lock,
+ *     so a stale total is never cached.</li>
+ *     <li>Net worth converted into the base currency at the current rates on every read.</li>
+ *     <li>A rebuild recomputing the totals from the accounts by user ID range, ranges in parallel, weekly
+ *     and on request.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class UserBalanceService {
+
+    /**
+     * Name of the cache of the totals, keyed by user ID.
+     */
+    public static final String CACHE_NAME = "userBalances";
+
+    private static final Comparator<UserBalanceChange> LOCK_ORDER = Comparator
+            .comparingInt(UserBalanceChange::getUserId)
+            .thenComparing(change -> change.getCurrency().name());
+
+    private final Logger logger = LoggerFactory.getLogger(UserBalanceService.class);
+
+    @Autowired
+    private UserBalanceRepository userBalanceRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private FxRateService fxRateService;
+    @Autowired
+    private UserBalanceProperties userBalanceProperties;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Adds the changes of a balance change to the totals of the affected users.
+     * <p>
+     * Must be called in the transaction of the balance change, after its accounts are locked. Changes of the
+     * same total are merged, and changes that cancel out, such as a transfer between two accounts of one
+     * user in one currency, write nothing.
+     * </p>
+     *
+     * @param changes the changes to apply
+     */
+    public void recordChanges(UserBalanceChange... changes) {
+        UserBalanceChange[] ordered = changes.clone();
+        Arrays.sort(ordered, LOCK_ORDER);
+        int i = 0;
+        while (i < ordered.length) {
+            UserBalanceChange first = ordered[i];
+            long balanceDelta = 0;
+            int countDelta = 0;
+            for (; i < ordered.length && LOCK_ORDER.compare(ordered[i], first) == 0; i++) {
+                balanceDelta = Money.add(balanceDelta, ordered[i].getBalanceDelta());
+                countDelta += ordered[i].getCountDelta();
+            }
+            if (balanceDelta != 0 || countDelta != 0) {
+                userBalanceRepository.applyDelta(first.getUserId(), first.getCurrency().name(),
+                        balanceDelta, countDelta);
+                int userId = first.getUserId();
+                TransactionUtils.afterCommit(() -> evict(userId));
+            }
+        }
+    }
+
+    /**
+     * Returns a user's totals per currency and net worth in the base currency.
+     * <p>
+     * The totals are cached; the net worth is converted at the current rates on every call.
+     * </p>
+     *
+     * @param userId the ID of the user
+     * @return the balance summary of the user
+     * @throws UserNotFoundException if no user is found with the provided ID
+     */
+    public UserBalanceSummary getSummary(int userId) {
+        List<UserBalance> balances = findBalances(userId);
+        if (balances.isEmpty() && !userRepository.existsById(userId)) {
+            throw new UserNotFoundException("User with id = %s not found".formatted(userId));
+        }
+        long netWorth = 0;
+        int accountCount = 0;
+        for (UserBalance balance : balances) {
+            netWorth = Money.add(netWorth, fxRateService.toBaseCurrency(balance.getTotalBalance(), balance.getCurrency()));
+            accountCount += balance.getAccountCount();
+        }
+        return new UserBalanceSummary(userId, fxRateService.getRateTable().getBase(), netWorth, accountCount,
+                balances);
+    }
+
+    /**
+     * Recomputes all totals from the accounts, weekly as triggered by {@code balance.rebuild.cron} and on request.
+     * <p>
+     * The user ID space is split into ranges of {@code balance.rebuild.range-size} users, rebuilt in parallel
+     * by {@code balance.rebuild.parallelism} threads, each range in its own transaction. A range locks its
+     * users and their accounts first, so balance changes of those users wait for the rebuild instead of
+     * being lost by it; changes of other users proceed.
+     * </p>
+     *
+     * @return the number of totals written
+     */
+    @Scheduled(cron = "${balance.rebuild.cron}", zone = "UTC")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuild() {
+        Integer minId = userRepository.findMinId();
+        Integer maxId = userRepository.findMaxId();
+        if (minId == null || maxId == null) {
+            return 0;
+        }
+        long startedAt = System.nanoTime();
+        long rangeSize = userBalanceProperties.getRebuildRangeSize();
+        ExecutorService executor = Executors.newFixedThreadPool(userBalanceProperties.getRebuildParallelism());
+        int written = 0;
+        try {
+            List<CompletableFuture<Integer>> ranges = new ArrayList<>();
+            for (long from = minId; from <= maxId; from += rangeSize) {
+                int fromUserId = (int) from;
+                int toUserId = (int) Math.min(from + rangeSize - 1, maxId);
+                ranges.add(CompletableFuture.supplyAsync(() -> rebuildRange(fromUserId, toUserId), executor));
+            }
+            for (CompletableFuture<Integer> range : ranges) {
+                written += range.join();
+            }
+        } finally {
+            executor.shutdown();
+            Cache cache = cacheManager.getCache(CACHE_NAME);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        logger.info("Rebuilt {} user balance totals of users {} to {} in {} ms", written, minId, maxId,
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return written;
+    }
+
+    /**
+     * Recomputes the totals of one user ID range in a single transaction.
+     */
+    int rebuildRange(int fromUserId, int toUserId) {
+        Integer written = transactionTemplate.execute(status -> {
+            userBalanceRepository.lockUsers(fromUserId, toUserId);
+            userBalanceRepository.lockAccounts(fromUserId, toUserId);
+            userBalanceRepository.deleteRange(fromUserId, toUserId);
+            return userBalanceRepository.insertRange(fromUserId, toUserId);
+        });
+        return written != null ? written : 0;
+    }
+
+    private List<UserBalance> findBalances(int userId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) {
+            return userBalanceRepository.findForShareByUserIdOrderByCurrencyAsc(userId);
+        }
+        return cache.get(userId, () -> userBalanceRepository.findForShareByUserIdOrderByCurrencyAsc(userId));
+    }
+
+    private void evict(int userId) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache != null) {
+            cache.evict(userId);
+        }
+    }
+}
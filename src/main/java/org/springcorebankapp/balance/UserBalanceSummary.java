@@ -0,0 +1,45 @@
+package org.springcorebankapp.balance;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import org.springcorebankapp.fx.Currency;
+
+import java.util.List;
+
+/**
+ * A user's balances per currency and their total in the base currency.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class UserBalanceSummary {
+
+    /**
+     * Identifier of the user.
+     */
+    private final int userId;
+
+    /**
+     * The base currency of the net worth.
+     */
+    private final Currency baseCurrency;
+
+    /**
+     * The sum of all balances converted into the base currency at the current rates, in minor units.
+     */
+    private final long netWorth;
+
+    /**
+     * The number of accounts of the user.
+     */
+    private final int accountCount;
+
+    /**
+     * The totals per currency, ordered by currency.
+     */
+    private final List<UserBalance> balances;
+}
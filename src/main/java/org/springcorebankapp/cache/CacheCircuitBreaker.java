@@ -0,0 +1,213 @@
+package org.springcorebankapp.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Circuit breaker guarding the shared cache, so a stalled or restarting Redis costs cache hits instead of
+ * availability.
+ * <p>
+ * Consecutive failed or slow cache operations open the circuit. While it is open, {@link CircuitBreakerCache}s
+ * skip the cache entirely: reads miss and fall through to the database, writes are dropped and evictions are
+ * remembered. Recovery is probed in the background: once the circuit has been open for
+ * {@code cache.circuit-breaker.open-duration-millis}, it turns half-open and runs the recovery actions, which
+ * ping the cache and replay the remembered evictions. Only if they succeed does the circuit close, so no entry
+ * that should have been evicted is ever read again.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>No cache traffic while open or half-open, so requests never wait for a cache timeout then.</li>
+ *     <li>Recovery independent of request traffic.</li>
+ *     <li>The state and the outcome of every guarded operation as metrics.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class CacheCircuitBreaker implements MeterBinder {
+
+    /**
+     * State of the circuit.
+     */
+    public enum State {
+        /**
+         * Operations reach the cache.
+         */
+        CLOSED,
+        /**
+         * Operations skip the cache until recovery is probed.
+         */
+        OPEN,
+        /**
+         * Recovery is being probed; operations still skip the cache.
+         */
+        HALF_OPEN
+    }
+
+    private final Logger logger = LoggerFactory.getLogger(CacheCircuitBreaker.class);
+
+    private final int failureThreshold;
+    private final long slowCallNanos;
+    private final long openDurationNanos;
+    private final List<Runnable> recoveryActions = new CopyOnWriteArrayList<>();
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private volatile State state = State.CLOSED;
+    private volatile long openedAtNanos;
+
+    private final LongAdder successes = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder slowCalls = new LongAdder();
+    private final LongAdder notPermitted = new LongAdder();
+
+    /**
+     * Constructs a new {@code CacheCircuitBreaker}.
+     *
+     * @param cacheCircuitBreakerProperties the circuit breaker configuration properties
+     */
+    @Autowired
+    public CacheCircuitBreaker(CacheCircuitBreakerProperties cacheCircuitBreakerProperties) {
+        this.failureThreshold = cacheCircuitBreakerProperties.getFailureThreshold();
+        this.slowCallNanos = TimeUnit.MILLISECONDS.toNanos(cacheCircuitBreakerProperties.getSlowCallMillis());
+        this.openDurationNanos = TimeUnit.MILLISECONDS.toNanos(cacheCircuitBreakerProperties.getOpenDurationMillis());
+    }
+
+    /**
+     * Returns the state of the circuit.
+     *
+     * @return the state
+     */
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * Checks whether an operation may reach the cache, counting it as not permitted otherwise.
+     *
+     * @return {@code true} if the circuit is closed
+     */
+    public boolean tryAcquirePermission() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        notPermitted.increment();
+        return false;
+    }
+
+    /**
+     * Records a successful operation; one slower than {@code cache.circuit-breaker.slow-call-millis} counts
+     * as a failure.
+     *
+     * @param elapsedNanos the duration of the operation, in nanoseconds
+     */
+    public void onSuccess(long elapsedNanos) {
+        if (elapsedNanos > slowCallNanos) {
+            slowCalls.increment();
+            recordFailure();
+        } else {
+            successes.increment();
+            consecutiveFailures.set(0);
+        }
+    }
+
+    /**
+     * Records a failed operation, opening the circuit once {@code cache.circuit-breaker.failure-threshold}
+     * operations in a row have failed.
+     *
+     * @param error the failure
+     */
+    public void onFailure(RuntimeException error) {
+        failures.increment();
+        logger.debug("Cache operation failed", error);
+        recordFailure();
+    }
+
+    /**
+     * Opens the circuit regardless of the failure count, e.g. because an eviction failed and the entry must
+     * not be read again before the eviction is replayed.
+     */
+    public synchronized void open() {
+        if (state != State.OPEN) {
+            logger.warn("Opening cache circuit after {} consecutive failures; bypassing the cache",
+                    consecutiveFailures.get());
+        }
+        openedAtNanos = System.nanoTime();
+        state = State.OPEN;
+    }
+
+    /**
+     * Registers an action run when recovery is probed, before and again after the circuit closes. It must
+     * throw if the cache is still unavailable.
+     *
+     * @param action the recovery action
+     */
+    public void addRecoveryAction(Runnable action) {
+        recoveryActions.add(action);
+    }
+
+    /**
+     * Probes recovery once the circuit has been open for {@code cache.circuit-breaker.open-duration-millis},
+     * every {@code cache.circuit-breaker.probe-interval-millis}.
+     */
+    @Scheduled(fixedDelayString = "${cache.circuit-breaker.probe-interval-millis}")
+    public void probe() {
+        synchronized (this) {
+            if (state != State.OPEN || System.nanoTime() - openedAtNanos < openDurationNanos) {
+                return;
+            }
+            state = State.HALF_OPEN;
+        }
+        try {
+            recoveryActions.forEach(Runnable::run);
+            consecutiveFailures.set(0);
+            state = State.CLOSED;
+            recoveryActions.forEach(Runnable::run);
+            logger.info("Closed cache circuit");
+        } catch (RuntimeException e) {
+            logger.debug("Cache still unavailable", e);
+            open();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (State value : State.values()) {
+            Gauge.builder("cache.circuit.state", this, breaker -> breaker.state == value ? 1 : 0)
+                    .description("Whether the cache circuit is in the given state")
+                    .tag("state", value.name().toLowerCase(Locale.ROOT))
+                    .register(registry);
+        }
+        bindCalls(registry, successes, "success");
+        bindCalls(registry, failures, "failure");
+        bindCalls(registry, slowCalls, "slow");
+        bindCalls(registry, notPermitted, "not_permitted");
+    }
+
+    private void recordFailure() {
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold && state == State.CLOSED) {
+            open();
+        }
+    }
+
+    private static void bindCalls(MeterRegistry registry, LongAdder calls, String result) {
+        FunctionCounter.builder("cache.circuit.calls", calls, LongAdder::sum)
+                .description("Cache operations guarded by the circuit breaker")
+                .tag("result", result)
+                .register(registry);
+    }
+}
@@ -0,0 +1,106 @@
+package org.springcorebankapp.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the {@link CacheCircuitBreaker}.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Defines how many consecutive failed or slow cache operations open the circuit.</li>
+ *     <li>Defines how long an open circuit waits before the cache is probed, and how often it is probed.</li>
+ *     <li>Bounds the evictions remembered while the circuit is open.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class CacheCircuitBreakerProperties {
+
+    /**
+     * The number of consecutive failed or slow operations opening the circuit, injected from
+     * {@code cache.circuit-breaker.failure-threshold}.
+     */
+    private final int failureThreshold;
+
+    /**
+     * The duration above which a successful operation counts as failed, injected from
+     * {@code cache.circuit-breaker.slow-call-millis}.
+     */
+    private final long slowCallMillis;
+
+    /**
+     * How long the circuit stays open before the cache is probed, injected from
+     * {@code cache.circuit-breaker.open-duration-millis}.
+     */
+    private final long openDurationMillis;
+
+    /**
+     * The most evictions per cache remembered while the circuit is open, injected from
+     * {@code cache.circuit-breaker.max-pending-evictions}; beyond it, the whole cache is cleared on recovery.
+     */
+    private final int maxPendingEvictions;
+
+    /**
+     * Constructs a new {@code CacheCircuitBreakerProperties} instance.
+     *
+     * @param failureThreshold    the number of consecutive failed or slow operations opening the circuit
+     * @param slowCallMillis      the duration above which an operation counts as failed, in milliseconds
+     * @param openDurationMillis  how long the circuit stays open before the cache is probed, in milliseconds
+     * @param maxPendingEvictions the most evictions per cache remembered while the circuit is open
+     * @throws IllegalArgumentException if the failure threshold is not positive
+     */
+    public CacheCircuitBreakerProperties(@Value("${cache.circuit-breaker.failure-threshold}") int failureThreshold,
+                                         @Value("${cache.circuit-breaker.slow-call-millis}") long slowCallMillis,
+                                         @Value("${cache.circuit-breaker.open-duration-millis}") long openDurationMillis,
+                                         @Value("${cache.circuit-breaker.max-pending-evictions}") int maxPendingEvictions) {
+        if (failureThreshold <= 0) {
+            throw new IllegalArgumentException("cache.circuit-breaker.failure-threshold must be positive");
+        }
+        this.failureThreshold = failureThreshold;
+        this.slowCallMillis = slowCallMillis;
+        this.openDurationMillis = openDurationMillis;
+        this.maxPendingEvictions = maxPendingEvictions;
+    }
+
+    /**
+     * Returns the number of consecutive failed or slow operations opening the circuit.
+     *
+     * @return the failure threshold
+     */
+    public int getFailureThreshold() {
+        return failureThreshold;
+    }
+
+    /**
+     * Returns the duration above which a successful operation counts as failed.
+     *
+     * @return the slow call threshold in milliseconds
+     */
+    public long getSlowCallMillis() {
+        return slowCallMillis;
+    }
+
+    /**
+     * Returns how long the circuit stays open before the cache is probed.
+     *
+     * @return the open duration in milliseconds
+     */
+    public long getOpenDurationMillis() {
+        return openDurationMillis;
+    }
+
+    /**
+     * Returns the most evictions per cache remembered while the circuit is open.
+     *
+     * @return the maximum number of pending evictions
+     */
+    public int getMaxPendingEvictions() {
+        return maxPendingEvictions;
+    }
+}
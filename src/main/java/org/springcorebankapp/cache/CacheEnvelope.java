@@ -0,0 +1,40 @@
+package org.springcorebankapp.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+/**
+ * A cached value stored together with the metadata needed for probabilistic early refresh.
+ * <p>
+ * {@link RefreshAheadCache} stores every value in an envelope and unwraps it on reads, so callers never see it.
+ * The expiry is absolute wall-clock time, so all application instances sharing the cache agree on it.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class CacheEnvelope implements Serializable {
+
+    /**
+     * The cached value.
+     */
+    private Object value;
+
+    /**
+     * How long loading the value took, in milliseconds; {@code 0} if it was put without being loaded.
+     */
+    private long loadMillis;
+
+    /**
+     * When the entry expires, in milliseconds since the epoch.
+     */
+    private long expiresAtMillis;
+}
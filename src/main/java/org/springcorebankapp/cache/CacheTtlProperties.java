@@ -0,0 +1,122 @@
+package org.springcorebankapp.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for cache entry lifetimes.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Defines the base time-to-live of cache entries and the random share by which it is shortened.</li>
+ *     <li>Defines how eagerly hot entries are refreshed before they expire.</li>
+ *     <li>Defines how long and how many failed lookups are remembered by the {@link NegativeLookupCache}.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class CacheTtlProperties {
+
+    /**
+     * The base time-to-live of cache entries, injected from {@code cache.ttl-millis}.
+     */
+    private final long ttlMillis;
+
+    /**
+     * The largest share by which an entry's time-to-live is randomly shortened, injected from {@code cache.ttl-jitter}.
+     */
+    private final double ttlJitter;
+
+    /**
+     * The eagerness of early refresh, injected from {@code cache.early-refresh-beta}; {@code 0} disables it.
+     */
+    private final double earlyRefreshBeta;
+
+    /**
+     * How long a failed lookup is remembered, injected from {@code cache.negative.ttl-millis}.
+     */
+    private final long negativeTtlMillis;
+
+    /**
+     * The most failed lookups remembered per entity type, injected from {@code cache.negative.max-size}.
+     */
+    private final int negativeMaxSize;
+
+    /**
+     * Constructs a new {@code CacheTtlProperties} instance.
+     *
+     * @param ttlMillis        the base time-to-live of cache entries, in milliseconds
+     * @param ttlJitter        the largest share by which an entry's time-to-live is randomly shortened
+     * @param earlyRefreshBeta the eagerness of early refresh; {@code 1} is the usual choice
+     * @param negativeTtlMillis how long a failed lookup is remembered, in milliseconds
+     * @param negativeMaxSize   the most failed lookups remembered per entity type
+     * @throws IllegalArgumentException if the jitter is outside {@code [0, 1)} or the beta is negative
+     */
+    public CacheTtlProperties(@Value("${cache.ttl-millis}") long ttlMillis,
+                              @Value("${cache.ttl-jitter}") double ttlJitter,
+                              @Value("${cache.early-refresh-beta}") double earlyRefreshBeta,
+                              @Value("${cache.negative.ttl-millis}") long negativeTtlMillis,
+                              @Value("${cache.negative.max-size}") int negativeMaxSize) {
+        if (ttlJitter < 0 || ttlJitter >= 1) {
+            throw new IllegalArgumentException("cache.ttl-jitter must be at least 0 and less than 1");
+        }
+        if (earlyRefreshBeta < 0) {
+            throw new IllegalArgumentException("cache.early-refresh-beta must not be negative");
+        }
+        this.ttlMillis = ttlMillis;
+        this.ttlJitter = ttlJitter;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.negativeMaxSize = negativeMaxSize;
+    }
+
+    /**
+     * Returns the base time-to-live of cache entries.
+     *
+     * @return the time-to-live in milliseconds
+     */
+    public long getTtlMillis() {
+        return ttlMillis;
+    }
+
+    /**
+     * Returns the largest share by which an entry's time-to-live is randomly shortened.
+     *
+     * @return the jitter, between {@code 0} and {@code 1}
+     */
+    public double getTtlJitter() {
+        return ttlJitter;
+    }
+
+    /**
+     * Returns the eagerness of early refresh.
+     *
+     * @return the beta factor
+     */
+    public double getEarlyRefreshBeta() {
+        return earlyRefreshBeta;
+    }
+
+    /**
+     * Returns how long a failed lookup is remembered.
+     *
+     * @return the time-to-live of negative entries in milliseconds
+     */
+    public long getNegativeTtlMillis() {
+        return negativeTtlMillis;
+    }
+
+    /**
+     * Returns the most failed lookups remembered per entity type.
+     *
+     * @return the maximum number of negative entries
+     */
+    public int getNegativeMaxSize() {
+        return negativeMaxSize;
+    }
+}
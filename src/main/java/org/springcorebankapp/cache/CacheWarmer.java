@@ -0,0 +1,155 @@
+package org.springcorebankapp.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springcorebankapp.account.AccountService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Loads the hottest accounts into the caches at startup, before the application reports readiness.
+ * <p>
+ * Runs as an {@link ApplicationRunner}, which Spring Boot calls before publishing the
+ * {@code ACCEPTING_TRAFFIC} readiness state, so a new instance only receives traffic once its most used
+ * accounts and their owners' account lists are cached. The accounts are chosen by
+ * {@code cache.warmup.query}, by default the accounts with the most movements in the last week, and loaded
+ * through {@link AccountService} in parallel batches, so the entries are the same as those of regular reads.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Bounded by {@code cache.warmup.timeout-millis}: the instance becomes ready at the latest after
+ *     the time limit, with whatever has been loaded by then.</li>
+ *     <li>Never fails the startup: a failing query or account is logged and counted.</li>
+ *     <li>Number of accounts chosen, loaded and failed, and the duration of the warm-up as metrics.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class CacheWarmer implements ApplicationRunner, MeterBinder {
+    private final Logger logger = LoggerFactory.getLogger(CacheWarmer.class);
+
+    private final AtomicInteger chosen = new AtomicInteger();
+    private final AtomicInteger loaded = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+    private volatile long durationMillis;
+
+    @Autowired
+    private CacheWarmupProperties cacheWarmupProperties;
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        warmUp();
+    }
+
+    /**
+     * Loads the hottest accounts and their owners' account lists into the caches.
+     *
+     * @return the number of accounts loaded
+     */
+    public int warmUp() {
+        if (!cacheWarmupProperties.isEnabled()) {
+            return 0;
+        }
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(cacheWarmupProperties.getTimeoutMillis());
+        List<int[]> accounts;
+        try {
+            accounts = jdbcTemplate.query(cacheWarmupProperties.getQuery(),
+                    (resultSet, row) -> new int[] {resultSet.getInt(1), resultSet.getInt(2)},
+                    cacheWarmupProperties.getAccounts());
+        } catch (DataAccessException e) {
+            logger.warn("Cannot choose the accounts to warm up the caches with", e);
+            return 0;
+        }
+        chosen.set(accounts.size());
+
+        Set<Integer> users = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(cacheWarmupProperties.getParallelism());
+        try {
+            List<CompletableFuture<Void>> batches = new ArrayList<>();
+            for (int from = 0; from < accounts.size(); from += cacheWarmupProperties.getBatchSize()) {
+                List<int[]> batch = accounts.subList(from,
+                        Math.min(from + cacheWarmupProperties.getBatchSize(), accounts.size()));
+                batches.add(CompletableFuture.runAsync(() -> warmUp(batch, users, deadline), executor));
+            }
+            CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new))
+                    .get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("Cache warm-up stopped after {} ms", cacheWarmupProperties.getTimeoutMillis());
+        } catch (ExecutionException e) {
+            logger.warn("Cache warm-up failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            executor.shutdown();
+        }
+        durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+        logger.info("Warmed up the caches with {} of {} accounts and {} users in {} ms, {} failed",
+                loaded.get(), chosen.get(), users.size(), durationMillis, failed.get());
+        return loaded.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("cache.warmup.accounts", chosen, AtomicInteger::get)
+                .description("Accounts chosen for the startup cache warm-up")
+                .tag("state", "chosen")
+                .register(registry);
+        Gauge.builder("cache.warmup.accounts", loaded, AtomicInteger::get)
+                .description("Accounts loaded by the startup cache warm-up")
+                .tag("state", "loaded")
+                .register(registry);
+        Gauge.builder("cache.warmup.accounts", failed, AtomicInteger::get)
+                .description("Accounts the startup cache warm-up failed to load")
+                .tag("state", "failed")
+                .register(registry);
+        TimeGauge.builder("cache.warmup.duration", this, TimeUnit.MILLISECONDS, warmer -> warmer.durationMillis)
+                .description("Duration of the startup cache warm-up")
+                .register(registry);
+    }
+
+    private void warmUp(List<int[]> batch, Set<Integer> users, long deadline) {
+        for (int[] account : batch) {
+            if (System.nanoTime() - deadline > 0) {
+                return;
+            }
+            try {
+                accountService.findAccountById(account[0]);
+                if (users.add(account[1])) {
+                    accountService.getAllUserAccounts(account[1]);
+                }
+                loaded.incrementAndGet();
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                logger.debug("Cannot warm up the caches with account {}", account[0], e);
+            }
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package org.springcorebankapp.cache;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the startup {@link CacheWarmer}.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Enables the warm-up and defines how many accounts it loads.</li>
+ *     <li>Defines the query choosing the accounts.</li>
+ *     <li>Defines the batch size, parallelism and time limit of the warm-up.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class CacheWarmupProperties {
+
+    /**
+     * Whether the caches are warmed up before the application reports readiness, injected from
+     * {@code cache.warmup.enabled}.
+     */
+    private final boolean enabled;
+
+    /**
+     * The number of accounts loaded, injected from {@code cache.warmup.accounts}.
+     */
+    private final int accounts;
+
+    /**
+     * The query choosing the accounts, injected from {@code cache.warmup.query}. It takes the number of
+     * accounts as its only parameter and returns account and user IDs, hottest first.
+     */
+    private final String query;
+
+    /**
+     * The number of accounts loaded per task, injected from {@code cache.warmup.batch-size}.
+     */
+    private final int batchSize;
+
+    /**
+     * The number of batches loaded in parallel, injected from {@code cache.warmup.parallelism}.
+     */
+    private final int parallelism;
+
+    /**
+     * The longest the warm-up may delay readiness, injected from {@code cache.warmup.timeout-millis}.
+     */
+    private final long timeoutMillis;
+
+    /**
+     * Constructs a new {@code CacheWarmupProperties} instance.
+     *
+     * @param enabled       whether the caches are warmed up at startup
+     * @param accounts      the number of accounts loaded
+     * @param query         the query choosing the accounts
+     * @param batchSize     the number of accounts loaded per task
+     * @param parallelism   the number of batches loaded in parallel
+     * @param timeoutMillis the longest the warm-up may delay readiness, in milliseconds
+     */
+    public CacheWarmupProperties(@Value("${cache.warmup.enabled}") boolean enabled,
+                                 @Value("${cache.warmup.accounts}") int accounts,
+                                 @Value("${cache.warmup.query}") String query,
+                                 @Value("${cache.warmup.batch-size}") int batchSize,
+                                 @Value("${cache.warmup.parallelism}") int parallelism,
+                                 @Value("${cache.warmup.timeout-millis}") long timeoutMillis) {
+        this.enabled = enabled;
+        this.accounts = accounts;
+        this.query = query;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Returns whether the caches are warmed up at startup.
+     *
+     * @return {@code true} if the warm-up is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the number of accounts loaded.
+     *
+     * @return the number of accounts
+     */
+    public int getAccounts() {
+        return accounts;
+    }
+
+    /**
+     * Returns the query choosing the accounts.
+     *
+     * @return the SQL query
+     */
+    public String getQuery() {
+        return query;
+    }
+
+    /**
+     * Returns the number of accounts loaded per task.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Returns the number of batches loaded in parallel.
+     *
+     * @return the number of threads
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the longest the warm-up may delay readiness.
+     *
+     * @return the time limit in milliseconds
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+}
@@ -0,0 +1,247 @@
+package org.springcorebankapp.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.dao.DataAccessException;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Cache decorator skipping a failing cache, so cache outages cost hits instead of latency or errors.
+ * <p>
+ * Every operation asks the {@link CacheCircuitBreaker} first and reports its outcome to it. While the circuit
+ * is not closed, or when an operation fails with a {@link DataAccessException}, reads miss and load from the
+ * database, and writes are dropped. Evictions cannot be dropped, since the evicted entry would be served stale
+ * once the cache is back: they are remembered, and a failed eviction opens the circuit right away. Recovery
+ * replays them before the circuit closes; beyond {@code maxPendingEvictions} keys the whole cache is cleared
+ * instead.
+ * </p>
+ *
+ * @see CircuitBreakerCacheManager
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class CircuitBreakerCache implements MultiGetCache {
+    private final Cache delegate;
+    private final CacheCircuitBreaker breaker;
+    private final int maxPendingEvictions;
+    private final Set<Object> pendingEvictions = ConcurrentHashMap.newKeySet();
+    private volatile boolean clearPending;
+
+    /**
+     * Constructs a new {@code CircuitBreakerCache}.
+     *
+     * @param delegate            the cache to guard
+     * @param breaker             the circuit breaker shared by all guarded caches
+     * @param maxPendingEvictions the most evictions remembered while the cache is skipped
+     */
+    public CircuitBreakerCache(Cache delegate, CacheCircuitBreaker breaker, int maxPendingEvictions) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+        this.maxPendingEvictions = maxPendingEvictions;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return guarded(() -> delegate.get(key), null);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return guarded(() -> delegate.get(key, type), null);
+    }
+
+    /**
+     * Returns the cached value or loads and caches it. Unlike the delegate's own implementation, a failing
+     * cache neither prevents the load nor loses the loaded value.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return breaker.tryAcquirePermission() ? delegate.retrieve(key) : CompletableFuture.completedFuture(null);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return breaker.tryAcquirePermission() ? delegate.retrieve(key, valueLoader) : valueLoader.get();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        guarded(() -> {
+            delegate.put(key, value);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return guarded(() -> delegate.putIfAbsent(key, value), null);
+    }
+
+    @Override
+    public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+        return guarded(() -> MultiGetCache.getAll(delegate, keys), Map.of());
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        guarded(() -> {
+            MultiGetCache.putAll(delegate, entries);
+            return null;
+        }, null);
+    }
+
+    @Override
+    public void evict(Object key) {
+        evictIfPresent(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        if (breaker.tryAcquirePermission()) {
+            long start = System.nanoTime();
+            try {
+                boolean evicted = delegate.evictIfPresent(key);
+                breaker.onSuccess(System.nanoTime() - start);
+                return evicted;
+            } catch (DataAccessException e) {
+                breaker.onFailure(e);
+                breaker.open();
+            }
+        }
+        if (!clearPending) {
+            if (pendingEvictions.size() < maxPendingEvictions) {
+                pendingEvictions.add(key);
+            } else {
+                clearPending = true;
+            }
+        }
+        replayIfClosed();
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        invalidate();
+    }
+
+    @Override
+    public boolean invalidate() {
+        if (breaker.tryAcquirePermission()) {
+            long start = System.nanoTime();
+            try {
+                boolean invalidated = delegate.invalidate();
+                breaker.onSuccess(System.nanoTime() - start);
+                return invalidated;
+            } catch (DataAccessException e) {
+                breaker.onFailure(e);
+                breaker.open();
+            }
+        }
+        clearPending = true;
+        replayIfClosed();
+        return false;
+    }
+
+    /**
+     * Applies the evictions remembered while the cache was skipped.
+     *
+     * @throws RuntimeException if the cache is still failing; the evictions not applied stay remembered
+     */
+    void replayPendingEvictions() {
+        if (clearPending) {
+            clearPending = false;
+            List<Object> covered = List.copyOf(pendingEvictions);
+            try {
+                delegate.clear();
+            } catch (RuntimeException e) {
+                clearPending = true;
+                throw e;
+            }
+            pendingEvictions.removeAll(covered);
+        }
+        for (Object key : pendingEvictions) {
+            if (pendingEvictions.remove(key)) {
+                try {
+                    delegate.evict(key);
+                } catch (RuntimeException e) {
+                    pendingEvictions.add(key);
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the number of evictions remembered while the cache is skipped.
+     *
+     * @return the number of pending evictions
+     */
+    int pendingEvictions() {
+        return pendingEvictions.size();
+    }
+
+    /**
+     * Replays a just remembered eviction if the circuit closed meanwhile. If it closed later, the recovery
+     * run after closing replays it.
+     */
+    private void replayIfClosed() {
+        if (breaker.getState() == CacheCircuitBreaker.State.CLOSED) {
+            try {
+                replayPendingEvictions();
+            } catch (DataAccessException e) {
+                breaker.onFailure(e);
+                breaker.open();
+            }
+        }
+    }
+
+    private <T> T guarded(Supplier<T> operation, T fallback) {
+        if (!breaker.tryAcquirePermission()) {
+            return fallback;
+        }
+        long start = System.nanoTime();
+        try {
+            T result = operation.get();
+            breaker.onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (DataAccessException e) {
+            breaker.onFailure(e);
+            return fallback;
+        }
+    }
+}
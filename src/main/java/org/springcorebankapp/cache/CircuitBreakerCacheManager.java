@@ -0,0 +1,60 @@
+package org.springcorebankapp.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager decorator wrapping every cache of its delegate in a {@link CircuitBreakerCache}.
+ * <p>
+ * Registers the recovery of its caches with the {@link CacheCircuitBreaker}: the cache is pinged, then the
+ * evictions remembered by every cache are replayed.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class CircuitBreakerCacheManager implements CacheManager {
+    private final CacheManager delegate;
+    private final CacheCircuitBreaker breaker;
+    private final int maxPendingEvictions;
+    private final Map<String, CircuitBreakerCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code CircuitBreakerCacheManager}.
+     *
+     * @param delegate            the cache manager whose caches are guarded
+     * @param breaker             the circuit breaker
+     * @param ping                checks that the cache is reachable, throwing if it is not
+     * @param maxPendingEvictions the most evictions per cache remembered while the cache is skipped
+     */
+    public CircuitBreakerCacheManager(CacheManager delegate, CacheCircuitBreaker breaker, Runnable ping,
+                                      int maxPendingEvictions) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+        this.maxPendingEvictions = maxPendingEvictions;
+        breaker.addRecoveryAction(() -> {
+            ping.run();
+            caches.values().forEach(CircuitBreakerCache::replayPendingEvictions);
+        });
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        return target == null ? null : caches.computeIfAbsent(name,
+                key -> new CircuitBreakerCache(target, breaker, maxPendingEvictions));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
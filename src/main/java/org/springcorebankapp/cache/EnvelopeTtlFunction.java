@@ -0,0 +1,36 @@
+package org.springcorebankapp.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+
+/**
+ * Redis time-to-live function expiring each entry when its {@link CacheEnvelope} says.
+ * <p>
+ * The jittered expiry is chosen once, when {@link RefreshAheadCache} builds the envelope, so Redis and the
+ * early-refresh decision agree on it. Values stored without an envelope get the base time-to-live.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class EnvelopeTtlFunction implements RedisCacheWriter.TtlFunction {
+    private final Duration ttl;
+
+    /**
+     * Constructs a new {@code EnvelopeTtlFunction}.
+     *
+     * @param ttl the time-to-live of values stored without an envelope
+     */
+    public EnvelopeTtlFunction(Duration ttl) {
+        this.ttl = ttl;
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, Object value) {
+        if (value instanceof CacheEnvelope envelope) {
+            return Duration.ofMillis(Math.max(1, envelope.getExpiresAtMillis() - System.currentTimeMillis()));
+        }
+        return ttl;
+    }
+}
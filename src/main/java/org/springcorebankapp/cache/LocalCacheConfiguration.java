@@ -0,0 +1,35 @@
+package org.springcorebankapp.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the in-memory cache used with {@code spring.cache.type=simple}, e.g. in tests.
+ * <p>
+ * The caches are wrapped in a {@link RefreshAheadCacheManager} like the Redis caches. Besides keeping the
+ * behaviour alike, this matters for correctness: a bare {@link org.springframework.cache.concurrent.ConcurrentMapCache}
+ * loads synchronized values inside {@code computeIfAbsent}, so a load waiting for a row lock would block the
+ * eviction issued by the transaction holding that lock, and both would wait forever.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+public class LocalCacheConfiguration {
+
+    /**
+     * Configures the in-memory cache manager.
+     *
+     * @param cacheTtlProperties the cache lifetime configuration properties
+     * @return a cache manager creating in-memory caches on demand
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "simple")
+    public CacheManager localCacheManager(CacheTtlProperties cacheTtlProperties) {
+        return new RefreshAheadCacheManager(new ConcurrentMapCacheManager(), cacheTtlProperties);
+    }
+}
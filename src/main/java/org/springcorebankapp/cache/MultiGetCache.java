@@ -0,0 +1,71 @@
+package org.springcorebankapp.cache;
+
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A {@link Cache} reading and writing many entries in one round trip.
+ * <p>
+ * The cache decorators implement it by passing the batch on to their delegate, so a batch reaches the
+ * {@link PipelinedRedisCache} at the bottom of the chain as a whole. Use {@link #getAll(Cache, Collection)}
+ * and {@link #putAll(Cache, Map)} to fall back to single-key operations for other caches.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface MultiGetCache extends Cache {
+
+    /**
+     * Returns the cached entries of the given keys.
+     *
+     * @param keys the keys to look up
+     * @return the hits by key; keys without an entry are absent
+     */
+    Map<Object, ValueWrapper> getAll(Collection<?> keys);
+
+    /**
+     * Caches all given entries.
+     *
+     * @param entries the values to cache by key
+     */
+    void putAll(Map<?, ?> entries);
+
+    /**
+     * Returns the cached entries of the given keys, in one round trip if the cache supports it.
+     *
+     * @param cache the cache
+     * @param keys  the keys to look up
+     * @return the hits by key; keys without an entry are absent
+     */
+    static Map<Object, ValueWrapper> getAll(Cache cache, Collection<?> keys) {
+        if (cache instanceof MultiGetCache multiGetCache) {
+            return multiGetCache.getAll(keys);
+        }
+        Map<Object, ValueWrapper> hits = new HashMap<>();
+        for (Object key : keys) {
+            ValueWrapper value = cache.get(key);
+            if (value != null) {
+                hits.put(key, value);
+            }
+        }
+        return hits;
+    }
+
+    /**
+     * Caches all given entries, in one round trip if the cache supports it.
+     *
+     * @param cache   the cache
+     * @param entries the values to cache by key
+     */
+    static void putAll(Cache cache, Map<?, ?> entries) {
+        if (cache instanceof MultiGetCache multiGetCache) {
+            multiGetCache.putAll(entries);
+        } else {
+            entries.forEach(cache::put);
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package org.springcorebankapp.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory record of recent lookups that found no account or user.
+ * <p>
+ * Repeated lookups of unknown IDs, such as enumeration traffic, are answered from memory for
+ * {@code cache.negative.ttl-millis} instead of querying the database each time. Entries are removed as soon
+ * as this instance creates the entity; an entity created by another instance may be reported missing here
+ * until the entry expires, so the time-to-live is kept short. Once {@code cache.negative.max-size} entries
+ * are held, expired entries are purged and new ones are dropped until there is room again.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class NegativeLookupCache {
+    private final Map<Integer, Long> missingAccounts = new ConcurrentHashMap<>();
+    private final Map<Integer, Long> missingUsers = new ConcurrentHashMap<>();
+    private final long ttlNanos;
+    private final int maxSize;
+
+    /**
+     * Constructs a new {@code NegativeLookupCache}.
+     *
+     * @param cacheTtlProperties the cache lifetime configuration properties
+     */
+    @Autowired
+    public NegativeLookupCache(CacheTtlProperties cacheTtlProperties) {
+        this.ttlNanos = cacheTtlProperties.getNegativeTtlMillis() * 1_000_000;
+        this.maxSize = cacheTtlProperties.getNegativeMaxSize();
+    }
+
+    /**
+     * Checks whether a recent lookup found no account with the given ID.
+     *
+     * @param accountId the ID of the account
+     * @return {@code true} if the account is known to be missing
+     */
+    public boolean isAccountMissing(int accountId) {
+        return isMissing(missingAccounts, accountId);
+    }
+
+    /**
+     * Records that no account with the given ID exists.
+     *
+     * @param accountId the ID of the account
+     */
+    public void accountMissing(int accountId) {
+        missing(missingAccounts, accountId);
+    }
+
+    /**
+     * Forgets a failed lookup of an account that has just been created.
+     * Called after the creating transaction commits; a lookup before the commit would mark the ID missing again.
+     *
+     * @param accountId the ID of the account
+     */
+    public void accountCreated(int accountId) {
+        missingAccounts.remove(accountId);
+    }
+
+    /**
+     * Checks whether a recent lookup found no user with the given ID.
+     *
+     * @param userId the ID of the user
+     * @return {@code true} if the user is known to be missing
+     */
+    public boolean isUserMissing(int userId) {
+        return isMissing(missingUsers, userId);
+    }
+
+    /**
+     * Records that no user with the given ID exists.
+     *
+     * @param userId the ID of the user
+     */
+    public void userMissing(int userId) {
+        missing(missingUsers, userId);
+    }
+
+    /**
+     * Forgets a failed lookup of a user that has just been created.
+     * Called after commit, like {@link #accountCreated(int)}.
+     *
+     * @param userId the ID of the user
+     */
+    public void userCreated(int userId) {
+        missingUsers.remove(userId);
+    }
+
+    private boolean isMissing(Map<Integer, Long> missing, int id) {
+        Long expiresAt = missing.get(id);
+        if (expiresAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - expiresAt >= 0) {
+            missing.remove(id, expiresAt);
+            return false;
+        }
+        return true;
+    }
+
+    private void missing(Map<Integer, Long> missing, int id) {
+        long now = System.nanoTime();
+        if (missing.size() >= maxSize) {
+            missing.values().removeIf(expiresAt -> now - expiresAt >= 0);
+            if (missing.size() >= maxSize) {
+                return;
+            }
+        }
+        missing.put(id, now + ttlNanos);
+    }
+}
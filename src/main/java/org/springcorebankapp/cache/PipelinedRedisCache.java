@@ -0,0 +1,95 @@
+package org.springcorebankapp.cache;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.core.types.Expiration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Redis cache reading a batch of keys with one {@code MGET} and writing a batch in one pipeline.
+ * <p>
+ * Keys and values are converted exactly like single-key operations of the {@link RedisCache}, and every
+ * written entry gets the time-to-live of the cache configuration, so batch and single-key operations share
+ * their entries.
+ * </p>
+ *
+ * @see PipelinedRedisCacheManager
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class PipelinedRedisCache extends RedisCache implements MultiGetCache {
+    private final RedisConnectionFactory connectionFactory;
+
+    /**
+     * Constructs a new {@code PipelinedRedisCache}.
+     *
+     * @param name               the name of the cache
+     * @param cacheWriter        the writer of single-key operations
+     * @param cacheConfiguration the cache configuration
+     * @param connectionFactory  the factory for the connections of batch operations
+     */
+    public PipelinedRedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfiguration,
+                               RedisConnectionFactory connectionFactory) {
+        super(name, cacheWriter, cacheConfiguration);
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+        Map<Object, ValueWrapper> hits = new HashMap<>();
+        if (keys.isEmpty()) {
+            return hits;
+        }
+        List<Object> ordered = new ArrayList<>(keys);
+        byte[][] cacheKeys = new byte[ordered.size()][];
+        for (int i = 0; i < cacheKeys.length; i++) {
+            cacheKeys[i] = serializeCacheKey(createCacheKey(ordered.get(i)));
+        }
+        List<byte[]> values;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            values = connection.stringCommands().mGet(cacheKeys);
+        }
+        for (int i = 0; values != null && i < values.size(); i++) {
+            if (values.get(i) != null) {
+                hits.put(ordered.get(i), toValueWrapper(deserializeCacheValue(values.get(i))));
+            }
+        }
+        return hits;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            try {
+                entries.forEach((key, value) -> {
+                    byte[] cacheKey = serializeCacheKey(createCacheKey(key));
+                    byte[] cacheValue = serializeCacheValue(preProcessCacheValue(value));
+                    Duration ttl = getCacheConfiguration().getTtlFunction().getTimeToLive(key, value);
+                    if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+                        connection.stringCommands().set(cacheKey, cacheValue);
+                    } else {
+                        connection.stringCommands().set(cacheKey, cacheValue, Expiration.from(ttl),
+                                RedisStringCommands.SetOption.upsert());
+                    }
+                });
+            } finally {
+                connection.closePipeline();
+            }
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package org.springcorebankapp.cache;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+/**
+ * Redis cache manager creating {@link PipelinedRedisCache}s.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class PipelinedRedisCacheManager extends RedisCacheManager {
+    private final RedisConnectionFactory connectionFactory;
+
+    /**
+     * Constructs a new {@code PipelinedRedisCacheManager}.
+     *
+     * @param connectionFactory         the factory for creating Redis connections
+     * @param defaultCacheConfiguration the configuration of all caches
+     */
+    public PipelinedRedisCacheManager(RedisConnectionFactory connectionFactory,
+                                      RedisCacheConfiguration defaultCacheConfiguration) {
+        super(RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory), defaultCacheConfiguration);
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfiguration) {
+        return new PipelinedRedisCache(name, getCacheWriter(),
+                cacheConfiguration != null ? cacheConfiguration : getDefaultCacheConfiguration(), connectionFactory);
+    }
+}
@@ -0,0 +1,214 @@
+package org.springcorebankapp.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Cache decorator protecting its delegate's loaders against stampedes.
+ * <p>
+ * Values are stored in {@link CacheEnvelope}s carrying their load time and a jittered absolute expiry, so
+ * entries written together do not expire together. {@link #get(Object, Callable)}, used by
+ * {@code @Cacheable(sync = true)}, adds two protections:
+ * </p>
+ * <ul>
+ *     <li>Single flight: concurrent misses of a key in this instance run the loader once; the other callers
+ *     wait for it and then read the fresh entry. Unlike a cache-wide lock, misses of different keys proceed
+ *     in parallel.</li>
+ *     <li>Probabilistic early refresh (XFetch): a caller hitting an entry reloads it ahead of its expiry with
+ *     a probability that rises as the expiry approaches, scaled by how long the value took to load. A hot
+ *     entry is therefore refreshed by a single caller while everyone else keeps reading it.</li>
+ * </ul>
+ *
+ * @see RefreshAheadCacheManager
+ * @see EnvelopeTtlFunction
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class RefreshAheadCache implements MultiGetCache {
+    private final Cache delegate;
+    private final long ttlMillis;
+    private final double ttlJitter;
+    private final double earlyRefreshBeta;
+    private final Map<Object, CompletableFuture<Object>> loads = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code RefreshAheadCache}.
+     *
+     * @param delegate         the cache storing the envelopes
+     * @param ttlMillis        the base time-to-live of entries, in milliseconds
+     * @param ttlJitter        the largest share by which an entry's time-to-live is randomly shortened
+     * @param earlyRefreshBeta the eagerness of early refresh; {@code 0} disables it
+     */
+    public RefreshAheadCache(Cache delegate, long ttlMillis, double ttlJitter, double earlyRefreshBeta) {
+        this.delegate = delegate;
+        this.ttlMillis = ttlMillis;
+        this.ttlJitter = ttlJitter;
+        this.earlyRefreshBeta = earlyRefreshBeta;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return unwrap(delegate.get(key));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [%s]: %s"
+                    .formatted(type.getName(), value));
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = delegate.get(key);
+        if (cached == null) {
+            return (T) load(key, valueLoader, null);
+        }
+        if (cached.get() instanceof CacheEnvelope envelope) {
+            if (shouldRefreshEarly(envelope)) {
+                return (T) load(key, valueLoader, envelope);
+            }
+            return (T) envelope.getValue();
+        }
+        return (T) cached.get();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, wrap(value, 0));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return unwrap(delegate.putIfAbsent(key, wrap(value, 0)));
+    }
+
+    /**
+     * Returns the values of the cached entries. Entries due to expire are not refreshed early; they are
+     * reloaded once they have expired.
+     */
+    @Override
+    public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+        Map<Object, ValueWrapper> hits = new HashMap<>();
+        MultiGetCache.getAll(delegate, keys).forEach((key, value) -> hits.put(key, unwrap(value)));
+        return hits;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        Map<Object, Object> envelopes = new HashMap<>();
+        entries.forEach((key, value) -> envelopes.put(key, wrap(value, 0)));
+        MultiGetCache.putAll(delegate, envelopes);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    /**
+     * Loads the value once per key at a time. A caller refreshing early does not wait for a load already in
+     * progress and returns the value it already has; a caller that missed waits and then re-reads the entry,
+     * so it gets its own copy rather than the loader's instance.
+     */
+    private Object load(Object key, Callable<?> valueLoader, CacheEnvelope current) {
+        CompletableFuture<Object> load = new CompletableFuture<>();
+        CompletableFuture<Object> inProgress = loads.putIfAbsent(key, load);
+        if (inProgress != null) {
+            if (current != null) {
+                return current.getValue();
+            }
+            Object loaded = await(key, valueLoader, inProgress);
+            ValueWrapper reloaded = get(key);
+            return reloaded == null ? loaded : reloaded.get();
+        }
+        try {
+            long start = System.nanoTime();
+            Object value = valueLoader.call();
+            delegate.put(key, wrap(value, (System.nanoTime() - start) / 1_000_000));
+            load.complete(value);
+            return value;
+        } catch (Exception e) {
+            load.completeExceptionally(e);
+            throw new ValueRetrievalException(key, valueLoader, e);
+        } finally {
+            loads.remove(key, load);
+        }
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> load) {
+        try {
+            return load.get();
+        } catch (ExecutionException e) {
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    /**
+     * XFetch: refresh when {@code now - loadTime * beta * ln(random)} reaches the expiry.
+     */
+    private boolean shouldRefreshEarly(CacheEnvelope envelope) {
+        if (earlyRefreshBeta == 0) {
+            return false;
+        }
+        double gap = -Math.max(1, envelope.getLoadMillis()) * earlyRefreshBeta
+                * Math.log(1 - ThreadLocalRandom.current().nextDouble());
+        return System.currentTimeMillis() + gap >= envelope.getExpiresAtMillis();
+    }
+
+    private CacheEnvelope wrap(Object value, long loadMillis) {
+        long ttl = ttlMillis - (long) (ttlMillis * ttlJitter * ThreadLocalRandom.current().nextDouble());
+        return new CacheEnvelope(value, loadMillis, System.currentTimeMillis() + ttl);
+    }
+
+    private static ValueWrapper unwrap(ValueWrapper wrapper) {
+        if (wrapper != null && wrapper.get() instanceof CacheEnvelope envelope) {
+            return new SimpleValueWrapper(envelope.getValue());
+        }
+        return wrapper;
+    }
+}
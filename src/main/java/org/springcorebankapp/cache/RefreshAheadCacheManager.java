@@ -0,0 +1,48 @@
+package org.springcorebankapp.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager decorator wrapping every cache of its delegate in a {@link RefreshAheadCache}.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class RefreshAheadCacheManager implements CacheManager {
+    private final CacheManager delegate;
+    private final CacheTtlProperties cacheTtlProperties;
+    private final Map<String, RefreshAheadCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code RefreshAheadCacheManager}.
+     *
+     * @param delegate           the cache manager whose caches are protected
+     * @param cacheTtlProperties the cache lifetime configuration properties
+     */
+    public RefreshAheadCacheManager(CacheManager delegate, CacheTtlProperties cacheTtlProperties) {
+        this.delegate = delegate;
+        this.cacheTtlProperties = cacheTtlProperties;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        return target == null ? null : caches.computeIfAbsent(name, key -> new RefreshAheadCache(target,
+                cacheTtlProperties.getTtlMillis(), cacheTtlProperties.getTtlJitter(),
+                cacheTtlProperties.getEarlyRefreshBeta()));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
@@ -1,10 +1,23 @@
 package org.springcorebankapp.configurations.redis;
 
+import org.springcorebankapp.cache.CacheCircuitBreaker;
+import org.springcorebankapp.cache.CacheCircuitBreakerProperties;
+import org.springcorebankapp.cache.CacheTtlProperties;
+import org.springcorebankapp.cache.CircuitBreakerCacheManager;
+import org.springcorebankapp.cache.EnvelopeTtlFunction;
+import org.springcorebankapp.cache.PipelinedRedisCacheManager;
+import org.springcorebankapp.cache.RefreshAheadCacheManager;
+import org.springcorebankapp.diagnostics.JfrCacheManager;
+import org.springcorebankapp.diagnostics.JfrRedisSerializer;
+import org.springcorebankapp.tracing.Tracer;
+import org.springcorebankapp.tracing.TracingCacheManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.repository.configuration.EnableRedisRepositories;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
@@ -25,7 +38,12 @@ import java.time.Duration;
  *     <li>Integration with Redis for caching data.</li>
  *     <li>Custom serialization of cache keys and values using {@link StringRedisSerializer}
  *     and {@link GenericJackson2JsonRedisSerializer}.</li>
- *     <li>Default cache entry time-to-live (TTL) of 10 seconds.</li>
+ *     <li>A configurable cache entry time-to-live (TTL), randomly shortened per entry.</li>
+ *     <li>Single-flight loading and probabilistic early refresh of hot entries.</li>
+ *     <li>A circuit breaker bypassing Redis while it fails or is slow.</li>
+ *     <li>Batch reads with one {@code MGET} and batch writes in one pipeline.</li>
+ *     <li>Tracing of every cache operation through a {@link TracingCacheManager}.</li>
+ *     <li>Flight Recorder events for cache operations and value serialization.</li>
  * </ul>
  *
  * @see RedisCacheManager
@@ -46,32 +64,58 @@ public class RedisConfiguration {
      * <p>
      * The cache manager uses a custom Redis cache configuration that includes:
      * <ul>
-     *     <li>A time-to-live (TTL) of 10 seconds for cache entries.</li>
+     *     <li>A time-to-live (TTL) of {@code cache.ttl-millis} for cache entries, shortened by up to
+     *     {@code cache.ttl-jitter} per entry so entries written together do not expire together.</li>
      *     <li>Key serialization using {@link StringRedisSerializer}.</li>
      *     <li>Value serialization using {@link GenericJackson2JsonRedisSerializer}.</li>
      * </ul>
+     * The Redis caches are wrapped in a {@link RefreshAheadCacheManager}, which coalesces concurrent misses and
+     * refreshes hot entries ahead of their expiry. Below it, a {@link CircuitBreakerCacheManager} skips Redis
+     * while its operations fail or exceed the {@code spring.data.redis.timeout}, so requests are served from the
+     * database instead of waiting for Redis. The caches are further wrapped so that each cache operation within
+     * a sampled trace creates a span and cache statistics, slow operations and slow serializations are reported to Java Flight Recorder.
+     * Setting {@code spring.cache.type} to another type, e.g. {@code simple} in tests, leaves the cache manager
+     * to Spring Boot's auto-configuration.
      *
-     * @param redisConnectionFactory the factory for creating Redis connections
+     * @param redisConnectionFactory        the factory for creating Redis connections
+     * @param tracer                        the tracer creating cache spans
+     * @param cacheTtlProperties            the cache lifetime configuration properties
+     * @param cacheCircuitBreaker           the circuit breaker guarding Redis
+     * @param cacheCircuitBreakerProperties the circuit breaker configuration properties
      * @return a configured {@link CacheManager} instance
      */
     @Bean
+    @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis", matchIfMissing = true)
     public CacheManager cacheManager(
-            RedisConnectionFactory redisConnectionFactory
+            RedisConnectionFactory redisConnectionFactory,
+            Tracer tracer,
+            CacheTtlProperties cacheTtlProperties,
+            CacheCircuitBreaker cacheCircuitBreaker,
+            CacheCircuitBreakerProperties cacheCircuitBreakerProperties
     ) {
         RedisCacheConfiguration redisCacheConfiguration = RedisCacheConfiguration
                 .defaultCacheConfig()
-                .entryTtl(Duration.ofMinutes(10))
+                .entryTtl(new EnvelopeTtlFunction(Duration.ofMillis(cacheTtlProperties.getTtlMillis())))
                 .serializeKeysWith(RedisSerializationContext
                         .SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(
                         RedisSerializationContext
                                 .SerializationPair
-                                .fromSerializer(new GenericJackson2JsonRedisSerializer())
+                                .fromSerializer(new JfrRedisSerializer(new GenericJackson2JsonRedisSerializer()))
                 );
 
-        return RedisCacheManager.builder(redisConnectionFactory)
-                .cacheDefaults(redisCacheConfiguration)
-                .build();
+        RedisCacheManager redisCacheManager = new PipelinedRedisCacheManager(redisConnectionFactory,
+                redisCacheConfiguration);
+        redisCacheManager.afterPropertiesSet();
+        Runnable ping = () -> {
+            try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+                connection.ping();
+            }
+        };
+        CacheManager guarded = new CircuitBreakerCacheManager(redisCacheManager, cacheCircuitBreaker, ping,
+                cacheCircuitBreakerProperties.getMaxPendingEvictions());
+        return new TracingCacheManager(
+                new JfrCacheManager(new RefreshAheadCacheManager(guarded, cacheTtlProperties)), tracer);
     }
 }
@@ -0,0 +1,68 @@
+package org.springcorebankapp.configurations.startup;
+
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.MethodMetadata;
+
+import java.util.List;
+
+/**
+ * Configuration of the {@code fast-startup} profile, used to shorten rolling restarts.
+ * <p>
+ * Beans declared in the packages listed in {@code startup.lazy-bean-packages}, by default the springdoc
+ * OpenAPI beans and {@link org.springcorebankapp.configurations.openapi.SwaggerConfig}, are only created
+ * when first used, e.g. by the first request for the API documentation, instead of during startup.
+ * Everything else, such as caches, scheduled jobs and metrics, is still created eagerly. The rest of the
+ * profile is set in {@code application-fast-startup.properties}; the build side, Spring AOT and the AppCDS
+ * archive, in the {@code fast-startup} Maven profile and {@code Dockerfile.fast-startup}.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+@Profile("fast-startup")
+public class FastStartupConfiguration {
+
+    /**
+     * Marks the beans of the configured packages as lazily initialized.
+     * <p>
+     * Static, so it runs before any other bean of this configuration is created.
+     * </p>
+     *
+     * @param environment the environment holding {@code startup.lazy-bean-packages}
+     * @return the post processor marking the beans
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyBeanPackagesPostProcessor(Environment environment) {
+        List<String> packages = List.of(environment.getProperty("startup.lazy-bean-packages", String[].class,
+                new String[0]));
+        return beanFactory -> {
+            for (String beanName : beanFactory.getBeanDefinitionNames()) {
+                BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+                String declaringClass = declaringClassName(definition);
+                if (declaringClass != null && packages.stream().anyMatch(prefix -> declaringClass.startsWith(prefix + "."))) {
+                    definition.setLazyInit(true);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the class declaring a bean: the class of its {@code @Bean} method, or the bean class itself.
+     */
+    static String declaringClassName(BeanDefinition definition) {
+        if (definition instanceof AnnotatedBeanDefinition annotated) {
+            MethodMetadata factoryMethod = annotated.getFactoryMethodMetadata();
+            if (factoryMethod != null) {
+                return factoryMethod.getDeclaringClassName();
+            }
+        }
+        return definition.getBeanClassName();
+    }
+}
@@ -0,0 +1,41 @@
+package org.springcorebankapp.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for a slow cache operation.
+ * <p>
+ * Only operations exceeding the threshold are recorded by default, which keeps always-on recording cheap;
+ * hit and miss counts of all operations are reported by {@link CacheStatisticsEvent}.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Name("org.springcorebankapp.CacheOperation")
+@Label("Cache Operation")
+@Category({"Banking App", "Cache"})
+@Description("A cache lookup, update or eviction")
+@Threshold("1 ms")
+@StackTrace(false)
+class CacheOperationEvent extends Event {
+
+    @Label("Cache Name")
+    String cacheName;
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Key")
+    String key;
+
+    @Label("Hit")
+    @Description("Whether a lookup found a value; false for other operations")
+    boolean hit;
+}
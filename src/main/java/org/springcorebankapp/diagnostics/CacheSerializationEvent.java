@@ -0,0 +1,38 @@
+package org.springcorebankapp.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * Flight Recorder event for a slow serialization or deserialization of a cached value.
+ *
+ * @see JfrRedisSerializer
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Name("org.springcorebankapp.CacheSerialization")
+@Label("Cache Serialization")
+@Category({"Banking App", "Cache"})
+@Description("Conversion of a cached value to or from its Redis representation")
+@Threshold("1 ms")
+@StackTrace(false)
+class CacheSerializationEvent extends Event {
+
+    @Label("Direction")
+    @Description("SERIALIZE or DESERIALIZE")
+    String direction;
+
+    @Label("Value Type")
+    String valueType;
+
+    @Label("Size")
+    @DataAmount
+    long bytes;
+}
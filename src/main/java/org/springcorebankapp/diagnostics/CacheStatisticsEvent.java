@@ -0,0 +1,47 @@
+package org.springcorebankapp.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Period;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Periodic Flight Recorder event with the operation counts of a cache since the previous period.
+ *
+ * @see JfrCacheManager
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Name("org.springcorebankapp.CacheStatistics")
+@Label("Cache Statistics")
+@Category({"Banking App", "Cache"})
+@Description("Hits, misses and updates of a cache during the last period")
+@Period("1 s")
+@StackTrace(false)
+class CacheStatisticsEvent extends Event {
+
+    @Label("Cache Name")
+    String cacheName;
+
+    @Label("Hits")
+    long hits;
+
+    @Label("Misses")
+    long misses;
+
+    @Label("Puts")
+    long puts;
+
+    @Label("Evictions")
+    long evictions;
+
+    @Label("Lookup Time")
+    @Description("Total time spent in lookups")
+    @Timespan
+    long lookupNanos;
+}
@@ -0,0 +1,214 @@
+package org.springcorebankapp.diagnostics;
+
+import org.springcorebankapp.cache.MultiGetCache;
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Cache decorator reporting its operations to Java Flight Recorder.
+ * <p>
+ * Every operation is counted for the periodic {@link CacheStatisticsEvent}; operations slower than the
+ * {@link CacheOperationEvent} threshold are also recorded individually. Counting uses striped adders and
+ * costs a few nanoseconds, so the decorator can stay in place permanently.
+ * </p>
+ *
+ * @see JfrCacheManager
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class JfrCache implements MultiGetCache {
+    private final Cache delegate;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder puts = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder lookupNanos = new LongAdder();
+
+    /**
+     * Constructs a new {@code JfrCache}.
+     *
+     * @param delegate the cache to report on
+     */
+    public JfrCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        ValueWrapper value = delegate.get(key);
+        recordLookup(event, start, key, value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        T value = delegate.get(key, type);
+        recordLookup(event, start, key, value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean[] loaded = new boolean[1];
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            return valueLoader.call();
+        });
+        recordLookup(event, start, key, !loaded[0]);
+        return value;
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        delegate.put(key, value);
+        puts.increment();
+        commit(event, "put", key, false);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        puts.increment();
+        commit(event, "putIfAbsent", key, existing != null);
+        return existing;
+    }
+
+    @Override
+    public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        long start = System.nanoTime();
+        Map<Object, ValueWrapper> values = MultiGetCache.getAll(delegate, keys);
+        lookupNanos.add(System.nanoTime() - start);
+        hits.add(values.size());
+        misses.add(keys.size() - values.size());
+        commit(event, "getAll", null, !values.isEmpty());
+        return values;
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        MultiGetCache.putAll(delegate, entries);
+        puts.add(entries.size());
+        commit(event, "putAll", null, false);
+    }
+
+    @Override
+    public void evict(Object key) {
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        delegate.evict(key);
+        evictions.increment();
+        commit(event, "evict", key, false);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        boolean evicted = delegate.evictIfPresent(key);
+        evictions.increment();
+        commit(event, "evictIfPresent", key, evicted);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        delegate.clear();
+        evictions.increment();
+        commit(event, "clear", null, false);
+    }
+
+    @Override
+    public boolean invalidate() {
+        CacheOperationEvent event = new CacheOperationEvent();
+        event.begin();
+        boolean invalidated = delegate.invalidate();
+        evictions.increment();
+        commit(event, "invalidate", null, invalidated);
+        return invalidated;
+    }
+
+    /**
+     * Emits the statistics of the operations since the previous call, if any occurred.
+     */
+    void emitStatistics() {
+        long periodHits = hits.sumThenReset();
+        long periodMisses = misses.sumThenReset();
+        long periodPuts = puts.sumThenReset();
+        long periodEvictions = evictions.sumThenReset();
+        long periodLookupNanos = lookupNanos.sumThenReset();
+        if (periodHits + periodMisses + periodPuts + periodEvictions == 0) {
+            return;
+        }
+        CacheStatisticsEvent event = new CacheStatisticsEvent();
+        event.cacheName = delegate.getName();
+        event.hits = periodHits;
+        event.misses = periodMisses;
+        event.puts = periodPuts;
+        event.evictions = periodEvictions;
+        event.lookupNanos = periodLookupNanos;
+        event.commit();
+    }
+
+    private void recordLookup(CacheOperationEvent event, long start, Object key, boolean hit) {
+        lookupNanos.add(System.nanoTime() - start);
+        (hit ? hits : misses).increment();
+        commit(event, "get", key, hit);
+    }
+
+    private void commit(CacheOperationEvent event, String operation, Object key, boolean hit) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.cacheName = delegate.getName();
+            event.operation = operation;
+            event.key = key == null ? null : key.toString();
+            event.hit = hit;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.springcorebankapp.diagnostics;
+
+import jdk.jfr.FlightRecorder;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager decorator wrapping every cache of its delegate in a {@link JfrCache}.
+ * <p>
+ * Registers a periodic hook emitting a {@link CacheStatisticsEvent} per active cache while a recording is running.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class JfrCacheManager implements CacheManager {
+    private final CacheManager delegate;
+    private final Map<String, JfrCache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code JfrCacheManager} and registers its statistics hook.
+     *
+     * @param delegate the cache manager whose caches are reported on
+     */
+    public JfrCacheManager(CacheManager delegate) {
+        this.delegate = delegate;
+        FlightRecorder.addPeriodicEvent(CacheStatisticsEvent.class,
+                () -> caches.values().forEach(JfrCache::emitStatistics));
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        return target == null ? null : caches.computeIfAbsent(name, key -> new JfrCache(target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
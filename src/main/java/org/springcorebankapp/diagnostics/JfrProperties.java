@@ -0,0 +1,134 @@
+package org.springcorebankapp.diagnostics;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for Java Flight Recorder recordings.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Defines the always-on continuous recording and how much history it keeps.</li>
+ *     <li>Defines where stopped recordings and snapshots are written.</li>
+ *     <li>Defines whether recordings can be downloaded over HTTP.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class JfrProperties {
+
+    /**
+     * Whether the continuous recording runs, injected from {@code jfr.continuous.enabled}.
+     */
+    private final boolean continuousEnabled;
+
+    /**
+     * The JFR settings of the continuous recording, injected from {@code jfr.continuous.settings}.
+     */
+    private final String continuousSettings;
+
+    /**
+     * How long the continuous recording keeps data, injected from {@code jfr.continuous.max-age-millis}.
+     */
+    private final long continuousMaxAgeMillis;
+
+    /**
+     * How much data the continuous recording keeps, injected from {@code jfr.continuous.max-size-bytes}.
+     */
+    private final long continuousMaxSizeBytes;
+
+    /**
+     * The directory recordings are written to, injected from {@code jfr.directory}.
+     */
+    private final String directory;
+
+    /**
+     * Whether recordings can be downloaded, injected from {@code jfr.download.enabled}. Recordings hold the
+     * environment variables and system properties of the JVM, credentials included, so downloads are off
+     * unless the endpoint is protected.
+     */
+    private final boolean downloadEnabled;
+
+    /**
+     * Constructs a new {@code JfrProperties} instance.
+     *
+     * @param continuousEnabled      whether the continuous recording runs
+     * @param continuousSettings     the JFR settings of the continuous recording, e.g. {@code default} or {@code profile}
+     * @param continuousMaxAgeMillis how long the continuous recording keeps data in milliseconds
+     * @param continuousMaxSizeBytes how much data the continuous recording keeps in bytes
+     * @param directory              the directory recordings are written to
+     * @param downloadEnabled        whether recordings can be downloaded
+     */
+    public JfrProperties(@Value("${jfr.continuous.enabled}") boolean continuousEnabled,
+                         @Value("${jfr.continuous.settings}") String continuousSettings,
+                         @Value("${jfr.continuous.max-age-millis}") long continuousMaxAgeMillis,
+                         @Value("${jfr.continuous.max-size-bytes}") long continuousMaxSizeBytes,
+                         @Value("${jfr.directory}") String directory,
+                         @Value("${jfr.download.enabled}") boolean downloadEnabled) {
+        this.continuousEnabled = continuousEnabled;
+        this.continuousSettings = continuousSettings;
+        this.continuousMaxAgeMillis = continuousMaxAgeMillis;
+        this.continuousMaxSizeBytes = continuousMaxSizeBytes;
+        this.directory = directory;
+        this.downloadEnabled = downloadEnabled;
+    }
+
+    /**
+     * Returns whether the continuous recording runs.
+     *
+     * @return {@code true} if the continuous recording is enabled
+     */
+    public boolean isContinuousEnabled() {
+        return continuousEnabled;
+    }
+
+    /**
+     * Returns the JFR settings of the continuous recording.
+     *
+     * @return the settings name
+     */
+    public String getContinuousSettings() {
+        return continuousSettings;
+    }
+
+    /**
+     * Returns how long the continuous recording keeps data.
+     *
+     * @return the maximum age in milliseconds
+     */
+    public long getContinuousMaxAgeMillis() {
+        return continuousMaxAgeMillis;
+    }
+
+    /**
+     * Returns how much data the continuous recording keeps.
+     *
+     * @return the maximum size in bytes
+     */
+    public long getContinuousMaxSizeBytes() {
+        return continuousMaxSizeBytes;
+    }
+
+    /**
+     * Returns the directory recordings are written to.
+     *
+     * @return the recording directory
+     */
+    public String getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Returns whether recordings can be downloaded.
+     *
+     * @return {@code true} if downloads are enabled
+     */
+    public boolean isDownloadEnabled() {
+        return downloadEnabled;
+    }
+}
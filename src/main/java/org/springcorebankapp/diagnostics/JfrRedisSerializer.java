@@ -0,0 +1,58 @@
+package org.springcorebankapp.diagnostics;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+/**
+ * Redis serializer decorator recording slow conversions as {@link CacheSerializationEvent}s.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class JfrRedisSerializer implements RedisSerializer<Object> {
+    private final RedisSerializer<Object> delegate;
+
+    /**
+     * Constructs a new {@code JfrRedisSerializer}.
+     *
+     * @param delegate the serializer to time
+     */
+    public JfrRedisSerializer(RedisSerializer<Object> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        CacheSerializationEvent event = new CacheSerializationEvent();
+        event.begin();
+        byte[] bytes = delegate.serialize(value);
+        event.end();
+        if (event.shouldCommit()) {
+            event.direction = "SERIALIZE";
+            event.valueType = value == null ? null : value.getClass().getName();
+            event.bytes = bytes == null ? 0 : bytes.length;
+            event.commit();
+        }
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        CacheSerializationEvent event = new CacheSerializationEvent();
+        event.begin();
+        Object value = delegate.deserialize(bytes);
+        event.end();
+        if (event.shouldCommit()) {
+            event.direction = "DESERIALIZE";
+            event.valueType = value == null ? null : value.getClass().getName();
+            event.bytes = bytes == null ? 0 : bytes.length;
+            event.commit();
+        }
+        return value;
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return delegate.getTargetType();
+    }
+}
@@ -0,0 +1,50 @@
+package org.springcorebankapp.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for a money movement performed by the
+ * {@link org.springcorebankapp.account.AccountService}.
+ * <p>
+ * The event spans the whole operation including its transaction commit, so its duration is the latency
+ * of the movement as seen by the caller.
+ * </p>
+ *
+ * @see MoneyMovementEventAspect
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Name("org.springcorebankapp.MoneyMovement")
+@Label("Money Movement")
+@Category({"Banking App", "Accounts"})
+@Description("A deposit, withdrawal, transfer or account closure")
+@StackTrace(false)
+class MoneyMovementEvent extends Event {
+
+    @Label("Operation")
+    String operation;
+
+    @Label("Account ID")
+    int accountId;
+
+    @Label("Counterparty Account ID")
+    @Description("The account credited by a transfer, or -1")
+    int counterpartyAccountId;
+
+    @Label("Amount")
+    @Description("The requested amount in minor units, or -1 for an account closure")
+    long amount;
+
+    @Label("Outcome")
+    @Description("SUCCESS, REJECTED for failed validations and limits, or FAILED for unexpected errors")
+    String outcome;
+
+    @Label("Error")
+    String error;
+}
@@ -0,0 +1,115 @@
+package org.springcorebankapp.diagnostics;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springcorebankapp.exception.VelocityLimitExceededException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import javax.security.auth.login.AccountNotFoundException;
+
+/**
+ * Aspect emitting a {@link MoneyMovementEvent} for each money movement of the
+ * {@link org.springcorebankapp.account.AccountService}.
+ * <p>
+ * The aspect runs outside the transaction interceptor, so the recorded duration and outcome include the commit.
+ * Events are only populated and committed while a recording has them enabled.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class MoneyMovementEventAspect {
+
+    /**
+     * Records a deposit.
+     *
+     * @param joinPoint the intercepted method
+     * @param accountId the ID of the account
+     * @param amount    the amount to deposit
+     * @return the result of the method
+     * @throws Throwable any exception thrown by the method
+     */
+    @Around("execution(* org.springcorebankapp.account.AccountService.depositAccount(..)) && args(accountId, amount)")
+    public Object recordDeposit(ProceedingJoinPoint joinPoint, int accountId, long amount) throws Throwable {
+        return record(joinPoint, "DEPOSIT", accountId, -1, amount);
+    }
+
+    /**
+     * Records a withdrawal.
+     *
+     * @param joinPoint the intercepted method
+     * @param accountId the ID of the account
+     * @param amount    the amount to withdraw
+     * @return the result of the method
+     * @throws Throwable any exception thrown by the method
+     */
+    @Around("execution(* org.springcorebankapp.account.AccountService.withdrawFromAccount(..)) && args(accountId, amount)")
+    public Object recordWithdrawal(ProceedingJoinPoint joinPoint, int accountId, long amount) throws Throwable {
+        return record(joinPoint, "WITHDRAWAL", accountId, -1, amount);
+    }
+
+    /**
+     * Records a transfer.
+     *
+     * @param joinPoint     the intercepted method
+     * @param fromAccountId the ID of the debited account
+     * @param toAccountId   the ID of the credited account
+     * @param amount        the amount to transfer
+     * @return the result of the method
+     * @throws Throwable any exception thrown by the method
+     */
+    @Around("execution(* org.springcorebankapp.account.AccountService.transfer(..)) && args(fromAccountId, toAccountId, amount)")
+    public Object recordTransfer(ProceedingJoinPoint joinPoint, int fromAccountId, int toAccountId, long amount)
+            throws Throwable {
+        return record(joinPoint, "TRANSFER", fromAccountId, toAccountId, amount);
+    }
+
+    /**
+     * Records an account closure.
+     *
+     * @param joinPoint the intercepted method
+     * @param accountId the ID of the closed account
+     * @return the result of the method
+     * @throws Throwable any exception thrown by the method
+     */
+    @Around("execution(* org.springcorebankapp.account.AccountService.closeAccount(..)) && args(accountId)")
+    public Object recordClosure(ProceedingJoinPoint joinPoint, int accountId) throws Throwable {
+        return record(joinPoint, "CLOSURE", accountId, -1, -1);
+    }
+
+    private static Object record(ProceedingJoinPoint joinPoint, String operation, int accountId,
+                                 int counterpartyAccountId, long amount) throws Throwable {
+        MoneyMovementEvent event = new MoneyMovementEvent();
+        event.begin();
+        String outcome = "SUCCESS";
+        Throwable error = null;
+        try {
+            return joinPoint.proceed();
+        } catch (IllegalArgumentException | AccountNotFoundException | VelocityLimitExceededException e) {
+            outcome = "REJECTED";
+            error = e;
+            throw e;
+        } catch (Throwable e) {
+            outcome = "FAILED";
+            error = e;
+            throw e;
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.operation = operation;
+                event.accountId = accountId;
+                event.counterpartyAccountId = counterpartyAccountId;
+                event.amount = amount;
+                event.outcome = outcome;
+                event.error = error == null ? null : error.getClass().getSimpleName() + ": " + error.getMessage();
+                event.commit();
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package org.springcorebankapp.diagnostics;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springcorebankapp.exception.RecordingNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.Duration;
+import java.util.List;
+
+@Tag(name = "Recording Controller", description = "Operations related to Java Flight Recorder recordings")
+@RestController
+@RequestMapping("/diagnostics/recordings")
+public class RecordingController {
+    private final RecordingService recordingService;
+
+    @Autowired
+    public RecordingController(RecordingService recordingService) {
+        this.recordingService = recordingService;
+    }
+
+    @Operation(
+            summary = "Start a recording",
+            description = "Starts a flight recording with the given settings, optionally limited in duration.",
+            tags = {"Recording Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recording started"),
+            @ApiResponse(responseCode = "400", description = "Unknown settings"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @PostMapping("/start")
+    public ResponseEntity<RecordingInfo> start(
+            @Parameter(description = "Name of the recording", required = true)
+            @RequestParam("name") String name,
+            @Parameter(description = "JFR settings: default or profile")
+            @RequestParam(value = "settings", defaultValue = "profile") String settings,
+            @Parameter(description = "Duration in seconds after which the recording stops by itself")
+            @RequestParam(value = "maxDurationSeconds", required = false) Long maxDurationSeconds) {
+        try {
+            return ResponseEntity.ok(recordingService.start(name, settings,
+                    maxDurationSeconds == null ? null : Duration.ofSeconds(maxDurationSeconds)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    @Operation(
+            summary = "Stop a recording",
+            description = "Stops a recording and writes it to the recording directory.",
+            tags = {"Recording Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recording stopped"),
+            @ApiResponse(responseCode = "404", description = "Recording not found"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @PostMapping("/stop")
+    public ResponseEntity<RecordingInfo> stop(
+            @Parameter(description = "ID of the recording", required = true)
+            @RequestParam("id") long id) {
+        try {
+            return ResponseEntity.ok(recordingService.stop(id));
+        } catch (RecordingNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    @Operation(
+            summary = "Find all recordings",
+            description = "Lists the running and stopped recordings, including the continuous recording.",
+            tags = {"Recording Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recordings returned successfully"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping("/find-all")
+    public ResponseEntity<List<RecordingInfo>> findAll() {
+        try {
+            return ResponseEntity.ok(recordingService.findAll());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    @Operation(
+            summary = "Download a recording",
+            description = "Downloads a stopped recording, or a snapshot of a running one. Recordings hold the "
+                    + "environment variables and system properties of the JVM, so downloads are only served when "
+                    + "jfr.download.enabled is set.",
+            tags = {"Recording Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Recording file returned"),
+            @ApiResponse(responseCode = "403", description = "Downloads are disabled"),
+            @ApiResponse(responseCode = "404", description = "Recording not found"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping("/download")
+    public ResponseEntity<Resource> download(
+            @Parameter(description = "ID of the recording", required = true)
+            @RequestParam("id") long id) {
+        try {
+            RecordingDownload download = recordingService.download(id);
+            // The content is closed once it has been streamed, which deletes a snapshot file.
+            return ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                            .filename(download.getFileName()).build().toString())
+                    .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                    .contentLength(download.getSize())
+                    .body(new InputStreamResource(download.getContent()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        } catch (RecordingNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package org.springcorebankapp.diagnostics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.io.InputStream;
+
+/**
+ * The content of a Java Flight Recorder recording opened for download by the {@link RecordingService}.
+ * <p>
+ * Closing the content of a snapshot of a running recording deletes the snapshot file.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RecordingDownload {
+
+    /**
+     * The file name offered to the client.
+     */
+    private final String fileName;
+
+    /**
+     * The size of the recording in bytes.
+     */
+    private final long size;
+
+    /**
+     * The content of the recording; must be closed by the caller.
+     */
+    @ToString.Exclude
+    private final InputStream content;
+}
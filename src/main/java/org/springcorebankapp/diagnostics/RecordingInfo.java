@@ -0,0 +1,44 @@
+package org.springcorebankapp.diagnostics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.Instant;
+
+/**
+ * Summary of a Java Flight Recorder recording managed by the {@link RecordingService}.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class RecordingInfo {
+
+    /**
+     * The ID of the recording, unique within the JVM.
+     */
+    private final long id;
+
+    /**
+     * The name of the recording.
+     */
+    private final String name;
+
+    /**
+     * The state of the recording, e.g. {@code RUNNING} or {@code CLOSED}.
+     */
+    private final String state;
+
+    /**
+     * When the recording started, or {@code null} if it has not started.
+     */
+    private final Instant startTime;
+
+    /**
+     * The file a stopped recording was written to, or {@code null} while it runs.
+     */
+    private final String file;
+}
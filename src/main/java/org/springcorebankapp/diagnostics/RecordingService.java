@@ -0,0 +1,230 @@
+package org.springcorebankapp.diagnostics;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springcorebankapp.exception.RecordingNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service class for managing Java Flight Recorder recordings.
+ * <p>
+ * At startup a continuous recording is started with the low-overhead {@code default} settings and a bounded
+ * history, so that the minutes before a latency incident can be dumped and analysed after the fact. Additional
+ * recordings, typically with the more detailed {@code profile} settings, can be started and stopped on demand.
+ * Stopped recordings are written to {@code jfr.directory}; running ones can be downloaded as snapshots.
+ * </p>
+ * <p>
+ * Recordings hold the environment variables and system properties of the JVM, so downloads are refused unless
+ * {@code jfr.download.enabled} is set. A snapshot is written to a temporary file that is deleted once its
+ * download is closed.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Always-on continuous recording, dumped on exit.</li>
+ *     <li>On-demand recordings with a name, settings and an optional maximum duration.</li>
+ *     <li>Snapshots of running recordings without stopping them.</li>
+ * </ul>
+ *
+ * @see JfrProperties
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+public class RecordingService {
+    private static final String CONTINUOUS_RECORDING_NAME = "continuous";
+
+    private final Logger logger = LoggerFactory.getLogger(RecordingService.class);
+
+    private final Map<Long, Recording> recordings = new ConcurrentHashMap<>();
+    private final Map<Long, RecordingInfo> stoppedRecordings = new ConcurrentHashMap<>();
+
+    @Autowired
+    private JfrProperties jfrProperties;
+
+    /**
+     * Starts the continuous recording, if enabled.
+     */
+    @PostConstruct
+    public void startContinuousRecording() {
+        if (!jfrProperties.isContinuousEnabled()) {
+            return;
+        }
+        Recording recording = new Recording(configuration(jfrProperties.getContinuousSettings()));
+        recording.setName(CONTINUOUS_RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(Duration.ofMillis(jfrProperties.getContinuousMaxAgeMillis()));
+        recording.setMaxSize(jfrProperties.getContinuousMaxSizeBytes());
+        recording.setDumpOnExit(true);
+        try {
+            recording.setDestination(directory().resolve(CONTINUOUS_RECORDING_NAME + ".jfr"));
+        } catch (IOException e) {
+            logger.warn("Continuous recording will not be dumped on exit: {}", e.getMessage());
+        }
+        recording.start();
+        recordings.put(recording.getId(), recording);
+        logger.info("Started continuous flight recording with id = {}", recording.getId());
+    }
+
+    /**
+     * Starts a recording.
+     *
+     * @param name        the name of the recording
+     * @param settings    the JFR settings, e.g. {@code default} or {@code profile}
+     * @param maxDuration the duration after which the recording stops by itself, or {@code null}
+     * @return the started recording
+     * @throws IllegalArgumentException if the settings are unknown
+     */
+    public RecordingInfo start(String name, String settings, Duration maxDuration) {
+        Recording recording = new Recording(configuration(settings));
+        recording.setName(name);
+        recording.setToDisk(true);
+        if (maxDuration != null) {
+            recording.setDuration(maxDuration);
+        }
+        recording.start();
+        recordings.put(recording.getId(), recording);
+        return info(recording, null);
+    }
+
+    /**
+     * Stops a recording and writes it to {@code jfr.directory}.
+     *
+     * @param id the ID of the recording
+     * @return the stopped recording, including the file it was written to
+     * @throws RecordingNotFoundException if no running recording has the given ID
+     * @throws UncheckedIOException       if the recording cannot be written
+     */
+    public RecordingInfo stop(long id) {
+        Recording recording = recordings.remove(id);
+        if (recording == null) {
+            throw new RecordingNotFoundException("Recording with id = %s not found".formatted(id));
+        }
+        try (recording) {
+            if (recording.getState() == RecordingState.RUNNING) {
+                recording.stop();
+            }
+            Path file = directory().resolve("recording-%s.jfr".formatted(id));
+            recording.dump(file);
+            RecordingInfo info = info(recording, file);
+            stoppedRecordings.put(id, info);
+            return info;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot write recording with id = %s".formatted(id), e);
+        }
+    }
+
+    /**
+     * Opens a recording for download: a fresh snapshot of a running recording, deleted when its content is
+     * closed, or the file a stopped recording was written to.
+     *
+     * @param id the ID of the recording
+     * @return the opened recording; its content must be closed by the caller
+     * @throws IllegalStateException      if downloads are disabled
+     * @throws RecordingNotFoundException if no recording has the given ID
+     * @throws UncheckedIOException       if the recording cannot be written or read
+     */
+    public RecordingDownload download(long id) {
+        if (!jfrProperties.isDownloadEnabled()) {
+            throw new IllegalStateException("Recording downloads are disabled");
+        }
+        Recording recording = recordings.get(id);
+        if (recording != null) {
+            Path file = null;
+            try {
+                file = Files.createTempFile(directory(), "recording-%s-".formatted(id), ".jfr");
+                recording.dump(file);
+                return new RecordingDownload("recording-%s-%s.jfr".formatted(id, System.currentTimeMillis()),
+                        Files.size(file), Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE));
+            } catch (IOException e) {
+                deleteQuietly(file);
+                throw new UncheckedIOException("Cannot write snapshot of recording with id = %s".formatted(id), e);
+            }
+        }
+        RecordingInfo info = stoppedRecordings.get(id);
+        if (info == null) {
+            throw new RecordingNotFoundException("Recording with id = %s not found".formatted(id));
+        }
+        Path file = Path.of(info.getFile());
+        try {
+            return new RecordingDownload(file.getFileName().toString(), Files.size(file), Files.newInputStream(file));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read recording with id = %s".formatted(id), e);
+        }
+    }
+
+    /**
+     * Returns all running and stopped recordings.
+     *
+     * @return the recordings
+     */
+    public List<RecordingInfo> findAll() {
+        List<RecordingInfo> infos = new ArrayList<>();
+        for (Recording recording : recordings.values()) {
+            infos.add(info(recording, null));
+        }
+        infos.addAll(stoppedRecordings.values());
+        return infos;
+    }
+
+    /**
+     * Closes the on-demand recordings; the continuous recording is dumped by the JVM on exit.
+     */
+    @PreDestroy
+    public void closeRecordings() {
+        recordings.values().removeIf(recording -> {
+            if (CONTINUOUS_RECORDING_NAME.equals(recording.getName())) {
+                return false;
+            }
+            recording.close();
+            return true;
+        });
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            logger.warn("Cannot delete snapshot {}: {}", file, e.getMessage());
+        }
+    }
+
+    private Path directory() throws IOException {
+        return Files.createDirectories(Path.of(jfrProperties.getDirectory()));
+    }
+
+    private static Configuration configuration(String settings) {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + settings, e);
+        }
+    }
+
+    private static RecordingInfo info(Recording recording, Path file) {
+        return new RecordingInfo(recording.getId(), recording.getName(), recording.getState().name(),
+                recording.getStartTime(), file == null ? null : file.toString());
+    }
+}
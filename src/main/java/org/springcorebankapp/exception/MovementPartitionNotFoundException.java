@@ -0,0 +1,64 @@
+package org.springcorebankapp.exception;
+
+/**
+ * Custom exception thrown when a movement partition is not found.
+ * <p>
+ * This exception is thrown in cases where a monthly partition of the movements table is not attached,
+ * such as when attempting to detach a month that has no partition or was already detached.
+ * </p>
+ * <p>
+ * It extends {@link RuntimeException}, making it an unchecked exception.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class MovementPartitionNotFoundException extends RuntimeException {
+
+    /**
+     * Default constructor.
+     * <p>
+     * This constructor creates a new instance of {@link MovementPartitionNotFoundException} with no message or cause.
+     * </p>
+     */
+    public MovementPartitionNotFoundException() {
+        super();
+    }
+
+    /**
+     * Constructor with a custom error message.
+     * <p>
+     * This constructor creates a new instance of {@link MovementPartitionNotFoundException} with the provided message.
+     * </p>
+     *
+     * @param message the detail message explaining the reason for the exception
+     */
+    public MovementPartitionNotFoundException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructor with a custom error message and a cause.
+     * <p>
+     * This constructor creates a new instance of {@link MovementPartitionNotFoundException} with the provided message and cause.
+     * </p>
+     *
+     * @param message the detail message explaining the reason for the exception
+     * @param cause the cause of the exception (which is saved for later retrieval by the {@link Throwable#getCause()} method)
+     */
+    public MovementPartitionNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * Constructor with a cause.
+     * <p>
+     * This constructor creates a new instance of {@link MovementPartitionNotFoundException} with the provided cause.
+     * </p>
+     *
+     * @param cause the cause of the exception (which is saved for later retrieval by the {@link Throwable#getCause()} method)
+     */
+    public MovementPartitionNotFoundException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -0,0 +1,64 @@
+package org.springcorebankapp.exception;
+
+/**
+ * Custom exception thrown when a flight recording is not found.
+ * <p>
+ * This exception is thrown in cases where a Java Flight Recorder recording is not known to the application,
+ * such as when attempting to stop or download a recording that was never started.
+ * </p>
+ * <p>
+ * It extends {@link RuntimeException}, making it an unchecked exception.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class RecordingNotFoundException extends RuntimeException {
+
+    /**
+     * Default constructor.
+     * <p>
+     * This constructor creates a new instance of {@link RecordingNotFoundException} with no message or cause.
+     * </p>
+     */
+    public RecordingNotFoundException() {
+        super();
+    }
+
+    /**
+     * Constructor with a custom error message.
+     * <p>
+     * This constructor creates a new instance of {@link RecordingNotFoundException} with the provided message.
+     * </p>
+     *
+     * @param message the detail message explaining the reason for the exception
+     */
+    public RecordingNotFoundException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructor with a custom error message and a cause.
+     * <p>
+     * This constructor creates a new instance of {@link RecordingNotFoundException} with the provided message and cause.
+     * </p>
+     *
+     * @param message the detail message explaining the reason for the exception
+     * @param cause the cause of the exception (which is saved for later retrieval by the {@link Throwable#getCause()} method)
+     */
+    public RecordingNotFoundException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+    /**
+     * Constructor with a cause.
+     * <p>
+     * This constructor creates a new instance of {@link RecordingNotFoundException} with the provided cause.
+     * </p>
+     *
+     * @param cause the cause of the exception (which is saved for later retrieval by the {@link Throwable#getCause()} method)
+     */
+    public RecordingNotFoundException(Throwable cause) {
+        super(cause);
+    }
+}
@@ -0,0 +1,65 @@
+package org.springcorebankapp.fx;
+
+/**
+ * Currencies an account can be held in.
+ * <p>
+ * Amounts are held in the minor unit of their currency, e.g. cents for {@link #USD}; each constant knows
+ * how many decimal digits its minor unit has. The ordinal of each constant indexes the {@link FxRateTable},
+ * so new currencies must be appended.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public enum Currency {
+
+    /**
+     * United States dollar.
+     */
+    USD(2),
+
+    /**
+     * Euro.
+     */
+    EUR(2),
+
+    /**
+     * Pound sterling.
+     */
+    GBP(2),
+
+    /**
+     * Swiss franc.
+     */
+    CHF(2),
+
+    /**
+     * Japanese yen.
+     */
+    JPY(0),
+
+    /**
+     * Chinese yuan.
+     */
+    CNY(2),
+
+    /**
+     * Kazakhstani tenge.
+     */
+    KZT(2);
+
+    private final int minorUnitDigits;
+
+    Currency(int minorUnitDigits) {
+        this.minorUnitDigits = minorUnitDigits;
+    }
+
+    /**
+     * Returns the number of decimal digits of the minor unit, e.g. {@code 2} for cents.
+     *
+     * @return the number of minor unit digits
+     */
+    public int getMinorUnitDigits() {
+        return minorUnitDigits;
+    }
+}
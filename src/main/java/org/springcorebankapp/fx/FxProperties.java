@@ -0,0 +1,64 @@
+package org.springcorebankapp.fx;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for foreign exchange rates.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Defines where the rate quotes are loaded from: a classpath resource, a file or an HTTP endpoint.</li>
+ *     <li>Defines how often the quotes are reloaded.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class FxProperties {
+
+    /**
+     * The location of the rate quotes, injected from {@code fx.rates.location}.
+     */
+    private final String ratesLocation;
+
+    /**
+     * The delay between reloads of the quotes in milliseconds, injected from {@code fx.rates.refresh-millis}.
+     */
+    private final long refreshMillis;
+
+    /**
+     * Constructs a new {@code FxProperties} instance.
+     *
+     * @param ratesLocation the location of the rate quotes, e.g. {@code classpath:fx-rates.properties},
+     *                      {@code file:/etc/bank/fx-rates.properties} or an {@code https:} URL
+     * @param refreshMillis the delay between reloads of the quotes in milliseconds
+     */
+    public FxProperties(@Value("${fx.rates.location}") String ratesLocation,
+                        @Value("${fx.rates.refresh-millis}") long refreshMillis) {
+        this.ratesLocation = ratesLocation;
+        this.refreshMillis = refreshMillis;
+    }
+
+    /**
+     * Returns the location of the rate quotes.
+     *
+     * @return the rates location
+     */
+    public String getRatesLocation() {
+        return ratesLocation;
+    }
+
+    /**
+     * Returns the delay between reloads of the quotes in milliseconds.
+     *
+     * @return the refresh delay
+     */
+    public long getRefreshMillis() {
+        return refreshMillis;
+    }
+}
@@ -0,0 +1,142 @@
+package org.springcorebankapp.fx;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Service class holding the current {@link FxRateTable}.
+ * <p>
+ * Quotes are read from {@code fx.rates.location}, a properties resource with a {@code base} entry naming the
+ * base currency and one entry per currency with the number of its units per unit of the base currency.
+ * Every load builds a new immutable table that replaces the previous one with a single volatile write, so
+ * readers always see a complete and consistent table without locking.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Allocation-free currency conversion on the transfer hot path.</li>
+ *     <li>Periodic reloads from a classpath resource, a file or an HTTP endpoint.</li>
+ *     <li>A failed reload keeps the previous table in place.</li>
+ * </ul>
+ *
+ * @see FxRateTable
+ * @see FxProperties
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+public class FxRateService {
+    private final Logger logger = LoggerFactory.getLogger(FxRateService.class);
+
+    @Autowired
+    private FxProperties fxProperties;
+    @Autowired
+    private ResourceLoader resourceLoader;
+
+    private volatile FxRateTable rateTable;
+
+    /**
+     * Loads the initial rate table; the application does not start without valid rates.
+     *
+     * @throws UncheckedIOException     if the quotes cannot be read
+     * @throws IllegalArgumentException if the quotes are incomplete or invalid
+     */
+    @PostConstruct
+    public void init() {
+        try {
+            rateTable = load();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot load FX rates from " + fxProperties.getRatesLocation(), e);
+        }
+    }
+
+    /**
+     * Reloads the quotes and swaps in a new rate table; triggered every {@code fx.rates.refresh-millis}.
+     *
+     * @return {@code true} if the table was replaced; {@code false} if the previous table was kept
+     */
+    @Scheduled(fixedDelayString = "${fx.rates.refresh-millis}", initialDelayString = "${fx.rates.refresh-millis}")
+    public boolean reload() {
+        try {
+            rateTable = load();
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Cannot reload FX rates from {}, keeping rates loaded at {}: {}",
+                    fxProperties.getRatesLocation(), rateTable.getLoadedAt(), e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Converts an amount using the current rate table, rounding down.
+     *
+     * @param amount the non-negative amount in minor units of the source currency
+     * @param from   the source currency
+     * @param to     the target currency
+     * @return the amount in minor units of the target currency
+     * @throws ArithmeticException if the result overflows a {@code long}
+     */
+    public long convert(long amount, Currency from, Currency to) {
+        return rateTable.convert(amount, from, to);
+    }
+
+    /**
+     * Converts an amount into the base currency of the current rate table, rounding down.
+     *
+     * @param amount the non-negative amount in minor units of the source currency
+     * @param from   the source currency
+     * @return the amount in minor units of the base currency
+     * @throws ArithmeticException if the result overflows a {@code long}
+     */
+    public long toBaseCurrency(long amount, Currency from) {
+        FxRateTable table = rateTable;
+        return table.convert(amount, from, table.getBase());
+    }
+
+    /**
+     * Returns the current rate table.
+     *
+     * @return the current {@link FxRateTable}
+     */
+    public FxRateTable getRateTable() {
+        return rateTable;
+    }
+
+    private FxRateTable load() throws IOException {
+        Resource resource = resourceLoader.getResource(fxProperties.getRatesLocation());
+        Properties properties = new Properties();
+        try (InputStream in = resource.getInputStream()) {
+            properties.load(in);
+        }
+        String base = properties.getProperty("base");
+        if (base == null) {
+            throw new IllegalArgumentException("Missing base currency in " + resource.getDescription());
+        }
+        Map<Currency, BigDecimal> quotes = new EnumMap<>(Currency.class);
+        for (Currency currency : Currency.values()) {
+            String quote = properties.getProperty(currency.name());
+            if (quote != null) {
+                quotes.put(currency, new BigDecimal(quote.trim()));
+            }
+        }
+        FxRateTable table = FxRateTable.of(Currency.valueOf(base.trim()), quotes, Instant.now());
+        logger.info("Loaded FX rates against {} from {}", table.getBase(), resource.getDescription());
+        return table;
+    }
+}
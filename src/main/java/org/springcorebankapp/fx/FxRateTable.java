@@ -0,0 +1,129 @@
+package org.springcorebankapp.fx;
+
+import org.springcorebankapp.util.Money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Immutable table of cross rates between every pair of {@link Currency currencies}.
+ * <p>
+ * Rates convert between minor units, so they include the difference in minor unit digits of the two currencies.
+ * They are fixed-point longs with {@value #SCALE_DIGITS} decimal digits, stored in a flat array indexed by
+ * {@code from.ordinal() * N + to.ordinal()}. A conversion is therefore one array read and {@link Money} integer
+ * arithmetic; it allocates nothing and rounds down, so the bank never credits more than the rate allows.
+ * Tables are built once from quotes against a base currency and replaced as a whole when rates change.
+ * </p>
+ *
+ * @see FxRateService
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public final class FxRateTable {
+
+    /**
+     * The number of decimal digits of a fixed-point rate.
+     */
+    public static final int SCALE_DIGITS = 8;
+
+    /**
+     * The fixed-point representation of a rate of {@code 1}.
+     */
+    public static final long SCALE = 100_000_000L;
+
+    private static final Currency[] CURRENCIES = Currency.values();
+    private static final int N = CURRENCIES.length;
+
+    private final Currency base;
+    private final long[] rates;
+    private final Instant loadedAt;
+
+    private FxRateTable(Currency base, long[] rates, Instant loadedAt) {
+        this.base = base;
+        this.rates = rates;
+        this.loadedAt = loadedAt;
+    }
+
+    /**
+     * Builds a table from quotes against a base currency.
+     *
+     * @param base     the base currency
+     * @param quotes   the number of units of each currency per unit of the base currency
+     * @param loadedAt the time the quotes were loaded
+     * @return the built {@link FxRateTable}
+     * @throws IllegalArgumentException if a currency has no quote, a quote is not positive
+     *                                  or the base currency is not quoted at {@code 1}
+     */
+    public static FxRateTable of(Currency base, Map<Currency, BigDecimal> quotes, Instant loadedAt) {
+        for (Currency currency : CURRENCIES) {
+            BigDecimal quote = quotes.get(currency);
+            if (quote == null || quote.signum() <= 0) {
+                throw new IllegalArgumentException("Missing or not positive FX quote: currency = %s, quote = %s"
+                        .formatted(currency, quote));
+            }
+        }
+        if (quotes.get(base).compareTo(BigDecimal.ONE) != 0) {
+            throw new IllegalArgumentException("Base currency must be quoted at 1: base = %s, quote = %s"
+                    .formatted(base, quotes.get(base)));
+        }
+        long[] rates = new long[N * N];
+        for (Currency from : CURRENCIES) {
+            for (Currency to : CURRENCIES) {
+                rates[from.ordinal() * N + to.ordinal()] = from == to ? SCALE : quotes.get(to)
+                        .movePointRight(to.getMinorUnitDigits() - from.getMinorUnitDigits())
+                        .divide(quotes.get(from), SCALE_DIGITS, RoundingMode.DOWN)
+                        .unscaledValue()
+                        .longValueExact();
+            }
+        }
+        return new FxRateTable(base, rates, loadedAt);
+    }
+
+    /**
+     * Converts an amount, rounding down.
+     *
+     * @param amount the non-negative amount in minor units of the source currency
+     * @param from   the source currency
+     * @param to     the target currency
+     * @return the amount in minor units of the target currency
+     * @throws ArithmeticException if the result overflows a {@code long}
+     */
+    public long convert(long amount, Currency from, Currency to) {
+        if (from == to) {
+            return amount;
+        }
+        return Money.multiply(amount, rates[from.ordinal() * N + to.ordinal()], SCALE, RoundingMode.DOWN);
+    }
+
+    /**
+     * Returns the fixed-point rate between two currencies.
+     *
+     * @param from the source currency
+     * @param to   the target currency
+     * @return the number of minor units of {@code to} per minor unit of {@code from}, scaled by {@link #SCALE}
+     */
+    public long getRate(Currency from, Currency to) {
+        return rates[from.ordinal() * N + to.ordinal()];
+    }
+
+    /**
+     * Returns the base currency the quotes were given against.
+     *
+     * @return the base currency
+     */
+    public Currency getBase() {
+        return base;
+    }
+
+    /**
+     * Returns the time the quotes were loaded.
+     *
+     * @return the load time
+     */
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+}
@@ -0,0 +1,323 @@
+package org.springcorebankapp.grpc;
+
+import com.google.protobuf.Empty;
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import org.springcorebankapp.account.Account;
+import org.springcorebankapp.account.AccountService;
+import org.springcorebankapp.fx.Currency;
+import org.springcorebankapp.grpc.proto.AccountInfo;
+import org.springcorebankapp.grpc.proto.BalanceUpdate;
+import org.springcorebankapp.grpc.proto.BankingServiceGrpc;
+import org.springcorebankapp.grpc.proto.BulkTransferReply;
+import org.springcorebankapp.grpc.proto.CloseAccountRequest;
+import org.springcorebankapp.grpc.proto.CreateAccountRequest;
+import org.springcorebankapp.grpc.proto.CreateUserRequest;
+import org.springcorebankapp.grpc.proto.GetAccountRequest;
+import org.springcorebankapp.grpc.proto.GetUserRequest;
+import org.springcorebankapp.grpc.proto.MoneyRequest;
+import org.springcorebankapp.grpc.proto.TransferFailure;
+import org.springcorebankapp.grpc.proto.TransferRequest;
+import org.springcorebankapp.grpc.proto.UserInfo;
+import org.springcorebankapp.grpc.proto.WatchBalancesRequest;
+import org.springcorebankapp.user.User;
+import org.springcorebankapp.user.UserService;
+
+import javax.security.auth.login.AccountNotFoundException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * gRPC implementation of the {@code BankingService} defined in {@code banking.proto}.
+ * <p>
+ * Every call delegates to {@link AccountService} and {@link UserService}, exactly like the REST controllers,
+ * so caching, row locking, velocity checks and auditing apply unchanged. Service exceptions are mapped to
+ * gRPC statuses by {@link GrpcStatuses}.
+ * </p>
+ *
+ * <h2>Streaming calls:</h2>
+ * <ul>
+ *     <li>{@code BulkTransfer} executes each streamed transfer as it arrives, in its own transaction, and
+ *     answers with the number of successful transfers and the failures once the client half-closes.</li>
+ *     <li>{@code WatchBalances} sends the current balances, then checks them every
+ *     {@code grpc.watch.interval-millis} through the account cache and sends those whose version changed.
+ *     Polling the shared cache, rather than listening to local changes, also sees changes made by other
+ *     application instances. Intermediate versions may be skipped, never the latest one.</li>
+ * </ul>
+ *
+ * @see GrpcServerConfiguration
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class BankingGrpcService extends BankingServiceGrpc.BankingServiceImplBase {
+    private final AccountService accountService;
+    private final UserService userService;
+    private final ScheduledExecutorService watchScheduler;
+    private final long watchIntervalMillis;
+
+    /**
+     * Constructs a new {@code BankingGrpcService}.
+     *
+     * @param accountService      the account service
+     * @param userService         the user service
+     * @param watchScheduler      the scheduler running balance checks of watch calls
+     * @param watchIntervalMillis the delay between two checks of watched balances, in milliseconds
+     */
+    public BankingGrpcService(AccountService accountService, UserService userService,
+                              ScheduledExecutorService watchScheduler, long watchIntervalMillis) {
+        this.accountService = accountService;
+        this.userService = userService;
+        this.watchScheduler = watchScheduler;
+        this.watchIntervalMillis = watchIntervalMillis;
+    }
+
+    @Override
+    public void createUser(CreateUserRequest request, StreamObserver<UserInfo> responseObserver) {
+        try {
+            User user = userService.createUser(request.getLogin());
+            reply(responseObserver, toUserInfo(user, user.getAccountList()));
+        } catch (Exception e) {
+            responseObserver.onError(GrpcStatuses.toStatusException(e));
+        }
+    }
+
+    @Override
+    public void getUser(GetUserRequest request, StreamObserver<UserInfo> responseObserver) {
+        try {
+            User user = userService.findUserById(request.getUserId());
+            reply(responseObserver, toUserInfo(user, accountService.getAllUserAccounts(user.getId())));
+        } catch (Exception e) {
+            responseObserver.onError(GrpcStatuses.toStatusException(e));
+        }
+    }
+
+    @Override
+    public void createAccount(CreateAccountRequest request, StreamObserver<AccountInfo> responseObserver) {
+        try {
+            Account account = request.getCurrency().isEmpty()
+                    ? accountService.createAccount(request.getLogin())
+                    : accountService.createAccount(request.getLogin(), Currency.valueOf(request.getCurrency()));
+            reply(responseObserver, toAccountInfo(account));
+        } catch (Exception e) {
+            responseObserver.onError(GrpcStatuses.toStatusException(e));
+        }
+    }
+
+    @Override
+    public void getAccount(GetAccountRequest request, StreamObserver<AccountInfo> responseObserver) {
+        try {
+            reply(responseObserver, toAccountInfo(accountService.findAccountById(request.getAccountId())));
+        } catch (Exception e) {
+            responseObserver.onError(GrpcStatuses.toStatusException(e));
+        }
+    }
+
+    @Override
+    public void deposit(MoneyRequest request, StreamObserver<Empty> responseObserver) {
+        try {
+            accountService.depositAccount(request.getAccountId(), request.getAmount());
+            reply(responseObserver, Empty.getDefaultInstance());
+        } catch (Exception e) {
+            responseObserver.onError(GrpcStatuses.toStatusException(e));
+        }
+    }
+
+    @Override
+    public void withdraw(MoneyRequest request, StreamObserver<Empty> responseObserver) {
+        try {
+            accountService.withdrawFromAccount(request.getAccountId(), request.getAmount());
+            reply(responseObserver, Empty.getDefaultInstance());
+        } catch (Exception e) {
+            responseObserver.onError(GrpcStatuses.toStatusException(e));
+        }
+    }
+
+    @Override
+    public void closeAccount(CloseAccountRequest request, StreamObserver<Empty> responseObserver) {
+        try {
+            accountService.closeAccount(request.getAccountId());
+            reply(responseObserver, Empty.getDefaultInstance());
+        } catch (Exception e) {
+            responseObserver.onError(GrpcStatuses.toStatusException(e));
+        }
+    }
+
+    @Override
+    public void transfer(TransferRequest request, StreamObserver<Empty> responseObserver) {
+        try {
+            accountService.transfer(request.getFromAccountId(), request.getToAccountId(), request.getAmount());
+            reply(responseObserver, Empty.getDefaultInstance());
+        } catch (Exception e) {
+            responseObserver.onError(GrpcStatuses.toStatusException(e));
+        }
+    }
+
+    @Override
+    public StreamObserver<TransferRequest> bulkTransfer(StreamObserver<BulkTransferReply> responseObserver) {
+        return new StreamObserver<>() {
+            private final BulkTransferReply.Builder result = BulkTransferReply.newBuilder();
+            private int index;
+            private int succeeded;
+
+            @Override
+            public void onNext(TransferRequest request) {
+                try {
+                    accountService.transfer(request.getFromAccountId(), request.getToAccountId(), request.getAmount());
+                    succeeded++;
+                } catch (Exception e) {
+                    Status status = GrpcStatuses.toStatusException(e).getStatus();
+                    result.addFailures(TransferFailure.newBuilder()
+                            .setIndex(index)
+                            .setCode(status.getCode().name())
+                            .setMessage(status.getDescription() == null ? "" : status.getDescription()));
+                }
+                index++;
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                // The client cancelled the stream; the transfers executed so far stay committed.
+            }
+
+            @Override
+            public void onCompleted() {
+                reply(responseObserver, result.setSucceeded(succeeded).build());
+            }
+        };
+    }
+
+    @Override
+    public void watchBalances(WatchBalancesRequest request, StreamObserver<BalanceUpdate> responseObserver) {
+        if (request.getAccountIdsCount() == 0) {
+            responseObserver.onError(Status.INVALID_ARGUMENT
+                    .withDescription("At least one account ID is required").asRuntimeException());
+            return;
+        }
+        ServerCallStreamObserver<BalanceUpdate> observer = (ServerCallStreamObserver<BalanceUpdate>) responseObserver;
+        BalanceWatch watch = new BalanceWatch(request.getAccountIdsList(), observer);
+        try {
+            watch.sendInitialBalances();
+        } catch (Exception e) {
+            observer.onError(GrpcStatuses.toStatusException(e));
+            return;
+        }
+        observer.setOnCancelHandler(watch::cancel);
+        watch.schedule();
+    }
+
+    private static <T> void reply(StreamObserver<T> responseObserver, T value) {
+        responseObserver.onNext(value);
+        responseObserver.onCompleted();
+    }
+
+    private static UserInfo toUserInfo(User user, List<Account> accounts) {
+        UserInfo.Builder userInfo = UserInfo.newBuilder()
+                .setId(user.getId())
+                .setLogin(user.getLogin());
+        for (Account account : accounts) {
+            userInfo.addAccounts(toAccountInfo(account));
+        }
+        return userInfo.build();
+    }
+
+    private static AccountInfo toAccountInfo(Account account) {
+        return AccountInfo.newBuilder()
+                .setId(account.getId())
+                .setUserId(account.getUserId())
+                .setMoneyAmount(account.getMoneyAmount())
+                .setCurrency(account.getCurrency().name())
+                .setVersion(account.getVersion())
+                .build();
+    }
+
+    private static BalanceUpdate toBalanceUpdate(Account account) {
+        return BalanceUpdate.newBuilder()
+                .setAccountId(account.getId())
+                .setMoneyAmount(account.getMoneyAmount())
+                .setCurrency(account.getCurrency().name())
+                .setVersion(account.getVersion())
+                .build();
+    }
+
+    /**
+     * State of one {@code WatchBalances} call: the last version sent per watched account.
+     * <p>
+     * Checks run one at a time on the watch scheduler, which orders them, so the state needs no locking.
+     * A check is skipped while the client is not ready to receive, so a slow client is sent only the
+     * balances current when it catches up rather than a growing backlog.
+     * </p>
+     */
+    private final class BalanceWatch {
+        private final Map<Integer, Long> sentVersions = new LinkedHashMap<>();
+        private final ServerCallStreamObserver<BalanceUpdate> observer;
+        private volatile ScheduledFuture<?> checks;
+        private volatile boolean cancelled;
+
+        private BalanceWatch(List<Integer> accountIds, ServerCallStreamObserver<BalanceUpdate> observer) {
+            this.observer = observer;
+            for (Integer accountId : accountIds) {
+                sentVersions.put(accountId, -1L);
+            }
+        }
+
+        private void sendInitialBalances() throws AccountNotFoundException {
+            for (Map.Entry<Integer, Long> entry : sentVersions.entrySet()) {
+                Account account = accountService.findAccountById(entry.getKey());
+                observer.onNext(toBalanceUpdate(account));
+                entry.setValue(account.getVersion());
+            }
+        }
+
+        private void schedule() {
+            checks = watchScheduler.scheduleWithFixedDelay(this::check, watchIntervalMillis, watchIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+            if (cancelled) {
+                checks.cancel(false);
+            }
+        }
+
+        private void cancel() {
+            cancelled = true;
+            ScheduledFuture<?> scheduled = checks;
+            if (scheduled != null) {
+                scheduled.cancel(false);
+            }
+        }
+
+        private void check() {
+            if (cancelled || !observer.isReady()) {
+                return;
+            }
+            try {
+                Iterator<Map.Entry<Integer, Long>> entries = sentVersions.entrySet().iterator();
+                while (entries.hasNext() && !cancelled) {
+                    Map.Entry<Integer, Long> entry = entries.next();
+                    try {
+                        Account account = accountService.findAccountById(entry.getKey());
+                        if (account.getVersion() != entry.getValue()) {
+                            observer.onNext(toBalanceUpdate(account));
+                            entry.setValue(account.getVersion());
+                        }
+                    } catch (AccountNotFoundException e) {
+                        observer.onNext(BalanceUpdate.newBuilder().setAccountId(entry.getKey()).setClosed(true).build());
+                        entries.remove();
+                    }
+                }
+                if (sentVersions.isEmpty()) {
+                    cancel();
+                    observer.onCompleted();
+                }
+            } catch (Exception e) {
+                cancel();
+                observer.onError(GrpcStatuses.toStatusException(e));
+            }
+        }
+    }
+}
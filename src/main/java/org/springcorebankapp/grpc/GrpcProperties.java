@@ -0,0 +1,104 @@
+package org.springcorebankapp.grpc;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the gRPC server.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Defines the port the gRPC server listens on, next to the HTTP port.</li>
+ *     <li>Defines an optional in-process server name replacing the network transport, for tests.</li>
+ *     <li>Defines how often watched balances are checked for changes.</li>
+ *     <li>Defines how long calls in progress may take to finish on shutdown.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class GrpcProperties {
+
+    /**
+     * The port the gRPC server listens on, injected from {@code grpc.port}.
+     */
+    private final int port;
+
+    /**
+     * The name of the in-process server, injected from {@code grpc.in-process-name};
+     * empty to listen on {@link #port} instead.
+     */
+    private final String inProcessName;
+
+    /**
+     * The delay between two checks of watched balances, injected from {@code grpc.watch.interval-millis}.
+     */
+    private final long watchIntervalMillis;
+
+    /**
+     * How long calls in progress may take to finish on shutdown, injected from {@code grpc.shutdown-timeout-millis}.
+     */
+    private final long shutdownTimeoutMillis;
+
+    /**
+     * Constructs a new {@code GrpcProperties} instance.
+     *
+     * @param port                  the port the gRPC server listens on
+     * @param inProcessName         the name of the in-process server, or an empty string for the network transport
+     * @param watchIntervalMillis   the delay between two checks of watched balances, in milliseconds
+     * @param shutdownTimeoutMillis how long calls in progress may take to finish on shutdown, in milliseconds
+     * @throws IllegalArgumentException if the watch interval is not positive
+     */
+    public GrpcProperties(@Value("${grpc.port}") int port,
+                          @Value("${grpc.in-process-name}") String inProcessName,
+                          @Value("${grpc.watch.interval-millis}") long watchIntervalMillis,
+                          @Value("${grpc.shutdown-timeout-millis}") long shutdownTimeoutMillis) {
+        if (watchIntervalMillis <= 0) {
+            throw new IllegalArgumentException("grpc.watch.interval-millis must be positive");
+        }
+        this.port = port;
+        this.inProcessName = inProcessName;
+        this.watchIntervalMillis = watchIntervalMillis;
+        this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+    }
+
+    /**
+     * Returns the port the gRPC server listens on.
+     *
+     * @return the port
+     */
+    public int getPort() {
+        return port;
+    }
+
+    /**
+     * Returns the name of the in-process server.
+     *
+     * @return the name, or an empty string if the server listens on {@link #getPort()}
+     */
+    public String getInProcessName() {
+        return inProcessName;
+    }
+
+    /**
+     * Returns the delay between two checks of watched balances.
+     *
+     * @return the delay in milliseconds
+     */
+    public long getWatchIntervalMillis() {
+        return watchIntervalMillis;
+    }
+
+    /**
+     * Returns how long calls in progress may take to finish on shutdown.
+     *
+     * @return the timeout in milliseconds
+     */
+    public long getShutdownTimeoutMillis() {
+        return shutdownTimeoutMillis;
+    }
+}
@@ -0,0 +1,72 @@
+package org.springcorebankapp.grpc;
+
+import io.grpc.ServerInterceptor;
+import org.springcorebankapp.account.AccountService;
+import org.springcorebankapp.user.UserService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * Configuration class for the gRPC API served next to the REST controllers.
+ * <p>
+ * Disabled with {@code grpc.enabled=false}.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "grpc.enabled", havingValue = "true")
+public class GrpcServerConfiguration {
+
+    /**
+     * Configures and returns the scheduler checking the balances watched by {@code WatchBalances} calls.
+     * The checks mostly read the cache, so a single thread serves many watches.
+     *
+     * @return a single-threaded scheduler
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService grpcWatchScheduler() {
+        return Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "grpc-balance-watch");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Configures and returns the gRPC banking service.
+     *
+     * @param accountService     the account service
+     * @param userService        the user service
+     * @param grpcWatchScheduler the scheduler checking watched balances
+     * @param grpcProperties     the gRPC configuration properties
+     * @return the banking service
+     */
+    @Bean
+    public BankingGrpcService bankingGrpcService(AccountService accountService, UserService userService,
+                                                 ScheduledExecutorService grpcWatchScheduler,
+                                                 GrpcProperties grpcProperties) {
+        return new BankingGrpcService(accountService, userService, grpcWatchScheduler,
+                grpcProperties.getWatchIntervalMillis());
+    }
+
+    /**
+     * Configures the server serving the banking service for the lifetime of the application context.
+     *
+     * @param grpcProperties     the gRPC configuration properties
+     * @param bankingGrpcService the banking service
+     * @param interceptors       the interceptors applied to every call, such as hot key recording
+     * @return the server lifecycle
+     */
+    @Bean
+    public GrpcServerLifecycle grpcServer(GrpcProperties grpcProperties, BankingGrpcService bankingGrpcService,
+                                          ObjectProvider<ServerInterceptor> interceptors) {
+        return new GrpcServerLifecycle(grpcProperties, bankingGrpcService, interceptors.orderedStream().toList());
+    }
+}
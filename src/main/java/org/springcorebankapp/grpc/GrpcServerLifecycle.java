@@ -0,0 +1,90 @@
+package org.springcorebankapp.grpc;
+
+import io.grpc.BindableService;
+import io.grpc.Server;
+import io.grpc.ServerBuilder;
+import io.grpc.ServerInterceptor;
+import io.grpc.ServerInterceptors;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.netty.shaded.io.grpc.netty.NettyServerBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Starts the gRPC server with the application context and stops it gracefully before the services it
+ * calls are destroyed.
+ * <p>
+ * The server listens on {@code grpc.port}, or on an in-process transport when {@code grpc.in-process-name}
+ * is set. On shutdown it stops accepting calls and lets the calls in progress finish for up to
+ * {@code grpc.shutdown-timeout-millis} before cancelling them.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class GrpcServerLifecycle implements SmartLifecycle {
+    private final Logger logger = LoggerFactory.getLogger(GrpcServerLifecycle.class);
+
+    private final GrpcProperties grpcProperties;
+    private final BindableService service;
+    private final List<ServerInterceptor> interceptors;
+    private volatile Server server;
+
+    /**
+     * Constructs a new {@code GrpcServerLifecycle}.
+     *
+     * @param grpcProperties the gRPC configuration properties
+     * @param service        the service to serve
+     * @param interceptors   the interceptors applied to every call of the service
+     */
+    public GrpcServerLifecycle(GrpcProperties grpcProperties, BindableService service,
+                               List<ServerInterceptor> interceptors) {
+        this.grpcProperties = grpcProperties;
+        this.service = service;
+        this.interceptors = interceptors;
+    }
+
+    @Override
+    public void start() {
+        ServerBuilder<?> builder = grpcProperties.getInProcessName().isEmpty()
+                ? NettyServerBuilder.forPort(grpcProperties.getPort())
+                : InProcessServerBuilder.forName(grpcProperties.getInProcessName());
+        try {
+            server = builder.addService(ServerInterceptors.intercept(service, interceptors)).build().start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot start the gRPC server on port " + grpcProperties.getPort(), e);
+        }
+        logger.info("gRPC server started on {}", grpcProperties.getInProcessName().isEmpty()
+                ? "port " + grpcProperties.getPort()
+                : "in-process name " + grpcProperties.getInProcessName());
+    }
+
+    @Override
+    public void stop() {
+        Server running = server;
+        if (running == null) {
+            return;
+        }
+        running.shutdown();
+        try {
+            if (!running.awaitTermination(grpcProperties.getShutdownTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                running.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            running.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        server = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return server != null;
+    }
+}
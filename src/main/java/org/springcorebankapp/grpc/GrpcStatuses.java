@@ -0,0 +1,50 @@
+package org.springcorebankapp.grpc;
+
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import org.springcorebankapp.exception.LoginIsBusyException;
+import org.springcorebankapp.exception.UserNotFoundException;
+import org.springcorebankapp.exception.VelocityLimitExceededException;
+
+/**
+ * Maps the exceptions of the account and user services to gRPC statuses, as the controllers map them to
+ * HTTP statuses.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public final class GrpcStatuses {
+
+    private GrpcStatuses() {
+    }
+
+    /**
+     * Converts a service exception into the status a call fails with.
+     * <p>
+     * Unexpected exceptions become {@code INTERNAL} without their message, so server internals are not
+     * exposed to clients.
+     * </p>
+     *
+     * @param e the exception thrown by a service
+     * @return the exception to pass to {@code StreamObserver.onError}
+     */
+    public static StatusRuntimeException toStatusException(Throwable e) {
+        Status status;
+        if (e instanceof UserNotFoundException
+                || e instanceof javax.security.auth.login.AccountNotFoundException
+                || e instanceof org.springcorebankapp.exception.AccountNotFoundException) {
+            status = Status.NOT_FOUND;
+        } else if (e instanceof LoginIsBusyException) {
+            status = Status.ALREADY_EXISTS;
+        } else if (e instanceof VelocityLimitExceededException) {
+            status = Status.RESOURCE_EXHAUSTED;
+        } else if (e instanceof IllegalArgumentException) {
+            status = Status.INVALID_ARGUMENT;
+        } else if (e instanceof ArithmeticException) {
+            status = Status.OUT_OF_RANGE;
+        } else {
+            return Status.INTERNAL.withDescription("Unexpected server error").withCause(e).asRuntimeException();
+        }
+        return status.withDescription(e.getMessage()).withCause(e).asRuntimeException();
+    }
+}
@@ -0,0 +1,109 @@
+package org.springcorebankapp.hotkey;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-min sketch estimating how often each key occurred, in fixed memory and without locks.
+ * <p>
+ * Each of the {@code depth} rows maps a key to one of its {@code width} counters with its own hash function;
+ * a key's estimate is the smallest of its counters. Estimates never fall below the true count and exceed it
+ * by at most {@code e / width} of all occurrences with probability {@code 1 - e^-depth}.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+class CountMinSketch {
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27D4EB2F165667C5L, 0x85EBCA77C2B2AE63L
+    };
+
+    private final AtomicLongArray counters;
+    private final int width;
+    private final int depth;
+
+    /**
+     * Constructs a new {@code CountMinSketch}.
+     *
+     * @param width the counters per row, rounded up to a power of two
+     * @param depth the number of rows, at most 8
+     * @throws IllegalArgumentException if the width or depth is out of range
+     */
+    CountMinSketch(int width, int depth) {
+        if (width < 1 || width > 1 << 24 || depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("Invalid sketch size: width = %s, depth = %s".formatted(width, depth));
+        }
+        this.width = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.depth = depth;
+        this.counters = new AtomicLongArray(this.width * depth);
+    }
+
+    /**
+     * Counts one occurrence of a key.
+     *
+     * @param key the key
+     * @return the estimated number of occurrences of the key, including this one
+     */
+    long add(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(key, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Estimates the number of occurrences of a key.
+     *
+     * @param key the key
+     * @return the estimated number of occurrences, never below the true count
+     */
+    long estimate(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(key, row)));
+        }
+        return estimate;
+    }
+
+    /**
+     * Returns the number of occurrences of all keys.
+     *
+     * @return the total count
+     */
+    long total() {
+        long total = 0;
+        for (int i = 0; i < width; i++) {
+            total += counters.get(i);
+        }
+        return total;
+    }
+
+    /**
+     * Halves all counters, so that estimates reflect recent occurrences. Occurrences counted concurrently may
+     * be halved or not.
+     */
+    void halve() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.getAndUpdate(i, count -> count >>> 1);
+        }
+    }
+
+    /**
+     * Returns the number of counters per row.
+     *
+     * @return the width
+     */
+    int width() {
+        return width;
+    }
+
+    private int index(long key, int row) {
+        long hash = (key ^ SEEDS[row]) * 0xFF51AFD7ED558CCDL;
+        hash ^= hash >>> 33;
+        hash *= 0xC4CEB9FE1A85EC53L;
+        hash ^= hash >>> 33;
+        return row * width + (int) (hash & (width - 1));
+    }
+}
@@ -0,0 +1,32 @@
+package org.springcorebankapp.hotkey;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * One of the most frequently used keys reported by the {@link HotKeyTracker}.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class HotKey {
+
+    /**
+     * The ID of the account or user.
+     */
+    private final int id;
+
+    /**
+     * The estimated number of recent calls using the key; never below the true number.
+     */
+    private final long estimatedCalls;
+
+    /**
+     * The estimated share of all recent calls of its type using the key, between {@code 0} and {@code 1}.
+     */
+    private final double share;
+}
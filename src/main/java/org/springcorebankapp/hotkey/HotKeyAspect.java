@@ -0,0 +1,109 @@
+package org.springcorebankapp.hotkey;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Before;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+
+/**
+ * Aspect recording the account and user IDs requested through the REST controllers in the
+ * {@link HotKeyTracker}.
+ * <p>
+ * IDs are recorded at the request boundary, once per request, so the application's own calls of the services,
+ * such as the balance checks of gRPC watch calls or the cache warm-up at startup, do not count as traffic.
+ * gRPC calls are recorded by the {@link HotKeyServerInterceptor}. Disabled by setting {@code hot-keys.enabled}
+ * to {@code false}.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 2)
+@ConditionalOnProperty(name = "hot-keys.enabled", havingValue = "true", matchIfMissing = true)
+public class HotKeyAspect {
+    private final HotKeyTracker hotKeyTracker;
+
+    /**
+     * Constructs a new {@code HotKeyAspect}.
+     *
+     * @param hotKeyTracker the tracker recording the IDs
+     */
+    @Autowired
+    public HotKeyAspect(HotKeyTracker hotKeyTracker) {
+        this.hotKeyTracker = hotKeyTracker;
+    }
+
+    /**
+     * Records a request using one account.
+     *
+     * @param accountId the ID of the account
+     */
+    @Before("(execution(* org.springcorebankapp.account.AccountController.findAccountById(Integer, ..))"
+            + " || execution(* org.springcorebankapp.account.AccountController.depositAccount(Integer, Long))"
+            + " || execution(* org.springcorebankapp.account.AccountController.withdrawAccount(Integer, Long))"
+            + " || execution(* org.springcorebankapp.account.AccountController.deleteAccount(Integer)))"
+            + " && args(accountId, ..)")
+    public void recordAccount(Integer accountId) {
+        if (accountId != null) {
+            hotKeyTracker.record(HotKeyType.ACCOUNT, accountId);
+        }
+    }
+
+    /**
+     * Records a request using one account given as a path variable.
+     *
+     * @param accountId the ID of the account
+     */
+    @Before("(execution(* org.springcorebankapp.account.AccountController.findHistory(int, ..))"
+            + " || execution(* org.springcorebankapp.index.AccountBalanceController.findBalance(int)))"
+            + " && args(accountId, ..)")
+    public void recordAccountPath(int accountId) {
+        hotKeyTracker.record(HotKeyType.ACCOUNT, accountId);
+    }
+
+    /**
+     * Records a transfer, using both of its accounts.
+     *
+     * @param fromAccountId the ID of the debited account
+     * @param toAccountId   the ID of the credited account
+     */
+    @Before("execution(* org.springcorebankapp.account.AccountController.transfer(int, int, long))"
+            + " && args(fromAccountId, toAccountId, ..)")
+    public void recordTransfer(int fromAccountId, int toAccountId) {
+        hotKeyTracker.record(HotKeyType.ACCOUNT, fromAccountId);
+        hotKeyTracker.record(HotKeyType.ACCOUNT, toAccountId);
+    }
+
+    /**
+     * Records a lookup of several accounts, using each of them.
+     *
+     * @param accountIds the IDs of the accounts
+     */
+    @Before("execution(* org.springcorebankapp.account.AccountController.findAccountsByIds(java.util.List))"
+            + " && args(accountIds)")
+    public void recordAccounts(Collection<Integer> accountIds) {
+        for (Integer accountId : accountIds) {
+            if (accountId != null) {
+                hotKeyTracker.record(HotKeyType.ACCOUNT, accountId);
+            }
+        }
+    }
+
+    /**
+     * Records a request using one user. A conditional request answered with {@code 304 Not Modified} counts
+     * like any other.
+     *
+     * @param userId the ID of the user
+     */
+    @Before("execution(* org.springcorebankapp.user.UserController.findUserById(int, ..)) && args(userId, ..)")
+    public void recordUser(int userId) {
+        hotKeyTracker.record(HotKeyType.USER, userId);
+    }
+}
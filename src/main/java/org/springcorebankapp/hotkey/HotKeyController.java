@@ -0,0 +1,49 @@
+package org.springcorebankapp.hotkey;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Hot Key Controller", description = "Operations related to the most frequently used accounts and users")
+@RestController
+@RequestMapping("/diagnostics/hot-keys")
+public class HotKeyController {
+    private final HotKeyTracker hotKeyTracker;
+
+    @Autowired
+    public HotKeyController(HotKeyTracker hotKeyTracker) {
+        this.hotKeyTracker = hotKeyTracker;
+    }
+
+    @Operation(
+            summary = "List the hottest keys",
+            description = "Returns the accounts or users used by the most recent calls, most frequent first, with their "
+                    + "estimated number and share of calls. Estimates never fall below the true number.",
+            tags = {"Hot Key Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Hot keys returned successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid limit"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping
+    public ResponseEntity<HotKeyReport> getHotKeys(
+            @Parameter(description = "Type of the keys: ACCOUNT or USER")
+            @RequestParam(value = "type", defaultValue = "ACCOUNT") HotKeyType type,
+            @Parameter(description = "Maximum number of keys")
+            @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        try {
+            return ResponseEntity.ok(hotKeyTracker.report(type, limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+}
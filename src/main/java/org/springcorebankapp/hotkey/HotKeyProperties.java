@@ -0,0 +1,85 @@
+package org.springcorebankapp.hotkey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the {@link HotKeyTracker}.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Defines the size, and so the accuracy and memory, of the frequency sketch of each key type.</li>
+ *     <li>Defines how many of the most frequent keys are tracked.</li>
+ *     <li>Defines how often frequencies are halved, and so how recent the reported traffic is.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class HotKeyProperties {
+
+    /**
+     * The counters per row of the sketch, injected from {@code hot-keys.sketch-width}.
+     */
+    private final int sketchWidth;
+
+    /**
+     * The rows of the sketch, injected from {@code hot-keys.sketch-depth}.
+     */
+    private final int sketchDepth;
+
+    /**
+     * The number of most frequent keys tracked per type, injected from {@code hot-keys.top-k}.
+     */
+    private final int topK;
+
+    /**
+     * Constructs a new {@code HotKeyProperties} instance.
+     *
+     * @param sketchWidth the counters per row of the sketch
+     * @param sketchDepth the rows of the sketch
+     * @param topK        the number of most frequent keys tracked per type
+     * @throws IllegalArgumentException if the number of tracked keys is not positive
+     */
+    public HotKeyProperties(@Value("${hot-keys.sketch-width}") int sketchWidth,
+                            @Value("${hot-keys.sketch-depth}") int sketchDepth,
+                            @Value("${hot-keys.top-k}") int topK) {
+        if (topK <= 0) {
+            throw new IllegalArgumentException("hot-keys.top-k must be positive");
+        }
+        this.sketchWidth = sketchWidth;
+        this.sketchDepth = sketchDepth;
+        this.topK = topK;
+    }
+
+    /**
+     * Returns the counters per row of the sketch.
+     *
+     * @return the sketch width
+     */
+    public int getSketchWidth() {
+        return sketchWidth;
+    }
+
+    /**
+     * Returns the rows of the sketch.
+     *
+     * @return the sketch depth
+     */
+    public int getSketchDepth() {
+        return sketchDepth;
+    }
+
+    /**
+     * Returns the number of most frequent keys tracked per type.
+     *
+     * @return the number of tracked keys
+     */
+    public int getTopK() {
+        return topK;
+    }
+}
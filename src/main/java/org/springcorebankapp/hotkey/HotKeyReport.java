@@ -0,0 +1,34 @@
+package org.springcorebankapp.hotkey;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * The most frequently used keys of one type, as reported by the {@link HotKeyTracker}.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class HotKeyReport {
+
+    /**
+     * The type of the keys.
+     */
+    private final HotKeyType type;
+
+    /**
+     * The number of recent calls of this type, halved every {@code hot-keys.decay-interval-millis}.
+     */
+    private final long recentCalls;
+
+    /**
+     * The most frequently used keys, most frequent first.
+     */
+    private final List<HotKey> keys;
+}
@@ -0,0 +1,75 @@
+package org.springcorebankapp.hotkey;
+
+import io.grpc.ForwardingServerCallListener;
+import io.grpc.Metadata;
+import io.grpc.ServerCall;
+import io.grpc.ServerCallHandler;
+import io.grpc.ServerInterceptor;
+import org.springcorebankapp.grpc.proto.CloseAccountRequest;
+import org.springcorebankapp.grpc.proto.GetAccountRequest;
+import org.springcorebankapp.grpc.proto.GetUserRequest;
+import org.springcorebankapp.grpc.proto.MoneyRequest;
+import org.springcorebankapp.grpc.proto.TransferRequest;
+import org.springcorebankapp.grpc.proto.WatchBalancesRequest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * gRPC server interceptor recording the account and user IDs of incoming request messages in the
+ * {@link HotKeyTracker}.
+ * <p>
+ * Every message counts once: each transfer of a {@code BulkTransfer} stream counts, and a {@code WatchBalances}
+ * call counts its accounts once when it starts, not on every balance check. Disabled with
+ * {@code hot-keys.enabled}, like the {@link HotKeyAspect}.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+@ConditionalOnProperty(name = "hot-keys.enabled", havingValue = "true", matchIfMissing = true)
+public class HotKeyServerInterceptor implements ServerInterceptor {
+    private final HotKeyTracker hotKeyTracker;
+
+    /**
+     * Constructs a new {@code HotKeyServerInterceptor}.
+     *
+     * @param hotKeyTracker the tracker recording the IDs
+     */
+    @Autowired
+    public HotKeyServerInterceptor(HotKeyTracker hotKeyTracker) {
+        this.hotKeyTracker = hotKeyTracker;
+    }
+
+    @Override
+    public <ReqT, RespT> ServerCall.Listener<ReqT> interceptCall(ServerCall<ReqT, RespT> call, Metadata headers,
+                                                                 ServerCallHandler<ReqT, RespT> next) {
+        return new ForwardingServerCallListener.SimpleForwardingServerCallListener<>(next.startCall(call, headers)) {
+            @Override
+            public void onMessage(ReqT message) {
+                record(message);
+                super.onMessage(message);
+            }
+        };
+    }
+
+    private void record(Object message) {
+        if (message instanceof GetAccountRequest request) {
+            hotKeyTracker.record(HotKeyType.ACCOUNT, request.getAccountId());
+        } else if (message instanceof MoneyRequest request) {
+            hotKeyTracker.record(HotKeyType.ACCOUNT, request.getAccountId());
+        } else if (message instanceof CloseAccountRequest request) {
+            hotKeyTracker.record(HotKeyType.ACCOUNT, request.getAccountId());
+        } else if (message instanceof TransferRequest request) {
+            hotKeyTracker.record(HotKeyType.ACCOUNT, request.getFromAccountId());
+            hotKeyTracker.record(HotKeyType.ACCOUNT, request.getToAccountId());
+        } else if (message instanceof WatchBalancesRequest request) {
+            for (int accountId : request.getAccountIdsList()) {
+                hotKeyTracker.record(HotKeyType.ACCOUNT, accountId);
+            }
+        } else if (message instanceof GetUserRequest request) {
+            hotKeyTracker.record(HotKeyType.USER, request.getUserId());
+        }
+    }
+}
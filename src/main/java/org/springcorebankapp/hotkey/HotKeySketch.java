@@ -0,0 +1,114 @@
+package org.springcorebankapp.hotkey;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Heavy-hitter tracker reporting the most frequent keys of a stream.
+ * <p>
+ * Frequencies are estimated by a {@link CountMinSketch}. A key whose estimate exceeds the smallest estimate
+ * kept at the last pruning becomes a candidate; once there are twice as many candidates as tracked keys, the
+ * candidates are pruned to the top ones. Recording never blocks: pruning is skipped while another thread
+ * prunes, and a key below the threshold costs one map lookup.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+class HotKeySketch {
+    private final CountMinSketch sketch;
+    private final int topK;
+    private final Map<Long, Long> candidates = new ConcurrentHashMap<>();
+    private final ReentrantLock pruneLock = new ReentrantLock();
+    private volatile long threshold;
+
+    /**
+     * Constructs a new {@code HotKeySketch}.
+     *
+     * @param width the counters per row of the sketch
+     * @param depth the number of rows of the sketch
+     * @param topK  the number of most frequent keys tracked
+     */
+    HotKeySketch(int width, int depth, int topK) {
+        this.sketch = new CountMinSketch(width, depth);
+        this.topK = topK;
+    }
+
+    /**
+     * Counts one occurrence of a key.
+     *
+     * @param key the key
+     */
+    void record(long key) {
+        long estimate = sketch.add(key);
+        if (estimate > threshold || candidates.containsKey(key)) {
+            candidates.put(key, estimate);
+            if (candidates.size() > 2 * topK && pruneLock.tryLock()) {
+                try {
+                    prune();
+                } finally {
+                    pruneLock.unlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the most frequent keys with their current estimates, most frequent first.
+     *
+     * @param limit the largest number of keys returned, at most the number of tracked keys
+     * @return the keys and estimates
+     */
+    List<Map.Entry<Long, Long>> top(int limit) {
+        List<Map.Entry<Long, Long>> top = new ArrayList<>(candidates.size());
+        for (Long key : candidates.keySet()) {
+            long estimate = sketch.estimate(key);
+            if (estimate > 0) {
+                top.add(Map.entry(key, estimate));
+            }
+        }
+        top.sort(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()));
+        return top.subList(0, Math.min(Math.min(limit, topK), top.size()));
+    }
+
+    /**
+     * Returns the number of occurrences of all keys.
+     *
+     * @return the total count
+     */
+    long total() {
+        return sketch.total();
+    }
+
+    /**
+     * Halves all frequencies, so that the top keys reflect recent occurrences.
+     */
+    void decay() {
+        sketch.halve();
+        pruneLock.lock();
+        try {
+            candidates.replaceAll((key, estimate) -> estimate >>> 1);
+            threshold >>>= 1;
+            candidates.values().removeIf(estimate -> estimate == 0);
+        } finally {
+            pruneLock.unlock();
+        }
+    }
+
+    /**
+     * Keeps the {@code topK} candidates with the highest estimates and raises the threshold to the lowest of
+     * them.
+     */
+    private void prune() {
+        List<Map.Entry<Long, Long>> ranked = new ArrayList<>(candidates.entrySet());
+        ranked.sort(Map.Entry.<Long, Long>comparingByValue(Comparator.reverseOrder()));
+        for (int i = topK; i < ranked.size(); i++) {
+            candidates.remove(ranked.get(i).getKey());
+        }
+        threshold = ranked.get(Math.min(topK, ranked.size()) - 1).getValue();
+    }
+}
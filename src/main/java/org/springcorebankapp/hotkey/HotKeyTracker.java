@@ -0,0 +1,127 @@
+package org.springcorebankapp.hotkey;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Tracker of the accounts and users dominating traffic.
+ * <p>
+ * The {@link HotKeyAspect} and the {@link HotKeyServerInterceptor} record the IDs used by every REST and gRPC
+ * request. Per key type, a {@link HotKeySketch} estimates the frequency of every ID in fixed memory and keeps
+ * the most frequent ones, without locking the calling threads. Frequencies are halved every {@code hot-keys.decay-interval-millis}, so
+ * the report reflects recent traffic and a key that cools down drops out.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>The top {@code hot-keys.top-k} keys per type with estimated calls and share of traffic, to decide
+ *     which accounts to pin in caches or treat as hot.</li>
+ *     <li>Estimates never below the true count, and above it by a bounded share of all calls.</li>
+ *     <li>The calls per type, and the calls and share of the hottest key, as metrics.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class HotKeyTracker implements MeterBinder {
+    private final Map<HotKeyType, HotKeySketch> sketches = new EnumMap<>(HotKeyType.class);
+    private final Map<HotKeyType, LongAdder> calls = new EnumMap<>(HotKeyType.class);
+    private final int topK;
+
+    /**
+     * Constructs a new {@code HotKeyTracker}.
+     *
+     * @param hotKeyProperties the hot key configuration properties
+     */
+    @Autowired
+    public HotKeyTracker(HotKeyProperties hotKeyProperties) {
+        this.topK = hotKeyProperties.getTopK();
+        for (HotKeyType type : HotKeyType.values()) {
+            sketches.put(type, new HotKeySketch(hotKeyProperties.getSketchWidth(), hotKeyProperties.getSketchDepth(),
+                    topK));
+            calls.put(type, new LongAdder());
+        }
+    }
+
+    /**
+     * Records a call using a key.
+     *
+     * @param type the type of the key
+     * @param id   the ID of the account or user
+     */
+    public void record(HotKeyType type, int id) {
+        sketches.get(type).record(id);
+        calls.get(type).increment();
+    }
+
+    /**
+     * Reports the most frequently used keys of a type.
+     *
+     * @param type  the type of the keys
+     * @param limit the largest number of keys reported
+     * @return the report, most frequent key first
+     * @throws IllegalArgumentException if the limit is not between 1 and {@code hot-keys.top-k}
+     */
+    public HotKeyReport report(HotKeyType type, int limit) {
+        if (limit < 1 || limit > topK) {
+            throw new IllegalArgumentException("Limit must be between 1 and %s: limit = %s".formatted(topK, limit));
+        }
+        HotKeySketch sketch = sketches.get(type);
+        long recentCalls = sketch.total();
+        List<HotKey> keys = new ArrayList<>(limit);
+        for (Map.Entry<Long, Long> entry : sketch.top(limit)) {
+            keys.add(new HotKey(entry.getKey().intValue(), entry.getValue(), share(entry.getValue(), recentCalls)));
+        }
+        return new HotKeyReport(type, recentCalls, keys);
+    }
+
+    /**
+     * Halves all frequencies every {@code hot-keys.decay-interval-millis}.
+     */
+    @Scheduled(fixedRateString = "${hot-keys.decay-interval-millis}",
+            initialDelayString = "${hot-keys.decay-interval-millis}")
+    public void decay() {
+        sketches.values().forEach(HotKeySketch::decay);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        for (HotKeyType type : HotKeyType.values()) {
+            String tag = type.name().toLowerCase(Locale.ROOT);
+            FunctionCounter.builder("hot.keys.calls", calls.get(type), LongAdder::sum)
+                    .description("Calls recorded by the hot key tracker")
+                    .tag("type", tag)
+                    .register(registry);
+            Gauge.builder("hot.keys.top.calls", this, tracker -> tracker.hottest(type).getEstimatedCalls())
+                    .description("Estimated recent calls of the most frequently used key")
+                    .tag("type", tag)
+                    .register(registry);
+            Gauge.builder("hot.keys.top.share", this, tracker -> tracker.hottest(type).getShare())
+                    .description("Estimated share of recent calls using the most frequently used key")
+                    .tag("type", tag)
+                    .register(registry);
+        }
+    }
+
+    private HotKey hottest(HotKeyType type) {
+        List<HotKey> keys = report(type, 1).getKeys();
+        return keys.isEmpty() ? new HotKey(0, 0, 0) : keys.get(0);
+    }
+
+    private static double share(long estimatedCalls, long recentCalls) {
+        return recentCalls == 0 ? 0 : Math.min(1, (double) estimatedCalls / recentCalls);
+    }
+}
@@ -0,0 +1,20 @@
+package org.springcorebankapp.hotkey;
+
+/**
+ * Kind of key tracked by the {@link HotKeyTracker}.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public enum HotKeyType {
+
+    /**
+     * Account IDs of account lookups and balance changes.
+     */
+    ACCOUNT,
+
+    /**
+     * User IDs of user and user account lookups.
+     */
+    USER
+}
@@ -0,0 +1,37 @@
+package org.springcorebankapp.index;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The balance of an account, as served by {@link AccountBalanceService}.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class AccountBalance {
+
+    /**
+     * Identifier of the account.
+     */
+    private final int accountId;
+
+    /**
+     * Identifier of the user owning the account.
+     */
+    private final int userId;
+
+    /**
+     * The balance of the account, in minor units.
+     */
+    private final long moneyAmount;
+
+    /**
+     * The version of the account the balance belongs to.
+     */
+    private final long version;
+}
@@ -0,0 +1,49 @@
+package org.springcorebankapp.index;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.security.auth.login.AccountNotFoundException;
+
+@Tag(name = "Account Balance Controller", description = "Balance reads served from the local balance index")
+@RestController
+@RequestMapping("/accounts")
+public class AccountBalanceController {
+    private final AccountBalanceService accountBalanceService;
+
+    @Autowired
+    public AccountBalanceController(AccountBalanceService accountBalanceService) {
+        this.accountBalanceService = accountBalanceService;
+    }
+
+    @Operation(
+            summary = "Get an account's balance",
+            description = "Returns the balance and version of an account, from the local balance index when enabled and "
+                    + "holding the account, otherwise from the account cache or database.",
+            tags = {"Account Balance Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Balance returned successfully"),
+            @ApiResponse(responseCode = "404", description = "Account not found"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping("/{accountId}/balance")
+    public ResponseEntity<AccountBalance> findBalance(
+            @Parameter(description = "Unique ID of the account", required = true)
+            @PathVariable("accountId") int accountId) {
+        try {
+            return ResponseEntity.ok(accountBalanceService.findBalance(accountId));
+        } catch (AccountNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+}
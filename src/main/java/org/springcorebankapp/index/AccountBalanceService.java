@@ -0,0 +1,46 @@
+package org.springcorebankapp.index;
+
+import org.springcorebankapp.account.Account;
+import org.springcorebankapp.account.AccountService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import javax.security.auth.login.AccountNotFoundException;
+
+/**
+ * Service serving account balances from the local {@link BalanceIndex} when possible.
+ * <p>
+ * A balance held by the index is returned without any cache or database round trip. On a miss the account
+ * is read through {@link AccountService#findAccountById(int)} and handed to the index, so the next read of
+ * the same account is served locally. Deliberately not transactional: a hit must not take a connection.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+public class AccountBalanceService {
+    private final ThreadLocal<IndexedBalance> holders = ThreadLocal.withInitial(IndexedBalance::new);
+
+    @Autowired
+    private BalanceIndex balanceIndex;
+    @Autowired
+    private AccountService accountService;
+
+    /**
+     * Finds the balance of an account.
+     *
+     * @param accountId the ID of the account
+     * @return the balance of the account
+     * @throws AccountNotFoundException if no account is found with the provided ID
+     */
+    public AccountBalance findBalance(int accountId) throws AccountNotFoundException {
+        IndexedBalance indexed = holders.get();
+        if (balanceIndex.read(accountId, indexed)) {
+            return new AccountBalance(accountId, indexed.getUserId(), indexed.getMoneyAmount(), indexed.getVersion());
+        }
+        Account account = accountService.findAccountById(accountId);
+        balanceIndex.update(account);
+        return new AccountBalance(accountId, account.getUserId(), account.getMoneyAmount(), account.getVersion());
+    }
+}
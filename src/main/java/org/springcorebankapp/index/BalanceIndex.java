@@ -0,0 +1,301 @@
+package org.springcorebankapp.index;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springcorebankapp.account.Account;
+import org.springcorebankapp.account.AccountRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.BitSet;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Local, off-heap index of account balances serving reads without Redis or database round trips.
+ * <p>
+ * Balances live in an {@link OffHeapBalanceTable} outside the Java heap, so millions of accounts add nothing
+ * to garbage collection, and reads are lock-free and allocate nothing. All changes go through one writer
+ * thread: balance changes are queued once their transaction commits, and an update is only stored if its
+ * account version is newer than the stored one, so updates queued out of order never regress a balance.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Loaded from the accounts at startup by ID range, in the background; reads miss until an account is
+ *     loaded or changed.</li>
+ *     <li>Optionally mapped to {@code balance-index.file}. After a clean shutdown the file is reused, so
+ *     balances are served right away while the background load catches up with changes made meanwhile and
+ *     removes closed accounts; after a crash the file is discarded.</li>
+ *     <li>Only sees the balance changes of this instance, which is why it is disabled by default and meant
+ *     for single-instance deployments.</li>
+ *     <li>Hit, miss and rejection counters and the number of indexed accounts as metrics.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class BalanceIndex implements MeterBinder {
+    private static final Runnable STOP = () -> {
+    };
+
+    private final Logger logger = LoggerFactory.getLogger(BalanceIndex.class);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    private volatile OffHeapBalanceTable table;
+    private volatile boolean closed;
+    private BlockingQueue<Runnable> updates;
+    private Thread writer;
+
+    /**
+     * Slots restored from the file and not confirmed by the startup load yet. Used by the writer thread only.
+     */
+    private BitSet unconfirmed;
+
+    @Autowired
+    private BalanceIndexProperties balanceIndexProperties;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Allocates or maps the table and starts the writer thread.
+     *
+     * @throws UncheckedIOException if the index file cannot be mapped
+     */
+    @PostConstruct
+    public void open() {
+        if (!balanceIndexProperties.isEnabled()) {
+            return;
+        }
+        OffHeapBalanceTable opened;
+        try {
+            opened = balanceIndexProperties.getFile().isEmpty()
+                    ? OffHeapBalanceTable.allocate(balanceIndexProperties.getCapacity())
+                    : OffHeapBalanceTable.map(Path.of(balanceIndexProperties.getFile()), balanceIndexProperties.getCapacity());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot map balance index " + balanceIndexProperties.getFile(), e);
+        }
+        unconfirmed = new BitSet();
+        for (int index = 0; opened.size() > 0 && index < opened.capacity(); index++) {
+            if (opened.accountIdAt(index) > 0) {
+                unconfirmed.set(index);
+            }
+        }
+        updates = new ArrayBlockingQueue<>(balanceIndexProperties.getQueueCapacity());
+        writer = new Thread(this::runWriter, "balance-index-writer");
+        writer.setDaemon(true);
+        writer.start();
+        table = opened;
+        logger.info("Opened balance index with {} of {} slots restored", opened.size(), opened.capacity());
+    }
+
+    /**
+     * Starts loading the balances of all accounts in the background once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startLoad() {
+        if (table == null) {
+            return;
+        }
+        Thread loader = new Thread(this::load, "balance-index-load");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    /**
+     * Reads the balance of an account. Never blocks and allocates nothing.
+     *
+     * @param accountId the ID of the account
+     * @param target    the holder receiving the balance
+     * @return {@code true} if the balance was read; {@code false} if the index is disabled or does not hold it
+     */
+    public boolean read(int accountId, IndexedBalance target) {
+        OffHeapBalanceTable current = table;
+        if (current != null && current.read(accountId, target)) {
+            hits.increment();
+            return true;
+        }
+        misses.increment();
+        return false;
+    }
+
+    /**
+     * Queues the committed state of an account. Call once the transaction changing it has committed.
+     *
+     * @param account the account
+     */
+    public void update(Account account) {
+        update(account.getId(), account.getUserId(), account.getMoneyAmount(), account.getVersion());
+    }
+
+    /**
+     * Queues the committed state of an account, ignored if the index holds a newer version.
+     *
+     * @param accountId   the ID of the account
+     * @param userId      the ID of the owning user
+     * @param moneyAmount the balance in minor units
+     * @param version     the version of the account
+     */
+    public void update(int accountId, int userId, long moneyAmount, long version) {
+        if (table != null) {
+            enqueue(() -> put(accountId, userId, moneyAmount, version));
+        }
+    }
+
+    /**
+     * Queues the removal of a closed account. Call once the transaction closing it has committed.
+     *
+     * @param accountId the ID of the account
+     */
+    public void remove(int accountId) {
+        if (table != null) {
+            enqueue(() -> table.remove(accountId));
+        }
+    }
+
+    /**
+     * Waits until the updates queued so far are applied.
+     *
+     * @throws InterruptedException if interrupted while waiting
+     */
+    public void awaitWrites() throws InterruptedException {
+        if (table == null || closed) {
+            return;
+        }
+        CountDownLatch applied = new CountDownLatch(1);
+        enqueue(applied::countDown);
+        applied.await();
+    }
+
+    /**
+     * Applies the queued updates, stops the writer thread and marks the index file as closed cleanly.
+     *
+     * @throws InterruptedException if interrupted while waiting for the writer thread
+     */
+    @PreDestroy
+    public void close() throws InterruptedException {
+        if (table == null || closed) {
+            return;
+        }
+        enqueue(STOP);
+        closed = true;
+        writer.join();
+        table.setClean(true);
+        logger.info("Closed balance index with {} accounts", table.size());
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("balance.index.size", this, index -> index.table != null ? index.table.size() : 0)
+                .description("Accounts held by the balance index")
+                .register(registry);
+        FunctionCounter.builder("balance.index.reads", hits, LongAdder::sum)
+                .description("Balance reads served by the index")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("balance.index.reads", misses, LongAdder::sum)
+                .description("Balance reads not served by the index")
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("balance.index.rejected", rejected, LongAdder::sum)
+                .description("New accounts not indexed because the index is full")
+                .register(registry);
+    }
+
+    private void put(int accountId, int userId, long moneyAmount, long version) {
+        int index = table.put(accountId, userId, moneyAmount, version);
+        if (index >= 0) {
+            unconfirmed.clear(index);
+        } else if (index == OffHeapBalanceTable.FULL) {
+            rejected.increment();
+        }
+    }
+
+    /**
+     * Loads every account by ID range, then removes the restored accounts that no longer exist.
+     */
+    private void load() {
+        Integer minId = accountRepository.findMinId();
+        Integer maxId = accountRepository.findMaxId();
+        long rangeSize = balanceIndexProperties.getSyncRangeSize();
+        for (long from = minId != null ? minId : 1; maxId != null && from <= maxId && !closed; from += rangeSize) {
+            jdbcTemplate.query("SELECT id, user_id, money_amount, version FROM accounts WHERE id BETWEEN ? AND ?",
+                    resultSet -> {
+                        update(resultSet.getInt("id"), resultSet.getInt("user_id"),
+                                resultSet.getLong("money_amount"), resultSet.getLong("version"));
+                    },
+                    from, Math.min(from + rangeSize - 1, maxId));
+        }
+        if (!closed) {
+            enqueue(() -> {
+                int removed = 0;
+                for (int index = unconfirmed.nextSetBit(0); index >= 0; index = unconfirmed.nextSetBit(index + 1)) {
+                    int accountId = table.accountIdAt(index);
+                    if (accountId > 0) {
+                        table.remove(accountId);
+                        removed++;
+                    }
+                }
+                unconfirmed.clear();
+                logger.info("Loaded balance index: {} accounts, {} closed accounts removed", table.size(), removed);
+            });
+        }
+    }
+
+    private void runWriter() {
+        while (true) {
+            Runnable update;
+            try {
+                update = updates.take();
+            } catch (InterruptedException e) {
+                continue;
+            }
+            if (update == STOP) {
+                return;
+            }
+            try {
+                update.run();
+            } catch (RuntimeException e) {
+                logger.error("Cannot apply balance index update", e);
+            }
+        }
+    }
+
+    private void enqueue(Runnable update) {
+        if (closed) {
+            return;
+        }
+        boolean interrupted = false;
+        while (true) {
+            try {
+                updates.put(update);
+                break;
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package org.springcorebankapp.index;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the off-heap balance index.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Enables the index, which only sees the balance changes of this instance.</li>
+ *     <li>Defines the number of slots, and so the off-heap memory used.</li>
+ *     <li>Defines the file the index is mapped to, to be reused at the next start.</li>
+ *     <li>Defines the number of updates waiting for the writer thread before producers block.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class BalanceIndexProperties {
+
+    /**
+     * Whether balances are served from the index, injected from {@code balance-index.enabled}.
+     */
+    private final boolean enabled;
+
+    /**
+     * The number of slots, a power of two, injected from {@code balance-index.capacity}.
+     */
+    private final int capacity;
+
+    /**
+     * The file the index is mapped to, injected from {@code balance-index.file};
+     * empty for anonymous memory rebuilt at every start.
+     */
+    private final String file;
+
+    /**
+     * The maximum number of queued updates, injected from {@code balance-index.queue-capacity}.
+     */
+    private final int queueCapacity;
+
+    /**
+     * The number of account IDs read per query when loading the index, injected from
+     * {@code balance-index.sync-range-size}.
+     */
+    private final int syncRangeSize;
+
+    /**
+     * Constructs a new {@code BalanceIndexProperties} instance.
+     *
+     * @param enabled       whether balances are served from the index
+     * @param capacity      the number of slots, a power of two
+     * @param file          the file the index is mapped to, or empty for anonymous memory
+     * @param queueCapacity the maximum number of queued updates
+     * @param syncRangeSize the number of account IDs read per query when loading the index
+     */
+    public BalanceIndexProperties(@Value("${balance-index.enabled}") boolean enabled,
+                                  @Value("${balance-index.capacity}") int capacity,
+                                  @Value("${balance-index.file}") String file,
+                                  @Value("${balance-index.queue-capacity}") int queueCapacity,
+                                  @Value("${balance-index.sync-range-size}") int syncRangeSize) {
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.file = file;
+        this.queueCapacity = queueCapacity;
+        this.syncRangeSize = syncRangeSize;
+    }
+
+    /**
+     * Returns whether balances are served from the index.
+     *
+     * @return {@code true} if the index is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the number of slots.
+     *
+     * @return the capacity
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the file the index is mapped to.
+     *
+     * @return the file path, or an empty string for anonymous memory
+     */
+    public String getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the maximum number of queued updates.
+     *
+     * @return the queue capacity
+     */
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    /**
+     * Returns the number of account IDs read per query when loading the index.
+     *
+     * @return the sync range size
+     */
+    public int getSyncRangeSize() {
+        return syncRangeSize;
+    }
+}
@@ -0,0 +1,45 @@
+package org.springcorebankapp.index;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Mutable holder of a balance read from the {@link BalanceIndex}.
+ * <p>
+ * A reader reuses one holder for many reads, so reading a balance allocates nothing.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+public class IndexedBalance {
+
+    /**
+     * Identifier of the account.
+     */
+    private int accountId;
+
+    /**
+     * Identifier of the user owning the account.
+     */
+    private int userId;
+
+    /**
+     * The balance of the account, in minor units.
+     */
+    private long moneyAmount;
+
+    /**
+     * The version of the account the balance belongs to.
+     */
+    private long version;
+
+    void set(int accountId, int userId, long moneyAmount, long version) {
+        this.accountId = accountId;
+        this.userId = userId;
+        this.moneyAmount = moneyAmount;
+        this.version = version;
+    }
+}
@@ -0,0 +1,146 @@
+package org.springcorebankapp.index;
+
+/**
+ * Open-addressing hash map from positive {@code int} keys to {@code int} values, without boxing.
+ * <p>
+ * Keys and values live in two parallel {@code int} arrays probed linearly, at most half full, so an entry
+ * takes between 16 and 32 bytes instead of the ~80 bytes of a {@code HashMap<Integer, Integer>} entry.
+ * Removal shifts the following entries back instead of leaving tombstones. Not thread-safe.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+final class IntIntMap {
+    private int[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    /**
+     * Creates an empty map sized for the given number of entries.
+     *
+     * @param expectedSize the number of entries the map should hold without growing
+     */
+    IntIntMap(int expectedSize) {
+        int capacity = 2;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Returns the value of a key, or {@code 0} if the map does not contain the key.
+     *
+     * @param key the key, positive
+     * @return the value, or {@code 0}
+     */
+    int get(int key) {
+        int index = key > 0 ? find(key) : -1;
+        return index >= 0 ? values[index] : 0;
+    }
+
+    /**
+     * Maps a key to a value, replacing its previous value.
+     *
+     * @param key   the key, positive
+     * @param value the value
+     */
+    void put(int key, int value) {
+        if (key <= 0) {
+            throw new IllegalArgumentException("Key must be positive: key = %s".formatted(key));
+        }
+        int index = find(key);
+        if (index >= 0) {
+            values[index] = value;
+            return;
+        }
+        index = -index - 1;
+        keys[index] = key;
+        values[index] = value;
+        if (++size * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * Removes a key.
+     *
+     * @param key the key
+     * @return the removed value, or {@code 0} if the map did not contain the key
+     */
+    int remove(int key) {
+        int gap = key > 0 ? find(key) : -1;
+        if (gap < 0) {
+            return 0;
+        }
+        int removed = values[gap];
+        for (int index = (gap + 1) & mask; keys[index] != 0; index = (index + 1) & mask) {
+            int home = home(keys[index]);
+            if (((index - home) & mask) >= ((index - gap) & mask)) {
+                keys[gap] = keys[index];
+                values[gap] = values[index];
+                gap = index;
+            }
+        }
+        keys[gap] = 0;
+        values[gap] = 0;
+        size--;
+        return removed;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes all entries and releases the arrays of a grown map.
+     */
+    void clear() {
+        allocate(2);
+    }
+
+    /**
+     * Returns the slot of a key, or {@code -(slot + 1)} of the empty slot where it would be inserted.
+     */
+    private int find(int key) {
+        int index = home(key);
+        while (true) {
+            int current = keys[index];
+            if (current == key) {
+                return index;
+            }
+            if (current == 0) {
+                return -index - 1;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private int home(int key) {
+        int hash = key * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        int[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != 0) {
+                int index = -find(oldKeys[i]) - 1;
+                keys[index] = oldKeys[i];
+                values[index] = oldValues[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        size = 0;
+    }
+}
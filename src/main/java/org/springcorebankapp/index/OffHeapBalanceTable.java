@@ -0,0 +1,363 @@
+package org.springcorebankapp.index;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Fixed-layout, open-addressing hash table of account balances in off-heap memory.
+ * <p>
+ * The table is a 64-byte header followed by {@code capacity} slots of 32 bytes:
+ * </p>
+ * <pre>
+ *  0  sequence (long)   even when stable, odd while the writer changes the slot
+ *  8  account ID (int)  0 when empty, negated once the account is removed
+ * 12  user ID (int)
+ * 16  balance (long)
+ * 24  version (long)
+ * </pre>
+ * <p>
+ * Keys are placed by linear probing and never move, so a reader probing for an account cannot skip it.
+ * Removed accounts keep their slot, negated, until the table is reopened: account IDs are never reused,
+ * so the marker also rejects late updates of a removed account. Inserts stop at three quarters of the
+ * capacity, which keeps probe sequences short.
+ * </p>
+ * <p>
+ * Each slot is a seqlock. A single writer thread makes the sequence odd, changes the slot and makes it even
+ * again; readers on any thread retry a slot whose sequence was odd or changed while they read it, and give
+ * up after {@link #MAX_READ_ATTEMPTS} attempts, reporting a miss. Reads therefore never block, never
+ * allocate and finish in a bounded number of steps. The memory is either anonymous or a memory-mapped file
+ * that survives restarts.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+class OffHeapBalanceTable {
+    static final int HEADER_SIZE = 64;
+    static final int SLOT_SIZE = 32;
+    static final int MAX_CAPACITY = 1 << 25;
+    static final int MAX_READ_ATTEMPTS = 64;
+    static final int REMOVED = -1;
+    static final int FULL = -2;
+
+    private static final long MAGIC = 0x42414c2d494e4458L;
+    private static final int LAYOUT_VERSION = 1;
+    private static final int MAGIC_OFFSET = 0;
+    private static final int LAYOUT_OFFSET = 8;
+    private static final int CAPACITY_OFFSET = 12;
+    private static final int CLEAN_OFFSET = 16;
+
+    private static final int SEQUENCE = 0;
+    private static final int ACCOUNT_ID = 8;
+    private static final int USER_ID = 12;
+    private static final int BALANCE = 16;
+    private static final int VERSION = 24;
+
+    private static final VarHandle LONGS = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final ByteBuffer buffer;
+    private final int capacity;
+    private final int mask;
+    private final int shift;
+    private final int maxOccupied;
+
+    /**
+     * Slots holding an account or a removal marker. Written by the writer thread only.
+     */
+    private int occupied;
+
+    /**
+     * Slots holding an account. Written by the writer thread only, read by metrics.
+     */
+    private volatile int live;
+
+    private OffHeapBalanceTable(ByteBuffer buffer, int capacity) {
+        this.buffer = buffer.order(ByteOrder.nativeOrder());
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.shift = 64 - Integer.numberOfTrailingZeros(capacity);
+        this.maxOccupied = capacity - capacity / 4;
+    }
+
+    /**
+     * Allocates an empty table in anonymous off-heap memory.
+     *
+     * @param capacity the number of slots, a power of two up to {@link #MAX_CAPACITY}
+     * @return the table
+     * @throws IllegalArgumentException if the capacity is invalid
+     */
+    static OffHeapBalanceTable allocate(int capacity) {
+        checkCapacity(capacity);
+        OffHeapBalanceTable table = new OffHeapBalanceTable(ByteBuffer.allocateDirect(size(capacity)), capacity);
+        table.writeHeader();
+        return table;
+    }
+
+    /**
+     * Maps a table file, creating it if needed.
+     * <p>
+     * The accounts of a file closed cleanly are kept and rehashed into the new layout, which also drops the
+     * removal markers and applies a changed capacity. A file that was not closed cleanly may lack updates
+     * and is cleared, as is a file of another layout.
+     * </p>
+     *
+     * @param file     the table file
+     * @param capacity the number of slots, a power of two up to {@link #MAX_CAPACITY}
+     * @return the mapped table
+     * @throws IOException              if the file cannot be created or mapped
+     * @throws IllegalArgumentException if the capacity is invalid
+     */
+    static OffHeapBalanceTable map(Path file, int capacity) throws IOException {
+        checkCapacity(capacity);
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            OffHeapBalanceTable previous = mapPrevious(channel);
+            long[] entries = previous != null ? previous.liveEntries() : new long[0];
+            MappedByteBuffer mapping = channel.map(FileChannel.MapMode.READ_WRITE, 0, size(capacity));
+            byte[] zeros = new byte[SLOT_SIZE * 1024];
+            for (int offset = 0; offset < size(capacity); offset += zeros.length) {
+                mapping.put(offset, zeros, 0, Math.min(zeros.length, size(capacity) - offset));
+            }
+            OffHeapBalanceTable table = new OffHeapBalanceTable(mapping, capacity);
+            for (int i = 0; i < entries.length; i += 3) {
+                table.put((int) (entries[i] >>> 32), (int) entries[i], entries[i + 1], entries[i + 2]);
+            }
+            table.writeHeader();
+            mapping.force();
+            return table;
+        }
+    }
+
+    /**
+     * Reads the balance of an account. May be called from any thread.
+     *
+     * @param accountId the ID of the account
+     * @param target    the holder receiving the balance
+     * @return {@code true} if the account was found and read consistently
+     */
+    boolean read(int accountId, IndexedBalance target) {
+        int index = home(accountId);
+        for (int probe = 0; probe < capacity; probe++) {
+            int slot = slotOffset(index);
+            int attempt = 0;
+            while (true) {
+                long sequence = (long) LONGS.getAcquire(buffer, slot + SEQUENCE);
+                if ((sequence & 1) == 0) {
+                    int key = buffer.getInt(slot + ACCOUNT_ID);
+                    int userId = buffer.getInt(slot + USER_ID);
+                    long balance = buffer.getLong(slot + BALANCE);
+                    long version = buffer.getLong(slot + VERSION);
+                    VarHandle.loadLoadFence();
+                    if ((long) LONGS.getOpaque(buffer, slot + SEQUENCE) == sequence) {
+                        if (key == 0) {
+                            return false;
+                        }
+                        if (key == accountId) {
+                            target.set(accountId, userId, balance, version);
+                            return true;
+                        }
+                        break;
+                    }
+                }
+                if (++attempt == MAX_READ_ATTEMPTS) {
+                    return false;
+                }
+                Thread.onSpinWait();
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    /**
+     * Stores the balance of an account unless a newer version is stored or the account was removed.
+     * Must only be called from the writer thread.
+     *
+     * @param accountId the ID of the account, positive
+     * @param userId    the ID of the owning user
+     * @param balance   the balance in minor units
+     * @param version   the version of the account the balance belongs to
+     * @return the slot of the account, or {@link #REMOVED} if the account was removed, or {@link #FULL} if
+     *         the account is new and the table is full
+     */
+    int put(int accountId, int userId, long balance, long version) {
+        int index = find(accountId);
+        if (index >= 0) {
+            int slot = slotOffset(index);
+            int key = buffer.getInt(slot + ACCOUNT_ID);
+            if (key != accountId) {
+                return REMOVED;
+            }
+            if (version > buffer.getLong(slot + VERSION)) {
+                write(slot, accountId, userId, balance, version);
+            }
+            return index;
+        }
+        if (occupied >= maxOccupied) {
+            return FULL;
+        }
+        index = -index - 1;
+        write(slotOffset(index), accountId, userId, balance, version);
+        occupied++;
+        live++;
+        return index;
+    }
+
+    /**
+     * Marks an account as removed, so it is no longer found and later updates of it are ignored.
+     * Must only be called from the writer thread.
+     *
+     * @param accountId the ID of the account, positive
+     */
+    void remove(int accountId) {
+        int index = find(accountId);
+        if (index >= 0) {
+            int slot = slotOffset(index);
+            if (buffer.getInt(slot + ACCOUNT_ID) == accountId) {
+                write(slot, -accountId, 0, 0, 0);
+                live--;
+            }
+            return;
+        }
+        if (occupied < maxOccupied) {
+            write(slotOffset(-index - 1), -accountId, 0, 0, 0);
+            occupied++;
+        }
+    }
+
+    /**
+     * Returns the account stored in a slot, or {@code 0} if the slot holds none.
+     *
+     * @param index the slot index
+     * @return the account ID
+     */
+    int accountIdAt(int index) {
+        return Math.max(buffer.getInt(slotOffset(index) + ACCOUNT_ID), 0);
+    }
+
+    /**
+     * Marks the table as closed cleanly or in use. Must only be called from the writer thread.
+     *
+     * @param clean whether every update has been applied and the table is about to be closed
+     */
+    void setClean(boolean clean) {
+        buffer.putInt(CLEAN_OFFSET, clean ? 1 : 0);
+        if (buffer instanceof MappedByteBuffer mapping) {
+            mapping.force();
+        }
+    }
+
+    int capacity() {
+        return capacity;
+    }
+
+    int size() {
+        return live;
+    }
+
+    /**
+     * Finds the slot of an account or its removal marker. Terminates since a quarter of the slots stay empty.
+     *
+     * @return the slot index, or {@code -(index + 1)} of the empty slot ending the probe sequence
+     */
+    private int find(int accountId) {
+        int index = home(accountId);
+        while (true) {
+            int key = buffer.getInt(slotOffset(index) + ACCOUNT_ID);
+            if (key == accountId || key == -accountId) {
+                return index;
+            }
+            if (key == 0) {
+                return -index - 1;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    private void write(int slot, int key, int userId, long balance, long version) {
+        long sequence = (long) LONGS.get(buffer, slot + SEQUENCE);
+        LONGS.setOpaque(buffer, slot + SEQUENCE, sequence + 1);
+        VarHandle.storeStoreFence();
+        buffer.putInt(slot + ACCOUNT_ID, key);
+        buffer.putInt(slot + USER_ID, userId);
+        buffer.putLong(slot + BALANCE, balance);
+        buffer.putLong(slot + VERSION, version);
+        LONGS.setRelease(buffer, slot + SEQUENCE, sequence + 2);
+    }
+
+    /**
+     * Copies the accounts to the heap, three longs each: account and user ID, balance, version.
+     */
+    private long[] liveEntries() {
+        int count = 0;
+        for (int index = 0; index < capacity; index++) {
+            if (buffer.getInt(slotOffset(index) + ACCOUNT_ID) > 0) {
+                count++;
+            }
+        }
+        long[] entries = new long[count * 3];
+        int i = 0;
+        for (int index = 0; index < capacity; index++) {
+            int slot = slotOffset(index);
+            int key = buffer.getInt(slot + ACCOUNT_ID);
+            if (key > 0) {
+                entries[i++] = (long) key << 32 | (buffer.getInt(slot + USER_ID) & 0xFFFFFFFFL);
+                entries[i++] = buffer.getLong(slot + BALANCE);
+                entries[i++] = buffer.getLong(slot + VERSION);
+            }
+        }
+        return entries;
+    }
+
+    private void writeHeader() {
+        buffer.putLong(MAGIC_OFFSET, MAGIC);
+        buffer.putInt(LAYOUT_OFFSET, LAYOUT_VERSION);
+        buffer.putInt(CAPACITY_OFFSET, capacity);
+        buffer.putInt(CLEAN_OFFSET, 0);
+    }
+
+    private int home(int accountId) {
+        return (int) ((accountId * 0x9E3779B97F4A7C15L) >>> shift);
+    }
+
+    private static int slotOffset(int index) {
+        return HEADER_SIZE + index * SLOT_SIZE;
+    }
+
+    private static int size(int capacity) {
+        return HEADER_SIZE + capacity * SLOT_SIZE;
+    }
+
+    private static OffHeapBalanceTable mapPrevious(FileChannel channel) throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            return null;
+        }
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE).order(ByteOrder.nativeOrder());
+        channel.read(header, 0);
+        int capacity = header.getInt(CAPACITY_OFFSET);
+        if (header.getLong(MAGIC_OFFSET) != MAGIC || header.getInt(LAYOUT_OFFSET) != LAYOUT_VERSION
+                || header.getInt(CLEAN_OFFSET) != 1 || capacity <= 0 || capacity > MAX_CAPACITY
+                || Integer.bitCount(capacity) != 1 || channel.size() < size(capacity)) {
+            return null;
+        }
+        return new OffHeapBalanceTable(channel.map(FileChannel.MapMode.READ_ONLY, 0, size(capacity)), capacity);
+    }
+
+    private static void checkCapacity(int capacity) {
+        if (capacity < 2 || capacity > MAX_CAPACITY || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException(
+                    "Capacity must be a power of two between 2 and %s: capacity = %s".formatted(MAX_CAPACITY, capacity));
+        }
+    }
+}
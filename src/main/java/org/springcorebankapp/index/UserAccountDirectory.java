@@ -0,0 +1,254 @@
+package org.springcorebankapp.index;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springcorebankapp.account.AccountRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * In-memory directory of which user owns which accounts, built on primitive {@code int} maps and arrays.
+ * <p>
+ * Owners are held in an {@link IntIntMap} and each user's account IDs in a sorted {@code int[]}, so an
+ * account takes a few bytes instead of a cached {@code Account} entity with boxed fields, and lookups
+ * never box. Entries are loaded from the database on a miss and kept current by account creation and
+ * closure on this instance. A user's accounts are resolved to IDs here and the accounts themselves are
+ * cached by ID, so no per-user list of entities is cached.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>The owner of an account never changes, so owner lookups stay correct across instances; an owner
+ *     may outlive its closed account, which callers detect once they lock the account.</li>
+ *     <li>Account lists of users whose accounts another instance changed may be stale until they expire
+ *     after {@code account-directory.list-ttl-millis}; they are not a replacement for locking the
+ *     user's accounts.</li>
+ *     <li>Bounded by {@code account-directory.max-accounts} and {@code account-directory.max-users}; lookups
+ *     beyond the bounds go to the database.</li>
+ *     <li>Hit and miss counters and the number of entries as metrics.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class UserAccountDirectory implements MeterBinder {
+    private final StampedLock lock = new StampedLock();
+    private final IntIntMap owners = new IntIntMap(1024);
+    private final IntIntMap userSlots = new IntIntMap(1024);
+    private int[][] accountLists = new int[1024][];
+    private long[] listLoadedAt = new long[1024];
+    private int userCount;
+
+    /**
+     * Number of account creations and closures applied, used to drop lists loaded while one happened.
+     */
+    private long changes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private UserAccountDirectoryProperties userAccountDirectoryProperties;
+
+    /**
+     * Returns the ID of the user owning an account.
+     *
+     * @param accountId the ID of the account
+     * @return the ID of the owning user, or {@code 0} if no account is found with the provided ID
+     */
+    public int ownerOf(int accountId) {
+        long stamp = lock.readLock();
+        int owner;
+        try {
+            owner = owners.get(accountId);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        if (owner != 0) {
+            hits.increment();
+            return owner;
+        }
+        misses.increment();
+        Optional<Integer> userId = accountRepository.findUserIdById(accountId);
+        if (userId.isEmpty()) {
+            return 0;
+        }
+        stamp = lock.writeLock();
+        try {
+            if (owners.size() < userAccountDirectoryProperties.getMaxAccounts()) {
+                owners.put(accountId, userId.get());
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return userId.get();
+    }
+
+    /**
+     * Returns the IDs of a user's accounts in ascending order.
+     *
+     * @param userId the ID of the user
+     * @return the account IDs, empty if the user has none or does not exist
+     */
+    public int[] accountsOf(int userId) {
+        long stamp = lock.readLock();
+        int[] accountIds;
+        long changesBefore;
+        try {
+            accountIds = accountList(userId);
+            changesBefore = changes;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        if (accountIds != null) {
+            hits.increment();
+            return accountIds.clone();
+        }
+        misses.increment();
+        List<Integer> loaded = accountRepository.findIdsByUserId(userId);
+        if (loaded.isEmpty()) {
+            return new int[0];
+        }
+        accountIds = new int[loaded.size()];
+        for (int i = 0; i < accountIds.length; i++) {
+            accountIds[i] = loaded.get(i);
+        }
+        stamp = lock.writeLock();
+        try {
+            if (changes == changesBefore) {
+                setAccountList(userId, accountIds, true);
+                for (int accountId : accountIds) {
+                    putOwner(accountId, userId);
+                }
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return accountIds.clone();
+    }
+
+    /**
+     * Records a new account. Call once the transaction creating it has committed.
+     *
+     * @param userId    the ID of the owning user
+     * @param accountId the ID of the account
+     */
+    public void accountCreated(int userId, int accountId) {
+        long stamp = lock.writeLock();
+        try {
+            putOwner(accountId, userId);
+            int[] accountIds = accountList(userId);
+            int position = accountIds != null ? Arrays.binarySearch(accountIds, accountId) : 0;
+            if (position < 0) {
+                int index = -position - 1;
+                int[] updated = new int[accountIds.length + 1];
+                System.arraycopy(accountIds, 0, updated, 0, index);
+                updated[index] = accountId;
+                System.arraycopy(accountIds, index, updated, index + 1, accountIds.length - index);
+                setAccountList(userId, updated, false);
+            }
+            changes++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Forgets a closed account. Call once the transaction closing it has committed.
+     *
+     * @param userId    the ID of the owning user
+     * @param accountId the ID of the account
+     */
+    public void accountClosed(int userId, int accountId) {
+        long stamp = lock.writeLock();
+        try {
+            owners.remove(accountId);
+            int[] accountIds = accountList(userId);
+            int index = accountIds != null ? Arrays.binarySearch(accountIds, accountId) : -1;
+            if (index >= 0) {
+                int[] updated = new int[accountIds.length - 1];
+                System.arraycopy(accountIds, 0, updated, 0, index);
+                System.arraycopy(accountIds, index + 1, updated, index, updated.length - index);
+                setAccountList(userId, updated, false);
+            }
+            changes++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("account.directory.accounts", this, directory -> directory.size(directory.owners))
+                .description("Account owners held by the user account directory")
+                .register(registry);
+        Gauge.builder("account.directory.users", this, directory -> directory.size(directory.userSlots))
+                .description("Users whose account lists are held by the user account directory")
+                .register(registry);
+        FunctionCounter.builder("account.directory.lookups", hits, LongAdder::sum)
+                .description("Directory lookups served from memory")
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("account.directory.lookups", misses, LongAdder::sum)
+                .description("Directory lookups read from the database")
+                .tag("result", "miss")
+                .register(registry);
+    }
+
+    private void putOwner(int accountId, int userId) {
+        if (owners.get(accountId) != 0 || owners.size() < userAccountDirectoryProperties.getMaxAccounts()) {
+            owners.put(accountId, userId);
+        }
+    }
+
+    /**
+     * Returns the held account list of a user, or {@code null} if none is held or it has expired.
+     */
+    private int[] accountList(int userId) {
+        int slot = userSlots.get(userId);
+        if (slot == 0 || System.currentTimeMillis() - listLoadedAt[slot - 1]
+                >= userAccountDirectoryProperties.getListTtlMillis()) {
+            return null;
+        }
+        return accountLists[slot - 1];
+    }
+
+    private void setAccountList(int userId, int[] accountIds, boolean loaded) {
+        int slot = userSlots.get(userId);
+        if (slot == 0) {
+            if (userCount >= userAccountDirectoryProperties.getMaxUsers()) {
+                return;
+            }
+            if (userCount == accountLists.length) {
+                accountLists = Arrays.copyOf(accountLists, userCount * 2);
+                listLoadedAt = Arrays.copyOf(listLoadedAt, userCount * 2);
+            }
+            slot = ++userCount;
+            userSlots.put(userId, slot);
+        }
+        accountLists[slot - 1] = accountIds;
+        if (loaded) {
+            listLoadedAt[slot - 1] = System.currentTimeMillis();
+        }
+    }
+
+    private double size(IntIntMap map) {
+        long stamp = lock.readLock();
+        try {
+            return map.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+}
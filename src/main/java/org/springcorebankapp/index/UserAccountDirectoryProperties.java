@@ -0,0 +1,82 @@
+package org.springcorebankapp.index;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the {@link UserAccountDirectory}.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Bounds the number of account owners held, and so the memory used.</li>
+ *     <li>Bounds the number of users whose account lists are held, and how long they are held.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class UserAccountDirectoryProperties {
+
+    /**
+     * The maximum number of account owners held, injected from {@code account-directory.max-accounts}.
+     */
+    private final int maxAccounts;
+
+    /**
+     * The maximum number of users whose account lists are held, injected from
+     * {@code account-directory.max-users}.
+     */
+    private final int maxUsers;
+
+    /**
+     * How long a user's account list is held before it is read again, injected from
+     * {@code account-directory.list-ttl-millis}.
+     */
+    private final long listTtlMillis;
+
+    /**
+     * Constructs a new {@code UserAccountDirectoryProperties} instance.
+     *
+     * @param maxAccounts   the maximum number of account owners held
+     * @param maxUsers      the maximum number of users whose account lists are held
+     * @param listTtlMillis how long a user's account list is held before it is read again, in milliseconds
+     */
+    public UserAccountDirectoryProperties(@Value("${account-directory.max-accounts}") int maxAccounts,
+                                          @Value("${account-directory.max-users}") int maxUsers,
+                                          @Value("${account-directory.list-ttl-millis}") long listTtlMillis) {
+        this.maxAccounts = maxAccounts;
+        this.maxUsers = maxUsers;
+        this.listTtlMillis = listTtlMillis;
+    }
+
+    /**
+     * Returns the maximum number of account owners held.
+     *
+     * @return the maximum number of accounts
+     */
+    public int getMaxAccounts() {
+        return maxAccounts;
+    }
+
+    /**
+     * Returns the maximum number of users whose account lists are held.
+     *
+     * @return the maximum number of users
+     */
+    public int getMaxUsers() {
+        return maxUsers;
+    }
+
+    /**
+     * Returns how long a user's account list is held before it is read again.
+     *
+     * @return the list time to live in milliseconds
+     */
+    public long getListTtlMillis() {
+        return listTtlMillis;
+    }
+}
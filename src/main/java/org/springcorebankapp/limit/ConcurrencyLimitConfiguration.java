@@ -0,0 +1,50 @@
+package org.springcorebankapp.limit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Configuration class registering the {@link ConcurrencyLimitFilter} in front of the account and user endpoints.
+ * <p>
+ * Disabled with {@code concurrency-limit.enabled=false}. Actuator and diagnostic endpoints are not limited,
+ * so the application stays observable while it sheds load.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+@ConditionalOnProperty(name = "concurrency-limit.enabled", havingValue = "true")
+public class ConcurrencyLimitConfiguration {
+
+    /**
+     * Configures the filter with its write and read limiters. As a {@code MeterBinder} bean it also publishes
+     * the limiter metrics.
+     *
+     * @param concurrencyLimitProperties the concurrency limit configuration properties
+     * @return the concurrency limit filter
+     */
+    @Bean
+    public ConcurrencyLimitFilter concurrencyLimitFilter(ConcurrencyLimitProperties concurrencyLimitProperties) {
+        return new ConcurrencyLimitFilter(concurrencyLimitProperties.newWriteLimiter(),
+                concurrencyLimitProperties.newReadLimiter(), concurrencyLimitProperties.getRetryAfterSeconds());
+    }
+
+    /**
+     * Registers the filter first in the chain, for the account and user endpoints only.
+     *
+     * @param concurrencyLimitFilter the concurrency limit filter
+     * @return the filter registration
+     */
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilterRegistration(
+            ConcurrencyLimitFilter concurrencyLimitFilter) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(concurrencyLimitFilter);
+        registration.addUrlPatterns("/accounts/*", "/users/*");
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registration;
+    }
+}
@@ -0,0 +1,115 @@
+package org.springcorebankapp.limit;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Servlet filter shedding requests beyond the adaptive concurrency limits.
+ * <p>
+ * Mutation requests and read requests ({@code GET}, {@code HEAD}) pass separate
+ * {@link GradientConcurrencyLimiter}s, so a backlog of slow writes does not starve cheap, mostly cached reads.
+ * A request over its limit is answered at once with {@code 503 Service Unavailable} and a {@code Retry-After}
+ * header, before it occupies a database connection.
+ * </p>
+ * <p>
+ * Controllers answer most failures themselves, so a request is counted as failed, cutting the limit, when it
+ * throws or completes with a {@code 5xx} status such as a {@code 503} or {@code 504} from a timed out query.
+ * Rejected requests, such as a withdrawal exceeding the balance, are answered with a {@code 4xx} status and
+ * leave the limit alone.
+ * </p>
+ *
+ * <h2>Metrics:</h2>
+ * <ul>
+ *     <li>{@code concurrency.limit}: the current limit, tagged {@code limiter=write|read}.</li>
+ *     <li>{@code concurrency.in-flight}: the admitted requests not completed yet.</li>
+ *     <li>{@code concurrency.rejected}: the requests shed since startup.</li>
+ * </ul>
+ *
+ * @see ConcurrencyLimitConfiguration
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter implements MeterBinder {
+    private final GradientConcurrencyLimiter writeLimiter;
+    private final GradientConcurrencyLimiter readLimiter;
+    private final String retryAfterSeconds;
+
+    /**
+     * Constructs a new {@code ConcurrencyLimitFilter}.
+     *
+     * @param writeLimiter      the limiter for mutation requests
+     * @param readLimiter       the limiter for read requests
+     * @param retryAfterSeconds the {@code Retry-After} hint sent with shed requests, in seconds
+     */
+    public ConcurrencyLimitFilter(GradientConcurrencyLimiter writeLimiter, GradientConcurrencyLimiter readLimiter,
+                                  int retryAfterSeconds) {
+        this.writeLimiter = writeLimiter;
+        this.readLimiter = readLimiter;
+        this.retryAfterSeconds = Integer.toString(retryAfterSeconds);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        GradientConcurrencyLimiter limiter = isRead(request) ? readLimiter : writeLimiter;
+        if (!limiter.tryAcquire()) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write("Server is overloaded, retry later");
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        boolean completed = false;
+        try {
+            filterChain.doFilter(request, response);
+            completed = true;
+        } finally {
+            if (completed && response.getStatus() < HttpStatus.INTERNAL_SERVER_ERROR.value()) {
+                limiter.onSuccess(System.nanoTime() - startedAt);
+            } else {
+                limiter.onDropped();
+            }
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "write", writeLimiter);
+        bind(registry, "read", readLimiter);
+    }
+
+    private static boolean isRead(HttpServletRequest request) {
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod());
+    }
+
+    private static void bind(MeterRegistry registry, String name, GradientConcurrencyLimiter limiter) {
+        Gauge.builder("concurrency.limit", limiter, GradientConcurrencyLimiter::getLimit)
+                .description("Requests admitted concurrently")
+                .tag("limiter", name)
+                .register(registry);
+        Gauge.builder("concurrency.in-flight", limiter, GradientConcurrencyLimiter::getInFlight)
+                .description("Admitted requests not completed yet")
+                .tag("limiter", name)
+                .register(registry);
+        FunctionCounter.builder("concurrency.rejected", limiter, GradientConcurrencyLimiter::getRejected)
+                .description("Requests shed with 503 Service Unavailable")
+                .tag("limiter", name)
+                .register(registry);
+    }
+}
@@ -0,0 +1,126 @@
+package org.springcorebankapp.limit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for adaptive concurrency limiting.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Defines the initial, minimum and maximum limits of the write and read limiters.</li>
+ *     <li>Defines how the limit reacts to latency and failures.</li>
+ *     <li>Defines the {@code Retry-After} hint sent with shed requests.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class ConcurrencyLimitProperties {
+
+    /**
+     * The initial, minimum and maximum limits of the write limiter,
+     * injected from {@code concurrency-limit.write.*}.
+     */
+    private final int writeInitialLimit;
+    private final int writeMinLimit;
+    private final int writeMaxLimit;
+
+    /**
+     * The initial, minimum and maximum limits of the read limiter,
+     * injected from {@code concurrency-limit.read.*}.
+     */
+    private final int readInitialLimit;
+    private final int readMinLimit;
+    private final int readMaxLimit;
+
+    /**
+     * How much slower than the long-term average a request may be before the limit shrinks,
+     * injected from {@code concurrency-limit.rtt-tolerance}.
+     */
+    private final double rttTolerance;
+
+    /**
+     * The weight of each new limit estimate, injected from {@code concurrency-limit.smoothing}.
+     */
+    private final double smoothing;
+
+    /**
+     * The factor applied to the limit when a request fails, injected from {@code concurrency-limit.backoff-ratio}.
+     */
+    private final double backoffRatio;
+
+    /**
+     * The {@code Retry-After} hint sent with shed requests, injected from {@code concurrency-limit.retry-after-seconds}.
+     */
+    private final int retryAfterSeconds;
+
+    /**
+     * Constructs a new {@code ConcurrencyLimitProperties} instance.
+     *
+     * @param writeInitialLimit the initial limit of the write limiter
+     * @param writeMinLimit     the lowest limit of the write limiter
+     * @param writeMaxLimit     the highest limit of the write limiter
+     * @param readInitialLimit  the initial limit of the read limiter
+     * @param readMinLimit      the lowest limit of the read limiter
+     * @param readMaxLimit      the highest limit of the read limiter
+     * @param rttTolerance      how much slower than the long-term average a request may be before the limit shrinks
+     * @param smoothing         the weight of each new limit estimate
+     * @param backoffRatio      the factor applied to the limit when a request fails
+     * @param retryAfterSeconds the {@code Retry-After} hint sent with shed requests, in seconds
+     */
+    public ConcurrencyLimitProperties(@Value("${concurrency-limit.write.initial-limit}") int writeInitialLimit,
+                                      @Value("${concurrency-limit.write.min-limit}") int writeMinLimit,
+                                      @Value("${concurrency-limit.write.max-limit}") int writeMaxLimit,
+                                      @Value("${concurrency-limit.read.initial-limit}") int readInitialLimit,
+                                      @Value("${concurrency-limit.read.min-limit}") int readMinLimit,
+                                      @Value("${concurrency-limit.read.max-limit}") int readMaxLimit,
+                                      @Value("${concurrency-limit.rtt-tolerance}") double rttTolerance,
+                                      @Value("${concurrency-limit.smoothing}") double smoothing,
+                                      @Value("${concurrency-limit.backoff-ratio}") double backoffRatio,
+                                      @Value("${concurrency-limit.retry-after-seconds}") int retryAfterSeconds) {
+        this.writeInitialLimit = writeInitialLimit;
+        this.writeMinLimit = writeMinLimit;
+        this.writeMaxLimit = writeMaxLimit;
+        this.readInitialLimit = readInitialLimit;
+        this.readMinLimit = readMinLimit;
+        this.readMaxLimit = readMaxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.backoffRatio = backoffRatio;
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Creates the limiter guarding mutation endpoints.
+     *
+     * @return a new write limiter
+     */
+    public GradientConcurrencyLimiter newWriteLimiter() {
+        return new GradientConcurrencyLimiter(writeInitialLimit, writeMinLimit, writeMaxLimit,
+                rttTolerance, smoothing, backoffRatio);
+    }
+
+    /**
+     * Creates the limiter guarding read endpoints.
+     *
+     * @return a new read limiter
+     */
+    public GradientConcurrencyLimiter newReadLimiter() {
+        return new GradientConcurrencyLimiter(readInitialLimit, readMinLimit, readMaxLimit,
+                rttTolerance, smoothing, backoffRatio);
+    }
+
+    /**
+     * Returns the {@code Retry-After} hint sent with shed requests.
+     *
+     * @return the delay in seconds
+     */
+    public int getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,180 @@
+package org.springcorebankapp.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Adaptive limit on the number of requests processed concurrently.
+ * <p>
+ * Latency samples are averaged over windows of about one limit's worth of requests. The limit follows the
+ * gradient between a long-term average latency and each window's average: while latency stays within
+ * {@code rttTolerance} of the long-term average the limit grows by about its square root, and as latency rises (e.g. Postgres slows down and requests queue for connections) it shrinks
+ * proportionally. A request failing with an exception cuts the limit multiplicatively. Requests beyond the
+ * limit are rejected immediately, so the requests that are admitted keep completing at normal latency
+ * instead of all of them timing out together.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Lock-free admission; limit updates are serialized per limiter.</li>
+ *     <li>Does not grow the limit while less than half of it is in use.</li>
+ *     <li>Bounded by a minimum and a maximum limit.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class GradientConcurrencyLimiter {
+
+    /**
+     * The number of windows the long-term latency average spans.
+     */
+    private static final int LONG_WINDOW = 600;
+
+    /**
+     * The fewest samples a window averages.
+     */
+    private static final int MIN_WINDOW_SAMPLES = 10;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double rttTolerance;
+    private final double smoothing;
+    private final double backoffRatio;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private volatile double limit;
+    private double longRtt;
+    private long windowRttSum;
+    private int windowSamples;
+    private int windowMaxInFlight;
+
+    /**
+     * Constructs a new {@code GradientConcurrencyLimiter}.
+     *
+     * @param initialLimit the limit before any latency has been measured
+     * @param minLimit     the lowest limit
+     * @param maxLimit     the highest limit
+     * @param rttTolerance how much slower than the long-term average a request may be before the limit shrinks
+     * @param smoothing    the weight of each new limit estimate, between {@code 0} and {@code 1}
+     * @param backoffRatio the factor applied to the limit when a request fails
+     * @throws IllegalArgumentException if the limits or factors are out of range
+     */
+    public GradientConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double rttTolerance,
+                                      double smoothing, double backoffRatio) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 1 <= min <= initial <= max");
+        }
+        if (rttTolerance < 1 || smoothing <= 0 || smoothing > 1 || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException(
+                    "rttTolerance must be >= 1, smoothing in (0, 1] and backoffRatio in (0, 1)");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.rttTolerance = rttTolerance;
+        this.smoothing = smoothing;
+        this.backoffRatio = backoffRatio;
+        this.limit = initialLimit;
+    }
+
+    /**
+     * Admits a request if fewer requests than the limit are in flight.
+     * <p>
+     * An admitted request must be completed with exactly one of {@link #onSuccess(long)} or {@link #onDropped()}.
+     * </p>
+     *
+     * @return {@code true} if the request is admitted, {@code false} if it must be shed
+     */
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Completes an admitted request and adjusts the limit to its latency.
+     *
+     * @param rttNanos the time the request took, in nanoseconds
+     */
+    public void onSuccess(long rttNanos) {
+        int inFlightBefore = inFlight.getAndDecrement();
+        if (rttNanos > 0) {
+            update(rttNanos, inFlightBefore);
+        }
+    }
+
+    /**
+     * Completes an admitted request that failed, cutting the limit multiplicatively.
+     */
+    public synchronized void onDropped() {
+        inFlight.decrementAndGet();
+        limit = Math.max(minLimit, limit * backoffRatio);
+    }
+
+    /**
+     * Returns the current limit.
+     *
+     * @return the number of requests admitted concurrently
+     */
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    /**
+     * Returns the number of admitted requests not completed yet.
+     *
+     * @return the number of requests in flight
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Returns the number of requests rejected since startup.
+     *
+     * @return the number of rejected requests
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    private synchronized void update(long rtt, int inFlightBefore) {
+        windowRttSum += rtt;
+        windowSamples++;
+        windowMaxInFlight = Math.max(windowMaxInFlight, inFlightBefore);
+        if (windowSamples < Math.max(MIN_WINDOW_SAMPLES, (int) limit)) {
+            return;
+        }
+        double shortRtt = (double) windowRttSum / windowSamples;
+        int maxInFlight = windowMaxInFlight;
+        windowRttSum = 0;
+        windowSamples = 0;
+        windowMaxInFlight = 0;
+
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+        } else {
+            longRtt += (shortRtt - longRtt) / LONG_WINDOW;
+        }
+        // Let the long-term average catch up quickly once latency has recovered from a slowdown.
+        if (longRtt > 2.0 * shortRtt) {
+            longRtt *= 0.95;
+        }
+
+        double gradient = Math.max(0.5, Math.min(1.0, rttTolerance * longRtt / shortRtt));
+        double estimate = limit * gradient + Math.sqrt(limit);
+        double newLimit = limit * (1 - smoothing) + estimate * smoothing;
+        if (newLimit > limit && maxInFlight < limit / 2) {
+            return;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, newLimit));
+    }
+}
@@ -4,6 +4,7 @@ import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 /**
@@ -21,12 +22,18 @@ import org.springframework.stereotype.Component;
  *   <li>INFO for successful method executions with results</li>
  *   <li>ERROR for methods that raise exceptions</li>
  * </ul>
+ * </p>
+ * <p>
+ * The aspect can be switched off with {@code call-logging.enabled=false}, as in the {@code fast-startup}
+ * profile, which also spares creating a logging proxy for every bean of these packages at startup.
+ * </p>
  *
  * @author Mukhammed Lolo
  * @version 1.0.0
  */
 @Aspect
 @Component
+@ConditionalOnProperty(name = "call-logging.enabled", havingValue = "true", matchIfMissing = true)
 public class AspectService {
     private static final Logger logger = LoggerFactory.getLogger(AspectService.class);
 
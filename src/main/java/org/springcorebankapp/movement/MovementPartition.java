@@ -0,0 +1,34 @@
+package org.springcorebankapp.movement;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.YearMonth;
+
+/**
+ * Summary of a monthly partition of the movements table.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class MovementPartition {
+
+    /**
+     * The name of the partition table, e.g. {@code account_movements_2024_01}.
+     */
+    private final String name;
+
+    /**
+     * The month of the movements the partition holds, in UTC.
+     */
+    private final YearMonth month;
+
+    /**
+     * The number of rows estimated by the last analyze, or {@code -1} if the partition was never analyzed.
+     */
+    private final long estimatedRows;
+}
@@ -0,0 +1,74 @@
+package org.springcorebankapp.movement;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springcorebankapp.exception.MovementPartitionNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.YearMonth;
+import java.util.List;
+
+@Tag(name = "Movement Partition Controller", description = "Operations related to the monthly partitions of the movements table")
+@RestController
+@RequestMapping("/movements/partitions")
+public class MovementPartitionController {
+    private final MovementPartitionService movementPartitionService;
+
+    @Autowired
+    public MovementPartitionController(MovementPartitionService movementPartitionService) {
+        this.movementPartitionService = movementPartitionService;
+    }
+
+    @Operation(
+            summary = "List movement partitions",
+            description = "Lists the monthly partitions attached to the movements table with their estimated row counts.",
+            tags = {"Movement Partition Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Partitions returned successfully"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping
+    public ResponseEntity<List<MovementPartition>> findPartitions() {
+        try {
+            return ResponseEntity.ok(movementPartitionService.findPartitions());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    @Operation(
+            summary = "Detach a movement partition for archival",
+            description = "Detaches the partition of a past month. It is kept as a standalone table to be archived and dropped; "
+                    + "its movements no longer appear in account history.",
+            tags = {"Movement Partition Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Partition detached"),
+            @ApiResponse(responseCode = "400", description = "The month is not in the past"),
+            @ApiResponse(responseCode = "404", description = "The month has no attached partition"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @PutMapping("/detach")
+    public ResponseEntity<String> detachPartition(
+            @Parameter(description = "Month of the partition (yyyy-MM, UTC)", required = true)
+            @RequestParam("month") @DateTimeFormat(pattern = "yyyy-MM") YearMonth month) {
+        try {
+            String table = movementPartitionService.detachPartition(month);
+            return ResponseEntity.ok("Partition of %s detached as table %s".formatted(month, table));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (MovementPartitionNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+}
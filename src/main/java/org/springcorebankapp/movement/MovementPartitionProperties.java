@@ -0,0 +1,69 @@
+package org.springcorebankapp.movement;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the monthly partitions of the movements table.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Defines how many months ahead partitions are created, so movements never lack a partition.</li>
+ *     <li>Defines after how many months partitions are detached for archival.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class MovementPartitionProperties {
+
+    /**
+     * The number of months after the current one that must have a partition,
+     * injected from {@code movement.partition.months-ahead}.
+     */
+    private final int monthsAhead;
+
+    /**
+     * The number of months before the current one kept attached, injected from
+     * {@code movement.partition.retention-months}; {@code 0} keeps every partition attached.
+     */
+    private final int retentionMonths;
+
+    /**
+     * Constructs a new {@code MovementPartitionProperties} instance.
+     *
+     * @param monthsAhead     the number of months after the current one that must have a partition
+     * @param retentionMonths the number of months before the current one kept attached; {@code 0} for all
+     * @throws IllegalArgumentException if a value is negative
+     */
+    public MovementPartitionProperties(@Value("${movement.partition.months-ahead}") int monthsAhead,
+                                       @Value("${movement.partition.retention-months}") int retentionMonths) {
+        if (monthsAhead < 0 || retentionMonths < 0) {
+            throw new IllegalArgumentException("Movement partition months must not be negative");
+        }
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * Returns the number of months after the current one that must have a partition.
+     *
+     * @return the number of months
+     */
+    public int getMonthsAhead() {
+        return monthsAhead;
+    }
+
+    /**
+     * Returns the number of months before the current one kept attached.
+     *
+     * @return the number of months, or {@code 0} if every partition is kept attached
+     */
+    public int getRetentionMonths() {
+        return retentionMonths;
+    }
+}
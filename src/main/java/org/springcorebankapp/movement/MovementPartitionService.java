@@ -0,0 +1,166 @@
+package org.springcorebankapp.movement;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springcorebankapp.exception.MovementPartitionNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Service managing the monthly partitions of the {@code account_movements} table.
+ * <p>
+ * Movements are range-partitioned by month of their time, in UTC. Queries bounded in time, such as statement
+ * pages and the nightly reconciliation, only scan the partitions of the months they cover, and each
+ * partition's index stays a fraction of the table's, however long the ledger grows.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Creates the partitions of the next {@code movement.partition.months-ahead} months at startup and
+ *     daily, so a movement always has a partition to go to.</li>
+ *     <li>Detaches partitions older than {@code movement.partition.retention-months}, or a given past month
+ *     on request. A detached partition stays in the database as a standalone table, ready to be archived
+ *     (e.g. with {@code pg_dump -t}) and dropped; its movements disappear from history and reconciliation.</li>
+ *     <li>Detaches with {@code DETACH PARTITION ... CONCURRENTLY}, so inserts into the current month are
+ *     not blocked. This is why the statements run outside of a transaction.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+public class MovementPartitionService {
+    private static final String TABLE = "account_movements";
+    private static final Pattern PARTITION_NAME = Pattern.compile(TABLE + "_(\\d{4})_(\\d{2})");
+
+    private static final String PARTITIONS_SQL = """
+            SELECT c.relname AS name, c.reltuples::BIGINT AS estimated_rows
+            FROM pg_inherits i
+            JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'account_movements'::regclass
+            ORDER BY c.relname
+            """;
+
+    private final Logger logger = LoggerFactory.getLogger(MovementPartitionService.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MovementPartitionProperties movementPartitionProperties;
+
+    /**
+     * Creates the partitions ahead and detaches the expired ones, at startup and every day.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${movement.partition.cron}", zone = "UTC")
+    public void maintainPartitions() {
+        maintainPartitions(YearMonth.now(ZoneOffset.UTC));
+    }
+
+    /**
+     * Creates the partitions from the current month to {@code movement.partition.months-ahead} months ahead
+     * and detaches the partitions older than {@code movement.partition.retention-months}.
+     * <p>
+     * Failures are logged rather than thrown, so another instance maintaining the partitions at the same time
+     * does not fail this one.
+     * </p>
+     *
+     * @param currentMonth the current month in UTC
+     */
+    void maintainPartitions(YearMonth currentMonth) {
+        List<MovementPartition> partitions = findPartitions();
+        for (int i = 0; i <= movementPartitionProperties.getMonthsAhead(); i++) {
+            YearMonth month = currentMonth.plusMonths(i);
+            if (partitions.stream().noneMatch(partition -> partition.getMonth().equals(month))) {
+                try {
+                    createPartition(month);
+                } catch (DataAccessException e) {
+                    logger.error("Cannot create the movement partition of {}", month, e);
+                }
+            }
+        }
+        if (movementPartitionProperties.getRetentionMonths() == 0) {
+            return;
+        }
+        YearMonth oldestKept = currentMonth.minusMonths(movementPartitionProperties.getRetentionMonths());
+        for (MovementPartition partition : partitions) {
+            if (partition.getMonth().isBefore(oldestKept)) {
+                try {
+                    detach(partition.getName());
+                } catch (DataAccessException e) {
+                    logger.error("Cannot detach the movement partition {}", partition.getName(), e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Lists the partitions attached to the movements table.
+     *
+     * @return the partitions ordered by month
+     */
+    public List<MovementPartition> findPartitions() {
+        List<MovementPartition> partitions = new ArrayList<>();
+        jdbcTemplate.query(PARTITIONS_SQL, resultSet -> {
+            Matcher matcher = PARTITION_NAME.matcher(resultSet.getString("name"));
+            if (matcher.matches()) {
+                partitions.add(new MovementPartition(resultSet.getString("name"),
+                        YearMonth.of(Integer.parseInt(matcher.group(1)), Integer.parseInt(matcher.group(2))),
+                        resultSet.getLong("estimated_rows")));
+            }
+        });
+        return partitions;
+    }
+
+    /**
+     * Detaches the partition of a past month from the movements table, keeping it as a standalone table.
+     *
+     * @param month the month of the partition, in UTC
+     * @return the name of the detached table
+     * @throws IllegalArgumentException           if the month is not in the past
+     * @throws MovementPartitionNotFoundException if the month has no attached partition
+     */
+    public String detachPartition(YearMonth month) {
+        if (!month.isBefore(YearMonth.now(ZoneOffset.UTC))) {
+            throw new IllegalArgumentException("Only past months can be detached: month = %s".formatted(month));
+        }
+        String name = partitionName(month);
+        if (findPartitions().stream().noneMatch(partition -> partition.getName().equals(name))) {
+            throw new MovementPartitionNotFoundException("Movement partition of %s not found".formatted(month));
+        }
+        detach(name);
+        return name;
+    }
+
+    private void createPartition(YearMonth month) {
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS %s PARTITION OF %s FOR VALUES FROM ('%s') TO ('%s')"
+                .formatted(partitionName(month), TABLE, monthStart(month), monthStart(month.plusMonths(1))));
+        logger.info("Created movement partition {}", partitionName(month));
+    }
+
+    private void detach(String name) {
+        jdbcTemplate.execute("ALTER TABLE %s DETACH PARTITION %s CONCURRENTLY".formatted(TABLE, name));
+        logger.info("Detached movement partition {} for archival", name);
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "%s_%04d_%02d".formatted(TABLE, month.getYear(), month.getMonthValue());
+    }
+
+    private static String monthStart(YearMonth month) {
+        return month.atDay(1) + " 00:00:00+00";
+    }
+}
@@ -0,0 +1,63 @@
+package org.springcorebankapp.reconciliation;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Closing balance of an account at the end of a business day.
+ * <p>
+ * This class is a JPA entity that maps to the "balance_snapshots" table in the database.
+ * Snapshots are written set-based by the {@link ReconciliationService} and serve as the opening
+ * balances of the next day's reconciliation.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "balance_snapshots",
+        uniqueConstraints = @UniqueConstraint(name = "uk_balance_snapshots_account_date",
+                columnNames = {"account_id", "business_date"}),
+        indexes = @Index(name = "idx_balance_snapshots_business_date", columnList = "business_date"))
+public class BalanceSnapshot implements Serializable {
+
+    /**
+     * Unique identifier for the snapshot.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    /**
+     * Identifier of the account.
+     */
+    @Column(name = "account_id", nullable = false)
+    private int accountId;
+
+    /**
+     * The business day the balance closes.
+     */
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    /**
+     * The closing balance.
+     */
+    @Column(name = "balance", nullable = false)
+    private long balance;
+
+    /**
+     * The time the snapshot was taken.
+     */
+    @Column(name = "taken_at", nullable = false)
+    private Instant takenAt;
+}
@@ -0,0 +1,24 @@
+package org.springcorebankapp.reconciliation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+/**
+ * Repository interface for managing {@link BalanceSnapshot} entities.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Repository
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, Long> {
+
+    /**
+     * Checks whether any snapshot exists for the given business day.
+     *
+     * @param businessDate the business day
+     * @return {@code true} if closing balances were recorded for the day, {@code false} otherwise
+     */
+    boolean existsByBusinessDate(LocalDate businessDate);
+}
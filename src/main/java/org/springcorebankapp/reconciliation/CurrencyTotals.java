@@ -0,0 +1,94 @@
+package org.springcorebankapp.reconciliation;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * The reconciliation totals of one currency, in minor units of that currency.
+ * <p>
+ * Balances and movements of different currencies are never added together; a report holds one
+ * {@code CurrencyTotals} per currency instead.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Embeddable
+public class CurrencyTotals implements Serializable {
+
+    /**
+     * The sum of the opening balances of the checked accounts.
+     */
+    @Column(name = "opening_total", nullable = false)
+    private long openingTotal;
+
+    /**
+     * The sum of the closing balances of the checked accounts.
+     */
+    @Column(name = "closing_total", nullable = false)
+    private long closingTotal;
+
+    /**
+     * The sum of all movements of the day.
+     */
+    @Column(name = "movements_total", nullable = false)
+    private long movementsTotal;
+
+    /**
+     * The transfer commission withheld during the day.
+     */
+    @Column(name = "transfer_fees", nullable = false)
+    private long transferFees;
+
+    /**
+     * The net of all transfer and closure movements plus commission; zero when money is conserved.
+     */
+    @Column(name = "transfer_imbalance", nullable = false)
+    private long transferImbalance;
+
+    /**
+     * Adds the balances of one or more accounts to the opening and closing totals.
+     *
+     * @param openingBalance the opening balance to add
+     * @param closingBalance the closing balance to add
+     */
+    public void addBalances(long openingBalance, long closingBalance) {
+        openingTotal += openingBalance;
+        closingTotal += closingBalance;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CurrencyTotals that = (CurrencyTotals) o;
+        return openingTotal == that.openingTotal && closingTotal == that.closingTotal
+                && movementsTotal == that.movementsTotal && transferFees == that.transferFees
+                && transferImbalance == that.transferImbalance;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(openingTotal, closingTotal, movementsTotal, transferFees, transferImbalance);
+    }
+
+    @Override
+    public String toString() {
+        return "CurrencyTotals{" +
+                "openingTotal=" + openingTotal +
+                ", closingTotal=" + closingTotal +
+                ", movementsTotal=" + movementsTotal +
+                ", transferFees=" + transferFees +
+                ", transferImbalance=" + transferImbalance +
+                '}';
+    }
+}
@@ -0,0 +1,77 @@
+package org.springcorebankapp.reconciliation;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * An account whose closing balance does not match its opening balance plus the day's movements.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Embeddable
+public class Discrepancy implements Serializable {
+
+    /**
+     * Identifier of the offending account.
+     */
+    @Column(name = "account_id", nullable = false)
+    private int accountId;
+
+    /**
+     * The opening balance plus the day's movements.
+     */
+    @Column(name = "expected_balance", nullable = false)
+    private long expectedBalance;
+
+    /**
+     * The balance actually held at the end of the day.
+     */
+    @Column(name = "actual_balance", nullable = false)
+    private long actualBalance;
+
+    /**
+     * Constructs a new {@code Discrepancy}.
+     *
+     * @param accountId       the ID of the offending account
+     * @param expectedBalance the opening balance plus the day's movements
+     * @param actualBalance   the balance actually held at the end of the day
+     */
+    public Discrepancy(int accountId, long expectedBalance, long actualBalance) {
+        this.accountId = accountId;
+        this.expectedBalance = expectedBalance;
+        this.actualBalance = actualBalance;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Discrepancy that = (Discrepancy) o;
+        return accountId == that.accountId && expectedBalance == that.expectedBalance
+                && actualBalance == that.actualBalance;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(accountId, expectedBalance, actualBalance);
+    }
+
+    @Override
+    public String toString() {
+        return "Discrepancy{" +
+                "accountId=" + accountId +
+                ", expectedBalance=" + expectedBalance +
+                ", actualBalance=" + actualBalance +
+                '}';
+    }
+}
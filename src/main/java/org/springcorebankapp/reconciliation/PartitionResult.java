@@ -0,0 +1,80 @@
+package org.springcorebankapp.reconciliation;
+
+import org.springcorebankapp.fx.Currency;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Aggregated outcome of reconciling one or more account ID partitions.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class PartitionResult {
+    private long accountsChecked;
+    private final Map<Currency, CurrencyTotals> totals = new EnumMap<>(Currency.class);
+    private final List<Discrepancy> discrepancies = new ArrayList<>();
+
+    /**
+     * Adds one checked account to the result.
+     *
+     * @param accountId      the ID of the account
+     * @param currency       the currency of the account
+     * @param openingBalance the opening balance of the account
+     * @param dayMovements   the sum of the account's movements during the day
+     * @param closingBalance the closing balance of the account
+     * @param verify         whether the balance must be checked against the movements
+     */
+    public void addAccount(int accountId, Currency currency, long openingBalance, long dayMovements,
+                           long closingBalance, boolean verify) {
+        accountsChecked++;
+        totals.computeIfAbsent(currency, ignored -> new CurrencyTotals()).addBalances(openingBalance, closingBalance);
+        if (verify && openingBalance + dayMovements != closingBalance) {
+            discrepancies.add(new Discrepancy(accountId, openingBalance + dayMovements, closingBalance));
+        }
+    }
+
+    /**
+     * Merges another result into this one.
+     *
+     * @param other the result to merge
+     * @return this result
+     */
+    public PartitionResult merge(PartitionResult other) {
+        accountsChecked += other.accountsChecked;
+        other.totals.forEach((currency, otherTotals) -> totals.computeIfAbsent(currency, ignored -> new CurrencyTotals())
+                .addBalances(otherTotals.getOpeningTotal(), otherTotals.getClosingTotal()));
+        discrepancies.addAll(other.discrepancies);
+        return this;
+    }
+
+    /**
+     * Returns the number of checked accounts.
+     *
+     * @return the number of checked accounts
+     */
+    public long getAccountsChecked() {
+        return accountsChecked;
+    }
+
+    /**
+     * Returns the sums of the opening and closing balances per currency.
+     *
+     * @return the balance totals per currency
+     */
+    public Map<Currency, CurrencyTotals> getTotals() {
+        return totals;
+    }
+
+    /**
+     * Returns the accounts whose balances do not match their movements.
+     *
+     * @return the accounts whose balances do not match their movements
+     */
+    public List<Discrepancy> getDiscrepancies() {
+        return discrepancies;
+    }
+}
@@ -0,0 +1,37 @@
+package org.springcorebankapp.reconciliation;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+
+/**
+ * Configuration class for the end-of-day reconciliation.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+public class ReconciliationConfiguration {
+
+    /**
+     * Configures and returns the JDBC template used to stream partition rows.
+     * <p>
+     * The template uses a bounded fetch size so that rows are streamed through a server-side cursor
+     * instead of being materialized in memory.
+     * </p>
+     *
+     * @param dataSource               the application data source
+     * @param reconciliationProperties the reconciliation configuration properties
+     * @return a named-parameter JDBC template with the configured fetch size
+     */
+    @Bean
+    public NamedParameterJdbcTemplate reconciliationJdbcTemplate(DataSource dataSource,
+                                                                 ReconciliationProperties reconciliationProperties) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(reconciliationProperties.getFetchSize());
+        return new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+}
@@ -0,0 +1,70 @@
+package org.springcorebankapp.reconciliation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springcorebankapp.exception.ReconciliationReportNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+
+@Tag(name = "Reconciliation Controller", description = "Operations related to end-of-day reconciliation")
+@RestController
+@RequestMapping("/reconciliation")
+public class ReconciliationController {
+    private final ReconciliationService reconciliationService;
+
+    @Autowired
+    public ReconciliationController(ReconciliationService reconciliationService) {
+        this.reconciliationService = reconciliationService;
+    }
+
+    @Operation(
+            summary = "Reconcile a business day",
+            description = "Verifies every account balance against the day's movements and checks that money is conserved.",
+            tags = {"Reconciliation Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Reconciliation finished and the report is returned"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @PostMapping("/run")
+    public ResponseEntity<ReconciliationReport> reconcile(
+            @Parameter(description = "Business day to reconcile (ISO-8601 date, UTC)", required = true)
+            @RequestParam("businessDate") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate businessDate) {
+        try {
+            return ResponseEntity.ok(reconciliationService.reconcile(businessDate));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    @Operation(
+            summary = "Find a reconciliation report by ID",
+            description = "Retrieves a reconciliation report, including the offending account IDs.",
+            tags = {"Reconciliation Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Report found and returned successfully"),
+            @ApiResponse(responseCode = "404", description = "Report not found"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping("/find-report-by-id")
+    public ResponseEntity<ReconciliationReport> findReportById(
+            @Parameter(description = "Unique ID of the report", required = true)
+            @RequestParam("id") int id) {
+        try {
+            return ResponseEntity.ok(reconciliationService.findReportById(id));
+        } catch (ReconciliationReportNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+}
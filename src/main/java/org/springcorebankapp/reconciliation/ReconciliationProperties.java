@@ -0,0 +1,81 @@
+package org.springcorebankapp.reconciliation;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for the end-of-day reconciliation.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Defines the width of the account ID partition verified by a single statement.</li>
+ *     <li>Defines how many partitions are verified in parallel, bounding the load on the database.</li>
+ *     <li>Defines the JDBC fetch size used to stream partition rows.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class ReconciliationProperties {
+
+    /**
+     * The number of account IDs per partition, injected from {@code reconciliation.partition-size}.
+     */
+    private final int partitionSize;
+
+    /**
+     * The number of partitions verified in parallel, injected from {@code reconciliation.parallelism}.
+     */
+    private final int parallelism;
+
+    /**
+     * The number of rows fetched per round trip, injected from {@code reconciliation.fetch-size}.
+     */
+    private final int fetchSize;
+
+    /**
+     * Constructs a new {@code ReconciliationProperties} instance.
+     *
+     * @param partitionSize the number of account IDs per partition
+     * @param parallelism   the number of partitions verified in parallel
+     * @param fetchSize     the number of rows fetched per round trip
+     */
+    public ReconciliationProperties(@Value("${reconciliation.partition-size}") int partitionSize,
+                                    @Value("${reconciliation.parallelism}") int parallelism,
+                                    @Value("${reconciliation.fetch-size}") int fetchSize) {
+        this.partitionSize = partitionSize;
+        this.parallelism = parallelism;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Returns the number of account IDs per partition.
+     *
+     * @return the partition size
+     */
+    public int getPartitionSize() {
+        return partitionSize;
+    }
+
+    /**
+     * Returns the number of partitions verified in parallel.
+     *
+     * @return the parallelism
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Returns the number of rows fetched per round trip.
+     *
+     * @return the fetch size
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+}
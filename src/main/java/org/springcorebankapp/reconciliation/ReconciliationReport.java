@@ -0,0 +1,124 @@
+package org.springcorebankapp.reconciliation;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springcorebankapp.fx.Currency;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of the end-of-day reconciliation of one business day.
+ * <p>
+ * This class is a JPA entity that maps to the "reconciliation_reports" table in the database;
+ * the offending accounts are stored in the "reconciliation_discrepancies" table and the totals, one row
+ * per currency, in the "reconciliation_currency_totals" table.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Per-account check: closing balance equals opening balance plus the day's movements.</li>
+ *     <li>Conservation check: transfers and closure sweeps net to zero apart from transfer commission.</li>
+ *     <li>Per-currency totals of opening balances, closing balances, movements and commission for the day.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "reconciliation_reports")
+public class ReconciliationReport implements Serializable {
+
+    /**
+     * Unique identifier for the report.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    /**
+     * The reconciled business day.
+     */
+    @Column(name = "business_date", nullable = false)
+    private LocalDate businessDate;
+
+    /**
+     * Whether the run only recorded closing balances because no opening balances existed yet.
+     */
+    @Column(name = "baseline", nullable = false)
+    private boolean baseline;
+
+    /**
+     * The number of accounts checked.
+     */
+    @Column(name = "accounts_checked", nullable = false)
+    private long accountsChecked;
+
+    /**
+     * The totals of the day per currency, each in minor units of its currency.
+     */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "reconciliation_currency_totals", joinColumns = @JoinColumn(name = "report_id"))
+    @MapKeyEnumerated(EnumType.STRING)
+    @MapKeyColumn(name = "currency", length = 3)
+    private Map<Currency, CurrencyTotals> currencyTotals = new EnumMap<>(Currency.class);
+
+    /**
+     * The time the run started.
+     */
+    @Column(name = "started_at", nullable = false)
+    private Instant startedAt;
+
+    /**
+     * The time the run finished.
+     */
+    @Column(name = "finished_at")
+    private Instant finishedAt;
+
+    /**
+     * The accounts whose balances do not match their movements.
+     */
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "reconciliation_discrepancies", joinColumns = @JoinColumn(name = "report_id"))
+    private List<Discrepancy> discrepancies = new ArrayList<>();
+
+    /**
+     * Returns whether money was conserved during the day apart from transfer commission.
+     *
+     * @return {@code true} if transfers and closure sweeps net to zero in every currency; {@code false} otherwise
+     */
+    public boolean isConserved() {
+        return currencyTotals.values().stream().allMatch(totals -> totals.getTransferImbalance() == 0);
+    }
+
+    /**
+     * Returns whether the day reconciled without any discrepancy.
+     *
+     * @return {@code true} if money was conserved and every account balance matched; {@code false} otherwise
+     */
+    public boolean isReconciled() {
+        return isConserved() && discrepancies.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "ReconciliationReport{" +
+                "id=" + id +
+                ", businessDate=" + businessDate +
+                ", baseline=" + baseline +
+                ", accountsChecked=" + accountsChecked +
+                ", conserved=" + isConserved() +
+                ", discrepancies=" + discrepancies.size() +
+                '}';
+    }
+}
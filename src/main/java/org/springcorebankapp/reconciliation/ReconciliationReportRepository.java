@@ -0,0 +1,14 @@
+package org.springcorebankapp.reconciliation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing {@link ReconciliationReport} entities.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Repository
+public interface ReconciliationReportRepository extends JpaRepository<ReconciliationReport, Integer> {
+}
@@ -0,0 +1,215 @@
+package org.springcorebankapp.reconciliation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springcorebankapp.account.AccountRepository;
+import org.springcorebankapp.exception.ReconciliationReportNotFoundException;
+import org.springcorebankapp.fx.Currency;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Service class for the end-of-day reconciliation of account balances.
+ * <p>
+ * For a business day, every account must satisfy {@code closing = opening + day's movements}, where the
+ * opening balance is the previous day's {@link BalanceSnapshot} and the movements come from the
+ * {@link org.springcorebankapp.account.AccountMovement} ledger. The closing balance is derived from the current
+ * balance minus the movements recorded after the end of the day, so the check can run while traffic continues.
+ * The account ID space is split into partitions verified in parallel by a {@link ForkJoinPool}; each partition
+ * is one statement that streams its rows and records the closing snapshots used by the next day's run.
+ * </p>
+ * <p>
+ * Because it records the snapshots, the check runs against the primary database. It holds no row locks
+ * and its load is bounded by the partition size and parallelism. Totals are kept per currency and are
+ * never added across currencies.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Per-account balance verification without loading {@code Account} entities.</li>
+ *     <li>Conservation check: same-currency transfers and closure sweeps net to zero apart from transfer commission.</li>
+ *     <li>Bounded parallelism and partition size, so the check does not stall the primary database.</li>
+ *     <li>Nightly scheduled run plus on-demand runs for any business day.</li>
+ * </ul>
+ *
+ * @see ReconciliationReport
+ * @see ReconciliationTask
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class ReconciliationService {
+    private final Logger logger = LoggerFactory.getLogger(ReconciliationService.class);
+
+    private static final String PARTITION_SQL = """
+            WITH calc AS (
+                SELECT a.id AS account_id,
+                       a.currency AS currency,
+                       a.money_amount AS balance,
+                       s.balance AS opening,
+                       COALESCE(SUM(m.amount) FILTER (WHERE m.created_at < :dayEnd), 0) AS day_movements,
+                       COALESCE(SUM(m.amount) FILTER (WHERE m.created_at >= :dayEnd), 0) AS later_movements
+                FROM accounts a
+                LEFT JOIN balance_snapshots s ON s.account_id = a.id AND s.business_date = :previousDate
+                LEFT JOIN account_movements m ON m.account_id = a.id AND m.created_at >= :dayStart
+                WHERE a.id BETWEEN :fromAccountId AND :toAccountId
+                GROUP BY a.id, a.currency, a.money_amount, s.balance
+            ), snapshots AS (
+                INSERT INTO balance_snapshots (account_id, business_date, balance, taken_at)
+                SELECT account_id, :businessDate, balance - later_movements, now() FROM calc
+                ON CONFLICT (account_id, business_date)
+                DO UPDATE SET balance = EXCLUDED.balance, taken_at = EXCLUDED.taken_at
+            )
+            SELECT account_id, currency, COALESCE(opening, 0) AS opening, day_movements, balance - later_movements AS closing
+            FROM calc
+            """;
+
+    /**
+     * Movement totals per currency. Transfers and closure sweeps never cross currencies, so a movement of an
+     * account closed since is attributed to the currency of its counterparty; other movements of closed
+     * accounts cannot be attributed and are left out.
+     */
+    private static final String MOVEMENT_TOTALS_SQL = """
+            SELECT COALESCE(a.currency, c.currency) AS currency,
+                   SUM(m.amount) AS movements_total,
+                   SUM(m.fee) AS transfer_fees,
+                   COALESCE(SUM(m.amount + m.fee) FILTER (
+                       WHERE m.type IN ('TRANSFER_OUT', 'TRANSFER_IN', 'CLOSURE_OUT', 'CLOSURE_IN')), 0) AS transfer_imbalance
+            FROM account_movements m
+            LEFT JOIN accounts a ON a.id = m.account_id
+            LEFT JOIN accounts c ON c.id = m.counterparty_account_id
+                AND m.type IN ('TRANSFER_OUT', 'TRANSFER_IN', 'CLOSURE_OUT', 'CLOSURE_IN')
+            WHERE m.created_at >= :dayStart AND m.created_at < :dayEnd
+            GROUP BY COALESCE(a.currency, c.currency)
+            HAVING COALESCE(a.currency, c.currency) IS NOT NULL
+            """;
+
+    @Autowired
+    private ReconciliationReportRepository reconciliationReportRepository;
+    @Autowired
+    private BalanceSnapshotRepository balanceSnapshotRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private ReconciliationProperties reconciliationProperties;
+    @Autowired
+    @Qualifier("reconciliationJdbcTemplate")
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Reconciles the previous business day (UTC); triggered nightly by {@code reconciliation.cron}.
+     */
+    @Scheduled(cron = "${reconciliation.cron}", zone = "UTC")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reconcilePreviousDay() {
+        ReconciliationReport report = reconcile(LocalDate.now(ZoneOffset.UTC).minusDays(1));
+        if (!report.isReconciled()) {
+            logger.error("Reconciliation of {} found discrepancies: {}", report.getBusinessDate(), report.getDiscrepancies());
+        }
+    }
+
+    /**
+     * Reconciles a business day and stores the report.
+     * <p>
+     * If no closing balances were recorded for the previous day, the run is a baseline: it only records
+     * the day's closing balances and the conservation check.
+     * </p>
+     *
+     * @param businessDate the business day (UTC) to reconcile
+     * @return the stored {@link ReconciliationReport}
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ReconciliationReport reconcile(LocalDate businessDate) {
+        Instant startedAt = Instant.now();
+        LocalDate previousDate = businessDate.minusDays(1);
+        boolean baseline = !balanceSnapshotRepository.existsByBusinessDate(previousDate);
+        MapSqlParameterSource dayParameters = new MapSqlParameterSource()
+                .addValue("businessDate", businessDate)
+                .addValue("previousDate", previousDate)
+                .addValue("dayStart", Timestamp.from(businessDate.atStartOfDay(ZoneOffset.UTC).toInstant()))
+                .addValue("dayEnd", Timestamp.from(businessDate.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant()));
+
+        ReconciliationReport report = new ReconciliationReport();
+        report.setBusinessDate(businessDate);
+        report.setBaseline(baseline);
+        report.setStartedAt(startedAt);
+
+        Integer minId = accountRepository.findMinId();
+        Integer maxId = accountRepository.findMaxId();
+        if (minId != null && maxId != null) {
+            PartitionResult result;
+            ForkJoinPool pool = new ForkJoinPool(reconciliationProperties.getParallelism());
+            try {
+                result = pool.invoke(new ReconciliationTask(minId, maxId, reconciliationProperties.getPartitionSize(),
+                        (from, to) -> verifyPartition(dayParameters, from, to, !baseline)));
+            } finally {
+                pool.shutdown();
+            }
+            report.setAccountsChecked(result.getAccountsChecked());
+            report.getCurrencyTotals().putAll(result.getTotals());
+            report.getDiscrepancies().addAll(result.getDiscrepancies());
+        }
+
+        jdbcTemplate.query(MOVEMENT_TOTALS_SQL, dayParameters, resultSet -> {
+            CurrencyTotals totals = report.getCurrencyTotals().computeIfAbsent(
+                    Currency.valueOf(resultSet.getString("currency")), ignored -> new CurrencyTotals());
+            totals.setMovementsTotal(resultSet.getLong("movements_total"));
+            totals.setTransferFees(resultSet.getLong("transfer_fees"));
+            totals.setTransferImbalance(resultSet.getLong("transfer_imbalance"));
+        });
+        report.setFinishedAt(Instant.now());
+        logger.info("Reconciled {} accounts for {} in {} ms: {} discrepancies, conserved = {}",
+                report.getAccountsChecked(), businessDate, report.getFinishedAt().toEpochMilli() - startedAt.toEpochMilli(),
+                report.getDiscrepancies().size(), report.isConserved());
+        return reconciliationReportRepository.save(report);
+    }
+
+    /**
+     * Finds a reconciliation report by its ID.
+     *
+     * @param id the ID of the report
+     * @return the found {@link ReconciliationReport}
+     * @throws ReconciliationReportNotFoundException if no report is found with the provided ID
+     */
+    @Transactional(readOnly = true)
+    public ReconciliationReport findReportById(int id) {
+        return reconciliationReportRepository.findById(id)
+                .orElseThrow(() -> new ReconciliationReportNotFoundException(
+                        "Reconciliation report with id = %s not found".formatted(id)));
+    }
+
+    /**
+     * Streams the rows of one partition, recording its closing snapshots in the same statement.
+     */
+    private PartitionResult verifyPartition(MapSqlParameterSource dayParameters, int fromAccountId, int toAccountId,
+                                            boolean verify) {
+        MapSqlParameterSource parameters = new MapSqlParameterSource(dayParameters.getValues())
+                .addValue("fromAccountId", fromAccountId)
+                .addValue("toAccountId", toAccountId);
+        PartitionResult result = new PartitionResult();
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(PARTITION_SQL, parameters,
+                resultSet -> {
+                    result.addAccount(resultSet.getInt("account_id"), Currency.valueOf(resultSet.getString("currency")),
+                            resultSet.getLong("opening"), resultSet.getLong("day_movements"),
+                            resultSet.getLong("closing"), verify);
+                }));
+        return result;
+    }
+}
@@ -0,0 +1,65 @@
+package org.springcorebankapp.reconciliation;
+
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Fork/join task reconciling an inclusive range of account IDs.
+ * <p>
+ * Ranges wider than the partition size are split in half and reconciled in parallel; ranges that fit
+ * are handed to the {@link PartitionVerifier}, which streams the rows of one partition from the database.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class ReconciliationTask extends RecursiveTask<PartitionResult> {
+
+    /**
+     * Reconciles a single partition of account IDs.
+     */
+    @FunctionalInterface
+    public interface PartitionVerifier {
+
+        /**
+         * Reconciles the accounts in the inclusive range.
+         *
+         * @param fromAccountId the first account ID, inclusive
+         * @param toAccountId   the last account ID, inclusive
+         * @return the result of the partition
+         */
+        PartitionResult verify(int fromAccountId, int toAccountId);
+    }
+
+    private final int fromAccountId;
+    private final int toAccountId;
+    private final int partitionSize;
+    private final PartitionVerifier verifier;
+
+    /**
+     * Constructs a new {@code ReconciliationTask}.
+     *
+     * @param fromAccountId the first account ID, inclusive
+     * @param toAccountId   the last account ID, inclusive
+     * @param partitionSize the maximum number of account IDs verified by a single leaf task
+     * @param verifier      the verifier of a single partition
+     */
+    public ReconciliationTask(int fromAccountId, int toAccountId, int partitionSize, PartitionVerifier verifier) {
+        this.fromAccountId = fromAccountId;
+        this.toAccountId = toAccountId;
+        this.partitionSize = partitionSize;
+        this.verifier = verifier;
+    }
+
+    @Override
+    protected PartitionResult compute() {
+        if ((long) toAccountId - fromAccountId < partitionSize) {
+            return verifier.verify(fromAccountId, toAccountId);
+        }
+        int middle = (int) (((long) fromAccountId + toAccountId) >>> 1);
+        ReconciliationTask left = new ReconciliationTask(fromAccountId, middle, partitionSize, verifier);
+        ReconciliationTask right = new ReconciliationTask(middle + 1, toAccountId, partitionSize, verifier);
+        left.fork();
+        PartitionResult rightResult = right.compute();
+        return left.join().merge(rightResult);
+    }
+}
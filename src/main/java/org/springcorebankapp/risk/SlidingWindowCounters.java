@@ -0,0 +1,214 @@
+package org.springcorebankapp.risk;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free sliding-window counters of transfer count and amount for a single account or user.
+ * <p>
+ * Every {@link VelocityWindow} is a ring buffer of buckets stored in one {@link AtomicLongArray}. A bucket
+ * holds two words, the count and the amount, each packing the bucket's epoch (the bucket number since the Unix
+ * epoch, truncated to {@value #TAG_BITS} bits) together with a {@value #VALUE_BITS}-bit value. A word whose
+ * epoch tag is stale is treated as zero and reset by the next update with a single compare-and-set, so buckets
+ * never need to be cleared and a stale bucket can never be mixed with a current one.
+ * </p>
+ *
+ * <p>
+ * Updates are compare-and-set loops on individual words and reads are plain volatile reads, so neither blocks.
+ * Amounts saturate at {@code 2^40 - 1} per bucket.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class SlidingWindowCounters {
+    private static final int TAG_BITS = 24;
+    private static final int VALUE_BITS = Long.SIZE - TAG_BITS;
+    private static final long TAG_MASK = (1L << TAG_BITS) - 1;
+    private static final long VALUE_MASK = (1L << VALUE_BITS) - 1;
+
+    private static final VelocityWindow[] WINDOWS = VelocityWindow.values();
+    private static final int[] OFFSETS = new int[WINDOWS.length];
+    private static final int LENGTH;
+
+    static {
+        int offset = 0;
+        for (VelocityWindow window : WINDOWS) {
+            OFFSETS[window.ordinal()] = offset;
+            offset += window.getBuckets() * 2;
+        }
+        LENGTH = offset;
+    }
+
+    private final AtomicLongArray words;
+
+    /**
+     * Constructs empty counters.
+     */
+    public SlidingWindowCounters() {
+        this.words = new AtomicLongArray(LENGTH);
+    }
+
+    /**
+     * Restores counters from a snapshot taken by {@link #snapshot()}.
+     *
+     * @param snapshot the snapshot words
+     * @throws IllegalArgumentException if the snapshot does not match the current window layout
+     */
+    public SlidingWindowCounters(long[] snapshot) {
+        if (snapshot.length != LENGTH) {
+            throw new IllegalArgumentException("Invalid velocity counters snapshot: length = %s, expected = %s"
+                    .formatted(snapshot.length, LENGTH));
+        }
+        this.words = new AtomicLongArray(snapshot);
+    }
+
+    /**
+     * Returns the number of words in a snapshot of the current window layout.
+     *
+     * @return the snapshot length
+     */
+    public static int snapshotLength() {
+        return LENGTH;
+    }
+
+    /**
+     * Records a transfer in every window, unless doing so exceeds one of the limits.
+     * <p>
+     * The transfer is recorded first and the windows are checked afterwards, so concurrent transfers can never
+     * pass a limit together; if a limit is exceeded the transfer is released again. A limit of {@code 0} or less
+     * disables the corresponding check.
+     * </p>
+     *
+     * @param nowMillis  the current time in epoch milliseconds
+     * @param amount     the transfer amount
+     * @param maxCounts  the maximum number of transfers per window, ordered as {@link VelocityWindow}
+     * @param maxAmounts the maximum total amount per window, ordered as {@link VelocityWindow}
+     * @return the first exceeded window, or {@code null} if the transfer was recorded
+     */
+    public VelocityWindow tryAcquire(long nowMillis, long amount, long[] maxCounts, long[] maxAmounts) {
+        for (VelocityWindow window : WINDOWS) {
+            long epoch = nowMillis / window.getBucketMillis();
+            int index = index(window, epoch);
+            add(index, epoch, 1);
+            add(index + 1, epoch, amount);
+        }
+        for (VelocityWindow window : WINDOWS) {
+            int i = window.ordinal();
+            if ((maxCounts[i] > 0 && count(window, nowMillis) > maxCounts[i])
+                    || (maxAmounts[i] > 0 && amount(window, nowMillis) > maxAmounts[i])) {
+                release(nowMillis, amount);
+                return window;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Removes a transfer recorded by {@link #tryAcquire} from the buckets it was recorded in.
+     * Buckets that have expired in the meantime are left untouched.
+     *
+     * @param acquiredAtMillis the time passed to {@link #tryAcquire}
+     * @param amount           the transfer amount
+     */
+    public void release(long acquiredAtMillis, long amount) {
+        for (VelocityWindow window : WINDOWS) {
+            long epoch = acquiredAtMillis / window.getBucketMillis();
+            int index = index(window, epoch);
+            subtract(index, epoch, 1);
+            subtract(index + 1, epoch, amount);
+        }
+    }
+
+    /**
+     * Returns the number of transfers in a window.
+     *
+     * @param window    the window
+     * @param nowMillis the current time in epoch milliseconds
+     * @return the number of transfers
+     */
+    public long count(VelocityWindow window, long nowMillis) {
+        return sum(window, nowMillis, 0);
+    }
+
+    /**
+     * Returns the total amount of transfers in a window.
+     *
+     * @param window    the window
+     * @param nowMillis the current time in epoch milliseconds
+     * @return the total amount
+     */
+    public long amount(VelocityWindow window, long nowMillis) {
+        return sum(window, nowMillis, 1);
+    }
+
+    /**
+     * Returns whether no transfer is recorded in any window.
+     *
+     * @param nowMillis the current time in epoch milliseconds
+     * @return {@code true} if every window is empty; {@code false} otherwise
+     */
+    public boolean isIdle(long nowMillis) {
+        for (VelocityWindow window : WINDOWS) {
+            if (count(window, nowMillis) != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a copy of the raw words, suitable for persisting and for {@link #SlidingWindowCounters(long[])}.
+     * Epoch tags are absolute, so a restored snapshot stays valid across restarts.
+     *
+     * @return the snapshot words
+     */
+    public long[] snapshot() {
+        long[] snapshot = new long[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            snapshot[i] = words.get(i);
+        }
+        return snapshot;
+    }
+
+    private long sum(VelocityWindow window, long nowMillis, int field) {
+        long current = nowMillis / window.getBucketMillis();
+        long sum = 0;
+        for (long epoch = current - window.getBuckets() + 1; epoch <= current; epoch++) {
+            long word = words.get(index(window, epoch) + field);
+            if (word >>> VALUE_BITS == (epoch & TAG_MASK)) {
+                sum += word & VALUE_MASK;
+            }
+        }
+        return sum;
+    }
+
+    private void add(int index, long epoch, long delta) {
+        long tag = epoch & TAG_MASK;
+        while (true) {
+            long word = words.get(index);
+            long value = word >>> VALUE_BITS == tag ? word & VALUE_MASK : 0;
+            long updated = (tag << VALUE_BITS) | Math.min(value + delta, VALUE_MASK);
+            if (words.compareAndSet(index, word, updated)) {
+                return;
+            }
+        }
+    }
+
+    private void subtract(int index, long epoch, long delta) {
+        long tag = epoch & TAG_MASK;
+        while (true) {
+            long word = words.get(index);
+            if (word >>> VALUE_BITS != tag) {
+                return;
+            }
+            long updated = (tag << VALUE_BITS) | Math.max((word & VALUE_MASK) - delta, 0);
+            if (words.compareAndSet(index, word, updated)) {
+                return;
+            }
+        }
+    }
+
+    private static int index(VelocityWindow window, long epoch) {
+        return OFFSETS[window.ordinal()] + (int) Math.floorMod(epoch, (long) window.getBuckets()) * 2;
+    }
+}
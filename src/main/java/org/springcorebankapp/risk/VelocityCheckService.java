@@ -0,0 +1,198 @@
+package org.springcorebankapp.risk;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springcorebankapp.exception.VelocityLimitExceededException;
+import org.springcorebankapp.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Service class for the pre-transfer velocity checks.
+ * <p>
+ * Every outgoing transfer is recorded in the in-memory {@link SlidingWindowCounters} of its source account and
+ * of the account's owner, and rejected if it would exceed the configured count or amount limits of any
+ * {@link VelocityWindow}. Checks and updates touch a few hundred words of memory, so they add microseconds
+ * to a transfer. A transfer whose transaction rolls back is released from the counters again.
+ * </p>
+ * <p>
+ * A transfer is recorded and an idle counter evicted inside {@code compute} calls on the same map entry, so
+ * eviction never drops a counter a concurrent transfer has just been recorded in.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Per-account and per-user limits on count and amount over the last minute, hour and day.</li>
+ *     <li>Periodic persistence of the counters to a snapshot file, restored at startup.</li>
+ *     <li>Eviction of counters that have been idle for every window.</li>
+ * </ul>
+ *
+ * @see SlidingWindowCounters
+ * @see VelocityProperties
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+public class VelocityCheckService {
+    private static final int SNAPSHOT_MAGIC = 0x56454C31;
+
+    private final Logger logger = LoggerFactory.getLogger(VelocityCheckService.class);
+
+    private final Map<Integer, SlidingWindowCounters> accountCounters = new ConcurrentHashMap<>();
+    private final Map<Integer, SlidingWindowCounters> userCounters = new ConcurrentHashMap<>();
+
+    @Autowired
+    private VelocityProperties velocityProperties;
+
+    /**
+     * Records an outgoing transfer against the velocity limits of its source account and user.
+     * <p>
+     * If a transaction is active and later rolls back, the transfer is released from the counters.
+     * </p>
+     *
+     * @param accountId the ID of the source account
+     * @param userId    the ID of the user owning the source account
+     * @param amount    the transfer amount in the base currency of the FX rate table
+     * @throws VelocityLimitExceededException if the transfer exceeds any account or user limit
+     */
+    public void checkTransfer(int accountId, int userId, long amount) {
+        if (!velocityProperties.isEnabled()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        VelocityWindow[] exceeded = new VelocityWindow[1];
+        SlidingWindowCounters account = tryAcquire(accountCounters, accountId, now, amount,
+                velocityProperties.getAccountMaxCounts(), velocityProperties.getAccountMaxAmounts(), exceeded);
+        if (exceeded[0] != null) {
+            throw new VelocityLimitExceededException("Transfer velocity limit exceeded: accountId = %s, window = %s"
+                    .formatted(accountId, exceeded[0]));
+        }
+        SlidingWindowCounters user = tryAcquire(userCounters, userId, now, amount,
+                velocityProperties.getUserMaxCounts(), velocityProperties.getUserMaxAmounts(), exceeded);
+        if (exceeded[0] != null) {
+            account.release(now, amount);
+            throw new VelocityLimitExceededException("Transfer velocity limit exceeded: userId = %s, window = %s"
+                    .formatted(userId, exceeded[0]));
+        }
+        TransactionUtils.afterRollback(() -> {
+            account.release(now, amount);
+            user.release(now, amount);
+        });
+    }
+
+    /**
+     * Restores the counters from the snapshot file, if present.
+     */
+    @PostConstruct
+    public void restore() {
+        Path file = Path.of(velocityProperties.getSnapshotFile());
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SlidingWindowCounters.snapshotLength()) {
+                logger.warn("Ignoring velocity counters snapshot {} with an incompatible layout", file);
+                return;
+            }
+            readCounters(in, accountCounters);
+            readCounters(in, userCounters);
+            logger.info("Restored velocity counters of {} accounts and {} users",
+                    accountCounters.size(), userCounters.size());
+        } catch (IOException e) {
+            logger.warn("Cannot restore velocity counters from {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Evicts idle counters and writes the remaining ones to the snapshot file, replacing it atomically.
+     */
+    @Scheduled(fixedDelayString = "${risk.velocity.persist-interval-millis}")
+    @PreDestroy
+    public void persist() {
+        evictIdle(accountCounters);
+        evictIdle(userCounters);
+
+        Path file = Path.of(velocityProperties.getSnapshotFile()).toAbsolutePath();
+        try {
+            Files.createDirectories(file.getParent());
+            Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SlidingWindowCounters.snapshotLength());
+                writeCounters(out, accountCounters);
+                writeCounters(out, userCounters);
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            logger.warn("Cannot persist velocity counters to {}: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Records a transfer in the counters of an ID, creating them if absent, atomically with respect to
+     * {@link #evictIdle(Map)}.
+     *
+     * @return the counters of the ID; the window whose limit was exceeded is stored in {@code exceeded[0]}
+     */
+    private static SlidingWindowCounters tryAcquire(Map<Integer, SlidingWindowCounters> countersById, int id,
+                                                    long now, long amount, long[] maxCounts, long[] maxAmounts,
+                                                    VelocityWindow[] exceeded) {
+        return countersById.compute(id, (key, counters) -> {
+            SlidingWindowCounters current = counters != null ? counters : new SlidingWindowCounters();
+            exceeded[0] = current.tryAcquire(now, amount, maxCounts, maxAmounts);
+            return current;
+        });
+    }
+
+    /**
+     * Removes the idle counters, re-checking each one inside {@code computeIfPresent} so that a transfer
+     * recorded concurrently either keeps its counters or is recorded in new ones. The clock is read inside the
+     * re-check, so a transfer recorded just before it is never mistaken for a future, uncounted one.
+     */
+    private static void evictIdle(Map<Integer, SlidingWindowCounters> countersById) {
+        for (Integer id : countersById.keySet()) {
+            countersById.computeIfPresent(id,
+                    (key, counters) -> counters.isIdle(System.currentTimeMillis()) ? null : counters);
+        }
+    }
+
+    private static void writeCounters(DataOutputStream out, Map<Integer, SlidingWindowCounters> countersById)
+            throws IOException {
+        Map<Integer, SlidingWindowCounters> copy = Map.copyOf(countersById);
+        out.writeInt(copy.size());
+        for (Map.Entry<Integer, SlidingWindowCounters> entry : copy.entrySet()) {
+            out.writeInt(entry.getKey());
+            for (long word : entry.getValue().snapshot()) {
+                out.writeLong(word);
+            }
+        }
+    }
+
+    private static void readCounters(DataInputStream in, Map<Integer, SlidingWindowCounters> countersById)
+            throws IOException {
+        int size = in.readInt();
+        for (int i = 0; i < size; i++) {
+            int id = in.readInt();
+            long[] words = new long[SlidingWindowCounters.snapshotLength()];
+            for (int j = 0; j < words.length; j++) {
+                words[j] = in.readLong();
+            }
+            countersById.put(id, new SlidingWindowCounters(words));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package org.springcorebankapp.risk;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+
+/**
+ * Configuration properties for transfer velocity checks.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * Limits are comma-separated lists ordered as the {@link VelocityWindow} constants (minute, hour, day);
+ * a limit of {@code 0} disables the corresponding check. Amounts are in the base currency of the FX rate table.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Defines per-account and per-user limits on the number and total amount of outgoing transfers.</li>
+ *     <li>Defines where and how often the in-memory counters are persisted.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class VelocityProperties {
+
+    /**
+     * Whether velocity checks are enforced, injected from {@code risk.velocity.enabled}.
+     */
+    private final boolean enabled;
+
+    /**
+     * The maximum number of transfers per account and window, injected from {@code risk.velocity.account.max-counts}.
+     */
+    private final long[] accountMaxCounts;
+
+    /**
+     * The maximum transferred amount per account and window, injected from {@code risk.velocity.account.max-amounts}.
+     */
+    private final long[] accountMaxAmounts;
+
+    /**
+     * The maximum number of transfers per user and window, injected from {@code risk.velocity.user.max-counts}.
+     */
+    private final long[] userMaxCounts;
+
+    /**
+     * The maximum transferred amount per user and window, injected from {@code risk.velocity.user.max-amounts}.
+     */
+    private final long[] userMaxAmounts;
+
+    /**
+     * The file the counters are persisted to, injected from {@code risk.velocity.snapshot-file}.
+     */
+    private final String snapshotFile;
+
+    /**
+     * Constructs a new {@code VelocityProperties} instance.
+     *
+     * @param enabled           whether velocity checks are enforced
+     * @param accountMaxCounts  the maximum number of transfers per account and window
+     * @param accountMaxAmounts the maximum transferred amount per account and window
+     * @param userMaxCounts     the maximum number of transfers per user and window
+     * @param userMaxAmounts    the maximum transferred amount per user and window
+     * @param snapshotFile      the file the counters are persisted to
+     * @throws IllegalArgumentException if a limit list does not have one entry per {@link VelocityWindow}
+     */
+    public VelocityProperties(@Value("${risk.velocity.enabled}") boolean enabled,
+                              @Value("${risk.velocity.account.max-counts}") long[] accountMaxCounts,
+                              @Value("${risk.velocity.account.max-amounts}") long[] accountMaxAmounts,
+                              @Value("${risk.velocity.user.max-counts}") long[] userMaxCounts,
+                              @Value("${risk.velocity.user.max-amounts}") long[] userMaxAmounts,
+                              @Value("${risk.velocity.snapshot-file}") String snapshotFile) {
+        this.enabled = enabled;
+        this.accountMaxCounts = requireWindowLimits(accountMaxCounts);
+        this.accountMaxAmounts = requireWindowLimits(accountMaxAmounts);
+        this.userMaxCounts = requireWindowLimits(userMaxCounts);
+        this.userMaxAmounts = requireWindowLimits(userMaxAmounts);
+        this.snapshotFile = snapshotFile;
+    }
+
+    /**
+     * Returns whether velocity checks are enforced.
+     *
+     * @return {@code true} if velocity checks are enforced
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the maximum number of transfers per account, ordered as {@link VelocityWindow}.
+     *
+     * @return the per-account count limits
+     */
+    public long[] getAccountMaxCounts() {
+        return accountMaxCounts;
+    }
+
+    /**
+     * Returns the maximum transferred amount per account, ordered as {@link VelocityWindow}.
+     *
+     * @return the per-account amount limits
+     */
+    public long[] getAccountMaxAmounts() {
+        return accountMaxAmounts;
+    }
+
+    /**
+     * Returns the maximum number of transfers per user, ordered as {@link VelocityWindow}.
+     *
+     * @return the per-user count limits
+     */
+    public long[] getUserMaxCounts() {
+        return userMaxCounts;
+    }
+
+    /**
+     * Returns the maximum transferred amount per user, ordered as {@link VelocityWindow}.
+     *
+     * @return the per-user amount limits
+     */
+    public long[] getUserMaxAmounts() {
+        return userMaxAmounts;
+    }
+
+    /**
+     * Returns the file the counters are persisted to.
+     *
+     * @return the snapshot file path
+     */
+    public String getSnapshotFile() {
+        return snapshotFile;
+    }
+
+    private static long[] requireWindowLimits(long[] limits) {
+        if (limits.length != VelocityWindow.values().length) {
+            throw new IllegalArgumentException("Expected one velocity limit per window %s, got %s"
+                    .formatted(Arrays.toString(VelocityWindow.values()), limits.length));
+        }
+        return limits;
+    }
+}
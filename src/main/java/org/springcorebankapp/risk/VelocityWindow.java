@@ -0,0 +1,55 @@
+package org.springcorebankapp.risk;
+
+/**
+ * Sliding windows over which transfer velocity is limited.
+ * <p>
+ * Each window is a ring of fixed-width buckets, so it slides with the granularity of one bucket.
+ * Limits configured as arrays are ordered as the constants of this enum.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public enum VelocityWindow {
+
+    /**
+     * The last minute, in 60 buckets of one second.
+     */
+    MINUTE(60, 1_000L),
+
+    /**
+     * The last hour, in 60 buckets of one minute.
+     */
+    HOUR(60, 60_000L),
+
+    /**
+     * The last day, in 96 buckets of fifteen minutes.
+     */
+    DAY(96, 900_000L);
+
+    private final int buckets;
+    private final long bucketMillis;
+
+    VelocityWindow(int buckets, long bucketMillis) {
+        this.buckets = buckets;
+        this.bucketMillis = bucketMillis;
+    }
+
+    /**
+     * Returns the number of buckets in the window.
+     *
+     * @return the number of buckets
+     */
+    public int getBuckets() {
+        return buckets;
+    }
+
+    /**
+     * Returns the width of a single bucket in milliseconds.
+     *
+     * @return the bucket width in milliseconds
+     */
+    public long getBucketMillis() {
+        return bucketMillis;
+    }
+}
@@ -0,0 +1,228 @@
+package org.springcorebankapp.schedule;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * In-memory hierarchical timing wheel used to dispatch scheduled transfers.
+ * <p>
+ * The wheel consists of several levels of 64 slots each. Level {@code 0} advances one slot per tick,
+ * and every higher level advances one slot per full revolution of the level below it. A timer is placed
+ * on the lowest level whose range covers its remaining delay; when a higher level slot comes due its timers
+ * are cascaded down to the lower levels. Insertion and cancellation are {@code O(1)}, and advancing
+ * the wheel costs {@code O(1)} per tick plus the number of timers that expire or cascade.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Constant-time scheduling, rescheduling and cancellation by schedule ID.</li>
+ *     <li>With five levels and a 100 ms tick the wheel spans more than three years without overflow lists.</li>
+ *     <li>Deadlines beyond the top level are simply re-placed each time their slot is visited.</li>
+ * </ul>
+ *
+ * <p>
+ * All public methods are synchronized; each of them performs a bounded amount of work per timer,
+ * so contention between request threads and the dispatcher stays negligible.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class HierarchicalTimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+
+    private final long tickMillis;
+    private final int levels;
+    private final Node[][] slots;
+    private final Map<Integer, Node> timers = new HashMap<>();
+    private long currentTick;
+
+    /**
+     * Constructs a new timing wheel.
+     *
+     * @param tickMillis  the duration of a single tick in milliseconds
+     * @param levels      the number of wheel levels
+     * @param startMillis the wall-clock time (epoch milliseconds) the wheel starts at
+     * @throws IllegalArgumentException if the tick duration or the number of levels is not positive
+     */
+    public HierarchicalTimingWheel(long tickMillis, int levels, long startMillis) {
+        if (tickMillis <= 0 || levels <= 0 || levels * SLOT_BITS >= Long.SIZE - 1) {
+            throw new IllegalArgumentException("Invalid timing wheel configuration: tickMillis = %s, levels = %s"
+                    .formatted(tickMillis, levels));
+        }
+        this.tickMillis = tickMillis;
+        this.levels = levels;
+        this.slots = new Node[levels][SLOTS];
+        for (Node[] level : slots) {
+            for (int i = 0; i < SLOTS; i++) {
+                level[i] = Node.sentinel();
+            }
+        }
+        this.currentTick = Math.floorDiv(startMillis, tickMillis);
+    }
+
+    /**
+     * Schedules (or reschedules) the timer with the given ID.
+     * <p>
+     * Deadlines that are already in the past fire on the next tick.
+     * </p>
+     *
+     * @param id             the ID of the schedule
+     * @param deadlineMillis the time (epoch milliseconds) at which the timer must fire
+     */
+    public synchronized void schedule(int id, long deadlineMillis) {
+        Node node = timers.get(id);
+        if (node == null) {
+            node = new Node(id);
+            timers.put(id, node);
+        } else {
+            node.unlink();
+        }
+        node.deadlineTick = Math.max(Math.floorDiv(deadlineMillis, tickMillis), currentTick + 1);
+        place(node);
+    }
+
+    /**
+     * Cancels the timer with the given ID.
+     *
+     * @param id the ID of the schedule
+     * @return {@code true} if the timer was pending; {@code false} otherwise
+     */
+    public synchronized boolean cancel(int id) {
+        Node node = timers.remove(id);
+        if (node == null) {
+            return false;
+        }
+        node.unlink();
+        return true;
+    }
+
+    /**
+     * Advances the wheel up to the given time, passing the ID of every expired timer to the consumer.
+     *
+     * @param nowMillis the current time in epoch milliseconds
+     * @param expired   the consumer receiving expired schedule IDs, in deadline order
+     * @return the number of expired timers
+     */
+    public synchronized int advance(long nowMillis, IntConsumer expired) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        int expiredCount = 0;
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = levels - 1; level > 0; level--) {
+                if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+                    cascade(slots[level][slotIndex(currentTick, level)]);
+                }
+            }
+            for (Node node = detach(slots[0][slotIndex(currentTick, 0)]); node != null; ) {
+                Node next = node.next;
+                node.next = null;
+                if (node.deadlineTick > currentTick) {
+                    place(node);
+                } else {
+                    timers.remove(node.id);
+                    expired.accept(node.id);
+                    expiredCount++;
+                }
+                node = next;
+            }
+        }
+        return expiredCount;
+    }
+
+    /**
+     * Returns whether a timer with the given ID is pending.
+     *
+     * @param id the ID of the schedule
+     * @return {@code true} if the timer is pending; {@code false} otherwise
+     */
+    public synchronized boolean contains(int id) {
+        return timers.containsKey(id);
+    }
+
+    /**
+     * Returns the number of pending timers.
+     *
+     * @return the number of pending timers
+     */
+    public synchronized int size() {
+        return timers.size();
+    }
+
+    private void cascade(Node head) {
+        for (Node node = detach(head); node != null; ) {
+            Node next = node.next;
+            node.next = null;
+            place(node);
+            node = next;
+        }
+    }
+
+    /**
+     * Empties a slot and returns its timers as a singly linked chain, so that they can be re-placed
+     * into the very same slot while the chain is being walked.
+     */
+    private static Node detach(Node head) {
+        if (head.next == head) {
+            return null;
+        }
+        Node first = head.next;
+        head.prev.next = null;
+        head.next = head;
+        head.prev = head;
+        for (Node node = first; node != null; node = node.next) {
+            node.prev = null;
+        }
+        return first;
+    }
+
+    private void place(Node node) {
+        long delay = node.deadlineTick - currentTick;
+        int level = 0;
+        while (level < levels - 1 && delay >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        node.linkBefore(slots[level][slotIndex(node.deadlineTick, level)]);
+    }
+
+    private static int slotIndex(long tick, int level) {
+        return (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+    }
+
+    private static final class Node {
+        private final int id;
+        private long deadlineTick;
+        private Node prev;
+        private Node next;
+
+        private Node(int id) {
+            this.id = id;
+        }
+
+        private static Node sentinel() {
+            Node node = new Node(-1);
+            node.prev = node;
+            node.next = node;
+            return node;
+        }
+
+        private void linkBefore(Node head) {
+            prev = head.prev;
+            next = head;
+            head.prev.next = this;
+            head.prev = this;
+        }
+
+        private void unlink() {
+            if (prev != null) {
+                prev.next = next;
+                next.prev = prev;
+                prev = null;
+                next = null;
+            }
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package org.springcorebankapp.schedule;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Represents a future-dated transfer or a standing order.
+ * <p>
+ * This class is a JPA entity that maps to the "scheduled_transfers" table in the database.
+ * A schedule with a positive {@code intervalSeconds} is a standing order that is executed
+ * repeatedly; a schedule with a zero interval is a one-off transfer.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Durable storage of the source account, target account and amount to transfer.</li>
+ *     <li>Tracking of the next execution time and the recurrence interval.</li>
+ *     <li>Tracking of the schedule status and the last execution error.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "scheduled_transfers",
+        indexes = @Index(name = "idx_scheduled_transfers_status_id", columnList = "status, id"))
+public class ScheduledTransfer implements Serializable {
+
+    /**
+     * Unique identifier for the schedule.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private int id;
+
+    /**
+     * Identifier of the account to transfer money from.
+     */
+    @Column(name = "from_account_id", nullable = false)
+    private int fromAccountId;
+
+    /**
+     * Identifier of the account to transfer money to.
+     */
+    @Column(name = "to_account_id", nullable = false)
+    private int toAccountId;
+
+    /**
+     * The amount of money, in minor units of the source account's currency, transferred on each execution.
+     */
+    @Column(name = "amount", nullable = false)
+    private long amount;
+
+    /**
+     * The time of the next execution.
+     */
+    @Column(name = "next_execution_at", nullable = false)
+    private Instant nextExecutionAt;
+
+    /**
+     * The recurrence interval in seconds, or {@code 0} for a one-off transfer.
+     */
+    @Column(name = "interval_seconds", nullable = false)
+    private long intervalSeconds;
+
+    /**
+     * The current status of the schedule.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 16)
+    private ScheduledTransferStatus status;
+
+    /**
+     * The error message of the last failed execution, if any.
+     */
+    @Column(name = "last_error")
+    private String lastError;
+
+    /**
+     * Constructs a new active {@code ScheduledTransfer}.
+     *
+     * @param fromAccountId   the ID of the account to transfer money from
+     * @param toAccountId     the ID of the account to transfer money to
+     * @param amount          the amount of money to transfer on each execution
+     * @param nextExecutionAt the time of the first execution
+     * @param intervalSeconds the recurrence interval in seconds, or {@code 0} for a one-off transfer
+     */
+    public ScheduledTransfer(int fromAccountId, int toAccountId, long amount,
+                             Instant nextExecutionAt, long intervalSeconds) {
+        this.fromAccountId = fromAccountId;
+        this.toAccountId = toAccountId;
+        this.amount = amount;
+        this.nextExecutionAt = nextExecutionAt;
+        this.intervalSeconds = intervalSeconds;
+        this.status = ScheduledTransferStatus.ACTIVE;
+    }
+
+    /**
+     * Returns whether this schedule is a recurring standing order.
+     *
+     * @return {@code true} if the schedule recurs; {@code false} for a one-off transfer
+     */
+    public boolean isRecurring() {
+        return intervalSeconds > 0;
+    }
+
+    /**
+     * Moves this schedule past the given time.
+     * <p>
+     * A standing order advances its next execution time by whole intervals until it lies in the future,
+     * so occurrences missed during downtime are not executed in a burst. A one-off transfer
+     * receives the given terminal status instead.
+     * </p>
+     *
+     * @param now            the current time
+     * @param terminalStatus the status a one-off transfer ends in
+     */
+    public void advance(Instant now, ScheduledTransferStatus terminalStatus) {
+        if (!isRecurring()) {
+            status = terminalStatus;
+            return;
+        }
+        long elapsed = now.getEpochSecond() - nextExecutionAt.getEpochSecond();
+        long intervals = Math.max(1, elapsed / intervalSeconds + 1);
+        nextExecutionAt = nextExecutionAt.plusSeconds(intervals * intervalSeconds);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ScheduledTransfer that = (ScheduledTransfer) o;
+        return id == that.id && fromAccountId == that.fromAccountId && toAccountId == that.toAccountId
+                && amount == that.amount && intervalSeconds == that.intervalSeconds
+                && Objects.equals(nextExecutionAt, that.nextExecutionAt) && status == that.status;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, fromAccountId, toAccountId, amount, nextExecutionAt, intervalSeconds, status);
+    }
+
+    @Override
+    public String toString() {
+        return "ScheduledTransfer{" +
+                "id=" + id +
+                ", fromAccountId=" + fromAccountId +
+                ", toAccountId=" + toAccountId +
+                ", amount=" + amount +
+                ", nextExecutionAt=" + nextExecutionAt +
+                ", intervalSeconds=" + intervalSeconds +
+                ", status=" + status +
+                '}';
+    }
+}
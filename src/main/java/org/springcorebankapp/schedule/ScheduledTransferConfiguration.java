@@ -0,0 +1,32 @@
+package org.springcorebankapp.schedule;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the scheduled transfers engine.
+ * <p>
+ * Declares the {@link HierarchicalTimingWheel} shared by the {@link ScheduledTransferService},
+ * which schedules and cancels timers, and the {@link ScheduledTransferDispatcher}, which advances it.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+public class ScheduledTransferConfiguration {
+
+    /**
+     * Configures and returns the timing wheel used to dispatch scheduled transfers.
+     *
+     * @param scheduledTransferProperties the scheduled transfer configuration properties
+     * @return a timing wheel starting at the current time
+     */
+    @Bean
+    public HierarchicalTimingWheel scheduledTransferTimingWheel(ScheduledTransferProperties scheduledTransferProperties) {
+        return new HierarchicalTimingWheel(
+                scheduledTransferProperties.getTickMillis(),
+                scheduledTransferProperties.getWheelLevels(),
+                System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,115 @@
+package org.springcorebankapp.schedule;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springcorebankapp.exception.ScheduledTransferNotFoundException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import javax.security.auth.login.AccountNotFoundException;
+import java.time.Instant;
+
+@Tag(name = "Scheduled Transfer Controller", description = "Operations related to scheduled transfers and standing orders")
+@RestController
+@RequestMapping("/scheduled-transfers")
+public class ScheduledTransferController {
+    private final ScheduledTransferService scheduledTransferService;
+
+    @Autowired
+    public ScheduledTransferController(ScheduledTransferService scheduledTransferService) {
+        this.scheduledTransferService = scheduledTransferService;
+    }
+
+    @Operation(
+            summary = "Schedule a transfer",
+            description = "Schedules a future-dated transfer, or a standing order when a positive interval is given. "
+                    + "Amounts are in minor units of the source account's currency (e.g. cents), no longer in whole units.",
+            tags = {"Scheduled Transfer Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Transfer successfully scheduled"),
+            @ApiResponse(responseCode = "400", description = "Invalid amount or interval"),
+            @ApiResponse(responseCode = "404", description = "Account not found"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @PostMapping("/create-scheduled-transfer")
+    public ResponseEntity<String> createScheduledTransfer(
+            @Parameter(description = "ID of the account to transfer money from", required = true)
+            @RequestParam("fromAccountId") int fromAccountId,
+            @Parameter(description = "ID of the account to transfer money to", required = true)
+            @RequestParam("toAccountId") int toAccountId,
+            @Parameter(description = "Amount to transfer on each execution, in minor units of the source account's currency", required = true)
+            @RequestParam("amount") long amount,
+            @Parameter(description = "Time of the first execution (ISO-8601 instant)", required = true)
+            @RequestParam("firstExecutionAt") @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant firstExecutionAt,
+            @Parameter(description = "Recurrence interval in seconds, 0 for a one-off transfer")
+            @RequestParam(value = "intervalSeconds", defaultValue = "0") long intervalSeconds) {
+        try {
+            var scheduledTransfer = scheduledTransferService.createScheduledTransfer(
+                    fromAccountId, toAccountId, amount, firstExecutionAt, intervalSeconds);
+            return ResponseEntity.ok("Scheduled transfer with id = %s created".formatted(scheduledTransfer.getId()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (AccountNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+
+    @Operation(
+            summary = "Find a scheduled transfer by ID",
+            description = "Retrieves a scheduled transfer's details using its unique ID.",
+            tags = {"Scheduled Transfer Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Scheduled transfer found and returned successfully"),
+            @ApiResponse(responseCode = "404", description = "Scheduled transfer not found"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @GetMapping("/find-scheduled-transfer-by-id")
+    public ResponseEntity<ScheduledTransfer> findScheduledTransferById(
+            @Parameter(description = "Unique ID of the scheduled transfer", required = true)
+            @RequestParam("id") int id) {
+        try {
+            return ResponseEntity.ok(scheduledTransferService.findScheduledTransferById(id));
+        } catch (ScheduledTransferNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(null);
+        }
+    }
+
+    @Operation(
+            summary = "Cancel a scheduled transfer",
+            description = "Cancels an active scheduled transfer or standing order.",
+            tags = {"Scheduled Transfer Controller"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Scheduled transfer cancelled successfully"),
+            @ApiResponse(responseCode = "400", description = "Scheduled transfer is no longer active"),
+            @ApiResponse(responseCode = "404", description = "Scheduled transfer not found"),
+            @ApiResponse(responseCode = "500", description = "Unexpected server error")
+    })
+    @DeleteMapping("/cancel-scheduled-transfer")
+    public ResponseEntity<String> cancelScheduledTransfer(
+            @Parameter(description = "ID of the scheduled transfer to cancel", required = true)
+            @RequestParam("id") int id) {
+        try {
+            scheduledTransferService.cancelScheduledTransfer(id);
+            return ResponseEntity.ok("Scheduled transfer cancelled successfully");
+        } catch (ScheduledTransferNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.springcorebankapp.schedule;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+/**
+ * Drives the scheduled transfers engine on every timing wheel tick.
+ * <p>
+ * Until all active schedules have been loaded, each tick first loads one more page of them into the
+ * timing wheel, so startup is never blocked by the size of the schedules table. The tick then executes
+ * every schedule that has come due.
+ * </p>
+ *
+ * @see ScheduledTransferService
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class ScheduledTransferDispatcher {
+    private final Logger logger = LoggerFactory.getLogger(ScheduledTransferDispatcher.class);
+
+    private final ScheduledTransferService scheduledTransferService;
+
+    /**
+     * The last ID loaded into the timing wheel, or {@code -1} once loading has finished.
+     */
+    private int lastLoadedId = 0;
+
+    @Autowired
+    public ScheduledTransferDispatcher(ScheduledTransferService scheduledTransferService) {
+        this.scheduledTransferService = scheduledTransferService;
+    }
+
+    /**
+     * Loads the next page of schedules, if any, and executes all due schedules.
+     */
+    @Scheduled(fixedDelayString = "${transfer.schedule.tick-millis}")
+    public void tick() {
+        if (lastLoadedId >= 0) {
+            lastLoadedId = scheduledTransferService.loadPage(lastLoadedId);
+            if (lastLoadedId < 0) {
+                logger.info("All active scheduled transfers loaded into the timing wheel");
+            }
+        }
+        scheduledTransferService.dispatchDue(Instant.now());
+    }
+}
@@ -0,0 +1,98 @@
+package org.springcorebankapp.schedule;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for scheduled transfers and standing orders.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Defines the tick duration and the number of levels of the timing wheel.</li>
+ *     <li>Defines how many due schedules are executed per batch.</li>
+ *     <li>Defines how many schedules are loaded per page at startup.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class ScheduledTransferProperties {
+
+    /**
+     * The duration of one timing wheel tick in milliseconds, injected from {@code transfer.schedule.tick-millis}.
+     */
+    private final long tickMillis;
+
+    /**
+     * The number of timing wheel levels, injected from {@code transfer.schedule.wheel-levels}.
+     */
+    private final int wheelLevels;
+
+    /**
+     * The maximum number of due schedules executed per batch, injected from {@code transfer.schedule.batch-size}.
+     */
+    private final int batchSize;
+
+    /**
+     * The number of schedules loaded per page at startup, injected from {@code transfer.schedule.load-page-size}.
+     */
+    private final int loadPageSize;
+
+    /**
+     * Constructs a new {@code ScheduledTransferProperties} instance.
+     *
+     * @param tickMillis   the duration of one timing wheel tick in milliseconds
+     * @param wheelLevels  the number of timing wheel levels
+     * @param batchSize    the maximum number of due schedules executed per batch
+     * @param loadPageSize the number of schedules loaded per page at startup
+     */
+    public ScheduledTransferProperties(@Value("${transfer.schedule.tick-millis}") long tickMillis,
+                                       @Value("${transfer.schedule.wheel-levels}") int wheelLevels,
+                                       @Value("${transfer.schedule.batch-size}") int batchSize,
+                                       @Value("${transfer.schedule.load-page-size}") int loadPageSize) {
+        this.tickMillis = tickMillis;
+        this.wheelLevels = wheelLevels;
+        this.batchSize = batchSize;
+        this.loadPageSize = loadPageSize;
+    }
+
+    /**
+     * Returns the duration of one timing wheel tick in milliseconds.
+     *
+     * @return the tick duration
+     */
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    /**
+     * Returns the number of timing wheel levels.
+     *
+     * @return the number of levels
+     */
+    public int getWheelLevels() {
+        return wheelLevels;
+    }
+
+    /**
+     * Returns the maximum number of due schedules executed per batch.
+     *
+     * @return the batch size
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Returns the number of schedules loaded per page at startup.
+     *
+     * @return the page size
+     */
+    public int getLoadPageSize() {
+        return loadPageSize;
+    }
+}
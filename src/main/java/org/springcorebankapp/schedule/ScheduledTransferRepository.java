@@ -0,0 +1,70 @@
+package org.springcorebankapp.schedule;
+
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing {@link ScheduledTransfer} entities.
+ * <p>
+ * Besides the standard CRUD operations it provides a keyset-paginated query used to load
+ * active schedules into the timing wheel incrementally at startup.
+ * </p>
+ *
+ * @see ScheduledTransfer
+ * @see HierarchicalTimingWheel
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Repository
+public interface ScheduledTransferRepository extends JpaRepository<ScheduledTransfer, Integer> {
+
+    /**
+     * Finds the next page of schedules with the given status, ordered by ID.
+     * <p>
+     * Pages are addressed by the last ID seen rather than by offset, so every page costs the same
+     * regardless of how far the scan has progressed.
+     * </p>
+     *
+     * @param status   the status of the schedules to load
+     * @param afterId  the last ID of the previous page, or {@code 0} for the first page
+     * @param pageable the page size; the page number is ignored by the caller and must be {@code 0}
+     * @return the schedules of the page, ordered by ID
+     */
+    List<ScheduledTransfer> findByStatusAndIdGreaterThanOrderByIdAsc(ScheduledTransferStatus status,
+                                                                     int afterId,
+                                                                     Pageable pageable);
+
+    /**
+     * Finds a schedule and locks its row until the end of the transaction, waiting for a running execution
+     * of the schedule to finish.
+     *
+     * @param id the ID of the schedule
+     * @return an {@link Optional} containing the locked schedule, or an empty {@link Optional} if not found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ScheduledTransfer> findWithLockById(int id);
+
+    /**
+     * Finds a schedule to execute and locks its row until the end of the transaction
+     * ({@code SELECT ... FOR UPDATE SKIP LOCKED}).
+     * <p>
+     * A schedule locked by a concurrent execution, e.g. by another instance whose timing wheel fired it too,
+     * or by a cancellation is skipped instead of waited for.
+     * </p>
+     *
+     * @param id the ID of the schedule
+     * @return an {@link Optional} containing the locked schedule, or an empty {@link Optional} if it is not
+     * found or locked by another transaction
+     */
+    @Query(value = "SELECT * FROM scheduled_transfers WHERE id = :id FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    Optional<ScheduledTransfer> findForExecutionById(@Param("id") int id);
+}
@@ -0,0 +1,240 @@
+package org.springcorebankapp.schedule;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springcorebankapp.account.AccountService;
+import org.springcorebankapp.exception.ScheduledTransferNotFoundException;
+import org.springcorebankapp.util.TransactionUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.security.auth.login.AccountNotFoundException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Service class for managing scheduled transfers and standing orders.
+ * <p>
+ * Schedules are stored durably in the {@link ScheduledTransferRepository} and dispatched by an in-memory
+ * {@link HierarchicalTimingWheel}. Due schedules are executed in batches on top of
+ * {@link AccountService#transfer(int, int, long)}, each schedule in its own transaction together with
+ * the update of its next execution time, so a failing order never affects the rest of its batch.
+ * </p>
+ * <p>
+ * An execution locks the row of its schedule and re-checks that it is still active and due before moving
+ * money, so a cancellation committed meanwhile is never overwritten, and a schedule fired by the timing wheels
+ * of several instances is executed by one of them only.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Creation, lookup and cancellation of one-off and recurring transfers.</li>
+ *     <li>Incremental, keyset-paginated loading of active schedules into the timing wheel.</li>
+ *     <li>Batched execution of due schedules without scanning the schedules table.</li>
+ * </ul>
+ *
+ * @see ScheduledTransfer
+ * @see ScheduledTransferDispatcher
+ * @see HierarchicalTimingWheel
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+@Transactional
+public class ScheduledTransferService {
+    private final Logger logger = LoggerFactory.getLogger(ScheduledTransferService.class);
+
+    @Autowired
+    private ScheduledTransferRepository scheduledTransferRepository;
+    @Autowired
+    private ScheduledTransferProperties scheduledTransferProperties;
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private HierarchicalTimingWheel timingWheel;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Creates a new scheduled transfer.
+     * <p>
+     * The schedule is added to the timing wheel once the creating transaction commits.
+     * </p>
+     *
+     * @param fromAccountId    the ID of the account to transfer money from
+     * @param toAccountId      the ID of the account to transfer money to
+     * @param amount           the amount of money, in minor units, to transfer on each execution
+     * @param firstExecutionAt the time of the first execution
+     * @param intervalSeconds  the recurrence interval in seconds, or {@code 0} for a one-off transfer
+     * @return the created {@link ScheduledTransfer}
+     * @throws AccountNotFoundException if either of the accounts is not found
+     * @throws IllegalArgumentException if the amount is not positive or the interval is negative
+     */
+    public ScheduledTransfer createScheduledTransfer(int fromAccountId, int toAccountId, long amount,
+                                                     Instant firstExecutionAt, long intervalSeconds)
+            throws AccountNotFoundException {
+        if (amount <= 0) {
+            throw new IllegalArgumentException("Cannot schedule not positive money: amount = %s".formatted(amount));
+        }
+        if (intervalSeconds < 0) {
+            throw new IllegalArgumentException("Cannot schedule negative interval: intervalSeconds = %s"
+                    .formatted(intervalSeconds));
+        }
+        accountService.findAccountById(fromAccountId);
+        accountService.findAccountById(toAccountId);
+
+        ScheduledTransfer scheduledTransfer = scheduledTransferRepository.save(
+                new ScheduledTransfer(fromAccountId, toAccountId, amount, firstExecutionAt, intervalSeconds));
+        TransactionUtils.afterCommit(() -> timingWheel.schedule(scheduledTransfer.getId(),
+                scheduledTransfer.getNextExecutionAt().toEpochMilli()));
+        return scheduledTransfer;
+    }
+
+    /**
+     * Finds a scheduled transfer by its ID.
+     *
+     * @param id the ID of the schedule
+     * @return the found {@link ScheduledTransfer}
+     * @throws ScheduledTransferNotFoundException if no schedule is found with the provided ID
+     */
+    @Transactional(readOnly = true)
+    public ScheduledTransfer findScheduledTransferById(int id) {
+        return scheduledTransferRepository.findById(id)
+                .orElseThrow(() -> new ScheduledTransferNotFoundException(
+                        "Scheduled transfer with id = %s not found".formatted(id)));
+    }
+
+    /**
+     * Cancels a scheduled transfer and removes it from the timing wheel.
+     * <p>
+     * The schedule is locked first, so a cancellation racing with an execution of the schedule waits for it
+     * and then sees its outcome.
+     * </p>
+     *
+     * @param id the ID of the schedule
+     * @throws ScheduledTransferNotFoundException if no schedule is found with the provided ID
+     * @throws IllegalArgumentException           if the schedule is no longer active
+     */
+    public void cancelScheduledTransfer(int id) {
+        ScheduledTransfer scheduledTransfer = scheduledTransferRepository.findWithLockById(id)
+                .orElseThrow(() -> new ScheduledTransferNotFoundException(
+                        "Scheduled transfer with id = %s not found".formatted(id)));
+        if (scheduledTransfer.getStatus() != ScheduledTransferStatus.ACTIVE) {
+            throw new IllegalArgumentException("Cannot cancel scheduled transfer: id = %s, status = %s"
+                    .formatted(id, scheduledTransfer.getStatus()));
+        }
+        scheduledTransfer.setStatus(ScheduledTransferStatus.CANCELLED);
+        scheduledTransferRepository.save(scheduledTransfer);
+        TransactionUtils.afterCommit(() -> timingWheel.cancel(id));
+    }
+
+    /**
+     * Loads the next page of active schedules into the timing wheel.
+     *
+     * @param afterId the last ID of the previously loaded page, or {@code 0} for the first page
+     * @return the last ID of the loaded page, or {@code -1} if there are no more active schedules
+     */
+    @Transactional(readOnly = true)
+    public int loadPage(int afterId) {
+        List<ScheduledTransfer> page = scheduledTransferRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                ScheduledTransferStatus.ACTIVE, afterId, PageRequest.of(0, scheduledTransferProperties.getLoadPageSize()));
+        if (page.isEmpty()) {
+            return -1;
+        }
+        for (ScheduledTransfer scheduledTransfer : page) {
+            timingWheel.schedule(scheduledTransfer.getId(), scheduledTransfer.getNextExecutionAt().toEpochMilli());
+        }
+        return page.get(page.size() - 1).getId();
+    }
+
+    /**
+     * Advances the timing wheel and executes every due schedule in batches.
+     *
+     * @param now the current time
+     * @return the number of schedules taken from the timing wheel
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int dispatchDue(Instant now) {
+        List<Integer> dueIds = new ArrayList<>();
+        timingWheel.advance(now.toEpochMilli(), dueIds::add);
+
+        int batchSize = scheduledTransferProperties.getBatchSize();
+        for (int from = 0; from < dueIds.size(); from += batchSize) {
+            executeBatch(dueIds.subList(from, Math.min(from + batchSize, dueIds.size())), now);
+        }
+        return dueIds.size();
+    }
+
+    private void executeBatch(List<Integer> ids, Instant now) {
+        for (ScheduledTransfer scheduledTransfer : scheduledTransferRepository.findAllById(ids)) {
+            if (scheduledTransfer.getStatus() != ScheduledTransferStatus.ACTIVE) {
+                continue;
+            }
+            if (scheduledTransfer.getNextExecutionAt().isAfter(now)) {
+                timingWheel.schedule(scheduledTransfer.getId(), scheduledTransfer.getNextExecutionAt().toEpochMilli());
+                continue;
+            }
+            int id = scheduledTransfer.getId();
+            Instant nextExecutionAt;
+            try {
+                nextExecutionAt = transactionTemplate.execute(status -> executeLocked(id, now, locked -> {
+                    transfer(locked);
+                    locked.setLastError(null);
+                    locked.advance(now, ScheduledTransferStatus.COMPLETED);
+                }));
+            } catch (RuntimeException e) {
+                logger.warn("Scheduled transfer with id = {} failed: {}", id, e.getMessage());
+                nextExecutionAt = transactionTemplate.execute(status -> executeLocked(id, now, locked -> {
+                    locked.setLastError(e.getMessage());
+                    locked.advance(now, ScheduledTransferStatus.FAILED);
+                }));
+            }
+            if (nextExecutionAt != null) {
+                timingWheel.schedule(id, nextExecutionAt.toEpochMilli());
+            }
+        }
+    }
+
+    /**
+     * Applies an execution outcome to a schedule under its row lock, after re-checking that the schedule is
+     * still active and due; the snapshot the batch was selected from may be stale by now.
+     *
+     * @return the time the schedule fires next, or {@code null} if it is no longer active
+     */
+    private Instant executeLocked(int id, Instant now, Consumer<ScheduledTransfer> outcome) {
+        Optional<ScheduledTransfer> locked = scheduledTransferRepository.findForExecutionById(id);
+        if (locked.isEmpty()) {
+            // Locked by a concurrent execution or cancellation: re-check its outcome on the next tick.
+            return now;
+        }
+        ScheduledTransfer scheduledTransfer = locked.get();
+        if (scheduledTransfer.getStatus() != ScheduledTransferStatus.ACTIVE) {
+            return null;
+        }
+        if (scheduledTransfer.getNextExecutionAt().isAfter(now)) {
+            return scheduledTransfer.getNextExecutionAt();
+        }
+        outcome.accept(scheduledTransfer);
+        scheduledTransferRepository.save(scheduledTransfer);
+        return scheduledTransfer.getStatus() == ScheduledTransferStatus.ACTIVE
+                ? scheduledTransfer.getNextExecutionAt()
+                : null;
+    }
+
+    private void transfer(ScheduledTransfer scheduledTransfer) {
+        try {
+            accountService.transfer(scheduledTransfer.getFromAccountId(), scheduledTransfer.getToAccountId(),
+                    scheduledTransfer.getAmount());
+        } catch (AccountNotFoundException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+}
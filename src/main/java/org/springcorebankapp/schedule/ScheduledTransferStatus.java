@@ -0,0 +1,30 @@
+package org.springcorebankapp.schedule;
+
+/**
+ * Lifecycle states of a {@link ScheduledTransfer}.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public enum ScheduledTransferStatus {
+
+    /**
+     * The transfer is waiting for its next execution.
+     */
+    ACTIVE,
+
+    /**
+     * A one-off transfer that has been executed.
+     */
+    COMPLETED,
+
+    /**
+     * The transfer was cancelled by the account holder.
+     */
+    CANCELLED,
+
+    /**
+     * A one-off transfer whose execution failed.
+     */
+    FAILED
+}
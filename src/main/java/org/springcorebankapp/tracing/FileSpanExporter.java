@@ -0,0 +1,108 @@
+package org.springcorebankapp.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Span exporter appending finished spans as JSON lines to a file.
+ * <p>
+ * Spans are queued by the request threads and written by a single background thread, so exporting never waits
+ * for the disk. If the queue is full, spans are dropped and counted rather than slowing requests down.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class FileSpanExporter implements SpanExporter, AutoCloseable {
+    private final Logger logger = LoggerFactory.getLogger(FileSpanExporter.class);
+
+    private final BlockingQueue<Span> queue;
+    private final AtomicLong droppedSpans = new AtomicLong();
+    private final ObjectMapper objectMapper;
+    private final BufferedWriter writer;
+    private final Thread writerThread;
+    private volatile boolean closed;
+
+    /**
+     * Constructs a new {@code FileSpanExporter} and starts its writer thread.
+     *
+     * @param file          the file to append to, created with its parent directories if necessary
+     * @param queueCapacity the number of spans that may wait to be written
+     * @param objectMapper  the mapper serializing spans
+     * @throws UncheckedIOException if the file cannot be opened
+     */
+    public FileSpanExporter(Path file, int queueCapacity, ObjectMapper objectMapper) {
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.objectMapper = objectMapper;
+        try {
+            Path parent = file.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open span file " + file, e);
+        }
+        this.writerThread = new Thread(this::writeSpans, "span-file-exporter");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    @Override
+    public void export(Span span) {
+        if (!queue.offer(span)) {
+            droppedSpans.incrementAndGet();
+        }
+    }
+
+    /**
+     * Returns the number of spans dropped because the queue was full.
+     *
+     * @return the number of dropped spans
+     */
+    public long getDroppedSpans() {
+        return droppedSpans.get();
+    }
+
+    /**
+     * Writes the queued spans and stops the writer thread.
+     *
+     * @throws InterruptedException if interrupted while waiting for the writer thread
+     */
+    @Override
+    public void close() throws InterruptedException {
+        closed = true;
+        writerThread.join(TimeUnit.SECONDS.toMillis(5));
+    }
+
+    private void writeSpans() {
+        try (writer) {
+            while (!closed || !queue.isEmpty()) {
+                Span span = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (span != null) {
+                    writer.write(objectMapper.writeValueAsString(span));
+                    writer.newLine();
+                }
+                if (queue.isEmpty()) {
+                    writer.flush();
+                }
+            }
+        } catch (IOException e) {
+            logger.error("Span file exporter stopped: {}", e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package org.springcorebankapp.tracing;
+
+import java.util.ArrayDeque;
+import java.util.List;
+
+/**
+ * Span exporter keeping the most recent finished spans in memory, for local inspection and tests.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class InMemorySpanExporter implements SpanExporter {
+    private final ArrayDeque<Span> spans;
+    private final int capacity;
+
+    /**
+     * Constructs a new {@code InMemorySpanExporter}.
+     *
+     * @param capacity the number of most recent spans kept
+     */
+    public InMemorySpanExporter(int capacity) {
+        this.capacity = capacity;
+        this.spans = new ArrayDeque<>(capacity);
+    }
+
+    @Override
+    public synchronized void export(Span span) {
+        if (spans.size() == capacity) {
+            spans.pollFirst();
+        }
+        spans.addLast(span);
+    }
+
+    /**
+     * Returns the kept spans in the order they finished.
+     *
+     * @return a copy of the kept spans
+     */
+    public synchronized List<Span> getFinishedSpans() {
+        return List.copyOf(spans);
+    }
+
+    /**
+     * Discards all kept spans.
+     */
+    public synchronized void reset() {
+        spans.clear();
+    }
+}
@@ -0,0 +1,238 @@
+package org.springcorebankapp.tracing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A timed operation within a trace.
+ * <p>
+ * Spans are created by the {@link Tracer} and become the current span of their thread until they are closed,
+ * so spans started in between become their children. Closing a span records its duration and hands it to the
+ * configured {@link SpanExporter}s. Spans of traces that are not sampled record nothing and cost a single
+ * allocation per trace.
+ * </p>
+ *
+ * <pre>
+ * try (Span span = tracer.startSpan("AccountService.transfer", SpanKind.INTERNAL)) {
+ *     span.setAttribute("fromAccountId", fromAccountId);
+ *     ...
+ * }
+ * </pre>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class Span implements AutoCloseable {
+
+    /**
+     * The span returned inside traces that are not sampled, and whenever tracing is disabled.
+     */
+    static final Span NOOP = new Span(null, null, false, 0, 0, 0, 0, null, null);
+
+    private final Tracer tracer;
+    private final Span parent;
+    private final boolean recording;
+    private final long traceIdHigh;
+    private final long traceIdLow;
+    private final long spanId;
+    private final long parentSpanId;
+    private final String name;
+    private final SpanKind kind;
+    private final long startEpochMicros;
+    private final long startNanos;
+    private long durationNanos = -1;
+    private Map<String, Object> attributes;
+    private String error;
+
+    Span(Tracer tracer, Span parent, boolean recording, long traceIdHigh, long traceIdLow, long spanId,
+         long parentSpanId, String name, SpanKind kind) {
+        this.tracer = tracer;
+        this.parent = parent;
+        this.recording = recording;
+        this.traceIdHigh = traceIdHigh;
+        this.traceIdLow = traceIdLow;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        this.startEpochMicros = recording ? System.currentTimeMillis() * 1000 : 0;
+        this.startNanos = recording ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Sets an attribute of the span, e.g. an account ID or whether a cache lookup was a hit.
+     *
+     * @param key   the attribute name
+     * @param value the attribute value
+     * @return this span
+     */
+    public Span setAttribute(String key, Object value) {
+        if (recording) {
+            if (attributes == null) {
+                attributes = new LinkedHashMap<>();
+            }
+            attributes.put(key, value);
+        }
+        return this;
+    }
+
+    /**
+     * Marks the span as failed.
+     *
+     * @param throwable the exception the operation failed with
+     * @return this span
+     */
+    public Span recordError(Throwable throwable) {
+        if (recording) {
+            error = throwable.getClass().getName() + ": " + throwable.getMessage();
+        }
+        return this;
+    }
+
+    /**
+     * Ends the span, restores its parent as the current span and exports it if it is recording.
+     */
+    @Override
+    public void close() {
+        if (tracer == null || durationNanos >= 0) {
+            return;
+        }
+        durationNanos = recording ? System.nanoTime() - startNanos : 0;
+        tracer.end(this);
+    }
+
+    /**
+     * Returns whether the span belongs to a sampled trace and records attributes and timing.
+     *
+     * @return {@code true} if the span is recording
+     */
+    public boolean recording() {
+        return recording;
+    }
+
+    /**
+     * Returns the ID of the trace as 32 lowercase hex digits.
+     *
+     * @return the trace ID
+     */
+    public String getTraceId() {
+        return toHex(traceIdHigh) + toHex(traceIdLow);
+    }
+
+    /**
+     * Returns the ID of the span as 16 lowercase hex digits.
+     *
+     * @return the span ID
+     */
+    public String getSpanId() {
+        return toHex(spanId);
+    }
+
+    /**
+     * Returns the ID of the parent span, or {@code null} for a root span.
+     *
+     * @return the parent span ID
+     */
+    public String getParentSpanId() {
+        return parentSpanId == 0 ? null : toHex(parentSpanId);
+    }
+
+    /**
+     * Returns the name of the operation.
+     *
+     * @return the span name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Returns the role of the span.
+     *
+     * @return the span kind
+     */
+    public SpanKind getKind() {
+        return kind;
+    }
+
+    /**
+     * Returns the start time of the span.
+     *
+     * @return the start time in epoch microseconds
+     */
+    public long getStartEpochMicros() {
+        return startEpochMicros;
+    }
+
+    /**
+     * Returns the duration of the span, or {@code -1} while it is open.
+     *
+     * @return the duration in microseconds
+     */
+    public long getDurationMicros() {
+        return durationNanos < 0 ? -1 : durationNanos / 1000;
+    }
+
+    /**
+     * Returns the attributes of the span.
+     *
+     * @return an unmodifiable view of the attributes
+     */
+    public Map<String, Object> getAttributes() {
+        return attributes == null ? Map.of() : Collections.unmodifiableMap(attributes);
+    }
+
+    /**
+     * Returns the error the operation failed with, or {@code null} if it succeeded.
+     *
+     * @return the error description
+     */
+    public String getError() {
+        return error;
+    }
+
+    /**
+     * Returns the W3C {@code traceparent} header value identifying this span.
+     *
+     * @return the trace context header value
+     */
+    public String toTraceparent() {
+        return "00-" + getTraceId() + "-" + getSpanId() + (recording ? "-01" : "-00");
+    }
+
+    Span getParent() {
+        return parent;
+    }
+
+    long getTraceIdHigh() {
+        return traceIdHigh;
+    }
+
+    long getTraceIdLow() {
+        return traceIdLow;
+    }
+
+    long getRawSpanId() {
+        return spanId;
+    }
+
+    private static String toHex(long value) {
+        String hex = Long.toHexString(value);
+        return hex.length() == 16 ? hex : "0".repeat(16 - hex.length()) + hex;
+    }
+
+    @Override
+    public String toString() {
+        return "Span{" +
+                "traceId=" + getTraceId() +
+                ", spanId=" + getSpanId() +
+                ", parentSpanId=" + getParentSpanId() +
+                ", name=" + name +
+                ", kind=" + kind +
+                ", durationMicros=" + getDurationMicros() +
+                ", attributes=" + getAttributes() +
+                ", error=" + error +
+                '}';
+    }
+}
@@ -0,0 +1,25 @@
+package org.springcorebankapp.tracing;
+
+/**
+ * Receives finished spans from the {@link Tracer}.
+ * <p>
+ * Every bean implementing this interface receives every finished span of a sampled trace, on the thread that
+ * closed the span. Implementations must therefore be thread-safe and must not block; exporters that perform
+ * I/O should queue spans and write them from a background thread.
+ * </p>
+ *
+ * @see InMemorySpanExporter
+ * @see FileSpanExporter
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface SpanExporter {
+
+    /**
+     * Exports a finished span.
+     *
+     * @param span the finished span
+     */
+    void export(Span span);
+}
@@ -0,0 +1,25 @@
+package org.springcorebankapp.tracing;
+
+/**
+ * The role of a {@link Span} in a trace.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public enum SpanKind {
+
+    /**
+     * Handling of an incoming request, e.g. a controller method.
+     */
+    SERVER,
+
+    /**
+     * Work inside the application, e.g. a service method.
+     */
+    INTERNAL,
+
+    /**
+     * A call to a remote system, e.g. a database query or a cache operation.
+     */
+    CLIENT
+}
@@ -0,0 +1,158 @@
+package org.springcorebankapp.tracing;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Creates {@link Span}s and tracks the current span of each thread.
+ * <p>
+ * A span started while another span is current on the same thread becomes its child. Whether a trace is
+ * recorded is decided once, at its root, from {@code tracing.sample-ratio} or from the sampled flag of an
+ * incoming W3C {@code traceparent} header. The trace ID of the current trace is exposed to log statements
+ * through the {@code traceId} MDC key.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Parent-child relationships without passing context explicitly.</li>
+ *     <li>Head-based sampling, with unsampled traces costing one allocation.</li>
+ *     <li>Continuation of traces started by upstream services.</li>
+ *     <li>Export of finished spans to every {@link SpanExporter} bean.</li>
+ * </ul>
+ *
+ * @see TracingAspect
+ * @see TracingCacheManager
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class Tracer {
+    private static final String TRACE_ID_KEY = "traceId";
+
+    private final Logger logger = LoggerFactory.getLogger(Tracer.class);
+
+    private final ThreadLocal<Span> currentSpan = new ThreadLocal<>();
+
+    @Autowired
+    private TracingProperties tracingProperties;
+
+    @Autowired(required = false)
+    private List<SpanExporter> spanExporters = List.of();
+
+    /**
+     * Starts a span as a child of the current span, or as the root of a new trace.
+     *
+     * @param name the name of the operation
+     * @param kind the role of the span
+     * @return the started span, which must be closed on the same thread
+     */
+    public Span startSpan(String name, SpanKind kind) {
+        return startSpan(name, kind, null);
+    }
+
+    /**
+     * Starts a span as a child of the current span, or as the root of a trace continued from an incoming
+     * W3C {@code traceparent} header.
+     *
+     * @param name        the name of the operation
+     * @param kind        the role of the span
+     * @param traceparent the incoming trace context, or {@code null}; ignored if a span is current or malformed
+     * @return the started span, which must be closed on the same thread
+     */
+    public Span startSpan(String name, SpanKind kind, String traceparent) {
+        if (!tracingProperties.isEnabled()) {
+            return Span.NOOP;
+        }
+        Span parent = currentSpan.get();
+        if (parent != null && !parent.recording()) {
+            return Span.NOOP;
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Span span;
+        if (parent != null) {
+            span = new Span(this, parent, true, parent.getTraceIdHigh(), parent.getTraceIdLow(),
+                    nextId(random), parent.getRawSpanId(), name, kind);
+        } else if (isValidTraceparent(traceparent)) {
+            span = new Span(this, null, (Character.digit(traceparent.charAt(54), 16) & 1) == 1,
+                    Long.parseUnsignedLong(traceparent, 3, 19, 16), Long.parseUnsignedLong(traceparent, 19, 35, 16),
+                    nextId(random), Long.parseUnsignedLong(traceparent, 36, 52, 16), name, kind);
+        } else {
+            span = new Span(this, null, random.nextDouble() < tracingProperties.getSampleRatio(),
+                    nextId(random), nextId(random), nextId(random), 0, name, kind);
+        }
+        currentSpan.set(span);
+        if (parent == null) {
+            MDC.put(TRACE_ID_KEY, span.getTraceId());
+        }
+        return span;
+    }
+
+    /**
+     * Returns the current span of the calling thread.
+     *
+     * @return the current span, or a non-recording span if there is none
+     */
+    public Span currentSpan() {
+        Span span = currentSpan.get();
+        return span != null ? span : Span.NOOP;
+    }
+
+    /**
+     * Restores the parent of an ended span as the current span and exports the span if it is recording.
+     * <p>
+     * The parent is restored even if a descendant was left open, so a leaked span cannot outlive its trace
+     * on a pooled thread.
+     * </p>
+     */
+    void end(Span span) {
+        if (span.getParent() != null) {
+            currentSpan.set(span.getParent());
+        } else {
+            currentSpan.remove();
+            MDC.remove(TRACE_ID_KEY);
+        }
+        if (!span.recording()) {
+            return;
+        }
+        for (SpanExporter spanExporter : spanExporters) {
+            try {
+                spanExporter.export(span);
+            } catch (RuntimeException e) {
+                logger.warn("Span exporter {} failed: {}", spanExporter.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    private static long nextId(ThreadLocalRandom random) {
+        long id;
+        do {
+            id = random.nextLong();
+        } while (id == 0);
+        return id;
+    }
+
+    /**
+     * Checks the {@code 00-<32 hex trace ID>-<16 hex parent ID>-<2 hex flags>} layout of a {@code traceparent} header.
+     */
+    private static boolean isValidTraceparent(String traceparent) {
+        if (traceparent == null || traceparent.length() != 55 || !traceparent.startsWith("00-")
+                || traceparent.charAt(35) != '-' || traceparent.charAt(52) != '-') {
+            return false;
+        }
+        for (int i = 3; i < 55; i++) {
+            char c = traceparent.charAt(i);
+            if (i != 35 && i != 52 && Character.digit(c, 16) < 0) {
+                return false;
+            }
+        }
+        return !traceparent.startsWith("00000000000000000000000000000000", 3)
+                && !traceparent.startsWith("0000000000000000", 36);
+    }
+}
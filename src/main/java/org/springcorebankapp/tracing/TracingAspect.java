@@ -0,0 +1,171 @@
+package org.springcorebankapp.tracing;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Aspect creating spans for the controller, service and repository layers.
+ * <p>
+ * Each controller method starts a {@link SpanKind#SERVER} span, continuing the trace of an incoming
+ * {@code traceparent} header and returning the trace context in the response. Service methods and repository
+ * calls made within a sampled trace create {@link SpanKind#INTERNAL} and {@link SpanKind#CLIENT} child spans;
+ * outside of one, e.g. in scheduled jobs, they run untraced. Arguments named {@code id} or ending in {@code Id},
+ * such as account and user IDs, are recorded as span attributes.
+ * </p>
+ * <p>
+ * The aspect has the highest precedence, so service spans include the transaction commit and cache lookups
+ * performed by the transaction and cache interceptors.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class TracingAspect {
+    private static final String TRACEPARENT_HEADER = "traceparent";
+    private static final String[] NO_ID_PARAMETERS = new String[0];
+
+    private final Map<Method, String[]> idParameters = new ConcurrentHashMap<>();
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    @Autowired
+    private Tracer tracer;
+
+    /**
+     * Traces a controller method as the server span of a request.
+     *
+     * @param joinPoint the intercepted controller method
+     * @return the result of the method
+     * @throws Throwable any exception thrown by the method
+     */
+    @Around("@within(org.springframework.web.bind.annotation.RestController)")
+    public Object traceController(ProceedingJoinPoint joinPoint) throws Throwable {
+        HttpServletRequest request = null;
+        HttpServletResponse response = null;
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            request = attributes.getRequest();
+            response = attributes.getResponse();
+        }
+        try (Span span = tracer.startSpan(spanName(joinPoint), SpanKind.SERVER,
+                request != null ? request.getHeader(TRACEPARENT_HEADER) : null)) {
+            if (request != null) {
+                span.setAttribute("http.method", request.getMethod())
+                        .setAttribute("http.target", request.getRequestURI());
+            }
+            if (response != null && span != Span.NOOP) {
+                response.setHeader(TRACEPARENT_HEADER, span.toTraceparent());
+            }
+            Object result = proceed(joinPoint, span);
+            if (result instanceof ResponseEntity<?> entity) {
+                span.setAttribute("http.status_code", entity.getStatusCode().value());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Traces a service method within a sampled trace.
+     *
+     * @param joinPoint the intercepted service method
+     * @return the result of the method
+     * @throws Throwable any exception thrown by the method
+     */
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object traceService(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!tracer.currentSpan().recording()) {
+            return joinPoint.proceed();
+        }
+        try (Span span = tracer.startSpan(spanName(joinPoint), SpanKind.INTERNAL)) {
+            return proceed(joinPoint, span);
+        }
+    }
+
+    /**
+     * Traces a repository call within a sampled trace.
+     *
+     * @param joinPoint the intercepted repository method
+     * @return the result of the method
+     * @throws Throwable any exception thrown by the method
+     */
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object traceRepository(ProceedingJoinPoint joinPoint) throws Throwable {
+        if (!tracer.currentSpan().recording()) {
+            return joinPoint.proceed();
+        }
+        String repositoryName = repositoryNames.computeIfAbsent(joinPoint.getTarget().getClass(),
+                type -> repositoryName(joinPoint.getTarget()));
+        try (Span span = tracer.startSpan(repositoryName + "." + joinPoint.getSignature().getName(), SpanKind.CLIENT)) {
+            span.setAttribute("db.system", "postgresql");
+            return proceed(joinPoint, span);
+        }
+    }
+
+    private Object proceed(ProceedingJoinPoint joinPoint, Span span) throws Throwable {
+        if (span.recording()) {
+            recordIdArguments(joinPoint, span);
+        }
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            span.recordError(e);
+            throw e;
+        }
+    }
+
+    private void recordIdArguments(ProceedingJoinPoint joinPoint, Span span) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        String[] names = idParameters.computeIfAbsent(signature.getMethod(), method -> idParameterNames(signature));
+        Object[] args = joinPoint.getArgs();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i] != null) {
+                span.setAttribute(names[i], args[i]);
+            }
+        }
+    }
+
+    /**
+     * Returns the names of the ID parameters of a method, with {@code null} for the other parameters.
+     */
+    private static String[] idParameterNames(MethodSignature signature) {
+        String[] names = signature.getParameterNames();
+        if (names == null) {
+            return NO_ID_PARAMETERS;
+        }
+        String[] idNames = new String[names.length];
+        boolean any = false;
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals("id") || names[i].endsWith("Id")) {
+                idNames[i] = names[i];
+                any = true;
+            }
+        }
+        return any ? idNames : NO_ID_PARAMETERS;
+    }
+
+    private static String spanName(ProceedingJoinPoint joinPoint) {
+        return joinPoint.getSignature().getDeclaringType().getSimpleName() + "." + joinPoint.getSignature().getName();
+    }
+
+    private static String repositoryName(Object repository) {
+        Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(repository);
+        return interfaces.length > 0 ? interfaces[0].getSimpleName() : repository.getClass().getSimpleName();
+    }
+}
@@ -0,0 +1,204 @@
+package org.springcorebankapp.tracing;
+
+import org.springcorebankapp.cache.MultiGetCache;
+import org.springframework.cache.Cache;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Cache decorator creating a {@link SpanKind#CLIENT} span for each operation within a sampled trace.
+ * <p>
+ * Spans are named {@code cache.<operation>} and carry the cache name, the key and, for lookups, whether the
+ * lookup was a hit; batch operations carry the number of keys and hits instead. Asynchronous retrieval is
+ * delegated untraced.
+ * </p>
+ *
+ * @see TracingCacheManager
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class TracingCache implements MultiGetCache {
+    private final Cache delegate;
+    private final Tracer tracer;
+
+    /**
+     * Constructs a new {@code TracingCache}.
+     *
+     * @param delegate the cache to trace
+     * @param tracer   the tracer creating the spans
+     */
+    public TracingCache(Cache delegate, Tracer tracer) {
+        this.delegate = delegate;
+        this.tracer = tracer;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        if (!tracer.currentSpan().recording()) {
+            return delegate.get(key);
+        }
+        return traced("get", key, span -> {
+            ValueWrapper value = delegate.get(key);
+            span.setAttribute("cache.hit", value != null);
+            return value;
+        });
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        if (!tracer.currentSpan().recording()) {
+            return delegate.get(key, type);
+        }
+        return traced("get", key, span -> {
+            T value = delegate.get(key, type);
+            span.setAttribute("cache.hit", value != null);
+            return value;
+        });
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (!tracer.currentSpan().recording()) {
+            return delegate.get(key, valueLoader);
+        }
+        return traced("get", key, span -> {
+            boolean[] loaded = new boolean[1];
+            T value = delegate.get(key, () -> {
+                loaded[0] = true;
+                return valueLoader.call();
+            });
+            span.setAttribute("cache.hit", !loaded[0]);
+            return value;
+        });
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return delegate.retrieve(key);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return delegate.retrieve(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (!tracer.currentSpan().recording()) {
+            delegate.put(key, value);
+            return;
+        }
+        traced("put", key, span -> {
+            delegate.put(key, value);
+            return null;
+        });
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        if (!tracer.currentSpan().recording()) {
+            return delegate.putIfAbsent(key, value);
+        }
+        return traced("putIfAbsent", key, span -> delegate.putIfAbsent(key, value));
+    }
+
+    @Override
+    public Map<Object, ValueWrapper> getAll(Collection<?> keys) {
+        if (!tracer.currentSpan().recording()) {
+            return MultiGetCache.getAll(delegate, keys);
+        }
+        return traced("getAll", null, span -> {
+            Map<Object, ValueWrapper> values = MultiGetCache.getAll(delegate, keys);
+            span.setAttribute("cache.keys", keys.size());
+            span.setAttribute("cache.hits", values.size());
+            return values;
+        });
+    }
+
+    @Override
+    public void putAll(Map<?, ?> entries) {
+        if (!tracer.currentSpan().recording()) {
+            MultiGetCache.putAll(delegate, entries);
+            return;
+        }
+        traced("putAll", null, span -> {
+            span.setAttribute("cache.keys", entries.size());
+            MultiGetCache.putAll(delegate, entries);
+            return null;
+        });
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (!tracer.currentSpan().recording()) {
+            delegate.evict(key);
+            return;
+        }
+        traced("evict", key, span -> {
+            delegate.evict(key);
+            return null;
+        });
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        if (!tracer.currentSpan().recording()) {
+            return delegate.evictIfPresent(key);
+        }
+        return traced("evictIfPresent", key, span -> delegate.evictIfPresent(key));
+    }
+
+    @Override
+    public void clear() {
+        if (!tracer.currentSpan().recording()) {
+            delegate.clear();
+            return;
+        }
+        traced("clear", null, span -> {
+            delegate.clear();
+            return null;
+        });
+    }
+
+    @Override
+    public boolean invalidate() {
+        if (!tracer.currentSpan().recording()) {
+            return delegate.invalidate();
+        }
+        return traced("invalidate", null, span -> delegate.invalidate());
+    }
+
+    /**
+     * Runs a cache operation in a span named after it, recording the error it may fail with.
+     */
+    private <T> T traced(String operation, Object key, Function<Span, T> action) {
+        try (Span span = tracer.startSpan("cache." + operation, SpanKind.CLIENT)) {
+            span.setAttribute("cache.name", delegate.getName());
+            if (key != null) {
+                span.setAttribute("cache.key", key.toString());
+            }
+            try {
+                return action.apply(span);
+            } catch (RuntimeException e) {
+                span.recordError(e);
+                throw e;
+            }
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.springcorebankapp.tracing;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager decorator wrapping every cache of its delegate in a {@link TracingCache}.
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class TracingCacheManager implements CacheManager {
+    private final CacheManager delegate;
+    private final Tracer tracer;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs a new {@code TracingCacheManager}.
+     *
+     * @param delegate the cache manager whose caches are traced
+     * @param tracer   the tracer creating the spans
+     */
+    public TracingCacheManager(CacheManager delegate, Tracer tracer) {
+        this.delegate = delegate;
+        this.tracer = tracer;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        return target == null ? null : caches.computeIfAbsent(name, key -> new TracingCache(target, tracer));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
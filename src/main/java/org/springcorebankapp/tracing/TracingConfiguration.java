@@ -0,0 +1,48 @@
+package org.springcorebankapp.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+/**
+ * Configuration class for the built-in span exporters.
+ * <p>
+ * {@code tracing.exporter} selects one of the built-in exporters. Any other {@link SpanExporter} bean,
+ * e.g. one forwarding spans to a collector, receives spans as well.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Configuration
+public class TracingConfiguration {
+
+    /**
+     * Configures the exporter keeping recent spans in memory, selected by {@code tracing.exporter=memory}.
+     *
+     * @param tracingProperties the tracing configuration properties
+     * @return an in-memory span exporter
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tracing.exporter", havingValue = "memory")
+    public InMemorySpanExporter inMemorySpanExporter(TracingProperties tracingProperties) {
+        return new InMemorySpanExporter(tracingProperties.getBufferSize());
+    }
+
+    /**
+     * Configures the exporter appending spans to a JSON lines file, selected by {@code tracing.exporter=file}.
+     *
+     * @param tracingProperties the tracing configuration properties
+     * @param objectMapper      the application's JSON mapper
+     * @return a file span exporter, closed on shutdown
+     */
+    @Bean
+    @ConditionalOnProperty(name = "tracing.exporter", havingValue = "file")
+    public FileSpanExporter fileSpanExporter(TracingProperties tracingProperties, ObjectMapper objectMapper) {
+        return new FileSpanExporter(Path.of(tracingProperties.getFile()), tracingProperties.getBufferSize(),
+                objectMapper);
+    }
+}
@@ -0,0 +1,101 @@
+package org.springcorebankapp.tracing;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for tracing.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Defines whether spans are created and which share of traces is recorded.</li>
+ *     <li>Defines the built-in exporter ({@code none}, {@code memory} or {@code file}) and its buffer size.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class TracingProperties {
+
+    /**
+     * Whether spans are created, injected from {@code tracing.enabled}.
+     */
+    private final boolean enabled;
+
+    /**
+     * The share of new traces recorded, injected from {@code tracing.sample-ratio}.
+     */
+    private final double sampleRatio;
+
+    /**
+     * The file the {@code file} exporter appends to, injected from {@code tracing.file}.
+     */
+    private final String file;
+
+    /**
+     * The number of spans kept or queued by the built-in exporters, injected from {@code tracing.buffer-size}.
+     */
+    private final int bufferSize;
+
+    /**
+     * Constructs a new {@code TracingProperties} instance.
+     *
+     * @param enabled     whether spans are created
+     * @param sampleRatio the share of new traces recorded, between {@code 0} and {@code 1}
+     * @param file        the file the {@code file} exporter appends to
+     * @param bufferSize  the number of spans kept or queued by the built-in exporters
+     * @throws IllegalArgumentException if the sample ratio is outside {@code [0, 1]}
+     */
+    public TracingProperties(@Value("${tracing.enabled}") boolean enabled,
+                             @Value("${tracing.sample-ratio}") double sampleRatio,
+                             @Value("${tracing.file}") String file,
+                             @Value("${tracing.buffer-size}") int bufferSize) {
+        if (sampleRatio < 0 || sampleRatio > 1) {
+            throw new IllegalArgumentException("tracing.sample-ratio must be between 0 and 1");
+        }
+        this.enabled = enabled;
+        this.sampleRatio = sampleRatio;
+        this.file = file;
+        this.bufferSize = bufferSize;
+    }
+
+    /**
+     * Returns whether spans are created.
+     *
+     * @return {@code true} if tracing is enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns the share of new traces recorded.
+     *
+     * @return the sample ratio
+     */
+    public double getSampleRatio() {
+        return sampleRatio;
+    }
+
+    /**
+     * Returns the file the {@code file} exporter appends to.
+     *
+     * @return the span file path
+     */
+    public String getFile() {
+        return file;
+    }
+
+    /**
+     * Returns the number of spans kept or queued by the built-in exporters.
+     *
+     * @return the buffer size
+     */
+    public int getBufferSize() {
+        return bufferSize;
+    }
+}
@@ -0,0 +1,98 @@
+package org.springcorebankapp.user;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Thread-safe Bloom filter of user logins.
+ * <p>
+ * {@link #mightContain(String)} never returns {@code false} for a login that was added, and returns {@code true}
+ * for a login that was not added with about the configured false-positive rate. Bits are set with atomic
+ * updates, so adding and querying need no locks. Logins cannot be removed, which suits users, who are never
+ * deleted.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public class LoginBloomFilter {
+    private final AtomicLongArray bits;
+    private final long bitCount;
+    private final int hashCount;
+
+    /**
+     * Constructs an empty {@code LoginBloomFilter} sized for the given number of logins.
+     *
+     * @param expectedInsertions the number of logins the filter is sized for
+     * @param falsePositiveRate  the false-positive rate at that size, between {@code 0} and {@code 1}
+     * @throws IllegalArgumentException if the size or rate is out of range
+     */
+    public LoginBloomFilter(long expectedInsertions, double falsePositiveRate) {
+        if (expectedInsertions <= 0 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException(
+                    "expectedInsertions must be positive and falsePositiveRate between 0 and 1");
+        }
+        long words = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate)
+                / (Math.log(2) * Math.log(2)) / Long.SIZE);
+        this.bits = new AtomicLongArray(Math.toIntExact(Math.max(1, words)));
+        this.bitCount = (long) bits.length() * Long.SIZE;
+        this.hashCount = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+    }
+
+    /**
+     * Adds a login to the filter.
+     *
+     * @param login the login to add
+     */
+    public void add(String login) {
+        long hash1 = hash(login);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            long mask = 1L << bit;
+            int word = (int) (bit >>> 6);
+            if ((bits.get(word) & mask) == 0) {
+                bits.getAndAccumulate(word, mask, (current, update) -> current | update);
+            }
+        }
+    }
+
+    /**
+     * Checks whether a login may have been added.
+     *
+     * @param login the login to check
+     * @return {@code false} if the login was definitely never added; {@code true} if it probably was
+     */
+    public boolean mightContain(String login) {
+        long hash1 = hash(login);
+        long hash2 = mix(hash1);
+        for (int i = 0; i < hashCount; i++) {
+            long bit = Math.floorMod(hash1 + i * hash2, bitCount);
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the login's UTF-8 bytes.
+     */
+    private static long hash(String login) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : login.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * SplitMix64 finalizer, deriving the second hash for double hashing; forced odd so that it is never zero.
+     */
+    private static long mix(long hash) {
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return (hash ^ (hash >>> 31)) | 1;
+    }
+}
@@ -0,0 +1,95 @@
+package org.springcorebankapp.user;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.stream.Stream;
+
+/**
+ * Service class answering "definitely no such login" without a database query.
+ * <p>
+ * Existing logins are kept in a {@link LoginBloomFilter}, filled from the database shortly after startup and
+ * updated by every user created by this instance. Until the first fill completes, every login is reported
+ * as possibly existing. The fill is repeated every {@code user.login-filter.rebuild-interval-millis} to pick
+ * up users created by other instances; until then such a user may be reported as absent by this instance.
+ * That is why the filter is disabled by default with {@code user.login-filter.enabled} and meant for
+ * single-instance deployments; while disabled, every login is reported as possibly existing.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Service
+public class LoginFilterService {
+    private final Logger logger = LoggerFactory.getLogger(LoginFilterService.class);
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private UserProperties userProperties;
+
+    private LoginBloomFilter filter;
+    private volatile boolean ready;
+
+    /**
+     * Creates the empty filter.
+     */
+    @PostConstruct
+    public void init() {
+        filter = new LoginBloomFilter(userProperties.getLoginFilterExpectedInsertions(),
+                userProperties.getLoginFilterFalsePositiveRate());
+    }
+
+    /**
+     * Checks whether a user with the given login may exist.
+     *
+     * @param login the login to check
+     * @return {@code false} if no user with the login exists; {@code true} if one probably does
+     */
+    public boolean mightExist(String login) {
+        return !userProperties.isLoginFilterEnabled() || !ready || filter.mightContain(login);
+    }
+
+    /**
+     * Records a login as existing. Called before the creating transaction commits, so the login is never
+     * reported as absent once the user is visible.
+     *
+     * @param login the login of the new user
+     */
+    public void add(String login) {
+        filter.add(login);
+    }
+
+    /**
+     * Adds every login in the database to the filter. Logins are never removed, so the filter stays usable
+     * while it is being refilled. Does nothing while the filter is disabled.
+     */
+    @Scheduled(fixedDelayString = "${user.login-filter.rebuild-interval-millis}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        if (!userProperties.isLoginFilterEnabled()) {
+            return;
+        }
+        long start = System.nanoTime();
+        long[] count = new long[1];
+        try (Stream<String> logins = userRepository.streamAllLogins()) {
+            logins.forEach(login -> {
+                filter.add(login);
+                count[0]++;
+            });
+        }
+        if (!ready) {
+            ready = true;
+            logger.info("Login filter filled with {} logins in {} ms", count[0], (System.nanoTime() - start) / 1_000_000);
+        }
+        if (count[0] > userProperties.getLoginFilterExpectedInsertions()) {
+            logger.warn("Login filter holds {} logins but is sized for {}; raise user.login-filter.expected-insertions",
+                    count[0], userProperties.getLoginFilterExpectedInsertions());
+        }
+    }
+}
@@ -29,7 +29,8 @@ import java.util.Objects;
 @Setter
 @Entity
 //@RedisHash("User")
-@Table(name = "users")
+@Table(name = "users",
+        indexes = @Index(name = "uk_users_login", columnList = "login", unique = true))
 public class User implements Serializable {
 
     /**
@@ -42,7 +43,7 @@ public class User implements Serializable {
 
     /**
      * The login of the user.
-     * This field is non-nullable and must be unique across all users.
+     * This field is non-nullable and must be unique across all users, which a unique index enforces.
      */
     @Column(name = "login", nullable = false)
     private String login;
@@ -0,0 +1,28 @@
+package org.springcorebankapp.user;
+
+/**
+ * Projection of a user's account ID and version.
+ * <p>
+ * Returned by {@link UserRepository#findAccountVersionsById(int)} so the entity tag of a user can be computed
+ * without loading the user and its accounts.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public interface UserAccountVersion {
+
+    /**
+     * Returns the ID of the account, or {@code null} if the user has no accounts.
+     *
+     * @return the account ID
+     */
+    Integer getAccountId();
+
+    /**
+     * Returns the version of the account, or {@code null} if the user has no accounts.
+     *
+     * @return the account version
+     */
+    Long getVersion();
+}
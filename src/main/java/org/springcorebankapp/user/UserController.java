@@ -7,7 +7,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springcorebankapp.exception.LoginIsBusyException;
 import org.springcorebankapp.exception.UserNotFoundException;
+import org.springcorebankapp.util.ETags;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -51,20 +53,27 @@ public class UserController {
 
     @Operation(
             summary = "Find a user by ID",
-            description = "Retrieves a user's details based on their unique ID.",
+            description = "Retrieves a user's details based on their unique ID. Supports conditional requests with If-None-Match.",
             tags = {"User Controller"}
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "User found and returned successfully"),
+            @ApiResponse(responseCode = "304", description = "User unchanged since the version identified by If-None-Match"),
             @ApiResponse(responseCode = "404", description = "User not found"),
             @ApiResponse(responseCode = "500", description = "Unexpected server error")
     })
     @GetMapping("/find-user-by-id/{userId}")
     public ResponseEntity<User> findUserById(
             @Parameter(description = "Unique ID of the user", required = true)
-            @PathVariable("userId") int userId) {
+            @PathVariable("userId") int userId,
+            @Parameter(description = "Entity tags of the client's cached copies")
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
-            return ResponseEntity.ok(userService.findUserById(userId));
+            String eTag = userService.findUserETag(userId);
+            if (ETags.matches(ifNoneMatch, eTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+            }
+            return ResponseEntity.ok().eTag(eTag).body(userService.findUserById(userId));
         } catch (UserNotFoundException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
         } catch (Exception e) {
@@ -0,0 +1,81 @@
+package org.springcorebankapp.user;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Configuration properties for user management.
+ * <p>
+ * The values are injected from the application's configuration files (e.g., application.properties).
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Defines the size and false-positive rate of the {@link LoginBloomFilter} of existing logins.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@Component
+public class UserProperties {
+
+    /**
+     * Whether logins are checked against the login filter, injected from {@code user.login-filter.enabled}.
+     */
+    private final boolean loginFilterEnabled;
+
+    /**
+     * The number of logins the login filter is sized for, injected from {@code user.login-filter.expected-insertions}.
+     */
+    private final long loginFilterExpectedInsertions;
+
+    /**
+     * The false-positive rate of the login filter at that size,
+     * injected from {@code user.login-filter.false-positive-rate}.
+     */
+    private final double loginFilterFalsePositiveRate;
+
+    /**
+     * Constructs a new {@code UserProperties} instance.
+     *
+     * @param loginFilterEnabled            whether logins are checked against the login filter
+     * @param loginFilterExpectedInsertions the number of logins the login filter is sized for
+     * @param loginFilterFalsePositiveRate  the false-positive rate of the login filter at that size
+     */
+    public UserProperties(@Value("${user.login-filter.enabled}") boolean loginFilterEnabled,
+                          @Value("${user.login-filter.expected-insertions}") long loginFilterExpectedInsertions,
+                          @Value("${user.login-filter.false-positive-rate}") double loginFilterFalsePositiveRate) {
+        this.loginFilterEnabled = loginFilterEnabled;
+        this.loginFilterExpectedInsertions = loginFilterExpectedInsertions;
+        this.loginFilterFalsePositiveRate = loginFilterFalsePositiveRate;
+    }
+
+    /**
+     * Returns whether logins are checked against the login filter. The filter only learns about users created
+     * by other instances when it is refilled, so it is meant for single-instance deployments.
+     *
+     * @return {@code true} if the login filter is enabled
+     */
+    public boolean isLoginFilterEnabled() {
+        return loginFilterEnabled;
+    }
+
+    /**
+     * Returns the number of logins the login filter is sized for.
+     *
+     * @return the expected number of logins
+     */
+    public long getLoginFilterExpectedInsertions() {
+        return loginFilterExpectedInsertions;
+    }
+
+    /**
+     * Returns the false-positive rate of the login filter at its expected size.
+     *
+     * @return the false-positive rate
+     */
+    public double getLoginFilterFalsePositiveRate() {
+        return loginFilterFalsePositiveRate;
+    }
+}
@@ -1,10 +1,19 @@
 package org.springcorebankapp.user;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing and manipulating user data in the database.
@@ -31,6 +40,19 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      */
     Optional<User> findByLogin(String login);
 
+    /**
+     * Finds a user by their login and locks the user's row against concurrent changes until the end of the
+     * transaction ({@code SELECT ... FOR SHARE}).
+     * <p>
+     * Used when opening an account, so a rebuild of the user's balance totals cannot run meanwhile.
+     * </p>
+     *
+     * @param login the login of the user to be found
+     * @return an {@link Optional} containing the user if found, or an empty {@link Optional} if not
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    Optional<User> findForShareByLogin(String login);
+
     /**
      * Checks if a user with the given login exists in the database.
      * <p>
@@ -41,4 +63,46 @@ public interface UserRepository extends JpaRepository<User, Integer> {
      * @return {@code true} if a user with the given login exists, {@code false} otherwise
      */
     boolean existsUserByLogin(String login);
+
+    /**
+     * Finds the IDs and versions of a user's accounts, ordered by account ID.
+     * <p>
+     * A user without accounts yields one row with {@code null} values; an unknown user yields no rows.
+     * </p>
+     *
+     * @param id the ID of the user
+     * @return the account versions of the user, or an empty list if the user does not exist
+     */
+    @Query("""
+            select a.id as accountId, a.version as version
+            from User u left join Account a on a.userId = u.id
+            where u.id = :id
+            order by a.id
+            """)
+    List<UserAccountVersion> findAccountVersionsById(@Param("id") int id);
+
+    /**
+     * Streams the logins of all users. Must be consumed within a transaction and closed afterwards.
+     *
+     * @return a stream of all logins
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("select u.login from User u")
+    Stream<String> streamAllLogins();
+
+    /**
+     * Returns the smallest user ID.
+     *
+     * @return the smallest user ID, or {@code null} if there are no users
+     */
+    @Query("select min(u.id) from User u")
+    Integer findMinId();
+
+    /**
+     * Returns the largest user ID.
+     *
+     * @return the largest user ID, or {@code null} if there are no users
+     */
+    @Query("select max(u.id) from User u")
+    Integer findMaxId();
 }
@@ -1,11 +1,15 @@
 package org.springcorebankapp.user;
 
 import org.springcorebankapp.account.AccountService;
+import org.springcorebankapp.cache.NegativeLookupCache;
 import org.springcorebankapp.exception.LoginIsBusyException;
 import org.springcorebankapp.exception.UserNotFoundException;
+import org.springcorebankapp.util.ETags;
+import org.springcorebankapp.util.TransactionUtils;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +36,10 @@ public class UserService {
     private UserRepository userRepository;
     @Autowired
     private AccountService accountService;
+    @Autowired
+    private LoginFilterService loginFilterService;
+    @Autowired
+    private NegativeLookupCache negativeLookupCache;
 
     private final Logger logger = LoggerFactory.getLogger(UserService.class);
 
@@ -42,28 +50,41 @@ public class UserService {
      * with the provided login and adds a default account for the user. If the login is taken,
      * a {@link LoginIsBusyException} is thrown.
      * </p>
+     * <p>
+     * The existence query is skipped when the {@link LoginFilterService} knows the login is new; the unique
+     * constraint on logins still rejects a login taken concurrently or by another instance.
+     * </p>
      *
      * @param login the login for the new user
+     * @return the created {@link User} with its default account
      * @throws LoginIsBusyException if the login is already in use by another user
      */
     //@CacheEvict(value = "users", key = "'allUsers'")
-    public void createUser(String login) {
-        if (userRepository.existsUserByLogin(login)) {
+    public User createUser(String login) {
+        if (loginFilterService.mightExist(login) && userRepository.existsUserByLogin(login)) {
             throw new LoginIsBusyException("User already exists with login = %s".formatted(login));
         }
 
         var newUser = new User(login, new ArrayList<>());
-        userRepository.save(newUser);
+        loginFilterService.add(login);
+        try {
+            userRepository.save(newUser);
+        } catch (DataIntegrityViolationException e) {
+            throw new LoginIsBusyException("User already exists with login = %s".formatted(login), e);
+        }
+        TransactionUtils.afterCommit(() -> negativeLookupCache.userCreated(newUser.getId()));
         var newAccount = accountService.createAccount(newUser.getLogin());
 
         newUser.getAccountList().add(newAccount);
+        return newUser;
     }
 
     /**
      * Finds a user by their unique ID.
      * <p>
      * This method retrieves the user with the given ID from the database. If the user is not found,
-     * a {@link UserNotFoundException} is thrown.
+     * a {@link UserNotFoundException} is thrown. An ID recently found missing is rejected without a
+     * database query.
      * </p>
      *
      * @param id the ID of the user to find
@@ -72,8 +93,48 @@ public class UserService {
      */
     //@Cacheable(value = "users", key = "#id")
     public User findUserById(int id) {
-        return userRepository.findById(id)
-                .orElseThrow(() -> new UserNotFoundException("User with id = %s not found".formatted(id)));
+        if (negativeLookupCache.isUserMissing(id)) {
+            throw new UserNotFoundException("User with id = %s not found".formatted(id));
+        }
+        Optional<User> user = userRepository.findById(id);
+        if (user.isEmpty()) {
+            negativeLookupCache.userMissing(id);
+            throw new UserNotFoundException("User with id = %s not found".formatted(id));
+        }
+        return user.get();
+    }
+
+    /**
+     * Computes the entity tag of a user's representation.
+     * <p>
+     * The tag is derived from the user ID and the IDs and versions of the user's accounts, read through a
+     * narrow projection, so any balance change, new account or closed account changes it. Callers serving
+     * the user must compute the tag before loading the user: a tag older than the body only costs the client
+     * one more full response, while a newer one could wrongly answer {@code 304 Not Modified}.
+     * </p>
+     *
+     * @param id the ID of the user
+     * @return the quoted entity tag
+     * @throws UserNotFoundException if no user with the given ID is found
+     */
+    @Transactional(readOnly = true)
+    public String findUserETag(int id) {
+        if (negativeLookupCache.isUserMissing(id)) {
+            throw new UserNotFoundException("User with id = %s not found".formatted(id));
+        }
+        List<UserAccountVersion> versions = userRepository.findAccountVersionsById(id);
+        if (versions.isEmpty()) {
+            negativeLookupCache.userMissing(id);
+            throw new UserNotFoundException("User with id = %s not found".formatted(id));
+        }
+        long[] values = new long[1 + versions.size() * 2];
+        values[0] = id;
+        for (int i = 0; i < versions.size(); i++) {
+            UserAccountVersion version = versions.get(i);
+            values[1 + i * 2] = version.getAccountId() == null ? -1 : version.getAccountId();
+            values[2 + i * 2] = version.getVersion() == null ? -1 : version.getVersion();
+        }
+        return ETags.of(values);
     }
 
     /**
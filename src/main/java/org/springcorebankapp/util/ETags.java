@@ -0,0 +1,68 @@
+package org.springcorebankapp.util;
+
+/**
+ * Helpers for strong entity tags used by conditional GET requests.
+ * <p>
+ * A tag is a 64-bit hash of the values identifying a representation's state, such as an entity ID and
+ * its version, so it can be computed from a cached entity or a narrow projection without serializing the
+ * response body.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public final class ETags {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private ETags() {
+    }
+
+    /**
+     * Builds a strong entity tag from the given state values.
+     *
+     * @param values the values identifying the state of the representation, in a fixed order
+     * @return the quoted entity tag, e.g. {@code "1f3a9c04b2d7e6a8"}
+     */
+    public static String of(long... values) {
+        long hash = FNV_OFFSET_BASIS;
+        for (long value : values) {
+            for (int shift = 0; shift < Long.SIZE; shift += Byte.SIZE) {
+                hash ^= (value >>> shift) & 0xff;
+                hash *= FNV_PRIME;
+            }
+        }
+        return "\"" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * Checks whether an {@code If-None-Match} header matches an entity tag.
+     * <p>
+     * Uses the weak comparison required for {@code If-None-Match}: a {@code W/} prefix is ignored, and
+     * {@code *} matches any current representation.
+     * </p>
+     *
+     * @param ifNoneMatch the value of the {@code If-None-Match} header; may be {@code null}
+     * @param eTag        the quoted entity tag of the current representation
+     * @return {@code true} if the client's copy is current and {@code 304 Not Modified} may be returned
+     */
+    public static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null || eTag == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*")) {
+                return true;
+            }
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals(eTag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,137 @@
+package org.springcorebankapp.util;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Allocation-free arithmetic on monetary amounts.
+ * <p>
+ * Amounts are plain {@code long} values in the minor unit of their currency (e.g. cents), and rates are
+ * fixed-point longs with an explicit scale. Every operation is overflow-checked and rounds with an explicit
+ * {@link RoundingMode}, using integer arithmetic only, so the transfer hot path never falls back to
+ * {@link BigDecimal} or allocates; {@link BigDecimal} is used only to parse configured rates.
+ * </p>
+ *
+ * <h2>Key Features:</h2>
+ * <ul>
+ *     <li>Overflow-checked addition and subtraction.</li>
+ *     <li>Multiplication by fixed-point rates such as commissions in parts per million or FX rates.</li>
+ *     <li>Integer division honouring every {@link RoundingMode}.</li>
+ * </ul>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+public final class Money {
+
+    /**
+     * The scale of rates expressed in parts per million: {@code 10_000} ppm is {@code 1%}.
+     */
+    public static final long PPM = 1_000_000L;
+
+    private Money() {
+    }
+
+    /**
+     * Adds two amounts.
+     *
+     * @param a the first amount
+     * @param b the second amount
+     * @return the sum
+     * @throws ArithmeticException if the result overflows a {@code long}
+     */
+    public static long add(long a, long b) {
+        return Math.addExact(a, b);
+    }
+
+    /**
+     * Subtracts one amount from another.
+     *
+     * @param a the amount to subtract from
+     * @param b the amount to subtract
+     * @return the difference
+     * @throws ArithmeticException if the result overflows a {@code long}
+     */
+    public static long subtract(long a, long b) {
+        return Math.subtractExact(a, b);
+    }
+
+    /**
+     * Computes a share of an amount given in parts per million.
+     *
+     * @param amount the amount
+     * @param ppm    the share in parts per million
+     * @param mode   the rounding mode of the result
+     * @return {@code amount * ppm / 1_000_000}, rounded
+     * @throws ArithmeticException if the result overflows a {@code long},
+     *                             or if rounding is necessary with {@link RoundingMode#UNNECESSARY}
+     */
+    public static long percentOf(long amount, long ppm, RoundingMode mode) {
+        return multiply(amount, ppm, PPM, mode);
+    }
+
+    /**
+     * Multiplies an amount by a fixed-point factor.
+     * <p>
+     * The amount is split into a multiple of the scale and a remainder, so the intermediate products stay
+     * within a {@code long} as long as {@code factor * scale} does.
+     * </p>
+     *
+     * @param amount the amount
+     * @param factor the fixed-point factor
+     * @param scale  the fixed-point representation of {@code 1}
+     * @param mode   the rounding mode of the result
+     * @return {@code amount * factor / scale}, rounded
+     * @throws ArithmeticException if the result overflows a {@code long},
+     *                             or if rounding is necessary with {@link RoundingMode#UNNECESSARY}
+     */
+    public static long multiply(long amount, long factor, long scale, RoundingMode mode) {
+        return Math.addExact(Math.multiplyExact(amount / scale, factor),
+                divide(Math.multiplyExact(amount % scale, factor), scale, mode));
+    }
+
+    /**
+     * Divides two longs with the given rounding mode.
+     *
+     * @param dividend the dividend
+     * @param divisor  the divisor
+     * @param mode     the rounding mode of the quotient
+     * @return the rounded quotient
+     * @throws ArithmeticException if the divisor is zero,
+     *                             or if rounding is necessary with {@link RoundingMode#UNNECESSARY}
+     */
+    public static long divide(long dividend, long divisor, RoundingMode mode) {
+        long quotient = dividend / divisor;
+        long remainder = dividend - divisor * quotient;
+        if (remainder == 0) {
+            return quotient;
+        }
+        int signum = 1 | (int) ((dividend ^ divisor) >> (Long.SIZE - 1));
+        boolean increment = switch (mode) {
+            case UNNECESSARY -> throw new ArithmeticException("Rounding necessary: %s / %s".formatted(dividend, divisor));
+            case DOWN -> false;
+            case UP -> true;
+            case CEILING -> signum > 0;
+            case FLOOR -> signum < 0;
+            case HALF_EVEN, HALF_DOWN, HALF_UP -> {
+                long absRemainder = Math.abs(remainder);
+                long comparison = absRemainder - (Math.abs(divisor) - absRemainder);
+                yield comparison == 0
+                        ? mode == RoundingMode.HALF_UP || (mode == RoundingMode.HALF_EVEN && (quotient & 1) != 0)
+                        : comparison > 0;
+            }
+        };
+        return increment ? quotient + signum : quotient;
+    }
+
+    /**
+     * Converts a decimal rate such as {@code 0.01} into parts per million.
+     *
+     * @param rate the decimal rate
+     * @return the rate in parts per million
+     * @throws ArithmeticException if the rate is finer than one part per million
+     */
+    public static long toPpm(BigDecimal rate) {
+        return rate.movePointRight(6).longValueExact();
+    }
+}
@@ -0,0 +1,13 @@
+-- Future-dated transfers and standing orders (see ScheduledTransferService). Databases that ran the
+-- application with ddl-auto=update may already hold the table.
+
+CREATE TABLE IF NOT EXISTS scheduled_transfers (
+    id                INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    from_account_id   INTEGER NOT NULL,
+    to_account_id     INTEGER NOT NULL,
+    amount            BIGINT NOT NULL,
+    interval_seconds  BIGINT NOT NULL,
+    next_execution_at TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    status            VARCHAR(16) NOT NULL CHECK (status IN ('ACTIVE', 'COMPLETED', 'CANCELLED', 'FAILED')),
+    last_error        VARCHAR(255)
+);
@@ -0,0 +1,37 @@
+-- Bulk interest and fee jobs, their checkpointed chunks and the per-account audit records
+-- (see BalanceAdjustmentService). Databases that ran the application with ddl-auto=update may already hold
+-- the tables.
+
+CREATE TABLE IF NOT EXISTS balance_adjustment_jobs (
+    id               INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    type             VARCHAR(16) NOT NULL CHECK (type IN ('INTEREST', 'FEE')),
+    adjustment_value BIGINT NOT NULL,
+    status           VARCHAR(16) NOT NULL CHECK (status IN ('RUNNING', 'COMPLETED', 'FAILED')),
+    total_chunks     INTEGER NOT NULL,
+    created_at       TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    completed_at     TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE TABLE IF NOT EXISTS balance_adjustment_chunks (
+    id                INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_id            INTEGER NOT NULL,
+    from_account_id   INTEGER NOT NULL,
+    to_account_id     INTEGER NOT NULL,
+    completed         BOOLEAN NOT NULL,
+    accounts_adjusted INTEGER NOT NULL,
+    processed_at      TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE INDEX IF NOT EXISTS idx_balance_adjustment_chunks_job ON balance_adjustment_chunks (job_id, completed);
+
+CREATE TABLE IF NOT EXISTS balance_adjustments (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    job_id        INTEGER NOT NULL,
+    account_id    INTEGER NOT NULL,
+    user_id       INTEGER NOT NULL,
+    delta         BIGINT NOT NULL,
+    balance_after BIGINT NOT NULL,
+    created_at    TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_balance_adjustments_account ON balance_adjustments (account_id);
@@ -0,0 +1,45 @@
+-- The account movement ledger and the end-of-day reconciliation (see ReconciliationService). Databases that
+-- ran the application with ddl-auto=update may already hold the tables.
+
+CREATE TABLE IF NOT EXISTS account_movements (
+    id                      BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_id              INTEGER NOT NULL,
+    counterparty_account_id INTEGER,
+    type                    VARCHAR(16) NOT NULL,
+    amount                  BIGINT NOT NULL,
+    fee                     BIGINT NOT NULL,
+    created_at              TIMESTAMP(6) WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_account_movements_account_created ON account_movements (account_id, created_at);
+
+CREATE TABLE IF NOT EXISTS balance_snapshots (
+    id            BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    account_id    INTEGER NOT NULL,
+    business_date DATE NOT NULL,
+    balance       BIGINT NOT NULL,
+    taken_at      TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT uk_balance_snapshots_account_date UNIQUE (account_id, business_date)
+);
+
+CREATE TABLE IF NOT EXISTS reconciliation_reports (
+    id                 INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    business_date      DATE NOT NULL,
+    baseline           BOOLEAN NOT NULL,
+    accounts_checked   BIGINT NOT NULL,
+    opening_total      BIGINT NOT NULL,
+    movements_total    BIGINT NOT NULL,
+    closing_total      BIGINT NOT NULL,
+    transfer_imbalance BIGINT NOT NULL,
+    transfer_fees      BIGINT NOT NULL,
+    started_at         TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    finished_at        TIMESTAMP(6) WITH TIME ZONE
+);
+
+CREATE TABLE IF NOT EXISTS reconciliation_discrepancies (
+    report_id        INTEGER NOT NULL
+        CONSTRAINT fk_reconciliation_discrepancies_report REFERENCES reconciliation_reports,
+    account_id       INTEGER NOT NULL,
+    expected_balance BIGINT NOT NULL,
+    actual_balance   BIGINT NOT NULL
+);
@@ -0,0 +1,14 @@
+-- Accounts are held in a currency; existing accounts are USD. Databases that ran the application with
+-- ddl-auto=update may already hold a nullable column without a default.
+
+ALTER TABLE accounts ADD COLUMN IF NOT EXISTS currency VARCHAR(3) DEFAULT 'USD' NOT NULL
+    CHECK (currency IN ('USD', 'EUR', 'GBP', 'CHF', 'JPY', 'CNY', 'KZT'));
+UPDATE accounts SET currency = 'USD' WHERE currency IS NULL;
+ALTER TABLE accounts ALTER COLUMN currency SET DEFAULT 'USD', ALTER COLUMN currency SET NOT NULL;
+
+-- ddl-auto=update never refreshes the check constraint Hibernate generated for the movement type enum, so it
+-- is replaced by one covering every type, including the currency exchange legs.
+ALTER TABLE account_movements DROP CONSTRAINT IF EXISTS account_movements_type_check;
+ALTER TABLE account_movements ADD CONSTRAINT account_movements_type_check
+    CHECK (type IN ('OPENING', 'DEPOSIT', 'WITHDRAWAL', 'TRANSFER_OUT', 'TRANSFER_IN', 'CLOSURE_OUT',
+                    'CLOSURE_IN', 'FX_OUT', 'FX_IN', 'ADJUSTMENT'));
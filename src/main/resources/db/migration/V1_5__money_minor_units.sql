@@ -0,0 +1,85 @@
+-- Money is held in minor units of the account's currency (cents; yen for JPY) in BIGINT columns. Databases
+-- created before that hold whole units in INTEGER columns: widen every money column and rescale its values by
+-- 10^(minor unit digits of the currency). A database whose accounts.money_amount is already BIGINT holds minor
+-- units and is left unchanged, so this migration also runs safely on new databases.
+
+DO $$
+DECLARE
+    whole_units BOOLEAN;
+BEGIN
+    SELECT data_type = 'integer' INTO whole_units
+    FROM information_schema.columns
+    WHERE table_schema = current_schema() AND table_name = 'accounts' AND column_name = 'money_amount';
+    IF whole_units IS NOT TRUE THEN
+        RETURN;
+    END IF;
+
+    -- Scale factor per account ID. Accounts deleted since held the default currency, USD, unless they were
+    -- opened in another currency; their rows are scaled as USD.
+    CREATE TEMPORARY TABLE minor_unit_factors (account_id INTEGER PRIMARY KEY, factor BIGINT NOT NULL) ON COMMIT DROP;
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = 'accounts' AND column_name = 'currency') THEN
+        INSERT INTO minor_unit_factors SELECT id, CASE currency WHEN 'JPY' THEN 1 ELSE 100 END FROM accounts;
+    ELSE
+        INSERT INTO minor_unit_factors SELECT id, 100 FROM accounts;
+    END IF;
+
+    ALTER TABLE accounts ALTER COLUMN money_amount TYPE BIGINT;
+    UPDATE accounts a SET money_amount = a.money_amount * f.factor
+    FROM minor_unit_factors f
+    WHERE f.account_id = a.id;
+
+    IF to_regclass('account_movements') IS NOT NULL THEN
+        INSERT INTO minor_unit_factors SELECT DISTINCT account_id, 100 FROM account_movements ON CONFLICT DO NOTHING;
+        ALTER TABLE account_movements ALTER COLUMN amount TYPE BIGINT, ALTER COLUMN fee TYPE BIGINT;
+        UPDATE account_movements m SET amount = m.amount * f.factor, fee = m.fee * f.factor
+        FROM minor_unit_factors f
+        WHERE f.account_id = m.account_id;
+    END IF;
+
+    IF to_regclass('balance_snapshots') IS NOT NULL THEN
+        INSERT INTO minor_unit_factors SELECT DISTINCT account_id, 100 FROM balance_snapshots ON CONFLICT DO NOTHING;
+        ALTER TABLE balance_snapshots ALTER COLUMN balance TYPE BIGINT;
+        UPDATE balance_snapshots s SET balance = s.balance * f.factor
+        FROM minor_unit_factors f
+        WHERE f.account_id = s.account_id;
+    END IF;
+
+    -- Scheduled amounts are in the currency of the source account.
+    IF to_regclass('scheduled_transfers') IS NOT NULL THEN
+        INSERT INTO minor_unit_factors SELECT DISTINCT from_account_id, 100 FROM scheduled_transfers ON CONFLICT DO NOTHING;
+        ALTER TABLE scheduled_transfers ALTER COLUMN amount TYPE BIGINT;
+        UPDATE scheduled_transfers t SET amount = t.amount * f.factor
+        FROM minor_unit_factors f
+        WHERE f.account_id = t.from_account_id;
+    END IF;
+
+    IF to_regclass('balance_adjustments') IS NOT NULL THEN
+        INSERT INTO minor_unit_factors SELECT DISTINCT account_id, 100 FROM balance_adjustments ON CONFLICT DO NOTHING;
+        ALTER TABLE balance_adjustments ALTER COLUMN delta TYPE BIGINT, ALTER COLUMN balance_after TYPE BIGINT;
+        UPDATE balance_adjustments b SET delta = b.delta * f.factor, balance_after = b.balance_after * f.factor
+        FROM minor_unit_factors f
+        WHERE f.account_id = b.account_id;
+    END IF;
+
+    -- Interest rates are basis points and stay; fees are amounts of the base currency, USD.
+    IF to_regclass('balance_adjustment_jobs') IS NOT NULL THEN
+        ALTER TABLE balance_adjustment_jobs ALTER COLUMN adjustment_value TYPE BIGINT;
+        UPDATE balance_adjustment_jobs SET adjustment_value = adjustment_value * 100 WHERE type = 'FEE';
+    END IF;
+
+    IF to_regclass('reconciliation_discrepancies') IS NOT NULL THEN
+        INSERT INTO minor_unit_factors SELECT DISTINCT account_id, 100 FROM reconciliation_discrepancies ON CONFLICT DO NOTHING;
+        UPDATE reconciliation_discrepancies d
+        SET expected_balance = d.expected_balance * f.factor, actual_balance = d.actual_balance * f.factor
+        FROM minor_unit_factors f
+        WHERE f.account_id = d.account_id;
+    END IF;
+
+    IF to_regclass('reconciliation_reports') IS NOT NULL THEN
+        UPDATE reconciliation_reports
+        SET opening_total = opening_total * 100, movements_total = movements_total * 100,
+            closing_total = closing_total * 100, transfer_imbalance = transfer_imbalance * 100,
+            transfer_fees = transfer_fees * 100;
+    END IF;
+END $$;
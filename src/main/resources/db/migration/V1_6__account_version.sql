@@ -0,0 +1,6 @@
+-- Version of each account, incremented on every balance change and used for cache validation and ETags.
+-- Databases that ran the application with ddl-auto=update may already hold a nullable column.
+
+ALTER TABLE accounts ADD COLUMN IF NOT EXISTS version BIGINT DEFAULT 0 NOT NULL;
+UPDATE accounts SET version = 0 WHERE version IS NULL;
+ALTER TABLE accounts ALTER COLUMN version SET DEFAULT 0, ALTER COLUMN version SET NOT NULL;
@@ -0,0 +1,14 @@
+-- Baseline: the schema generated by spring.jpa.hibernate.ddl-auto=update before the schema was versioned.
+-- Databases created that way are baselined at this version (spring.flyway.baseline-on-migrate) and skip it;
+-- every later change is a migration of its own, so it reaches those databases as well.
+
+CREATE TABLE users (
+    id    INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    login VARCHAR(255) NOT NULL
+);
+
+CREATE TABLE accounts (
+    id           INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id      INTEGER NOT NULL,
+    money_amount INTEGER NOT NULL
+);
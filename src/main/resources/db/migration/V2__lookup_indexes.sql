@@ -0,0 +1,19 @@
+-- Indexes for every filtered repository query; RepositoryQueryPlanTest fails when one is missing.
+
+-- findByLogin, existsUserByLogin; also rejects a duplicate login racing past the existence check.
+-- Fails on databases already holding duplicate logins, which must be merged first.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_users_login ON users (login);
+
+-- findByUserId, findAllWithLockByUserId and the user ETag lookup. Covers every balance column, so a user's
+-- balances and versions are read with an index-only scan without visiting the table.
+CREATE INDEX IF NOT EXISTS idx_accounts_user_balances ON accounts (user_id, id)
+    INCLUDE (currency, money_amount, version);
+
+-- existsByBusinessDate: the unique (account_id, business_date) constraint cannot serve a lookup by date alone.
+CREATE INDEX IF NOT EXISTS idx_balance_snapshots_business_date ON balance_snapshots (business_date);
+
+-- findByStatus, run at startup to resume adjustment jobs.
+CREATE INDEX IF NOT EXISTS idx_balance_adjustment_jobs_status ON balance_adjustment_jobs (status);
+
+-- findByStatusAndIdGreaterThanOrderByIdAsc: pages through active transfers in id order.
+CREATE INDEX IF NOT EXISTS idx_scheduled_transfers_status_id ON scheduled_transfers (status, id);
@@ -0,0 +1,61 @@
+-- Partitions the movement ledger by month of created_at (UTC), so statements and the nightly reconciliation
+-- only touch the months they ask for and old months can be detached for archival
+-- (see MovementPartitionService, which also creates the months ahead).
+--
+-- The primary key of a partitioned table must contain the partition key, hence (id, created_at); ids keep
+-- coming from one sequence shared by all partitions. There is deliberately no default partition: it would
+-- prevent detaching partitions concurrently.
+
+ALTER TABLE account_movements RENAME TO account_movements_unpartitioned;
+ALTER TABLE account_movements_unpartitioned RENAME CONSTRAINT account_movements_pkey
+    TO account_movements_unpartitioned_pkey;
+ALTER INDEX idx_account_movements_account_created RENAME TO idx_account_movements_unpartitioned_account_created;
+ALTER SEQUENCE account_movements_id_seq RENAME TO account_movements_unpartitioned_id_seq;
+
+CREATE SEQUENCE account_movements_id_seq;
+
+CREATE TABLE account_movements (
+    id                      BIGINT NOT NULL DEFAULT nextval('account_movements_id_seq'),
+    account_id              INTEGER NOT NULL,
+    counterparty_account_id INTEGER,
+    type                    VARCHAR(16) NOT NULL
+        CHECK (type IN ('OPENING', 'DEPOSIT', 'WITHDRAWAL', 'TRANSFER_OUT', 'TRANSFER_IN', 'CLOSURE_OUT',
+                        'CLOSURE_IN', 'FX_OUT', 'FX_IN', 'ADJUSTMENT')),
+    amount                  BIGINT NOT NULL,
+    fee                     BIGINT NOT NULL,
+    created_at              TIMESTAMP(6) WITH TIME ZONE NOT NULL,
+    CONSTRAINT account_movements_pkey PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+ALTER SEQUENCE account_movements_id_seq OWNED BY account_movements.id;
+
+-- Statement pages: one account, newest first, keyset on (created_at, id). The included columns make each
+-- page an index-only scan of adjacent index entries instead of one heap fetch per movement.
+CREATE INDEX idx_account_movements_account_created ON account_movements (account_id, created_at, id)
+    INCLUDE (counterparty_account_id, type, amount, fee);
+
+-- One partition per month, from the oldest movement to three months ahead.
+DO $$
+DECLARE
+    month      TIMESTAMP := date_trunc('month',
+            COALESCE((SELECT min(created_at) FROM account_movements_unpartitioned), now()) AT TIME ZONE 'UTC');
+    last_month TIMESTAMP := date_trunc('month', now() AT TIME ZONE 'UTC') + INTERVAL '3 months';
+BEGIN
+    WHILE month <= last_month LOOP
+        EXECUTE format('CREATE TABLE %I PARTITION OF account_movements FOR VALUES FROM (%L) TO (%L)',
+                'account_movements_' || to_char(month, 'YYYY_MM'),
+                month AT TIME ZONE 'UTC',
+                (month + INTERVAL '1 month') AT TIME ZONE 'UTC');
+        month := month + INTERVAL '1 month';
+    END LOOP;
+END
+$$;
+
+INSERT INTO account_movements (id, account_id, counterparty_account_id, type, amount, fee, created_at)
+SELECT id, account_id, counterparty_account_id, type, amount, fee, created_at
+FROM account_movements_unpartitioned;
+
+SELECT setval('account_movements_id_seq',
+              COALESCE((SELECT max(id) FROM account_movements_unpartitioned), 0) + 1, false);
+
+DROP TABLE account_movements_unpartitioned;
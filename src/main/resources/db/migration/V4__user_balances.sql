@@ -0,0 +1,18 @@
+-- Per-user balance totals, one row per user and currency, maintained incrementally in the transaction of
+-- every balance change (see UserBalanceService) instead of summing the user's accounts on each request.
+-- Amounts in different currencies are never added up here; conversion happens when totals are read.
+
+CREATE TABLE user_balances (
+    user_id       INTEGER NOT NULL,
+    currency      VARCHAR(3) NOT NULL
+        CHECK (currency IN ('USD', 'EUR', 'GBP', 'CHF', 'JPY', 'CNY', 'KZT')),
+    total_balance BIGINT NOT NULL,
+    account_count INTEGER NOT NULL,
+    CONSTRAINT user_balances_pkey PRIMARY KEY (user_id, currency)
+);
+
+INSERT INTO user_balances (user_id, currency, total_balance, account_count)
+SELECT user_id, currency, CAST(COALESCE(SUM(money_amount), 0) AS BIGINT), CAST(COUNT(*) AS INTEGER)
+FROM accounts
+WHERE user_id IS NOT NULL
+GROUP BY user_id, currency;
@@ -0,0 +1,22 @@
+-- Reconciliation totals per currency. The report-level totals added minor units of different currencies
+-- together and are dropped.
+
+CREATE TABLE reconciliation_currency_totals (
+    report_id          INTEGER NOT NULL
+        CONSTRAINT fk_reconciliation_currency_totals_report REFERENCES reconciliation_reports,
+    currency           VARCHAR(3) NOT NULL
+        CHECK (currency IN ('USD', 'EUR', 'GBP', 'CHF', 'JPY', 'CNY', 'KZT')),
+    opening_total      BIGINT NOT NULL,
+    movements_total    BIGINT NOT NULL,
+    closing_total      BIGINT NOT NULL,
+    transfer_imbalance BIGINT NOT NULL,
+    transfer_fees      BIGINT NOT NULL,
+    PRIMARY KEY (report_id, currency)
+);
+
+ALTER TABLE reconciliation_reports
+    DROP COLUMN opening_total,
+    DROP COLUMN movements_total,
+    DROP COLUMN closing_total,
+    DROP COLUMN transfer_imbalance,
+    DROP COLUMN transfer_fees;
@@ -0,0 +1,248 @@
+package org.springcorebankapp;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springcorebankapp.account.AccountMovementRepository;
+import org.springcorebankapp.account.AccountRepository;
+import org.springcorebankapp.adjustment.AdjustmentJobStatus;
+import org.springcorebankapp.adjustment.BalanceAdjustmentChunkRepository;
+import org.springcorebankapp.adjustment.BalanceAdjustmentJobRepository;
+import org.springcorebankapp.adjustment.BalanceAdjustmentRepository;
+import org.springcorebankapp.balance.UserBalanceRepository;
+import org.springcorebankapp.fx.Currency;
+import org.springcorebankapp.reconciliation.BalanceSnapshotRepository;
+import org.springcorebankapp.schedule.ScheduledTransferRepository;
+import org.springcorebankapp.schedule.ScheduledTransferStatus;
+import org.springcorebankapp.user.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs every query method of the repositories against the migrated schema, captures the SQL Hibernate sends
+ * and fails if its plan reads any table with a sequential scan.
+ * <p>
+ * Plans are generic ({@code EXPLAIN (GENERIC_PLAN)}), so they do not depend on parameter values, and
+ * sequential scans are disabled for the planner, so an empty test table does not hide a missing index: a scan
+ * is only planned when no index can serve the query. The plans are written to {@code target/query-plans}.
+ * </p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE, properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "org.springcorebankapp.RepositoryQueryPlanTest$RecordingStatementInspector",
+        // EXPLAIN of a statement with unbound $n parameters has to bypass the extended query protocol
+        "spring.datasource.hikari.data-source-properties.preferQueryMode=simple"})
+@ActiveProfiles("embedded")
+class RepositoryQueryPlanTest {
+    private static final Path PLAN_DIRECTORY = Path.of("target", "query-plans");
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private AccountMovementRepository accountMovementRepository;
+    @Autowired
+    private BalanceSnapshotRepository balanceSnapshotRepository;
+    @Autowired
+    private BalanceAdjustmentJobRepository balanceAdjustmentJobRepository;
+    @Autowired
+    private BalanceAdjustmentChunkRepository balanceAdjustmentChunkRepository;
+    @Autowired
+    private BalanceAdjustmentRepository balanceAdjustmentRepository;
+    @Autowired
+    private UserBalanceRepository userBalanceRepository;
+    @Autowired
+    private ScheduledTransferRepository scheduledTransferRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void repositoryQueries_UseIndexes() throws IOException {
+        // given
+        Map<String, Runnable> queries = new LinkedHashMap<>();
+        queries.put("UserRepository.findByLogin", () -> userRepository.findByLogin("login"));
+        queries.put("UserRepository.findForShareByLogin", () -> userRepository.findForShareByLogin("login"));
+        queries.put("UserRepository.existsUserByLogin", () -> userRepository.existsUserByLogin("login"));
+        queries.put("UserRepository.findAccountVersionsById", () -> userRepository.findAccountVersionsById(1));
+        queries.put("UserRepository.streamAllLogins", () -> {
+            try (Stream<String> logins = userRepository.streamAllLogins()) {
+                logins.count();
+            }
+        });
+        queries.put("UserRepository.findMinId", () -> userRepository.findMinId());
+        queries.put("UserRepository.findMaxId", () -> userRepository.findMaxId());
+        queries.put("AccountRepository.findByUserId", () -> accountRepository.findByUserId(1));
+        queries.put("AccountRepository.findWithLockById", () -> accountRepository.findWithLockById(1));
+        queries.put("AccountRepository.findByIdIn", () -> accountRepository.findByIdIn(List.of(1, 2, 3)));
+        queries.put("AccountRepository.findVersionsByIdIn",
+                () -> accountRepository.findVersionsByIdIn(List.of(1, 2, 3)));
+        queries.put("AccountRepository.findAllWithLockByUserId", () -> accountRepository.findAllWithLockByUserId(1));
+        queries.put("AccountRepository.findAllWithLockByIdIn",
+                () -> accountRepository.findAllWithLockByIdIn(List.of(1, 2, 3)));
+        queries.put("AccountRepository.findUserIdById", () -> accountRepository.findUserIdById(1));
+        queries.put("AccountRepository.findIdsByUserId", () -> accountRepository.findIdsByUserId(1));
+        queries.put("AccountRepository.findMinId", () -> accountRepository.findMinId());
+        queries.put("AccountRepository.findMaxId", () -> accountRepository.findMaxId());
+        queries.put("AccountMovementRepository.findHistoryPage",
+                () -> accountMovementRepository.findHistoryPage(1, Instant.EPOCH, Instant.now(), Long.MIN_VALUE, 50));
+        queries.put("BalanceSnapshotRepository.existsByBusinessDate",
+                () -> balanceSnapshotRepository.existsByBusinessDate(LocalDate.now()));
+        queries.put("BalanceAdjustmentJobRepository.findByStatus",
+                () -> balanceAdjustmentJobRepository.findByStatus(AdjustmentJobStatus.RUNNING));
+        queries.put("BalanceAdjustmentChunkRepository.findByJobIdAndCompletedFalseOrderByFromAccountIdAsc",
+                () -> balanceAdjustmentChunkRepository.findByJobIdAndCompletedFalseOrderByFromAccountIdAsc(1));
+        queries.put("BalanceAdjustmentChunkRepository.countByJobIdAndCompletedTrue",
+                () -> balanceAdjustmentChunkRepository.countByJobIdAndCompletedTrue(1));
+        queries.put("BalanceAdjustmentChunkRepository.markCompleted",
+                () -> balanceAdjustmentChunkRepository.markCompleted(1, 0, Instant.now()));
+        queries.put("BalanceAdjustmentRepository.applyInterest",
+                () -> balanceAdjustmentRepository.applyInterest(1, 1, 100, 50));
+        queries.put("BalanceAdjustmentRepository.applyFee",
+                () -> balanceAdjustmentRepository.applyFee(1, 1, 100,
+                        new String[]{Currency.USD.name(), Currency.EUR.name()}, new long[]{500, 460}));
+        queries.put("UserBalanceRepository.findForShareByUserIdOrderByCurrencyAsc",
+                () -> userBalanceRepository.findForShareByUserIdOrderByCurrencyAsc(1));
+        queries.put("UserBalanceRepository.applyDelta",
+                () -> userBalanceRepository.applyDelta(1, Currency.USD.name(), 100, 0));
+        queries.put("UserBalanceRepository.lockUsers", () -> userBalanceRepository.lockUsers(1, 100));
+        queries.put("UserBalanceRepository.lockAccounts", () -> userBalanceRepository.lockAccounts(1, 100));
+        queries.put("UserBalanceRepository.deleteRange", () -> userBalanceRepository.deleteRange(1, 100));
+        queries.put("UserBalanceRepository.insertRange", () -> userBalanceRepository.insertRange(1, 100));
+        queries.put("ScheduledTransferRepository.findByStatusAndIdGreaterThanOrderByIdAsc",
+                () -> scheduledTransferRepository.findByStatusAndIdGreaterThanOrderByIdAsc(
+                        ScheduledTransferStatus.ACTIVE, 0, PageRequest.of(0, 100)));
+        queries.put("ScheduledTransferRepository.findWithLockById", () -> scheduledTransferRepository.findWithLockById(1));
+        queries.put("ScheduledTransferRepository.findForExecutionById",
+                () -> scheduledTransferRepository.findForExecutionById(1));
+        Files.createDirectories(PLAN_DIRECTORY);
+        List<String> sequentialScans = new ArrayList<>();
+
+        // when
+        for (Map.Entry<String, Runnable> query : queries.entrySet()) {
+            List<String> statements = capture(query.getValue());
+            assertFalse(statements.isEmpty(), query.getKey() + " sent no SQL");
+            StringBuilder plans = new StringBuilder();
+            for (String statement : statements) {
+                String plan = explain(statement);
+                plans.append(statement).append('\n').append(plan).append("\n\n");
+                if (plan.contains("\"Seq Scan\"")) {
+                    sequentialScans.add(query.getKey() + ":\n" + statement + "\n" + plan);
+                }
+            }
+            Files.writeString(PLAN_DIRECTORY.resolve(query.getKey() + ".txt"), plans);
+        }
+
+        // then
+        assertTrue(sequentialScans.isEmpty(), "Queries planned with a sequential scan:\n"
+                + String.join("\n\n", sequentialScans));
+    }
+
+    /**
+     * Runs the query in a transaction rolled back afterwards and returns the SQL it sent.
+     */
+    private List<String> capture(Runnable query) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        RecordingStatementInspector.start();
+        List<String> statements;
+        try {
+            transaction.executeWithoutResult(status -> {
+                query.run();
+                status.setRollbackOnly();
+            });
+        } finally {
+            statements = RecordingStatementInspector.stop();
+        }
+        return statements;
+    }
+
+    private String explain(String statement) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        return transaction.execute(status -> {
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            List<String> plan = jdbcTemplate.queryForList(
+                    "EXPLAIN (GENERIC_PLAN, FORMAT JSON) " + numberParameters(statement), String.class);
+            status.setRollbackOnly();
+            return String.join("\n", plan);
+        });
+    }
+
+    /**
+     * Rewrites JDBC {@code ?} placeholders to the {@code $n} parameters {@code EXPLAIN (GENERIC_PLAN)} expects.
+     */
+    private static String numberParameters(String statement) {
+        StringBuilder numbered = new StringBuilder(statement.length() + 16);
+        int parameter = 0;
+        for (int i = 0; i < statement.length(); i++) {
+            char c = statement.charAt(i);
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return numbered.toString();
+    }
+
+    /**
+     * Records the SQL Hibernate prepares on the current thread while recording is started.
+     */
+    public static class RecordingStatementInspector implements StatementInspector {
+        private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+        static void start() {
+            RECORDED.set(new ArrayList<>());
+        }
+
+        static List<String> stop() {
+            List<String> recorded = RECORDED.get();
+            RECORDED.remove();
+            return recorded;
+        }
+
+        @Override
+        public String inspect(String sql) {
+            List<String> recorded = RECORDED.get();
+            if (recorded != null) {
+                recorded.add(sql);
+            }
+            return sql;
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package org.springcorebankapp;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the Flyway migrations against a database created by Hibernate's {@code ddl-auto=update} before the
+ * schema was versioned, baselined the way the application does at startup.
+ */
+class SchemaMigrationTest {
+    private EmbeddedPostgres postgres;
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        dataSource = postgres.getPostgresDatabase();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void migrate_RescalesWholeUnitBalancesToMinorUnits() {
+        // given
+        jdbcTemplate.execute("""
+                CREATE TABLE users (id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                                    login VARCHAR(255) NOT NULL);
+                CREATE TABLE accounts (id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                                       user_id INTEGER NOT NULL, money_amount INTEGER NOT NULL);
+                INSERT INTO users (id, login) VALUES (1, 'login');
+                INSERT INTO accounts (id, user_id, money_amount) VALUES (1, 1, 500), (2, 1, 2147483647);
+                """);
+
+        // when
+        migrate("1.5");
+
+        // then
+        assertEquals("bigint", jdbcTemplate.queryForObject("""
+                SELECT data_type FROM information_schema.columns
+                WHERE table_name = 'accounts' AND column_name = 'money_amount'
+                """, String.class));
+        assertEquals(50_000L, jdbcTemplate.queryForObject(
+                "SELECT money_amount FROM accounts WHERE id = 1", Long.class));
+        assertEquals(214_748_364_700L, jdbcTemplate.queryForObject(
+                "SELECT money_amount FROM accounts WHERE id = 2", Long.class));
+    }
+
+    @Test
+    void migrate_RescalesSeriesTablesByCurrency() {
+        // given
+        jdbcTemplate.execute("""
+                CREATE TABLE accounts (id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                                       user_id INTEGER NOT NULL, money_amount INTEGER NOT NULL,
+                                       currency VARCHAR(3) DEFAULT 'USD' NOT NULL);
+                CREATE TABLE account_movements (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                                                account_id INTEGER NOT NULL, type VARCHAR(16) DEFAULT 'DEPOSIT',
+                                                amount INTEGER NOT NULL, fee INTEGER NOT NULL,
+                                                created_at TIMESTAMP(6) WITH TIME ZONE DEFAULT now());
+                CREATE TABLE balance_adjustment_jobs (id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                                                      type VARCHAR(16) NOT NULL, adjustment_value INTEGER NOT NULL);
+                INSERT INTO accounts (id, user_id, money_amount, currency) VALUES (1, 1, 10, 'USD'), (2, 1, 700, 'JPY');
+                INSERT INTO account_movements (account_id, amount, fee) VALUES (1, -3, 1), (2, 700, 0), (9, 4, 0);
+                INSERT INTO balance_adjustment_jobs (type, adjustment_value) VALUES ('INTEREST', 150), ('FEE', 5);
+                """);
+
+        // when
+        migrate("1.5");
+
+        // then
+        assertEquals(List.of(1_000L, 700L), jdbcTemplate.queryForList(
+                "SELECT money_amount FROM accounts ORDER BY id", Long.class));
+        assertEquals(List.of(-300L, 700L, 400L), jdbcTemplate.queryForList(
+                "SELECT amount FROM account_movements ORDER BY id", Long.class));
+        assertEquals(List.of(100L, 0L, 0L), jdbcTemplate.queryForList(
+                "SELECT fee FROM account_movements ORDER BY id", Long.class));
+        assertEquals(List.of(150L, 500L), jdbcTemplate.queryForList(
+                "SELECT adjustment_value FROM balance_adjustment_jobs ORDER BY id", Long.class));
+    }
+
+    @Test
+    void migrate_UpgradesBaselinedDatabaseToCurrentSchema() {
+        // given
+        jdbcTemplate.execute("""
+                CREATE TABLE users (id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                                    login VARCHAR(255) NOT NULL);
+                CREATE TABLE accounts (id INTEGER GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                                       user_id INTEGER NOT NULL, money_amount INTEGER NOT NULL);
+                INSERT INTO users (id, login) VALUES (1, 'login');
+                INSERT INTO accounts (id, user_id, money_amount) VALUES (1, 1, 500), (2, 1, 250);
+                """);
+
+        // when
+        migrate("latest");
+
+        // then
+        assertEquals(List.of("1", "1.1", "1.2", "1.3", "1.4", "1.5", "1.6", "2", "3", "4", "5"),
+                jdbcTemplate.queryForList(
+                        "SELECT version FROM flyway_schema_history WHERE success ORDER BY installed_rank",
+                        String.class));
+        assertEquals(List.of(Map.of("money_amount", 50_000L, "currency", "USD", "version", 0L),
+                        Map.of("money_amount", 25_000L, "currency", "USD", "version", 0L)),
+                jdbcTemplate.queryForList("SELECT money_amount, currency, version FROM accounts ORDER BY id"));
+        assertEquals(75_000L, jdbcTemplate.queryForObject(
+                "SELECT total_balance FROM user_balances WHERE user_id = 1 AND currency = 'USD'", Long.class));
+    }
+
+    private void migrate(String target) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .baselineOnMigrate(true)
+                .baselineVersion("1")
+                .target(target)
+                .load()
+                .migrate();
+    }
+}
@@ -12,6 +12,7 @@ import org.springframework.http.HttpStatus;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
 class AccountControllerTest {
@@ -26,7 +27,7 @@ class AccountControllerTest {
         String login = "login 1";
 
         // when
-        var response = this.accountController.createAccount(login);
+        var response = this.accountController.createAccount(login, null);
 
         // then
         assertNotNull(response);
@@ -43,7 +44,7 @@ class AccountControllerTest {
                 .doThrow(new UserNotFoundException("User with login = %s not found"
                         .formatted(login))).when(this.accountService).createAccount(login);
 
-        var response = this.accountController.createAccount(login);
+        var response = this.accountController.createAccount(login, null);
 
         assertNotNull(response);
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
@@ -55,7 +56,7 @@ class AccountControllerTest {
         String login = "login 1";
 
         Mockito.doThrow(new RuntimeException("Internal Server Error")).when(this.accountService).createAccount(login);
-        var response = this.accountController.createAccount(login);
+        var response = this.accountController.createAccount(login, null);
         assertNotNull(response);
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertEquals("Internal Server Error", response.getBody());
@@ -72,13 +73,35 @@ class AccountControllerTest {
 
         Mockito.doReturn(account1).when(this.accountService).findAccountById(accountId);
 
-        var response = this.accountController.findAccountById(accountId);
+        var response = this.accountController.findAccountById(accountId, null);
 
         // then
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals(account1, response.getBody());
+        assertNotNull(response.getHeaders().getETag());
+    }
+
+    @Test
+    void handleFindAccountById_NotModifiedUntilAccountChanges() throws Exception {
+        // given
+        int accountId = 1;
+        Account account = new Account(2, 1000);
+        account.setId(accountId);
+        Mockito.doReturn(account).when(this.accountService).findAccountById(accountId);
+        String eTag = this.accountController.findAccountById(accountId, null).getHeaders().getETag();
+
+        // when
+        var unchanged = this.accountController.findAccountById(accountId, eTag);
+        account.setVersion(1);
+        var changed = this.accountController.findAccountById(accountId, eTag);
+
+        // then
+        assertEquals(HttpStatus.NOT_MODIFIED, unchanged.getStatusCode());
+        assertNull(unchanged.getBody());
+        assertEquals(HttpStatus.OK, changed.getStatusCode());
+        assertEquals(account, changed.getBody());
     }
 
     @Test
@@ -86,7 +109,7 @@ class AccountControllerTest {
         int accountId = 1;
 
         Mockito.doThrow(new AccountNotFoundException()).when(this.accountService).findAccountById(accountId);
-        var response = this.accountController.findAccountById(accountId);
+        var response = this.accountController.findAccountById(accountId, null);
         assertNotNull(response);
         assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
     }
@@ -97,7 +120,7 @@ class AccountControllerTest {
 
         Mockito.doThrow(new RuntimeException("Unexpected error")).when(this.accountService).findAccountById(accountId);
 
-        var response = this.accountController.findAccountById(accountId);
+        var response = this.accountController.findAccountById(accountId, null);
 
         assertNotNull(response);
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
@@ -107,7 +130,7 @@ class AccountControllerTest {
     @Test
     void depositAccount_Success() throws Exception {
         int accountId = 1;
-        int amount = 2000;
+        long amount = 2000;
 
         var response = this.accountController.depositAccount(accountId, amount);
 
@@ -120,7 +143,7 @@ class AccountControllerTest {
     @Test
     void depositAccount_InternalServerError() throws Exception {
         int accountId = 1;
-        int amount = 2000;
+        long amount = 2000;
 
         Mockito.doThrow(new RuntimeException("Unexpected error")).when(this.accountService).depositAccount(accountId, amount);
         var response = this.accountController.depositAccount(accountId, amount);
@@ -133,7 +156,7 @@ class AccountControllerTest {
     @Test
     void withdrawAccount_Success() throws Exception {
         int accountId = 1;
-        int amount = 50;
+        long amount = 50;
 
         var response = this.accountController.withdrawAccount(accountId, amount);
         assertNotNull(response);
@@ -145,7 +168,7 @@ class AccountControllerTest {
     @Test
     void withdrawAccount_InternalServerError() throws Exception {
         int accountId = 1;
-        int amount = 50;
+        long amount = 50;
 
         Mockito.doThrow(new RuntimeException("Unexpected error")).when(this.accountService).withdrawFromAccount(accountId, amount);
 
@@ -155,6 +178,32 @@ class AccountControllerTest {
         assertEquals("Unexpected error" ,response.getBody());
     }
 
+    @Test
+    void withdrawAccount_InsufficientFunds_ReturnsBadRequest() throws Exception {
+        // given
+        Mockito.doThrow(new IllegalArgumentException("Cannot withdraw from account"))
+                .when(this.accountService).withdrawFromAccount(1, 500L);
+
+        // when
+        var response = this.accountController.withdrawAccount(1, 500L);
+
+        // then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+
+    @Test
+    void depositAccount_AccountNotFound_ReturnsNotFound() throws Exception {
+        // given
+        Mockito.doThrow(new javax.security.auth.login.AccountNotFoundException("Account with id = 1 not found"))
+                .when(this.accountService).depositAccount(1, 500L);
+
+        // when
+        var response = this.accountController.depositAccount(1, 500L);
+
+        // then
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+    }
+
     @Test
     void deleteAccount_Success() throws Exception {
         int accountId = 1;
@@ -208,4 +257,17 @@ class AccountControllerTest {
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertEquals("Unexpected error", response.getBody());
     }
-}
\ No newline at end of file
+
+    @Test
+    void handleFindHistory_InvalidCursor_ReturnsBadRequest() {
+        // given
+        when(accountService.findHistory(1, null, null, "garbage", 50))
+                .thenThrow(new IllegalArgumentException("Invalid history cursor: garbage"));
+
+        // when
+        var response = accountController.findHistory(1, null, null, "garbage", 50);
+
+        // then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+    }
+}
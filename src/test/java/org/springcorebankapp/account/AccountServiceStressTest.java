@@ -0,0 +1,196 @@
+package org.springcorebankapp.account;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springcorebankapp.balance.UserBalanceService;
+import org.springcorebankapp.index.BalanceIndex;
+import org.springcorebankapp.index.IndexedBalance;
+import org.springcorebankapp.user.UserService;
+import org.springcorebankapp.util.Money;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs random concurrent transfers, deposits, withdrawals and cached reads against an embedded PostgreSQL
+ * database and an in-memory cache, then checks that no update was lost.
+ * <p>
+ * The load can be scaled with the {@code stress.threads} and {@code stress.operations} system properties,
+ * e.g. {@code mvn test -Dtest=AccountServiceStressTest -Dstress.threads=32 -Dstress.operations=5000}.
+ * </p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@ActiveProfiles("embedded")
+class AccountServiceStressTest {
+    private static final int USERS = 10;
+    private static final int ACCOUNTS_PER_USER = 2;
+    private static final int THREADS = Integer.getInteger("stress.threads", 8);
+    private static final int OPERATIONS_PER_THREAD = Integer.getInteger("stress.operations", 500);
+    private static final int MAX_REBUILDS = 20;
+    private static final long REBUILD_INTERVAL_MILLIS = 50;
+
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private AccountService accountService;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private AccountRepository accountRepository;
+    @Autowired
+    private AccountProperties accountProperties;
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private UserBalanceService userBalanceService;
+    @Autowired
+    private BalanceIndex balanceIndex;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void concurrentMovements_ConserveMoneyAndKeepCacheConsistent() throws Exception {
+        // given
+        for (int user = 0; user < USERS; user++) {
+            String login = "stress-user-" + user;
+            userService.createUser(login);
+            for (int account = 1; account < ACCOUNTS_PER_USER; account++) {
+                accountService.createAccount(login);
+            }
+        }
+        List<Account> accounts = accountRepository.findAll();
+        int[] accountIds = accounts.stream().mapToInt(Account::getId).toArray();
+        Map<Integer, Integer> owners = accounts.stream().collect(Collectors.toMap(Account::getId, Account::getUserId));
+        long initialTotal = accounts.stream().mapToLong(Account::getMoneyAmount).sum();
+
+        LongAdder deposited = new LongAdder();
+        LongAdder withdrawn = new LongAdder();
+        LongAdder commissions = new LongAdder();
+        LongAdder completed = new LongAdder();
+        LongAdder rejected = new LongAdder();
+        Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // when
+        for (int thread = 0; thread < THREADS; thread++) {
+            executor.execute(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        int accountId = accountIds[random.nextInt(accountIds.length)];
+                        long amount = 1 + random.nextLong(20_000);
+                        int operation = random.nextInt(100);
+                        try {
+                            if (operation < 55) {
+                                int toAccountId = accountIds[random.nextInt(accountIds.length)];
+                                if (toAccountId == accountId) {
+                                    continue;
+                                }
+                                accountService.transfer(accountId, toAccountId, amount);
+                                if (!owners.get(accountId).equals(owners.get(toAccountId))) {
+                                    commissions.add(Money.percentOf(amount, accountProperties.getTransferCommissionPpm(),
+                                            accountProperties.getTransferCommissionRounding()));
+                                }
+                            } else if (operation < 70) {
+                                accountService.depositAccount(accountId, amount);
+                                deposited.add(amount);
+                            } else if (operation < 85) {
+                                accountService.withdrawFromAccount(accountId, amount);
+                                withdrawn.add(amount);
+                            } else {
+                                assertTrue(accountService.findAccountById(accountId).getMoneyAmount() >= 0);
+                            }
+                            completed.increment();
+                        } catch (IllegalArgumentException e) {
+                            rejected.increment();
+                        }
+                    }
+                } catch (Throwable e) {
+                    failures.add(e);
+                }
+            });
+        }
+        long startedAt = System.nanoTime();
+        start.countDown();
+        executor.shutdown();
+        for (int i = 0; i < MAX_REBUILDS && !executor.isTerminated(); i++) {
+            userBalanceService.rebuild();
+            executor.awaitTermination(REBUILD_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        }
+        assertTrue(executor.awaitTermination(5, TimeUnit.MINUTES));
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        System.out.printf("Stress test: %d threads, %d operations completed and %d rejected in %.2f s (%.0f ops/s)%n",
+                THREADS, completed.sum(), rejected.sum(), seconds, (completed.sum() + rejected.sum()) / seconds);
+
+        // then
+        assertTrue(failures.isEmpty(), () -> "Unexpected failures: " + failures);
+        List<Account> finalAccounts = accountRepository.findAll();
+        assertEquals(initialTotal + deposited.sum() - withdrawn.sum() - commissions.sum(),
+                finalAccounts.stream().mapToLong(Account::getMoneyAmount).sum());
+        assertTrue(finalAccounts.stream().allMatch(account -> account.getMoneyAmount() >= 0));
+
+        Map<Integer, Long> ledger = jdbcTemplate.query(
+                "SELECT account_id, SUM(amount) AS total FROM account_movements GROUP BY account_id",
+                (resultSet, row) -> Map.entry(resultSet.getInt("account_id"), resultSet.getLong("total")))
+                .stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        Map<String, Long> expectedTotals = finalAccounts.stream().collect(Collectors.groupingBy(
+                account -> account.getUserId() + "/" + account.getCurrency(),
+                Collectors.summingLong(Account::getMoneyAmount)));
+        Map<String, Long> totals = jdbcTemplate.query(
+                "SELECT user_id, currency, total_balance FROM user_balances",
+                (resultSet, row) -> Map.entry(resultSet.getInt("user_id") + "/" + resultSet.getString("currency"),
+                        resultSet.getLong("total_balance")))
+                .stream().collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
+        assertEquals(expectedTotals, totals);
+        balanceIndex.awaitWrites();
+        IndexedBalance indexed = new IndexedBalance();
+        Cache cache = cacheManager.getCache("accounts");
+        for (Account account : finalAccounts) {
+            assertEquals(account.getMoneyAmount(), ledger.get(account.getId()),
+                    "ledger of account " + account.getId());
+            Cache.ValueWrapper cached = cache.get(account.getId());
+            if (cached != null) {
+                assertEquals(account.getMoneyAmount(), ((Account) cached.get()).getMoneyAmount(),
+                        "cached balance of account " + account.getId());
+            }
+            if (balanceIndex.read(account.getId(), indexed)) {
+                assertEquals(account.getMoneyAmount(), indexed.getMoneyAmount(),
+                        "indexed balance of account " + account.getId());
+            }
+        }
+    }
+}
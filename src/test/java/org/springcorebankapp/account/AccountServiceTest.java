@@ -1,20 +1,43 @@
 package org.springcorebankapp.account;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springcorebankapp.audit.AuditEventType;
+import org.springcorebankapp.audit.AuditLog;
+import org.springcorebankapp.balance.UserBalanceChange;
+import org.springcorebankapp.balance.UserBalanceService;
+import org.springcorebankapp.cache.NegativeLookupCache;
 import org.springcorebankapp.exception.UserNotFoundException;
+import org.springcorebankapp.exception.VelocityLimitExceededException;
+import org.springcorebankapp.fx.Currency;
+import org.springcorebankapp.fx.FxRateService;
+import org.springcorebankapp.index.BalanceIndex;
+import org.springcorebankapp.index.UserAccountDirectory;
+import org.springcorebankapp.risk.VelocityCheckService;
+import org.springcorebankapp.user.LoginFilterService;
 import org.springcorebankapp.user.User;
+import org.springcorebankapp.user.UserAccountVersion;
 import org.springcorebankapp.user.UserRepository;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
 
 import javax.security.auth.login.AccountNotFoundException;
+import java.math.RoundingMode;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,9 +48,37 @@ class AccountServiceTest {
     private UserRepository userRepository;
     @Mock
     private AccountProperties accountProperties;
+    @Mock
+    private AccountMovementRepository accountMovementRepository;
+    @Mock
+    private VelocityCheckService velocityCheckService;
+    @Mock
+    private FxRateService fxRateService;
+    @Mock
+    private AuditLog auditLog;
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
+    @Mock
+    private LoginFilterService loginFilterService;
+    @Mock
+    private UserBalanceService userBalanceService;
+    @Mock
+    private BalanceIndex balanceIndex;
+    @Mock
+    private UserAccountDirectory userAccountDirectory;
+    @Mock
+    private CacheManager cacheManager;
     @InjectMocks
     private AccountService accountService;
 
+    @BeforeEach
+    void setUp() {
+        lenient().when(fxRateService.convert(anyLong(), any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+        lenient().when(fxRateService.toBaseCurrency(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
     // create account
 
     @Test
@@ -40,7 +91,9 @@ class AccountServiceTest {
 
         Account account = new Account(user.getId(),0);
 
-        when(userRepository.findByLogin(login)).thenReturn(Optional.of(user));
+        when(accountProperties.getDefaultCurrency()).thenReturn(Currency.USD);
+        when(loginFilterService.mightExist(login)).thenReturn(true);
+        when(userRepository.findForShareByLogin(login)).thenReturn(Optional.of(user));
         when(accountRepository.save(any(Account.class))).thenReturn(account);
 
         // when
@@ -60,13 +113,25 @@ class AccountServiceTest {
         // given
 
         String login = "test 1";
-        when(userRepository.findByLogin(login)).thenReturn(Optional.empty());
+        when(loginFilterService.mightExist(login)).thenReturn(true);
+        when(userRepository.findForShareByLogin(login)).thenReturn(Optional.empty());
 
         // when / then
         assertThrows(UserNotFoundException.class, () -> accountService.createAccount(login));
         verify(accountRepository, never()).save(any(Account.class));
     }
 
+    @Test
+    void handleCreateAccount_UnknownLoginSkipsQuery() {
+        // given
+        String login = "test 1";
+        when(loginFilterService.mightExist(login)).thenReturn(false);
+
+        // when / then
+        assertThrows(UserNotFoundException.class, () -> accountService.createAccount(login, Currency.USD));
+        verify(userRepository, never()).findForShareByLogin(login);
+    }
+
     // find account by id
 
     @Test
@@ -95,34 +160,125 @@ class AccountServiceTest {
 
         // when / then
         assertThrows(AccountNotFoundException.class, () -> accountService.findAccountById(accountId));
+        verify(negativeLookupCache).accountMissing(accountId);
     }
 
-    // get all users
+    @Test
+    void handleFindAccountById_KnownMissingSkipsQuery() {
+        // given
+        int accountId = 1;
+        when(negativeLookupCache.isAccountMissing(accountId)).thenReturn(true);
+
+        // when / then
+        assertThrows(AccountNotFoundException.class, () -> accountService.findAccountById(accountId));
+        verify(accountRepository, never()).findById(accountId);
+    }
 
     @Test
-    void handleGetAllUserAccounts_ReturnsAllUserAccounts() {
+    void findAccountsByIds_ReadsMissesWithOneQueryAndCachesThem() {
         // given
-        int userId = 1;
-        Account account = new Account(userId,100);
-        Account account2 = new Account(userId,200);
+        ConcurrentMapCache cache = new ConcurrentMapCache("accounts");
+        cache.put(1, account(1));
+        when(accountProperties.getMultiGetMaxIds()).thenReturn(100);
+        when(cacheManager.getCache("accounts")).thenReturn(cache);
+        when(negativeLookupCache.isAccountMissing(2)).thenReturn(false);
+        when(negativeLookupCache.isAccountMissing(3)).thenReturn(false);
+        when(negativeLookupCache.isAccountMissing(4)).thenReturn(true);
+        when(accountRepository.findByIdIn(List.of(3, 2))).thenReturn(List.of(account(3)));
+        when(accountRepository.findVersionsByIdIn(Set.of(3))).thenReturn(List.of(accountVersion(3, 0)));
+
+        // when
+        List<Account> accounts = accountService.findAccountsByIds(List.of(3, 1, 4, 2, 1));
 
-        List<Account> accounts = List.of(account,account2);
+        // then
+        assertEquals(List.of(3, 1), accounts.stream().map(Account::getId).toList());
+        assertNotNull(cache.get(3));
+        verify(negativeLookupCache).accountMissing(2);
+        verify(accountRepository, never()).findById(anyInt());
+    }
 
-        when(accountRepository.findByUserId(userId)).thenReturn(Optional.of(accounts));
+    @Test
+    void handleFindAccountById_CachesAccount() throws Exception {
+        // given
+        ConcurrentMapCache cache = new ConcurrentMapCache("accounts");
+        when(cacheManager.getCache("accounts")).thenReturn(cache);
+        when(accountRepository.findById(3)).thenReturn(Optional.of(account(3)));
+        when(accountRepository.findVersionsByIdIn(Set.of(3))).thenReturn(List.of(accountVersion(3, 0)));
+
+        // when
+        accountService.findAccountById(3);
+        Account result = accountService.findAccountById(3);
+
+        // then
+        assertEquals(3, result.getId());
+        verify(accountRepository, times(1)).findById(3);
+        verify(accountRepository, never()).findWithLockById(anyInt());
+    }
+
+    @Test
+    void handleFindAccountById_ChangedWhileCachingEvictsAccount() throws Exception {
+        // given
+        ConcurrentMapCache cache = new ConcurrentMapCache("accounts");
+        when(cacheManager.getCache("accounts")).thenReturn(cache);
+        when(accountRepository.findById(3)).thenReturn(Optional.of(account(3)));
+        when(accountRepository.findVersionsByIdIn(Set.of(3))).thenReturn(List.of(accountVersion(3, 1)));
+
+        // when
+        Account result = accountService.findAccountById(3);
+
+        // then
+        assertEquals(3, result.getId());
+        assertNull(cache.get(3));
+    }
+
+    @Test
+    void handleFindAccountById_CachedAccountNotFound() {
+        // given
+        when(cacheManager.getCache("accounts")).thenReturn(new ConcurrentMapCache("accounts"));
+        when(accountRepository.findById(1)).thenReturn(Optional.empty());
+
+        // when / then
+        assertThrows(AccountNotFoundException.class, () -> accountService.findAccountById(1));
+        verify(negativeLookupCache).accountMissing(1);
+    }
+
+    @Test
+    void findAccountsByIds_TooManyIds_ThrowsIllegalArgumentException() {
+        // given
+        when(accountProperties.getMultiGetMaxIds()).thenReturn(2);
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> accountService.findAccountsByIds(List.of(1, 2, 3)));
+        verifyNoInteractions(accountRepository);
+    }
+
+    // get all users
+
+    @Test
+    void handleGetAllUserAccounts_ReturnsAllUserAccounts() {
+        // given
+        int userId = 7;
+        ConcurrentMapCache cache = new ConcurrentMapCache("accounts");
+        cache.put(1, account(1));
+        when(cacheManager.getCache("accounts")).thenReturn(cache);
+        when(userAccountDirectory.accountsOf(userId)).thenReturn(new int[] {1, 2});
+        when(accountRepository.findByIdIn(List.of(2))).thenReturn(List.of(account(2)));
+        when(accountRepository.findVersionsByIdIn(Set.of(2))).thenReturn(List.of(accountVersion(2, 0)));
 
         // when
         List<Account> result = accountService.getAllUserAccounts(userId);
 
         // then
-        assertNotNull(result);
-        assertEquals(accounts.size(), result.size());
+        assertEquals(List.of(1, 2), result.stream().map(Account::getId).toList());
+        assertNotNull(cache.get(2));
+        verify(accountRepository, never()).findByUserId(anyInt());
     }
 
     @Test
     void handleGetAllUserAccounts_UserNotFound() {
         // given
         int userId = 1;
-        when(accountRepository.findByUserId(userId)).thenReturn(Optional.empty());
+        when(userAccountDirectory.accountsOf(userId)).thenReturn(new int[0]);
 
         // when / then
         assertThrows(UserNotFoundException.class, () -> accountService.getAllUserAccounts(userId));
@@ -140,7 +296,7 @@ class AccountServiceTest {
         account.setId(accountId);
         account.setMoneyAmount(1000);
 
-        when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        when(accountRepository.findWithLockById(accountId)).thenReturn(Optional.of(account));
 
         // when
         accountService.depositAccount(accountId, depositAmount);
@@ -162,7 +318,7 @@ class AccountServiceTest {
         account.setUserId(1);
         account.setMoneyAmount(1000);
 
-        when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        when(accountRepository.findWithLockById(accountId)).thenReturn(Optional.of(account));
 
         // when / then
         IllegalArgumentException exception = assertThrows(
@@ -184,8 +340,8 @@ class AccountServiceTest {
 //        accountToDeposit.setId(2);
 //
 //        // Мокаем поведение findAccountById и getAllUserAccounts
-//        when(accountRepository.findById(accountIdToClose)).thenReturn(Optional.of(accountToClose));
-//        when(accountRepository.findById(2)).thenReturn(Optional.of(accountToDeposit));
+//        when(accountRepository.findWithLockById(accountIdToClose)).thenReturn(Optional.of(accountToClose));
+//        when(accountRepository.findWithLockById(2)).thenReturn(Optional.of(accountToDeposit));
 //        when(accountRepository.findByUserId(1)).thenReturn(Optional.of(List.of(accountToClose, accountToDeposit)));
 //
 //        // when
@@ -206,8 +362,9 @@ class AccountServiceTest {
         Account accountToClose = new Account(1, 500);
         accountToClose.setId(accountIdToClose);
 
-        when(accountRepository.findById(accountIdToClose)).thenReturn(Optional.of(accountToClose));
-        when(accountRepository.findByUserId(1)).thenReturn(Optional.of(List.of(accountToClose)));
+        when(userAccountDirectory.ownerOf(accountIdToClose)).thenReturn(1);
+        when(userAccountDirectory.accountsOf(1)).thenReturn(new int[] {accountIdToClose});
+        when(accountRepository.findAllWithLockByUserId(1)).thenReturn(List.of(accountToClose));
 
         // when / then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -217,6 +374,36 @@ class AccountServiceTest {
         verify(accountRepository, never()).delete(accountToClose);
     }
 
+    @Test
+    void closeAccount_LocksAccountsListedInDirectory() throws Exception {
+        // given
+        when(userAccountDirectory.ownerOf(1)).thenReturn(7);
+        when(userAccountDirectory.accountsOf(7)).thenReturn(new int[] {1, 2});
+        when(accountRepository.findAllWithLockByIdIn(Set.of(1, 2))).thenReturn(List.of(account(1), account(2)));
+
+        // when
+        accountService.closeAccount(1);
+
+        // then
+        verify(accountRepository).delete(argThat(account -> account.getId() == 1));
+        verify(accountRepository, never()).findAllWithLockByUserId(anyInt());
+    }
+
+    @Test
+    void closeAccount_StaleDirectoryListLocksByUser() throws Exception {
+        // given
+        when(userAccountDirectory.ownerOf(1)).thenReturn(7);
+        when(userAccountDirectory.accountsOf(7)).thenReturn(new int[] {1, 2});
+        when(accountRepository.findAllWithLockByIdIn(Set.of(1, 2))).thenReturn(List.of(account(1)));
+        when(accountRepository.findAllWithLockByUserId(7)).thenReturn(List.of(account(1), account(3)));
+
+        // when
+        accountService.closeAccount(1);
+
+        // then
+        verify(accountRepository).delete(argThat(account -> account.getId() == 1));
+    }
+
     // withdraw
 
     @Test
@@ -228,7 +415,7 @@ class AccountServiceTest {
         account.setId(accountId);
 
         // Мокаем поведение findAccountById
-        when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        when(accountRepository.findWithLockById(accountId)).thenReturn(Optional.of(account));
 
         // when
         accountService.withdrawFromAccount(accountId, amountToWithdraw);
@@ -246,7 +433,7 @@ class AccountServiceTest {
         Account account = new Account(1, 1000);
         account.setId(accountId);
 
-        when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        when(accountRepository.findWithLockById(accountId)).thenReturn(Optional.of(account));
 
         // when / then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -264,7 +451,7 @@ class AccountServiceTest {
         Account account = new Account(1, 1000);
         account.setId(accountId);
 
-        when(accountRepository.findById(accountId)).thenReturn(Optional.of(account));
+        when(accountRepository.findWithLockById(accountId)).thenReturn(Optional.of(account));
 
         // when / then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -287,8 +474,8 @@ class AccountServiceTest {
         Account toAccount = new Account(2, 2000);
         toAccount.setId(toAccountId);
 
-        when(accountRepository.findById(fromAccountId)).thenReturn(Optional.of(fromAccount));
-        when(accountRepository.findById(toAccountId)).thenReturn(Optional.of(toAccount));
+        when(accountRepository.findWithLockById(fromAccountId)).thenReturn(Optional.of(fromAccount));
+        when(accountRepository.findWithLockById(toAccountId)).thenReturn(Optional.of(toAccount));
 
         // when
         accountService.transfer(fromAccountId, toAccountId, amountToTransfer);
@@ -298,6 +485,16 @@ class AccountServiceTest {
         assertEquals(2500, toAccount.getMoneyAmount());
         verify(accountRepository).save(fromAccount);
         verify(accountRepository).save(toAccount);
+        ArgumentCaptor<List<AccountMovement>> movements = ArgumentCaptor.captor();
+        verify(accountMovementRepository).saveAll(movements.capture());
+        assertEquals(MovementType.TRANSFER_OUT, movements.getValue().get(0).getType());
+        assertEquals(-500, movements.getValue().get(0).getAmount());
+        assertEquals(MovementType.TRANSFER_IN, movements.getValue().get(1).getType());
+        assertEquals(500, movements.getValue().get(1).getAmount());
+        verify(auditLog).append(AuditEventType.TRANSFER, fromAccountId, toAccountId,
+                Currency.USD, Currency.USD, 500, 500, 0);
+        verify(balanceIndex).update(fromAccount);
+        verify(balanceIndex).update(toAccount);
     }
 
     @Test
@@ -311,14 +508,14 @@ class AccountServiceTest {
         Account toAccount = new Account(2, 2000);
         toAccount.setId(toAccountId);
 
-        when(accountRepository.findById(fromAccountId)).thenReturn(Optional.of(fromAccount));
-        when(accountRepository.findById(toAccountId)).thenReturn(Optional.of(toAccount));
+        when(accountRepository.findWithLockById(fromAccountId)).thenReturn(Optional.of(fromAccount));
+        when(accountRepository.findWithLockById(toAccountId)).thenReturn(Optional.of(toAccount));
 
         // when / then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
                 () -> accountService.transfer(fromAccountId, toAccountId, amountToTransfer));
 
-        assertEquals("Cannot transfer from account: id = Account{id=1, userId=1, moneyAmount=1000}, moneyAmount= 1000, attemptedTransfer = 1500", exception.getMessage());
+        assertEquals("Cannot transfer from account: id = Account{id=1, userId=1, moneyAmount=1000, currency=USD}, moneyAmount= 1000, attemptedTransfer = 1500", exception.getMessage());
         verify(accountRepository, never()).save(any());
     }
 
@@ -333,8 +530,8 @@ class AccountServiceTest {
         Account toAccount = new Account(2, 2000);
         toAccount.setId(toAccountId);
 
-        when(accountRepository.findById(fromAccountId)).thenReturn(Optional.of(fromAccount));
-        when(accountRepository.findById(toAccountId)).thenReturn(Optional.of(toAccount));
+        when(accountRepository.findWithLockById(fromAccountId)).thenReturn(Optional.of(fromAccount));
+        when(accountRepository.findWithLockById(toAccountId)).thenReturn(Optional.of(toAccount));
 
         // when / then
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
@@ -343,4 +540,161 @@ class AccountServiceTest {
         assertEquals("Cannot transfer not positive money: amount = -500", exception.getMessage());
         verify(accountRepository, never()).save(any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void transfer_VelocityLimitExceeded() {
+        // given
+        int fromAccountId = 1;
+        int toAccountId = 2;
+        Account fromAccount = new Account(1, 1000);
+        fromAccount.setId(fromAccountId);
+        Account toAccount = new Account(2, 2000);
+        toAccount.setId(toAccountId);
+
+        when(accountRepository.findWithLockById(fromAccountId)).thenReturn(Optional.of(fromAccount));
+        when(accountRepository.findWithLockById(toAccountId)).thenReturn(Optional.of(toAccount));
+        doThrow(new VelocityLimitExceededException("limit"))
+                .when(velocityCheckService).checkTransfer(fromAccountId, 1, 500);
+
+        // when / then
+        assertThrows(VelocityLimitExceededException.class,
+                () -> accountService.transfer(fromAccountId, toAccountId, 500));
+        assertEquals(1000, fromAccount.getMoneyAmount());
+        verify(accountRepository, never()).save(any());
+    }
+
+    @Test
+    void transfer_ConvertsBetweenCurrencies() throws AccountNotFoundException {
+        // given
+        int fromAccountId = 1;
+        int toAccountId = 2;
+        Account fromAccount = new Account(1, 1000, Currency.USD);
+        fromAccount.setId(fromAccountId);
+        Account toAccount = new Account(1, 0, Currency.EUR);
+        toAccount.setId(toAccountId);
+
+        when(accountRepository.findWithLockById(fromAccountId)).thenReturn(Optional.of(fromAccount));
+        when(accountRepository.findWithLockById(toAccountId)).thenReturn(Optional.of(toAccount));
+        when(fxRateService.convert(500, Currency.USD, Currency.EUR)).thenReturn(460L);
+
+        // when
+        accountService.transfer(fromAccountId, toAccountId, 500);
+
+        // then
+        assertEquals(500, fromAccount.getMoneyAmount());
+        assertEquals(460, toAccount.getMoneyAmount());
+        ArgumentCaptor<List<AccountMovement>> movements = ArgumentCaptor.captor();
+        verify(accountMovementRepository).saveAll(movements.capture());
+        assertEquals(MovementType.FX_OUT, movements.getValue().get(0).getType());
+        assertEquals(MovementType.FX_IN, movements.getValue().get(1).getType());
+        assertEquals(460, movements.getValue().get(1).getAmount());
+    }
+
+    @Test
+    void transfer_WithholdsRoundedCommissionBetweenUsers() throws AccountNotFoundException {
+        // given
+        int fromAccountId = 1;
+        int toAccountId = 2;
+        Account fromAccount = new Account(1, 5_000);
+        fromAccount.setId(fromAccountId);
+        Account toAccount = new Account(2, 0);
+        toAccount.setId(toAccountId);
+
+        when(accountRepository.findWithLockById(fromAccountId)).thenReturn(Optional.of(fromAccount));
+        when(accountRepository.findWithLockById(toAccountId)).thenReturn(Optional.of(toAccount));
+        when(accountProperties.getTransferCommissionPpm()).thenReturn(10_000L);
+        when(accountProperties.getTransferCommissionRounding()).thenReturn(RoundingMode.UP);
+
+        // when
+        accountService.transfer(fromAccountId, toAccountId, 1_001);
+
+        // then
+        assertEquals(3_999, fromAccount.getMoneyAmount());
+        assertEquals(990, toAccount.getMoneyAmount());
+        ArgumentCaptor<List<AccountMovement>> movements = ArgumentCaptor.captor();
+        verify(accountMovementRepository).saveAll(movements.capture());
+        assertEquals(11, movements.getValue().get(0).getFee());
+        ArgumentCaptor<UserBalanceChange> changes = ArgumentCaptor.forClass(UserBalanceChange.class);
+        verify(userBalanceService).recordChanges(changes.capture(), changes.capture());
+        assertEquals(1, changes.getAllValues().get(0).getUserId());
+        assertEquals(-1_001, changes.getAllValues().get(0).getBalanceDelta());
+        assertEquals(2, changes.getAllValues().get(1).getUserId());
+        assertEquals(990, changes.getAllValues().get(1).getBalanceDelta());
+    }
+
+    // history
+
+    @Test
+    void findHistory_MorePagesAvailable_ReturnsCursorOfLastMovement() {
+        // given
+        Instant now = Instant.parse("2024-05-01T12:00:00Z");
+        AccountMovement newest = movement(3, now);
+        AccountMovement middle = movement(2, now.minusSeconds(1));
+        AccountMovement oldest = movement(1, now.minusSeconds(2));
+        when(accountProperties.getHistoryMaxPageSize()).thenReturn(500);
+        when(accountMovementRepository.findHistoryPage(eq(1), eq(Instant.EPOCH), any(), eq(Long.MIN_VALUE), eq(3)))
+                .thenReturn(List.of(newest, middle, oldest));
+
+        // when
+        AccountHistoryPage page = accountService.findHistory(1, null, null, null, 2);
+
+        // then
+        assertEquals(List.of(newest, middle), page.getMovements());
+        HistoryCursor cursor = HistoryCursor.decode(page.getNextCursor());
+        assertEquals(middle.getCreatedAt(), cursor.getCreatedAt());
+        assertEquals(2, cursor.getId());
+    }
+
+    @Test
+    void findHistory_WithCursor_ContinuesAfterIt() {
+        // given
+        Instant from = Instant.parse("2024-01-01T00:00:00Z");
+        Instant createdAt = Instant.parse("2024-05-01T12:00:00.123456Z");
+        String cursor = new HistoryCursor(createdAt, 42).encode();
+        when(accountProperties.getHistoryMaxPageSize()).thenReturn(500);
+        when(accountMovementRepository.findHistoryPage(1, from, createdAt, 42, 51)).thenReturn(List.of());
+
+        // when
+        AccountHistoryPage page = accountService.findHistory(1, from, null, cursor, 50);
+
+        // then
+        assertTrue(page.getMovements().isEmpty());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void findHistory_PageSizeTooLarge_ThrowsIllegalArgumentException() {
+        // given
+        when(accountProperties.getHistoryMaxPageSize()).thenReturn(500);
+
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> accountService.findHistory(1, null, null, null, 501));
+        verifyNoInteractions(accountMovementRepository);
+    }
+
+    private static AccountMovement movement(long id, Instant createdAt) {
+        AccountMovement movement = new AccountMovement(1, null, MovementType.DEPOSIT, 100, 0, createdAt);
+        movement.setId(id);
+        return movement;
+    }
+
+    private static UserAccountVersion accountVersion(int accountId, long version) {
+        return new UserAccountVersion() {
+            @Override
+            public Integer getAccountId() {
+                return accountId;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
+    }
+
+    private static Account account(int id) {
+        Account account = new Account(7, 100);
+        account.setId(id);
+        return account;
+    }
+}
@@ -0,0 +1,200 @@
+package org.springcorebankapp.adjustment;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springcorebankapp.account.AccountRepository;
+import org.springcorebankapp.fx.Currency;
+import org.springcorebankapp.fx.FxRateService;
+import org.springcorebankapp.fx.FxRateTable;
+import org.springcorebankapp.index.BalanceIndex;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BalanceAdjustmentServiceTest {
+    @Mock
+    private BalanceAdjustmentJobRepository balanceAdjustmentJobRepository;
+    @Mock
+    private BalanceAdjustmentChunkRepository balanceAdjustmentChunkRepository;
+    @Mock
+    private BalanceAdjustmentRepository balanceAdjustmentRepository;
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private BalanceAdjustmentProperties balanceAdjustmentProperties;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private BalanceIndex balanceIndex;
+    @Mock
+    private FxRateService fxRateService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Mock
+    private ExecutorService balanceAdjustmentExecutor;
+    @InjectMocks
+    private BalanceAdjustmentService balanceAdjustmentService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void startJob_SplitsAccountIdSpaceIntoChunks() {
+        when(balanceAdjustmentJobRepository.save(any(BalanceAdjustmentJob.class))).thenAnswer(invocation -> {
+            BalanceAdjustmentJob job = invocation.getArgument(0);
+            job.setId(3);
+            return job;
+        });
+        when(accountRepository.findMinId()).thenReturn(1);
+        when(accountRepository.findMaxId()).thenReturn(25);
+        when(balanceAdjustmentProperties.getChunkSize()).thenReturn(10);
+
+        var job = balanceAdjustmentService.startJob(AdjustmentType.INTEREST, 150);
+
+        ArgumentCaptor<List<BalanceAdjustmentChunk>> chunks = ArgumentCaptor.forClass(List.class);
+        verify(balanceAdjustmentChunkRepository).saveAll(chunks.capture());
+        assertEquals(3, job.getTotalChunks());
+        assertEquals(AdjustmentJobStatus.RUNNING, job.getStatus());
+        assertEquals(List.of(1, 11, 21), chunks.getValue().stream().map(BalanceAdjustmentChunk::getFromAccountId).toList());
+        assertEquals(List.of(10, 20, 25), chunks.getValue().stream().map(BalanceAdjustmentChunk::getToAccountId).toList());
+        verify(balanceAdjustmentExecutor).execute(any());
+    }
+
+    @Test
+    void startJob_NonPositiveValue() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> balanceAdjustmentService.startJob(AdjustmentType.FEE, 0));
+
+        assertEquals("Cannot start FEE job with not positive value: value = 0", exception.getMessage());
+        verify(balanceAdjustmentJobRepository, never()).save(any());
+    }
+
+    @Test
+    void processChunk_EvictsOnlyAdjustedEntries() {
+        var job = new BalanceAdjustmentJob(AdjustmentType.FEE, 5, null);
+        job.setId(3);
+        var chunk = new BalanceAdjustmentChunk(3, 1, 100);
+        chunk.setId(9);
+        Cache accounts = mock(Cache.class);
+        Cache userBalances = mock(Cache.class);
+        when(cacheManager.getCache("accounts")).thenReturn(accounts);
+        when(cacheManager.getCache("userBalances")).thenReturn(userBalances);
+        when(fxRateService.getRateTable()).thenReturn(rateTable());
+        when(balanceAdjustmentRepository.applyFee(eq(3), eq(1), eq(100), any(), any()))
+                .thenReturn(List.of(adjusted(4, 1), adjusted(7, 1), adjusted(8, 2)));
+        when(balanceAdjustmentChunkRepository.markCompleted(eq(9), eq(3), any())).thenReturn(1);
+        runTransactionCallbacks(mock(TransactionStatus.class));
+
+        balanceAdjustmentService.processChunk(job, chunk);
+
+        verify(accounts).evict(4);
+        verify(accounts).evict(7);
+        verify(accounts).evict(8);
+        verify(userBalances).evict(1);
+        verify(userBalances).evict(2);
+        verify(balanceIndex).update(4, 1, 40, 2);
+        verify(balanceIndex).update(7, 1, 70, 2);
+        verify(balanceIndex).update(8, 2, 80, 2);
+        verify(accounts, never()).clear();
+    }
+
+    @Test
+    void processChunk_RollsBackAlreadyCompletedChunk() {
+        var job = new BalanceAdjustmentJob(AdjustmentType.INTEREST, 100, null);
+        job.setId(3);
+        var chunk = new BalanceAdjustmentChunk(3, 1, 100);
+        chunk.setId(9);
+        TransactionStatus status = mock(TransactionStatus.class);
+        when(balanceAdjustmentRepository.applyInterest(3, 1, 100, 100)).thenReturn(List.of(adjusted(4, 1)));
+        when(balanceAdjustmentChunkRepository.markCompleted(eq(9), eq(1), any())).thenReturn(0);
+        runTransactionCallbacks(status);
+
+        balanceAdjustmentService.processChunk(job, chunk);
+
+        verify(status).setRollbackOnly();
+        verify(cacheManager, never()).getCache(anyString());
+    }
+
+    @Test
+    void processChunk_ConvertsFeeIntoAccountCurrencies() {
+        // given
+        var job = new BalanceAdjustmentJob(AdjustmentType.FEE, 500, null);
+        job.setId(3);
+        var chunk = new BalanceAdjustmentChunk(3, 1, 100);
+        chunk.setId(9);
+        when(fxRateService.getRateTable()).thenReturn(rateTable());
+        when(balanceAdjustmentRepository.applyFee(eq(3), eq(1), eq(100), any(), any())).thenReturn(List.of());
+        when(balanceAdjustmentChunkRepository.markCompleted(eq(9), eq(0), any())).thenReturn(1);
+        runTransactionCallbacks(mock(TransactionStatus.class));
+
+        // when
+        balanceAdjustmentService.processChunk(job, chunk);
+
+        // then
+        ArgumentCaptor<String[]> currencies = ArgumentCaptor.forClass(String[].class);
+        ArgumentCaptor<long[]> fees = ArgumentCaptor.forClass(long[].class);
+        verify(balanceAdjustmentRepository).applyFee(eq(3), eq(1), eq(100), currencies.capture(), fees.capture());
+        List<String> names = List.of(currencies.getValue());
+        assertEquals(Currency.values().length, names.size());
+        assertEquals(500, fees.getValue()[names.indexOf("USD")]);
+        assertEquals(460, fees.getValue()[names.indexOf("EUR")]);
+        assertEquals(757, fees.getValue()[names.indexOf("JPY")]);
+    }
+
+    private static FxRateTable rateTable() {
+        Map<Currency, BigDecimal> quotes = new EnumMap<>(Currency.class);
+        for (Currency currency : Currency.values()) {
+            quotes.put(currency, BigDecimal.ONE);
+        }
+        quotes.put(Currency.EUR, new BigDecimal("0.92"));
+        quotes.put(Currency.JPY, new BigDecimal("151.50"));
+        return FxRateTable.of(Currency.USD, quotes, Instant.EPOCH);
+    }
+
+    private void runTransactionCallbacks(TransactionStatus status) {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(status);
+        });
+    }
+
+    private static AdjustedAccount adjusted(int accountId, int userId) {
+        return new AdjustedAccount() {
+            @Override
+            public int getAccountId() {
+                return accountId;
+            }
+
+            @Override
+            public int getUserId() {
+                return userId;
+            }
+
+            @Override
+            public long getBalanceAfter() {
+                return accountId * 10L;
+            }
+
+            @Override
+            public long getVersion() {
+                return 2;
+            }
+        };
+    }
+}
@@ -0,0 +1,99 @@
+package org.springcorebankapp.audit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springcorebankapp.fx.Currency;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditLogTest {
+    private static final Instant FROM = Instant.EPOCH;
+    private static final Instant TO = Instant.now().plusSeconds(60);
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void append_RotatesFullSegmentsAndKeepsRecordsQueryable() throws IOException {
+        // given
+        AuditLog auditLog = openAuditLog(4);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            auditLog.append(AuditEventType.DEPOSIT, 1 + i % 2, -1, Currency.USD, Currency.USD, 100 + i, 0, 0);
+        }
+        auditLog.append(AuditEventType.TRANSFER, 2, 1, Currency.EUR, Currency.USD, 500, 540, 5);
+        auditLog.close();
+
+        // then
+        assertEquals(3, AuditSegment.list(directory).size());
+        List<AuditRecord> records = AuditLogReader.query(directory, 1, FROM, TO);
+        assertEquals(6, records.size());
+        assertEquals(List.of(1L, 3L, 5L, 7L, 9L, 11L), records.stream().map(AuditRecord::getSequence).toList());
+        AuditRecord transfer = records.get(5);
+        assertEquals(AuditEventType.TRANSFER, transfer.getType());
+        assertEquals(2, transfer.getAccountId());
+        assertEquals(Currency.EUR, transfer.getCurrency());
+        assertEquals(540, transfer.getCounterpartyAmount());
+        assertEquals(5, transfer.getFee());
+    }
+
+    @Test
+    void open_ResumesAfterLastCompleteRecordAndOverwritesTornTail() throws IOException {
+        // given
+        AuditLog auditLog = openAuditLog(8);
+        for (int i = 0; i < 3; i++) {
+            auditLog.append(AuditEventType.WITHDRAWAL, 7, -1, Currency.GBP, Currency.GBP, 10, 0, 0);
+        }
+        auditLog.close();
+        tearRecord(AuditSegment.list(directory).get(0), 2);
+
+        // when
+        AuditLog reopened = openAuditLog(8);
+        long sequence = reopened.append(AuditEventType.CLOSURE, 7, 8, Currency.GBP, Currency.USD, 20, 25, 0);
+        reopened.close();
+
+        // then
+        assertEquals(3, sequence);
+        List<AuditRecord> records = AuditLogReader.query(directory, 7, FROM, TO);
+        assertEquals(3, records.size());
+        assertEquals(AuditEventType.CLOSURE, records.get(2).getType());
+    }
+
+    @Test
+    void query_FiltersByTimeRange() throws IOException {
+        // given
+        AuditLog auditLog = openAuditLog(4);
+        auditLog.append(AuditEventType.DEPOSIT, 1, -1, Currency.USD, Currency.USD, 100, 0, 0);
+        auditLog.close();
+        Instant timestamp = AuditLogReader.query(directory, 1, FROM, TO).get(0).getTimestamp();
+
+        // when / then
+        assertEquals(1, AuditLogReader.query(directory, 1, timestamp, timestamp.plusMillis(1)).size());
+        assertTrue(AuditLogReader.query(directory, 1, FROM, timestamp).isEmpty());
+        assertTrue(AuditLogReader.query(directory, 2, FROM, TO).isEmpty());
+    }
+
+    private AuditLog openAuditLog(int recordsPerSegment) {
+        AuditLog auditLog = new AuditLog();
+        ReflectionTestUtils.setField(auditLog, "auditProperties",
+                new AuditProperties(true, directory.toString(), recordsPerSegment * AuditRecord.SIZE));
+        auditLog.open();
+        return auditLog;
+    }
+
+    private static void tearRecord(Path segment, int index) throws IOException {
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[] {1, 2, 3}), (long) index * AuditRecord.SIZE + 40);
+        }
+    }
+}
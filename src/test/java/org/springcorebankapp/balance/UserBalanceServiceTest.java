@@ -0,0 +1,157 @@
+package org.springcorebankapp.balance;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springcorebankapp.exception.UserNotFoundException;
+import org.springcorebankapp.fx.Currency;
+import org.springcorebankapp.fx.FxRateService;
+import org.springcorebankapp.fx.FxRateTable;
+import org.springcorebankapp.user.UserRepository;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserBalanceServiceTest {
+    @Mock
+    private UserBalanceRepository userBalanceRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private FxRateService fxRateService;
+    @Mock
+    private UserBalanceProperties userBalanceProperties;
+    @Mock
+    private CacheManager cacheManager;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @InjectMocks
+    private UserBalanceService userBalanceService;
+
+    @Test
+    void recordChanges_AppliesMergedChangesInLockOrder() {
+        // given
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache("userBalances")).thenReturn(cache);
+
+        // when
+        userBalanceService.recordChanges(
+                new UserBalanceChange(7, Currency.USD, -1_001, 0),
+                new UserBalanceChange(3, Currency.USD, 990, 0),
+                new UserBalanceChange(3, Currency.EUR, 10, 1),
+                new UserBalanceChange(3, Currency.USD, 10, 0));
+
+        // then
+        InOrder inOrder = inOrder(userBalanceRepository);
+        inOrder.verify(userBalanceRepository).applyDelta(3, "EUR", 10, 1);
+        inOrder.verify(userBalanceRepository).applyDelta(3, "USD", 1_000, 0);
+        inOrder.verify(userBalanceRepository).applyDelta(7, "USD", -1_001, 0);
+        verifyNoMoreInteractions(userBalanceRepository);
+        verify(cache, times(2)).evict(3);
+        verify(cache).evict(7);
+    }
+
+    @Test
+    void recordChanges_TransferWithinUserAndCurrency_WritesNothing() {
+        // when
+        userBalanceService.recordChanges(
+                new UserBalanceChange(3, Currency.USD, -500, 0),
+                new UserBalanceChange(3, Currency.USD, 500, 0));
+
+        // then
+        verify(userBalanceRepository, never()).applyDelta(anyInt(), anyString(), anyLong(), anyInt());
+        verifyNoInteractions(cacheManager);
+    }
+
+    @Test
+    void getSummary_ConvertsTotalsIntoNetWorth() throws Exception {
+        // given
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache("userBalances")).thenReturn(cache);
+        when(cache.get(eq(3), ArgumentMatchers.<Callable<List<UserBalance>>>any())).thenAnswer(invocation ->
+                invocation.<Callable<List<UserBalance>>>getArgument(1).call());
+        when(userBalanceRepository.findForShareByUserIdOrderByCurrencyAsc(3)).thenReturn(List.of(
+                new UserBalance(3, Currency.EUR, 1_000, 1),
+                new UserBalance(3, Currency.USD, 5_000, 2)));
+        when(fxRateService.toBaseCurrency(1_000, Currency.EUR)).thenReturn(1_087L);
+        when(fxRateService.toBaseCurrency(5_000, Currency.USD)).thenReturn(5_000L);
+        when(fxRateService.getRateTable()).thenReturn(rateTable());
+
+        // when
+        UserBalanceSummary summary = userBalanceService.getSummary(3);
+
+        // then
+        assertEquals(3, summary.getUserId());
+        assertEquals(Currency.USD, summary.getBaseCurrency());
+        assertEquals(6_087, summary.getNetWorth());
+        assertEquals(3, summary.getAccountCount());
+        assertEquals(2, summary.getBalances().size());
+    }
+
+    @Test
+    void getSummary_UserNotFound_ThrowsUserNotFoundException() {
+        // given
+        when(userBalanceRepository.findForShareByUserIdOrderByCurrencyAsc(3)).thenReturn(List.of());
+        when(userRepository.existsById(3)).thenReturn(false);
+
+        // when, then
+        assertThrows(UserNotFoundException.class, () -> userBalanceService.getSummary(3));
+    }
+
+    @Test
+    void rebuild_RebuildsEveryUserRangeAndClearsCache() {
+        // given
+        Cache cache = mock(Cache.class);
+        when(cacheManager.getCache("userBalances")).thenReturn(cache);
+        when(userRepository.findMinId()).thenReturn(1);
+        when(userRepository.findMaxId()).thenReturn(25);
+        when(userBalanceProperties.getRebuildRangeSize()).thenReturn(10);
+        when(userBalanceProperties.getRebuildParallelism()).thenReturn(2);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(userBalanceRepository.insertRange(anyInt(), anyInt())).thenReturn(4);
+
+        // when
+        int written = userBalanceService.rebuild();
+
+        // then
+        assertEquals(12, written);
+        for (int[] range : new int[][] {{1, 10}, {11, 20}, {21, 25}}) {
+            InOrder inOrder = inOrder(userBalanceRepository);
+            inOrder.verify(userBalanceRepository).lockUsers(range[0], range[1]);
+            inOrder.verify(userBalanceRepository).lockAccounts(range[0], range[1]);
+            inOrder.verify(userBalanceRepository).deleteRange(range[0], range[1]);
+            inOrder.verify(userBalanceRepository).insertRange(range[0], range[1]);
+        }
+        verify(cache).clear();
+    }
+
+    private static FxRateTable rateTable() {
+        Map<Currency, BigDecimal> quotes = new EnumMap<>(Currency.class);
+        for (Currency currency : Currency.values()) {
+            quotes.put(currency, BigDecimal.ONE);
+        }
+        return FxRateTable.of(Currency.USD, quotes, Instant.EPOCH);
+    }
+}
@@ -0,0 +1,99 @@
+package org.springcorebankapp.cache;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springcorebankapp.account.AccountService;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.security.auth.login.AccountNotFoundException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CacheWarmerTest {
+    private static final String QUERY = "SELECT id, user_id FROM accounts LIMIT ?";
+
+    @Mock
+    private CacheWarmupProperties cacheWarmupProperties;
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @InjectMocks
+    private CacheWarmer cacheWarmer;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void warmUp_LoadsAccountsAndEachOwnerOnceInBatches() throws Exception {
+        // given
+        givenProperties();
+        when(jdbcTemplate.query(eq(QUERY), any(RowMapper.class), eq(5))).thenReturn(List.of(
+                new int[] {1, 10}, new int[] {2, 10}, new int[] {3, 20}, new int[] {4, 30}, new int[] {5, 30}));
+        when(accountService.findAccountById(anyInt())).thenAnswer(invocation -> {
+            if (invocation.<Integer>getArgument(0) == 4) {
+                throw new AccountNotFoundException();
+            }
+            return null;
+        });
+
+        // when
+        int loaded = cacheWarmer.warmUp();
+
+        // then
+        assertEquals(4, loaded);
+        for (int accountId = 1; accountId <= 5; accountId++) {
+            verify(accountService).findAccountById(accountId);
+        }
+        verify(accountService).getAllUserAccounts(10);
+        verify(accountService).getAllUserAccounts(20);
+        verify(accountService).getAllUserAccounts(30);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void warmUp_QueryFails_DoesNotFailStartup() {
+        // given
+        when(cacheWarmupProperties.isEnabled()).thenReturn(true);
+        when(cacheWarmupProperties.getQuery()).thenReturn(QUERY);
+        when(cacheWarmupProperties.getAccounts()).thenReturn(5);
+        when(cacheWarmupProperties.getTimeoutMillis()).thenReturn(10_000L);
+        when(jdbcTemplate.query(eq(QUERY), any(RowMapper.class), eq(5)))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+
+        // when
+        int loaded = cacheWarmer.warmUp();
+
+        // then
+        assertEquals(0, loaded);
+        verifyNoInteractions(accountService);
+    }
+
+    @Test
+    void warmUp_Disabled_LoadsNothing() {
+        // when
+        int loaded = cacheWarmer.warmUp();
+
+        // then
+        assertEquals(0, loaded);
+        verifyNoInteractions(jdbcTemplate, accountService);
+    }
+
+    private void givenProperties() {
+        when(cacheWarmupProperties.isEnabled()).thenReturn(true);
+        when(cacheWarmupProperties.getQuery()).thenReturn(QUERY);
+        when(cacheWarmupProperties.getAccounts()).thenReturn(5);
+        when(cacheWarmupProperties.getBatchSize()).thenReturn(2);
+        when(cacheWarmupProperties.getParallelism()).thenReturn(2);
+        when(cacheWarmupProperties.getTimeoutMillis()).thenReturn(10_000L);
+    }
+}
@@ -0,0 +1,140 @@
+package org.springcorebankapp.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.dao.QueryTimeoutException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerCacheTest {
+    private final FlakyCache delegate = new FlakyCache();
+    private final CacheCircuitBreaker breaker = new CacheCircuitBreaker(
+            new CacheCircuitBreakerProperties(3, 1_000, 0, 2));
+    private final CircuitBreakerCache cache = new CircuitBreakerCache(delegate, breaker, 2);
+
+    {
+        breaker.addRecoveryAction(() -> {
+            delegate.check();
+            cache.replayPendingEvictions();
+        });
+    }
+
+    @Test
+    void get_FailuresOpenCircuitAndBypassCache() {
+        // given
+        delegate.put(1, "cached");
+        delegate.down = true;
+        delegate.calls = 0;
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertNull(cache.get(1));
+        }
+        String loaded = cache.get(1, () -> "loaded");
+
+        // then
+        assertEquals(CacheCircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals("loaded", loaded);
+        assertEquals(3, delegate.calls);
+    }
+
+    @Test
+    void probe_ReplaysEvictionsBeforeClosing() {
+        // given
+        delegate.put(1, "stale");
+        delegate.put(2, "fresh");
+        delegate.down = true;
+        cache.evict(1);
+        delegate.down = false;
+
+        // when
+        breaker.probe();
+
+        // then
+        assertEquals(CacheCircuitBreaker.State.CLOSED, breaker.getState());
+        assertNull(cache.get(1));
+        assertEquals("fresh", cache.get(2).get());
+        assertEquals(0, cache.pendingEvictions());
+    }
+
+    @Test
+    void probe_TooManyEvictions_ClearsCache() {
+        // given
+        delegate.put(4, "untouched");
+        delegate.down = true;
+        cache.evict(1);
+        cache.evict(2);
+        cache.evict(3);
+        delegate.down = false;
+
+        // when
+        breaker.probe();
+
+        // then
+        assertEquals(CacheCircuitBreaker.State.CLOSED, breaker.getState());
+        assertNull(cache.get(4));
+    }
+
+    @Test
+    void probe_CacheStillDown_KeepsCircuitOpenAndEvictionsPending() {
+        // given
+        delegate.down = true;
+        cache.evict(1);
+
+        // when
+        breaker.probe();
+
+        // then
+        assertEquals(CacheCircuitBreaker.State.OPEN, breaker.getState());
+        assertEquals(1, cache.pendingEvictions());
+        cache.put(1, "skipped");
+        delegate.down = false;
+        assertNull(delegate.get(1));
+    }
+
+    private static class FlakyCache extends ConcurrentMapCache {
+        private volatile boolean down;
+        private int calls;
+
+        FlakyCache() {
+            super("accounts");
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            check();
+            return super.lookup(key);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            check();
+            super.put(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            check();
+            super.evict(key);
+        }
+
+        @Override
+        public boolean evictIfPresent(Object key) {
+            check();
+            return super.evictIfPresent(key);
+        }
+
+        @Override
+        public void clear() {
+            check();
+            super.clear();
+        }
+
+        void check() {
+            calls++;
+            if (down) {
+                throw new QueryTimeoutException("Redis command timed out");
+            }
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package org.springcorebankapp.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NegativeLookupCacheTest {
+
+    @Test
+    void isAccountMissing_UntilCreatedOrExpired() throws Exception {
+        // given
+        NegativeLookupCache cache = new NegativeLookupCache(new CacheTtlProperties(600_000, 0.1, 1.0, 50, 2));
+
+        // when
+        cache.accountMissing(1);
+        cache.accountMissing(2);
+        cache.accountMissing(3);
+
+        // then
+        assertTrue(cache.isAccountMissing(1));
+        assertFalse(cache.isAccountMissing(3), "dropped while full");
+        assertFalse(cache.isUserMissing(1));
+        cache.accountCreated(1);
+        assertFalse(cache.isAccountMissing(1));
+        Thread.sleep(60);
+        assertFalse(cache.isAccountMissing(2));
+    }
+}
@@ -0,0 +1,118 @@
+package org.springcorebankapp.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springcorebankapp.account.Account;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RefreshAheadCacheTest {
+    private static final long TTL_MILLIS = 600_000;
+
+    private final ConcurrentMapCache delegate = new ConcurrentMapCache("accounts");
+    private final RefreshAheadCache cache = new RefreshAheadCache(delegate, TTL_MILLIS, 0.1, 1.0);
+
+    @Test
+    void get_CoalescesConcurrentMissesIntoOneLoad() throws Exception {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<String>> results = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> cache.get(1, () -> {
+                loads.incrementAndGet();
+                release.await();
+                return "account 1";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        // then
+        for (Future<String> result : results) {
+            assertEquals("account 1", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loads.get());
+        executor.shutdown();
+    }
+
+    @Test
+    void get_RefreshesEntryDueToExpireButNotFreshOne() {
+        // given
+        delegate.put(1, new CacheEnvelope("stale", 5, System.currentTimeMillis()));
+        delegate.put(2, new CacheEnvelope("fresh", 5, System.currentTimeMillis() + TTL_MILLIS));
+
+        // when
+        String refreshed = cache.get(1, () -> "reloaded");
+        String fresh = cache.get(2, () -> "reloaded");
+
+        // then
+        assertEquals("reloaded", refreshed);
+        assertEquals("reloaded", cache.get(1, String.class));
+        assertEquals("fresh", fresh);
+    }
+
+    @Test
+    void put_StoresEnvelopeWithJitteredExpiry() {
+        // given
+        long before = System.currentTimeMillis();
+
+        // when
+        cache.put(1, "account 1");
+
+        // then
+        assertEquals("account 1", cache.get(1).get());
+        CacheEnvelope envelope = (CacheEnvelope) delegate.get(1).get();
+        long ttl = envelope.getExpiresAtMillis() - before;
+        assertTrue(ttl > TTL_MILLIS * 0.9 - 1000 && ttl <= TTL_MILLIS + 1000, "ttl = " + ttl);
+        assertTrue(new EnvelopeTtlFunction(Duration.ofMillis(TTL_MILLIS)).getTimeToLive(1, envelope)
+                .toMillis() <= TTL_MILLIS);
+    }
+
+    @Test
+    void putAll_StoresEnvelopesThatGetAllUnwraps() {
+        // when
+        cache.putAll(Map.of(1, "account 1", 2, "account 2"));
+        Map<Object, Cache.ValueWrapper> hits = cache.getAll(List.of(1, 2, 3));
+
+        // then
+        assertInstanceOf(CacheEnvelope.class, delegate.get(1).get());
+        assertEquals(2, hits.size());
+        assertEquals("account 1", hits.get(1).get());
+        assertEquals("account 2", hits.get(2).get());
+    }
+
+    @Test
+    void envelope_RoundTripsThroughRedisSerializer() {
+        // given
+        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer();
+        Account account = new Account(2, 1000);
+        account.setId(1);
+        CacheEnvelope envelope = new CacheEnvelope(new ArrayList<>(List.of(account)), 3, 42);
+
+        // when
+        CacheEnvelope copy = (CacheEnvelope) serializer.deserialize(serializer.serialize(envelope));
+
+        // then
+        assertNotNull(copy);
+        assertEquals(List.of(account), copy.getValue());
+        assertEquals(3, copy.getLoadMillis());
+        assertEquals(42, copy.getExpiresAtMillis());
+    }
+}
@@ -0,0 +1,78 @@
+package org.springcorebankapp.configurations.startup;
+
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springcorebankapp.account.Account;
+import org.springcorebankapp.account.AccountService;
+import org.springcorebankapp.user.User;
+import org.springcorebankapp.user.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Starts the application with the {@code fast-startup} profile against an embedded PostgreSQL database and
+ * checks that the API documentation beans are lazy, the logging aspect is off and the application still
+ * works without schema validation and with deferred repositories.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.MOCK)
+@ActiveProfiles({"embedded", "fast-startup"})
+class FastStartupProfileTest {
+    private static EmbeddedPostgres postgres;
+
+    @Autowired
+    private ConfigurableApplicationContext applicationContext;
+    @Autowired
+    private UserService userService;
+    @Autowired
+    private AccountService accountService;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+        registry.add("spring.datasource.url", () -> postgres.getJdbcUrl("postgres", "postgres"));
+    }
+
+    @AfterAll
+    static void stopDatabase() throws IOException {
+        postgres.close();
+    }
+
+    @Test
+    void fastStartupProfile_DefersNonCriticalBeansAndServesRequests() throws Exception {
+        // given
+        ConfigurableListableBeanFactory beanFactory = applicationContext.getBeanFactory();
+        List<BeanDefinition> documentationBeans = Arrays.stream(beanFactory.getBeanDefinitionNames())
+                .map(beanFactory::getBeanDefinition)
+                .filter(definition -> {
+                    String declaringClass = FastStartupConfiguration.declaringClassName(definition);
+                    return declaringClass != null && (declaringClass.startsWith("org.springdoc.")
+                            || declaringClass.startsWith("org.springcorebankapp.configurations.openapi."));
+                })
+                .toList();
+
+        // when
+        User user = userService.createUser("fast-startup");
+        Account account = accountService.findAccountById(user.getAccountList().get(0).getId());
+
+        // then
+        assertFalse(documentationBeans.isEmpty());
+        assertTrue(documentationBeans.stream().allMatch(BeanDefinition::isLazyInit));
+        assertTrue(beanFactory.getBeanDefinition("accountService").isSingleton());
+        assertFalse(beanFactory.getBeanDefinition("accountService").isLazyInit());
+        assertFalse(applicationContext.containsBean("aspectService"));
+        assertEquals(user.getId(), account.getUserId());
+    }
+}
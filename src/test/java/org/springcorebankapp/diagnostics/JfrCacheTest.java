@@ -0,0 +1,56 @@
+package org.springcorebankapp.diagnostics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JfrCacheTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void get_RecordsHitsMissesAndStatistics() throws Exception {
+        // given
+        Cache cache = new JfrCacheManager(new ConcurrentMapCacheManager("accounts")).getCache("accounts");
+        Path file = directory.resolve("cache.jfr");
+
+        // when
+        try (Recording recording = new Recording()) {
+            recording.enable("org.springcorebankapp.CacheOperation").withThreshold(Duration.ZERO);
+            recording.enable("org.springcorebankapp.CacheStatistics").withPeriod(Duration.ofMillis(50));
+            recording.start();
+            cache.get(1);
+            cache.put(1, "account");
+            cache.get(1);
+            cache.get(1);
+            Thread.sleep(300);
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        List<RecordedEvent> lookups = events.stream()
+                .filter(event -> event.getEventType().getName().equals("org.springcorebankapp.CacheOperation"))
+                .filter(event -> event.getString("operation").equals("get"))
+                .toList();
+        assertEquals(List.of(false, true, true), lookups.stream().map(event -> event.getBoolean("hit")).toList());
+        assertEquals("accounts", lookups.get(0).getString("cacheName"));
+        long hits = events.stream()
+                .filter(event -> event.getEventType().getName().equals("org.springcorebankapp.CacheStatistics"))
+                .mapToLong(event -> event.getLong("hits"))
+                .sum();
+        assertEquals(2, hits);
+    }
+}
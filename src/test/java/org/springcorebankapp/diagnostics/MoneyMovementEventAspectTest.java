@@ -0,0 +1,58 @@
+package org.springcorebankapp.diagnostics;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springcorebankapp.account.AccountService;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
+
+@ExtendWith(MockitoExtension.class)
+class MoneyMovementEventAspectTest {
+    @Mock
+    private AccountService accountService;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void transfer_RecordsAmountAndOutcome() throws Exception {
+        // given
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(accountService);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new MoneyMovementEventAspect());
+        AccountService proxy = proxyFactory.getProxy();
+        lenient().doThrow(new IllegalArgumentException("Insufficient funds")).when(accountService).transfer(1, 2, 900);
+        Path file = directory.resolve("movements.jfr");
+
+        // when
+        try (Recording recording = new Recording()) {
+            recording.enable("org.springcorebankapp.MoneyMovement");
+            recording.start();
+            proxy.transfer(1, 2, 500);
+            assertThrows(IllegalArgumentException.class, () -> proxy.transfer(1, 2, 900));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(2, events.size());
+        assertEquals("TRANSFER", events.get(0).getString("operation"));
+        assertEquals(2, events.get(0).getInt("counterpartyAccountId"));
+        assertEquals(500, events.get(0).getLong("amount"));
+        assertEquals("SUCCESS", events.get(0).getString("outcome"));
+        assertEquals("REJECTED", events.get(1).getString("outcome"));
+        assertEquals("IllegalArgumentException: Insufficient funds", events.get(1).getString("error"));
+    }
+}
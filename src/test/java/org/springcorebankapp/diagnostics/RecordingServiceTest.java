@@ -0,0 +1,67 @@
+package org.springcorebankapp.diagnostics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RecordingServiceTest {
+    @Mock
+    private JfrProperties jfrProperties;
+    @InjectMocks
+    private RecordingService recordingService;
+
+    @TempDir
+    Path directory;
+
+    @AfterEach
+    void closeRecordings() {
+        recordingService.closeRecordings();
+    }
+
+    @Test
+    void download_LeavesNoSnapshotFileBehind() throws Exception {
+        // given
+        when(jfrProperties.isDownloadEnabled()).thenReturn(true);
+        when(jfrProperties.getDirectory()).thenReturn(directory.toString());
+        RecordingInfo recording = recordingService.start("test", "default", null);
+
+        // when
+        RecordingDownload download = recordingService.download(recording.getId());
+
+        // then
+        try (InputStream content = download.getContent()) {
+            assertTrue(download.getSize() > 0);
+            assertEquals(download.getSize(), content.readAllBytes().length);
+        }
+        assertEquals(0, countFiles());
+    }
+
+    @Test
+    void download_RefusedWhenDisabled() {
+        // given
+        when(jfrProperties.isDownloadEnabled()).thenReturn(false);
+
+        // when / then
+        assertThrows(IllegalStateException.class, () -> recordingService.download(1));
+        verify(jfrProperties, never()).getDirectory();
+    }
+
+    private long countFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package org.springcorebankapp.fx;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FxRateTableTest {
+
+    private static Map<Currency, BigDecimal> quotes() {
+        Map<Currency, BigDecimal> quotes = new EnumMap<>(Currency.class);
+        for (Currency currency : Currency.values()) {
+            quotes.put(currency, BigDecimal.ONE);
+        }
+        quotes.put(Currency.EUR, new BigDecimal("0.92"));
+        quotes.put(Currency.JPY, new BigDecimal("151.50"));
+        return quotes;
+    }
+
+    @Test
+    void convert_UsesCrossRatesBetweenMinorUnitsAndRoundsDown() {
+        // given
+        FxRateTable table = FxRateTable.of(Currency.USD, quotes(), Instant.EPOCH);
+
+        // when / then
+        assertEquals(92_000_000L, table.getRate(Currency.USD, Currency.EUR));
+        assertEquals(92, table.convert(100, Currency.USD, Currency.EUR));
+        assertEquals(151, table.convert(100, Currency.USD, Currency.JPY));
+        assertEquals(9_999, table.convert(15_150, Currency.JPY, Currency.USD));
+        assertEquals(66, table.convert(100, Currency.JPY, Currency.USD));
+        assertEquals(777, table.convert(777, Currency.GBP, Currency.GBP));
+    }
+
+    @Test
+    void convert_HandlesLargeBalancesAndDetectsOverflow() {
+        // given
+        FxRateTable table = FxRateTable.of(Currency.USD, quotes(), Instant.EPOCH);
+        long amount = 4_000_000_000_000_000L;
+
+        // when
+        long converted = table.convert(amount, Currency.USD, Currency.EUR);
+
+        // then
+        assertEquals(3_680_000_000_000_000L, converted);
+        assertThrows(ArithmeticException.class, () -> table.convert(Long.MAX_VALUE, Currency.USD, Currency.JPY));
+    }
+
+    @Test
+    void of_RejectsIncompleteQuotes() {
+        // given
+        Map<Currency, BigDecimal> quotes = quotes();
+        quotes.remove(Currency.KZT);
+
+        // when / then
+        assertThrows(IllegalArgumentException.class, () -> FxRateTable.of(Currency.USD, quotes, Instant.EPOCH));
+        assertThrows(IllegalArgumentException.class, () -> FxRateTable.of(Currency.EUR, quotes(), Instant.EPOCH));
+    }
+}
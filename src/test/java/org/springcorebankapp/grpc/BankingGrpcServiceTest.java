@@ -0,0 +1,201 @@
+package org.springcorebankapp.grpc;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springcorebankapp.account.Account;
+import org.springcorebankapp.account.AccountService;
+import org.springcorebankapp.exception.LoginIsBusyException;
+import org.springcorebankapp.exception.VelocityLimitExceededException;
+import org.springcorebankapp.fx.Currency;
+import org.springcorebankapp.grpc.proto.AccountInfo;
+import org.springcorebankapp.grpc.proto.BalanceUpdate;
+import org.springcorebankapp.grpc.proto.BankingServiceGrpc;
+import org.springcorebankapp.grpc.proto.BulkTransferReply;
+import org.springcorebankapp.grpc.proto.CreateUserRequest;
+import org.springcorebankapp.grpc.proto.GetAccountRequest;
+import org.springcorebankapp.grpc.proto.TransferRequest;
+import org.springcorebankapp.grpc.proto.WatchBalancesRequest;
+import org.springcorebankapp.user.UserService;
+
+import javax.security.auth.login.AccountNotFoundException;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BankingGrpcServiceTest {
+
+    @Mock
+    private AccountService accountService;
+
+    @Mock
+    private UserService userService;
+
+    private ScheduledExecutorService watchScheduler;
+    private Server server;
+    private ManagedChannel channel;
+    private BankingServiceGrpc.BankingServiceBlockingStub blockingStub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        watchScheduler = Executors.newSingleThreadScheduledExecutor();
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(new BankingGrpcService(accountService, userService, watchScheduler, 10))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        blockingStub = BankingServiceGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        watchScheduler.shutdownNow();
+    }
+
+    @Test
+    void getAccount_ReturnsAccount() throws Exception {
+        // given
+        when(accountService.findAccountById(1)).thenReturn(account(1, 7, 50_000, 3));
+
+        // when
+        AccountInfo account = blockingStub.getAccount(GetAccountRequest.newBuilder().setAccountId(1).build());
+
+        // then
+        assertEquals(1, account.getId());
+        assertEquals(7, account.getUserId());
+        assertEquals(50_000, account.getMoneyAmount());
+        assertEquals("USD", account.getCurrency());
+        assertEquals(3, account.getVersion());
+    }
+
+    @Test
+    void getAccount_AccountNotFound_FailsWithNotFound() throws Exception {
+        // given
+        when(accountService.findAccountById(1)).thenThrow(new AccountNotFoundException("Account with id = 1 not found"));
+
+        // when
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> blockingStub.getAccount(GetAccountRequest.newBuilder().setAccountId(1).build()));
+
+        // then
+        assertEquals(Status.Code.NOT_FOUND, e.getStatus().getCode());
+        assertEquals("Account with id = 1 not found", e.getStatus().getDescription());
+    }
+
+    @Test
+    void createUser_LoginTaken_FailsWithAlreadyExists() {
+        // given
+        when(userService.createUser("taken")).thenThrow(new LoginIsBusyException("User already exists with login = taken"));
+
+        // when
+        StatusRuntimeException e = assertThrows(StatusRuntimeException.class,
+                () -> blockingStub.createUser(CreateUserRequest.newBuilder().setLogin("taken").build()));
+
+        // then
+        assertEquals(Status.Code.ALREADY_EXISTS, e.getStatus().getCode());
+    }
+
+    @Test
+    void bulkTransfer_ReportsFailedTransfersAndContinues() throws Exception {
+        // given
+        lenient().doThrow(new VelocityLimitExceededException("limit")).when(accountService).transfer(1, 3, 300);
+        CompletableFuture<BulkTransferReply> reply = new CompletableFuture<>();
+
+        // when
+        StreamObserver<TransferRequest> requests = BankingServiceGrpc.newStub(channel)
+                .bulkTransfer(observer(reply));
+        requests.onNext(transfer(1, 2, 100));
+        requests.onNext(transfer(1, 3, 300));
+        requests.onNext(transfer(2, 3, 200));
+        requests.onCompleted();
+
+        // then
+        BulkTransferReply result = reply.get(5, TimeUnit.SECONDS);
+        assertEquals(2, result.getSucceeded());
+        assertEquals(1, result.getFailuresCount());
+        assertEquals(1, result.getFailures(0).getIndex());
+        assertEquals("RESOURCE_EXHAUSTED", result.getFailures(0).getCode());
+        verify(accountService).transfer(2, 3, 200);
+    }
+
+    @Test
+    void watchBalances_SendsCurrentBalanceThenChanges() throws Exception {
+        // given
+        when(accountService.findAccountById(1)).thenReturn(
+                account(1, 7, 50_000, 0),
+                account(1, 7, 50_000, 0),
+                account(1, 7, 40_000, 1),
+                account(1, 7, 40_000, 1));
+        when(accountService.findAccountById(2))
+                .thenReturn(account(2, 7, 10_000, 5))
+                .thenThrow(new AccountNotFoundException("Account with id = 2 not found"));
+
+        // when
+        Iterator<BalanceUpdate> updates = blockingStub.watchBalances(WatchBalancesRequest.newBuilder()
+                .addAccountIds(1).addAccountIds(2).build());
+
+        // then
+        BalanceUpdate first = updates.next();
+        assertEquals(1, first.getAccountId());
+        assertEquals(50_000, first.getMoneyAmount());
+        assertEquals(2, updates.next().getAccountId());
+        assertTrue(updates.next().getClosed());
+        BalanceUpdate changed = updates.next();
+        assertEquals(1, changed.getAccountId());
+        assertEquals(40_000, changed.getMoneyAmount());
+        assertEquals(1, changed.getVersion());
+    }
+
+    private static Account account(int id, int userId, long moneyAmount, long version) {
+        Account account = new Account(userId, moneyAmount, Currency.USD);
+        account.setId(id);
+        account.setVersion(version);
+        return account;
+    }
+
+    private static TransferRequest transfer(int fromAccountId, int toAccountId, long amount) {
+        return TransferRequest.newBuilder()
+                .setFromAccountId(fromAccountId)
+                .setToAccountId(toAccountId)
+                .setAmount(amount)
+                .build();
+    }
+
+    private static <T> StreamObserver<T> observer(CompletableFuture<T> result) {
+        return new StreamObserver<>() {
+            @Override
+            public void onNext(T value) {
+                result.complete(value);
+            }
+
+            @Override
+            public void onError(Throwable t) {
+                result.completeExceptionally(t);
+            }
+
+            @Override
+            public void onCompleted() {
+            }
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package org.springcorebankapp.hotkey;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springcorebankapp.account.AccountController;
+import org.springcorebankapp.account.AccountService;
+import org.springcorebankapp.user.UserController;
+import org.springcorebankapp.user.UserService;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HotKeyAspectTest {
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private UserService userService;
+    @Mock
+    private HotKeyTracker hotKeyTracker;
+
+    @Test
+    void accountRequests_RecordTheirAccounts() {
+        // given
+        AccountController proxy = proxy(new AccountController(accountService), hotKeyTracker);
+
+        // when
+        proxy.findAccountById(1, null);
+        proxy.depositAccount(2, 100L);
+        proxy.transfer(3, 4, 100);
+        proxy.findAccountsByIds(List.of(5, 6));
+
+        // then
+        for (int accountId = 1; accountId <= 6; accountId++) {
+            verify(hotKeyTracker).record(HotKeyType.ACCOUNT, accountId);
+        }
+        verifyNoMoreInteractions(hotKeyTracker);
+    }
+
+    @Test
+    void userRequests_RecordTheirUserOnce() {
+        // given
+        UserController proxy = proxy(new UserController(userService), hotKeyTracker);
+
+        // when
+        proxy.findUserById(3, null);
+        proxy.getAllUsers();
+
+        // then
+        verify(hotKeyTracker).record(HotKeyType.USER, 3);
+        verifyNoMoreInteractions(hotKeyTracker);
+    }
+
+    @Test
+    void internalServiceCalls_DoNotMoveTopK() throws Exception {
+        // given
+        HotKeyTracker tracker = new HotKeyTracker(new HotKeyProperties(1024, 4, 10));
+        AccountController controller = proxy(new AccountController(accountService), tracker);
+        AccountService service = proxy(accountService, tracker);
+        controller.findAccountById(1, null);
+        controller.findAccountById(1, null);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            service.findAccountById(2);
+        }
+        service.getAllUserAccounts(9);
+
+        // then
+        List<HotKey> keys = tracker.report(HotKeyType.ACCOUNT, 10).getKeys();
+        assertEquals(1, keys.size());
+        assertEquals(1, keys.get(0).getId());
+        assertEquals(0, tracker.report(HotKeyType.USER, 10).getKeys().size());
+    }
+
+    private static <T> T proxy(T target, HotKeyTracker tracker) {
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new HotKeyAspect(tracker));
+        return proxyFactory.getProxy();
+    }
+}
@@ -0,0 +1,108 @@
+package org.springcorebankapp.hotkey;
+
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.ServerInterceptors;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springcorebankapp.account.Account;
+import org.springcorebankapp.account.AccountService;
+import org.springcorebankapp.fx.Currency;
+import org.springcorebankapp.grpc.BankingGrpcService;
+import org.springcorebankapp.grpc.proto.BalanceUpdate;
+import org.springcorebankapp.grpc.proto.BankingServiceGrpc;
+import org.springcorebankapp.grpc.proto.GetAccountRequest;
+import org.springcorebankapp.grpc.proto.WatchBalancesRequest;
+import org.springcorebankapp.user.UserService;
+
+import java.util.Iterator;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class HotKeyServerInterceptorTest {
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private UserService userService;
+    @Mock
+    private HotKeyTracker hotKeyTracker;
+
+    private ScheduledExecutorService watchScheduler;
+    private Server server;
+    private ManagedChannel channel;
+    private BankingServiceGrpc.BankingServiceBlockingStub blockingStub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        watchScheduler = Executors.newSingleThreadScheduledExecutor();
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .directExecutor()
+                .addService(ServerInterceptors.intercept(
+                        new BankingGrpcService(accountService, userService, watchScheduler, 10),
+                        new HotKeyServerInterceptor(hotKeyTracker)))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).directExecutor().build();
+        blockingStub = BankingServiceGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        channel.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(5, TimeUnit.SECONDS);
+        watchScheduler.shutdownNow();
+    }
+
+    @Test
+    void getAccount_RecordsAccountOnce() throws Exception {
+        // given
+        when(accountService.findAccountById(1)).thenReturn(account(1, 0));
+
+        // when
+        blockingStub.getAccount(GetAccountRequest.newBuilder().setAccountId(1).build());
+
+        // then
+        verify(hotKeyTracker).record(HotKeyType.ACCOUNT, 1);
+        verifyNoMoreInteractions(hotKeyTracker);
+    }
+
+    @Test
+    void watchBalances_PollsDoNotRecordAgain() throws Exception {
+        // given
+        when(accountService.findAccountById(2))
+                .thenReturn(account(2, 0))
+                .thenReturn(account(2, 1))
+                .thenReturn(account(2, 2));
+
+        // when
+        Iterator<BalanceUpdate> updates = blockingStub.watchBalances(WatchBalancesRequest.newBuilder()
+                .addAccountIds(2).build());
+        for (int version = 0; version <= 2; version++) {
+            assertEquals(version, updates.next().getVersion());
+        }
+
+        // then
+        verify(accountService, atLeast(3)).findAccountById(2);
+        verify(hotKeyTracker).record(HotKeyType.ACCOUNT, 2);
+        verifyNoMoreInteractions(hotKeyTracker);
+    }
+
+    private static Account account(int id, long version) {
+        Account account = new Account(7, 10_000L, Currency.USD);
+        account.setId(id);
+        account.setVersion(version);
+        return account;
+    }
+}
@@ -0,0 +1,87 @@
+package org.springcorebankapp.hotkey;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotKeySketchTest {
+
+    @Test
+    void estimate_NeverBelowTrueCount() {
+        // given
+        CountMinSketch sketch = new CountMinSketch(64, 4);
+
+        // when
+        for (int key = 1; key <= 1_000; key++) {
+            for (int i = 0; i < key % 7; i++) {
+                sketch.add(key);
+            }
+        }
+
+        // then
+        for (int key = 1; key <= 1_000; key++) {
+            assertTrue(sketch.estimate(key) >= key % 7);
+        }
+        assertEquals(64, sketch.width());
+    }
+
+    @Test
+    void top_FindsHeavyHittersAmongConcurrentNoise() throws Exception {
+        // given
+        HotKeySketch sketch = new HotKeySketch(1_024, 4, 3);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // when
+        List<Future<?>> threads = new ArrayList<>();
+        for (int thread = 0; thread < 4; thread++) {
+            int offset = thread * 10_000;
+            threads.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    sketch.record(100_000 + offset + i);
+                    if (i % 5 == 0) {
+                        sketch.record(7);
+                    }
+                    if (i % 10 == 0) {
+                        sketch.record(42);
+                    }
+                }
+            }));
+        }
+        for (Future<?> thread : threads) {
+            thread.get(10, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        List<Map.Entry<Long, Long>> top = sketch.top(2);
+
+        // then
+        assertEquals(List.of(7L, 42L), top.stream().map(Map.Entry::getKey).toList());
+        assertTrue(top.get(0).getValue() >= 8_000);
+        assertTrue(top.get(1).getValue() >= 4_000);
+        assertEquals(52_000, sketch.total());
+    }
+
+    @Test
+    void decay_HalvesFrequencies() {
+        // given
+        HotKeySketch sketch = new HotKeySketch(64, 4, 3);
+        for (int i = 0; i < 10; i++) {
+            sketch.record(7);
+        }
+        sketch.record(8);
+
+        // when
+        sketch.decay();
+
+        // then
+        assertEquals(List.of(Map.entry(7L, 5L)), sketch.top(3));
+        assertEquals(5, sketch.total());
+    }
+}
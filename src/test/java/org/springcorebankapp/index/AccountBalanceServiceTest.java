@@ -0,0 +1,58 @@
+package org.springcorebankapp.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springcorebankapp.account.Account;
+import org.springcorebankapp.account.AccountService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AccountBalanceServiceTest {
+    @Mock
+    private BalanceIndex balanceIndex;
+    @Mock
+    private AccountService accountService;
+    @InjectMocks
+    private AccountBalanceService accountBalanceService;
+
+    @Test
+    void findBalance_IndexHit_SkipsAccountService() throws Exception {
+        // given
+        when(balanceIndex.read(eq(7), any())).thenAnswer(invocation -> {
+            invocation.<IndexedBalance>getArgument(1).set(7, 3, 1_000, 2);
+            return true;
+        });
+
+        // when
+        AccountBalance balance = accountBalanceService.findBalance(7);
+
+        // then
+        assertEquals(3, balance.getUserId());
+        assertEquals(1_000, balance.getMoneyAmount());
+        assertEquals(2, balance.getVersion());
+        verifyNoInteractions(accountService);
+    }
+
+    @Test
+    void findBalance_IndexMiss_ReadsAndIndexesAccount() throws Exception {
+        // given
+        Account account = new Account(3, 1_000);
+        account.setId(7);
+        when(balanceIndex.read(eq(7), any())).thenReturn(false);
+        when(accountService.findAccountById(7)).thenReturn(account);
+
+        // when
+        AccountBalance balance = accountBalanceService.findBalance(7);
+
+        // then
+        assertEquals(1_000, balance.getMoneyAmount());
+        verify(balanceIndex).update(account);
+    }
+}
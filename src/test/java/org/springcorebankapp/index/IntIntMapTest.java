@@ -0,0 +1,49 @@
+package org.springcorebankapp.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntIntMapTest {
+
+    @Test
+    void putGetRemove_MatchHashMapUnderRandomOperations() {
+        // given
+        IntIntMap map = new IntIntMap(4);
+        Map<Integer, Integer> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        // when
+        for (int i = 0; i < 100_000; i++) {
+            int key = 1 + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.getOrDefault(key, 0), map.remove(key));
+                expected.remove(key);
+            } else {
+                map.put(key, i);
+                expected.put(key, i);
+            }
+        }
+
+        // then
+        assertEquals(expected.size(), map.size());
+        for (int key = 1; key <= 2_000; key++) {
+            assertEquals(expected.getOrDefault(key, 0), map.get(key), "value of key " + key);
+        }
+    }
+
+    @Test
+    void put_NonPositiveKey_ThrowsIllegalArgumentException() {
+        // given
+        IntIntMap map = new IntIntMap(4);
+
+        // when, then
+        assertThrows(IllegalArgumentException.class, () -> map.put(0, 1));
+        assertEquals(0, map.remove(0));
+        assertEquals(0, map.size());
+    }
+}
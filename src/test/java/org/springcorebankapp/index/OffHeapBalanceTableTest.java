@@ -0,0 +1,137 @@
+package org.springcorebankapp.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapBalanceTableTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void put_StoresOnlyNewerVersions() {
+        // given
+        OffHeapBalanceTable table = OffHeapBalanceTable.allocate(16);
+        IndexedBalance balance = new IndexedBalance();
+
+        // when
+        table.put(7, 3, 1_000, 2);
+        table.put(7, 3, 500, 1);
+
+        // then
+        assertTrue(table.read(7, balance));
+        assertEquals(7, balance.getAccountId());
+        assertEquals(3, balance.getUserId());
+        assertEquals(1_000, balance.getMoneyAmount());
+        assertEquals(2, balance.getVersion());
+        assertFalse(table.read(8, balance));
+        assertEquals(1, table.size());
+    }
+
+    @Test
+    void remove_IgnoresLaterUpdatesOfAccount() {
+        // given
+        OffHeapBalanceTable table = OffHeapBalanceTable.allocate(16);
+        table.put(7, 3, 1_000, 2);
+
+        // when
+        table.remove(7);
+        table.remove(9);
+        int updated = table.put(7, 3, 2_000, 3);
+        int created = table.put(9, 3, 100, 0);
+
+        // then
+        assertEquals(OffHeapBalanceTable.REMOVED, updated);
+        assertEquals(OffHeapBalanceTable.REMOVED, created);
+        assertFalse(table.read(7, new IndexedBalance()));
+        assertFalse(table.read(9, new IndexedBalance()));
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    void put_KeepsQuarterOfSlotsEmpty() {
+        // given
+        OffHeapBalanceTable table = OffHeapBalanceTable.allocate(8);
+        for (int accountId = 1; accountId <= 6; accountId++) {
+            table.put(accountId, 1, accountId, 0);
+        }
+
+        // when
+        int rejected = table.put(7, 1, 7, 0);
+
+        // then
+        assertEquals(OffHeapBalanceTable.FULL, rejected);
+        assertEquals(6, table.size());
+        assertTrue(table.read(6, new IndexedBalance()));
+    }
+
+    @Test
+    void map_CleanlyClosedFile_RestoresAccounts() throws Exception {
+        // given
+        Path file = directory.resolve("balance-index.bin");
+        OffHeapBalanceTable table = OffHeapBalanceTable.map(file, 16);
+        table.put(7, 3, 1_000, 2);
+        table.put(8, 3, 2_000, 1);
+        table.remove(8);
+        table.setClean(true);
+
+        // when
+        OffHeapBalanceTable reopened = OffHeapBalanceTable.map(file, 32);
+
+        // then
+        IndexedBalance balance = new IndexedBalance();
+        assertTrue(reopened.read(7, balance));
+        assertEquals(1_000, balance.getMoneyAmount());
+        assertFalse(reopened.read(8, balance));
+        assertEquals(1, reopened.size());
+        assertEquals(32, reopened.capacity());
+    }
+
+    @Test
+    void map_FileNotClosedCleanly_StartsEmpty() throws Exception {
+        // given
+        Path file = directory.resolve("balance-index.bin");
+        OffHeapBalanceTable table = OffHeapBalanceTable.map(file, 16);
+        table.put(7, 3, 1_000, 2);
+
+        // when
+        OffHeapBalanceTable reopened = OffHeapBalanceTable.map(file, 16);
+
+        // then
+        assertFalse(reopened.read(7, new IndexedBalance()));
+        assertEquals(0, reopened.size());
+    }
+
+    @Test
+    void read_ConcurrentWrites_NeverReturnsTornBalance() throws Exception {
+        // given
+        OffHeapBalanceTable table = OffHeapBalanceTable.allocate(16);
+        table.put(7, 3, 0, 0);
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicReference<String> failure = new AtomicReference<>();
+        Thread reader = new Thread(() -> {
+            IndexedBalance balance = new IndexedBalance();
+            while (running.get()) {
+                if (table.read(7, balance) && balance.getMoneyAmount() != balance.getVersion() * 10) {
+                    failure.set(balance.toString());
+                }
+            }
+        });
+        reader.start();
+
+        // when
+        for (long version = 1; version <= 200_000; version++) {
+            table.put(7, 3, version * 10, version);
+        }
+        running.set(false);
+        reader.join();
+
+        // then
+        assertNull(failure.get());
+    }
+}
@@ -0,0 +1,103 @@
+package org.springcorebankapp.index;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springcorebankapp.account.AccountRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserAccountDirectoryTest {
+    @Mock
+    private AccountRepository accountRepository;
+    @Mock
+    private UserAccountDirectoryProperties userAccountDirectoryProperties;
+    @InjectMocks
+    private UserAccountDirectory userAccountDirectory;
+
+    @Test
+    void ownerOf_LoadsOwnerOnce() {
+        // given
+        when(userAccountDirectoryProperties.getMaxAccounts()).thenReturn(100);
+        when(accountRepository.findUserIdById(7)).thenReturn(Optional.of(3));
+
+        // when
+        int first = userAccountDirectory.ownerOf(7);
+        int second = userAccountDirectory.ownerOf(7);
+
+        // then
+        assertEquals(3, first);
+        assertEquals(3, second);
+        verify(accountRepository, times(1)).findUserIdById(7);
+    }
+
+    @Test
+    void ownerOf_UnknownAccount_ReturnsZero() {
+        // given
+        when(accountRepository.findUserIdById(7)).thenReturn(Optional.empty());
+
+        // when, then
+        assertEquals(0, userAccountDirectory.ownerOf(7));
+    }
+
+    @Test
+    void accountsOf_KeptCurrentByCreationAndClosure() {
+        // given
+        when(userAccountDirectoryProperties.getMaxAccounts()).thenReturn(100);
+        when(userAccountDirectoryProperties.getMaxUsers()).thenReturn(100);
+        when(userAccountDirectoryProperties.getListTtlMillis()).thenReturn(60_000L);
+        when(accountRepository.findIdsByUserId(3)).thenReturn(List.of(4, 9));
+        userAccountDirectory.accountsOf(3);
+
+        // when
+        userAccountDirectory.accountCreated(3, 6);
+        userAccountDirectory.accountClosed(3, 4);
+
+        // then
+        assertArrayEquals(new int[] {6, 9}, userAccountDirectory.accountsOf(3));
+        assertEquals(3, userAccountDirectory.ownerOf(6));
+        verify(accountRepository, times(1)).findIdsByUserId(3);
+        verify(accountRepository, never()).findUserIdById(6);
+    }
+
+    @Test
+    void accountsOf_UserBeyondBound_ReadsDatabaseEveryTime() {
+        // given
+        when(userAccountDirectoryProperties.getMaxAccounts()).thenReturn(100);
+        when(userAccountDirectoryProperties.getMaxUsers()).thenReturn(0);
+        when(accountRepository.findIdsByUserId(3)).thenReturn(List.of(4));
+
+        // when
+        userAccountDirectory.accountsOf(3);
+        int[] accountIds = userAccountDirectory.accountsOf(3);
+
+        // then
+        assertArrayEquals(new int[] {4}, accountIds);
+        verify(accountRepository, times(2)).findIdsByUserId(3);
+    }
+
+    @Test
+    void accountsOf_ExpiredList_ReadsDatabaseAgain() {
+        // given
+        when(userAccountDirectoryProperties.getMaxAccounts()).thenReturn(100);
+        when(userAccountDirectoryProperties.getMaxUsers()).thenReturn(100);
+        when(userAccountDirectoryProperties.getListTtlMillis()).thenReturn(0L);
+        when(accountRepository.findIdsByUserId(3)).thenReturn(List.of(4))
+                .thenReturn(List.of(4, 5));
+
+        // when
+        userAccountDirectory.accountsOf(3);
+        int[] accountIds = userAccountDirectory.accountsOf(3);
+
+        // then
+        assertArrayEquals(new int[] {4, 5}, accountIds);
+        verify(accountRepository, times(2)).findIdsByUserId(3);
+    }
+}
@@ -0,0 +1,102 @@
+package org.springcorebankapp.limit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springcorebankapp.account.AccountController;
+import org.springcorebankapp.account.AccountService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ConcurrencyLimitFilterTest {
+
+    @Test
+    void doFilter_ShedsWritesOverLimitWhileReadsPass() throws Exception {
+        // given
+        GradientConcurrencyLimiter writeLimiter = new GradientConcurrencyLimiter(1, 1, 10, 1.5, 0.2, 0.9);
+        GradientConcurrencyLimiter readLimiter = new GradientConcurrencyLimiter(1, 1, 10, 1.5, 0.2, 0.9);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(writeLimiter, readLimiter, 2);
+        assertTrue(writeLimiter.tryAcquire());
+
+        // when
+        MockHttpServletResponse write = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("PUT", "/accounts/transfer"), write, new MockFilterChain());
+        MockHttpServletResponse read = new MockHttpServletResponse();
+        filter.doFilter(new MockHttpServletRequest("GET", "/accounts/find-account-by-id"), read, new MockFilterChain());
+
+        // then
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE.value(), write.getStatus());
+        assertEquals("2", write.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals(HttpStatus.OK.value(), read.getStatus());
+        assertEquals(0, readLimiter.getInFlight());
+    }
+
+    @Test
+    void doFilter_ServerErrorCutsLimit() throws Exception {
+        // given
+        GradientConcurrencyLimiter writeLimiter = new GradientConcurrencyLimiter(10, 1, 100, 1.5, 0.2, 0.9);
+        GradientConcurrencyLimiter readLimiter = new GradientConcurrencyLimiter(10, 1, 100, 1.5, 0.2, 0.9);
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(writeLimiter, readLimiter, 1);
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("PUT", "/accounts/transfer"), new MockHttpServletResponse(),
+                (request, response) -> ((HttpServletResponse) response)
+                        .setStatus(HttpStatus.GATEWAY_TIMEOUT.value()));
+
+        // then
+        assertEquals(9, writeLimiter.getLimit());
+        assertEquals(0, writeLimiter.getInFlight());
+    }
+
+    @Test
+    void doFilter_RejectedWithdrawalsKeepLimit() throws Exception {
+        // given
+        GradientConcurrencyLimiter writeLimiter = new GradientConcurrencyLimiter(20, 4, 200, 1.5, 0.2, 0.9);
+        GradientConcurrencyLimiter readLimiter = new GradientConcurrencyLimiter(50, 10, 500, 1.5, 0.2, 0.9);
+        AccountService accountService = mock(AccountService.class);
+        doThrow(new IllegalArgumentException("Cannot withdraw from account"))
+                .when(accountService).withdrawFromAccount(anyInt(), anyLong());
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new AccountController(accountService))
+                .addFilters(new ConcurrencyLimitFilter(writeLimiter, readLimiter, 1))
+                .build();
+
+        // when
+        for (int i = 0; i < 15; i++) {
+            mockMvc.perform(put("/accounts/withdraw-from-account").param("id", "1").param("amount", "500"))
+                    .andExpect(status().isBadRequest());
+        }
+
+        // then
+        assertEquals(20, writeLimiter.getLimit());
+        assertEquals(0, writeLimiter.getInFlight());
+    }
+
+    @Test
+    void bindTo_PublishesLimitPerLimiter() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(
+                new GradientConcurrencyLimiter(20, 4, 200, 1.5, 0.2, 0.9),
+                new GradientConcurrencyLimiter(50, 10, 500, 1.5, 0.2, 0.9), 1);
+
+        // when
+        filter.bindTo(registry);
+
+        // then
+        assertEquals(20, registry.get("concurrency.limit").tag("limiter", "write").gauge().value());
+        assertEquals(50, registry.get("concurrency.limit").tag("limiter", "read").gauge().value());
+    }
+}
@@ -0,0 +1,85 @@
+package org.springcorebankapp.limit;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GradientConcurrencyLimiterTest {
+
+    @Test
+    void tryAcquire_RejectsBeyondLimit() {
+        // given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(2, 1, 10, 1.5, 0.2, 0.9);
+
+        // when / then
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+        assertEquals(1, limiter.getRejected());
+
+        limiter.onSuccess(TimeUnit.MILLISECONDS.toNanos(5));
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void onSuccess_GrowsUnderSteadyLatencyAndShrinksWhenLatencyRises() {
+        // given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 4, 200, 1.5, 0.2, 0.9);
+
+        // when
+        runSaturated(limiter, 200, TimeUnit.MILLISECONDS.toNanos(5));
+        int steadyLimit = limiter.getLimit();
+        runSaturated(limiter, 50, TimeUnit.MILLISECONDS.toNanos(50));
+        int slowLimit = limiter.getLimit();
+
+        // then
+        assertTrue(steadyLimit > 20, "limit grows while latency is steady: " + steadyLimit);
+        assertTrue(slowLimit < steadyLimit / 2, "limit shrinks when latency rises: " + slowLimit);
+        assertTrue(slowLimit >= 4);
+    }
+
+    @Test
+    void onSuccess_DoesNotGrowWhileMostlyIdle() {
+        // given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(20, 4, 200, 1.5, 0.2, 0.9);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onSuccess(TimeUnit.MILLISECONDS.toNanos(5));
+        }
+
+        // then
+        assertEquals(20, limiter.getLimit());
+    }
+
+    @Test
+    void onDropped_CutsLimitDownToMinimum() {
+        // given
+        GradientConcurrencyLimiter limiter = new GradientConcurrencyLimiter(10, 4, 200, 1.5, 0.2, 0.5);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onDropped();
+        }
+
+        // then
+        assertEquals(4, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    private static void runSaturated(GradientConcurrencyLimiter limiter, int rounds, long rttNanos) {
+        for (int round = 0; round < rounds; round++) {
+            int admitted = 0;
+            while (limiter.tryAcquire()) {
+                admitted++;
+            }
+            for (int i = 0; i < admitted; i++) {
+                limiter.onSuccess(rttNanos);
+            }
+        }
+    }
+}
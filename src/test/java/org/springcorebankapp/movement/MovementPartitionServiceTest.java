@@ -0,0 +1,79 @@
+package org.springcorebankapp.movement;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springcorebankapp.exception.MovementPartitionNotFoundException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.time.YearMonth;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MovementPartitionServiceTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private MovementPartitionProperties movementPartitionProperties;
+    @InjectMocks
+    private MovementPartitionService movementPartitionService;
+
+    @Test
+    void maintainPartitions_CreatesMissingMonthsAndDetachesExpired() throws Exception {
+        // given
+        givenPartitions("account_movements_2023_12", "account_movements_2024_04", "account_movements_2024_05");
+        when(movementPartitionProperties.getMonthsAhead()).thenReturn(2);
+        when(movementPartitionProperties.getRetentionMonths()).thenReturn(3);
+
+        // when
+        movementPartitionService.maintainPartitions(YearMonth.of(2024, 5));
+
+        // then
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS account_movements_2024_06 PARTITION OF "
+                + "account_movements FOR VALUES FROM ('2024-06-01 00:00:00+00') TO ('2024-07-01 00:00:00+00')");
+        verify(jdbcTemplate).execute("CREATE TABLE IF NOT EXISTS account_movements_2024_07 PARTITION OF "
+                + "account_movements FOR VALUES FROM ('2024-07-01 00:00:00+00') TO ('2024-08-01 00:00:00+00')");
+        verify(jdbcTemplate).execute("ALTER TABLE account_movements DETACH PARTITION account_movements_2023_12 CONCURRENTLY");
+        verify(jdbcTemplate, times(3)).execute(anyString());
+    }
+
+    @Test
+    void detachPartition_CurrentMonth_ThrowsIllegalArgumentException() {
+        // when, then
+        assertThrows(IllegalArgumentException.class,
+                () -> movementPartitionService.detachPartition(YearMonth.now().plusMonths(1)));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void detachPartition_NotAttached_ThrowsMovementPartitionNotFoundException() throws Exception {
+        // given
+        givenPartitions("account_movements_2020_02");
+
+        // when, then
+        assertThrows(MovementPartitionNotFoundException.class,
+                () -> movementPartitionService.detachPartition(YearMonth.of(2020, 1)));
+        verify(jdbcTemplate, never()).execute(anyString());
+    }
+
+    private void givenPartitions(String... names) throws Exception {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (String name : names) {
+                ResultSet resultSet = mock(ResultSet.class);
+                when(resultSet.getString("name")).thenReturn(name);
+                when(resultSet.getLong("estimated_rows")).thenReturn(-1L);
+                handler.processRow(resultSet);
+            }
+            return null;
+        }).when(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class));
+    }
+}
@@ -0,0 +1,71 @@
+package org.springcorebankapp.reconciliation;
+
+import org.junit.jupiter.api.Test;
+import org.springcorebankapp.fx.Currency;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReconciliationTaskTest {
+
+    @Test
+    void compute_SplitsRangeIntoPartitionsAndMergesResults() {
+        // given
+        ConcurrentLinkedQueue<int[]> partitions = new ConcurrentLinkedQueue<>();
+        ReconciliationTask task = new ReconciliationTask(1, 100, 10, (from, to) -> {
+            partitions.add(new int[]{from, to});
+            PartitionResult result = new PartitionResult();
+            for (int id = from; id <= to; id++) {
+                result.addAccount(id, id % 2 == 0 ? Currency.USD : Currency.JPY, 100, 5, 105, true);
+            }
+            return result;
+        });
+
+        // when
+        PartitionResult result = ForkJoinPool.commonPool().invoke(task);
+
+        // then
+        assertEquals(100, result.getAccountsChecked());
+        assertEquals(5_000, result.getTotals().get(Currency.USD).getOpeningTotal());
+        assertEquals(5_250, result.getTotals().get(Currency.USD).getClosingTotal());
+        assertEquals(5_000, result.getTotals().get(Currency.JPY).getOpeningTotal());
+        assertEquals(5_250, result.getTotals().get(Currency.JPY).getClosingTotal());
+        assertTrue(result.getDiscrepancies().isEmpty());
+        assertEquals(100, partitions.stream().mapToInt(range -> range[1] - range[0] + 1).sum());
+        assertTrue(partitions.stream().allMatch(range -> range[1] - range[0] < 10));
+    }
+
+    @Test
+    void addAccount_RecordsDiscrepancy() {
+        // given
+        PartitionResult result = new PartitionResult();
+
+        // when
+        result.addAccount(1, Currency.USD, 100, 50, 150, true);
+        result.addAccount(2, Currency.USD, 100, 50, 120, true);
+        result.merge(new PartitionResult());
+
+        // then
+        List<Discrepancy> discrepancies = result.getDiscrepancies();
+        assertEquals(1, discrepancies.size());
+        assertEquals(2, discrepancies.get(0).getAccountId());
+        assertEquals(150, discrepancies.get(0).getExpectedBalance());
+        assertEquals(120, discrepancies.get(0).getActualBalance());
+    }
+
+    @Test
+    void addAccount_BaselineSkipsVerification() {
+        // given
+        PartitionResult result = new PartitionResult();
+
+        // when
+        result.addAccount(1, Currency.USD, 0, 0, 120, false);
+
+        // then
+        assertEquals(1, result.getAccountsChecked());
+        assertTrue(result.getDiscrepancies().isEmpty());
+    }
+}
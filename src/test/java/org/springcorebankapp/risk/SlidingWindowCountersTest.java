@@ -0,0 +1,115 @@
+package org.springcorebankapp.risk;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SlidingWindowCountersTest {
+    private static final long NOW = 1_700_000_000_000L;
+    private static final long[] NO_LIMITS = {0, 0, 0};
+
+    @Test
+    void tryAcquire_RejectsTransferAboveCountLimit() {
+        // given
+        SlidingWindowCounters counters = new SlidingWindowCounters();
+        long[] maxCounts = {2, 0, 0};
+
+        // when / then
+        assertNull(counters.tryAcquire(NOW, 10, maxCounts, NO_LIMITS));
+        assertNull(counters.tryAcquire(NOW + 1, 10, maxCounts, NO_LIMITS));
+        assertEquals(VelocityWindow.MINUTE, counters.tryAcquire(NOW + 2, 10, maxCounts, NO_LIMITS));
+        assertEquals(2, counters.count(VelocityWindow.MINUTE, NOW + 2));
+        assertEquals(20, counters.amount(VelocityWindow.DAY, NOW + 2));
+    }
+
+    @Test
+    void tryAcquire_RejectsTransferAboveAmountLimit() {
+        // given
+        SlidingWindowCounters counters = new SlidingWindowCounters();
+        long[] maxAmounts = {0, 0, 100};
+
+        // when / then
+        assertNull(counters.tryAcquire(NOW, 60, NO_LIMITS, maxAmounts));
+        assertEquals(VelocityWindow.DAY, counters.tryAcquire(NOW, 50, NO_LIMITS, maxAmounts));
+        assertNull(counters.tryAcquire(NOW, 40, NO_LIMITS, maxAmounts));
+    }
+
+    @Test
+    void count_ExpiresBucketsAsWindowSlides() {
+        // given
+        SlidingWindowCounters counters = new SlidingWindowCounters();
+        counters.tryAcquire(NOW, 10, NO_LIMITS, NO_LIMITS);
+
+        // when / then
+        assertEquals(1, counters.count(VelocityWindow.MINUTE, NOW + 59_000));
+        assertEquals(0, counters.count(VelocityWindow.MINUTE, NOW + 60_000));
+        assertEquals(1, counters.count(VelocityWindow.HOUR, NOW + 60_000));
+        assertFalse(counters.isIdle(NOW + 60_000));
+        assertTrue(counters.isIdle(NOW + 86_400_000L));
+
+        counters.tryAcquire(NOW + 60_000, 5, NO_LIMITS, NO_LIMITS);
+        assertEquals(1, counters.count(VelocityWindow.MINUTE, NOW + 60_000));
+        assertEquals(5, counters.amount(VelocityWindow.MINUTE, NOW + 60_000));
+    }
+
+    @Test
+    void release_RestoresCounters() {
+        // given
+        SlidingWindowCounters counters = new SlidingWindowCounters();
+        counters.tryAcquire(NOW, 10, NO_LIMITS, NO_LIMITS);
+
+        // when
+        counters.release(NOW, 10);
+
+        // then
+        assertTrue(counters.isIdle(NOW));
+        assertEquals(0, counters.amount(VelocityWindow.HOUR, NOW));
+    }
+
+    @Test
+    void snapshot_RestoresEqualCounters() {
+        // given
+        SlidingWindowCounters counters = new SlidingWindowCounters();
+        counters.tryAcquire(NOW, 10, NO_LIMITS, NO_LIMITS);
+
+        // when
+        SlidingWindowCounters restored = new SlidingWindowCounters(counters.snapshot());
+
+        // then
+        assertEquals(1, restored.count(VelocityWindow.DAY, NOW));
+        assertEquals(10, restored.amount(VelocityWindow.DAY, NOW));
+        assertThrows(IllegalArgumentException.class, () -> new SlidingWindowCounters(new long[1]));
+    }
+
+    @Test
+    void tryAcquire_NeverExceedsLimitUnderContention() throws InterruptedException {
+        // given
+        SlidingWindowCounters counters = new SlidingWindowCounters();
+        long[] maxCounts = {0, 0, 1_000};
+        AtomicInteger accepted = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 1_000; j++) {
+                    if (counters.tryAcquire(NOW, 1, maxCounts, NO_LIMITS) == null) {
+                        accepted.incrementAndGet();
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        // then
+        assertTrue(accepted.get() <= 1_000);
+        assertEquals(accepted.get(), counters.count(VelocityWindow.DAY, NOW));
+        assertEquals(accepted.get(), counters.amount(VelocityWindow.MINUTE, NOW));
+    }
+}
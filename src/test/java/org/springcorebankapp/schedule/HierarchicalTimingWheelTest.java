@@ -0,0 +1,94 @@
+package org.springcorebankapp.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+    private static final long TICK = 100;
+    private static final long START = 1_000_000L;
+
+    @Test
+    void advance_FiresTimerOnItsTick() {
+        var wheel = new HierarchicalTimingWheel(TICK, 5, START);
+        wheel.schedule(1, START + 350);
+
+        List<Integer> expired = new ArrayList<>();
+        wheel.advance(START + 299, expired::add);
+        assertTrue(expired.isEmpty());
+
+        wheel.advance(START + 300, expired::add);
+        assertEquals(List.of(1), expired);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void advance_CascadesTimersFromHigherLevels() {
+        var wheel = new HierarchicalTimingWheel(TICK, 5, START);
+        long[] delays = {TICK * 63, TICK * 64, TICK * 65, TICK * 4095, TICK * 4096, TICK * 300_000};
+        for (int i = 0; i < delays.length; i++) {
+            wheel.schedule(i, START + delays[i]);
+        }
+
+        for (int i = 0; i < delays.length; i++) {
+            List<Integer> expired = new ArrayList<>();
+            wheel.advance(START + delays[i] - TICK, expired::add);
+            assertFalse(expired.contains(i), "timer " + i + " fired early");
+            wheel.advance(START + delays[i], expired::add);
+            assertTrue(expired.contains(i), "timer " + i + " did not fire");
+        }
+    }
+
+    @Test
+    void advance_HandlesDeadlinesBeyondTopLevel() {
+        var wheel = new HierarchicalTimingWheel(TICK, 1, START);
+        wheel.schedule(7, START + TICK * 200);
+
+        List<Integer> expired = new ArrayList<>();
+        wheel.advance(START + TICK * 199, expired::add);
+        assertTrue(expired.isEmpty());
+        wheel.advance(START + TICK * 200, expired::add);
+        assertEquals(List.of(7), expired);
+    }
+
+    @Test
+    void schedule_PastDeadlineFiresOnNextTick() {
+        var wheel = new HierarchicalTimingWheel(TICK, 5, START);
+        wheel.schedule(3, START - 10_000);
+
+        List<Integer> expired = new ArrayList<>();
+        wheel.advance(START + TICK, expired::add);
+        assertEquals(List.of(3), expired);
+    }
+
+    @Test
+    void schedule_ReschedulesExistingTimer() {
+        var wheel = new HierarchicalTimingWheel(TICK, 5, START);
+        wheel.schedule(1, START + TICK);
+        wheel.schedule(1, START + TICK * 10);
+
+        List<Integer> expired = new ArrayList<>();
+        wheel.advance(START + TICK * 9, expired::add);
+        assertTrue(expired.isEmpty());
+        assertEquals(1, wheel.size());
+        wheel.advance(START + TICK * 10, expired::add);
+        assertEquals(List.of(1), expired);
+    }
+
+    @Test
+    void cancel_RemovesPendingTimer() {
+        var wheel = new HierarchicalTimingWheel(TICK, 5, START);
+        wheel.schedule(1, START + TICK * 5000);
+
+        assertTrue(wheel.cancel(1));
+        assertFalse(wheel.cancel(1));
+        assertFalse(wheel.contains(1));
+
+        List<Integer> expired = new ArrayList<>();
+        wheel.advance(START + TICK * 6000, expired::add);
+        assertTrue(expired.isEmpty());
+    }
+}
@@ -0,0 +1,160 @@
+package org.springcorebankapp.schedule;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springcorebankapp.account.AccountService;
+import org.springcorebankapp.exception.ScheduledTransferNotFoundException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledTransferServiceTest {
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private ScheduledTransferRepository scheduledTransferRepository;
+    @Mock
+    private ScheduledTransferProperties scheduledTransferProperties;
+    @Mock
+    private AccountService accountService;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @Spy
+    private HierarchicalTimingWheel timingWheel = new HierarchicalTimingWheel(100, 5, NOW.toEpochMilli());
+    @InjectMocks
+    private ScheduledTransferService scheduledTransferService;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(scheduledTransferProperties.getBatchSize()).thenReturn(100);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation -> {
+            TransactionCallback<?> callback = invocation.getArgument(0);
+            return callback.doInTransaction(null);
+        });
+    }
+
+    @Test
+    void createScheduledTransfer_SchedulesTimer() throws Exception {
+        when(scheduledTransferRepository.save(any(ScheduledTransfer.class))).thenAnswer(invocation -> {
+            ScheduledTransfer scheduledTransfer = invocation.getArgument(0);
+            scheduledTransfer.setId(1);
+            return scheduledTransfer;
+        });
+
+        var result = scheduledTransferService.createScheduledTransfer(1, 2, 100, NOW.plusSeconds(60), 0);
+
+        assertEquals(ScheduledTransferStatus.ACTIVE, result.getStatus());
+        assertTrue(timingWheel.contains(1));
+        verify(accountService).findAccountById(1);
+        verify(accountService).findAccountById(2);
+    }
+
+    @Test
+    void createScheduledTransfer_NonPositiveAmount() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> scheduledTransferService.createScheduledTransfer(1, 2, 0, NOW, 0));
+
+        assertEquals("Cannot schedule not positive money: amount = 0", exception.getMessage());
+        verify(scheduledTransferRepository, never()).save(any());
+    }
+
+    @Test
+    void cancelScheduledTransfer_RemovesTimer() {
+        var scheduledTransfer = new ScheduledTransfer(1, 2, 100, NOW.plusSeconds(60), 0);
+        scheduledTransfer.setId(5);
+        timingWheel.schedule(5, NOW.plusSeconds(60).toEpochMilli());
+        when(scheduledTransferRepository.findWithLockById(5)).thenReturn(Optional.of(scheduledTransfer));
+
+        scheduledTransferService.cancelScheduledTransfer(5);
+
+        assertEquals(ScheduledTransferStatus.CANCELLED, scheduledTransfer.getStatus());
+        assertFalse(timingWheel.contains(5));
+    }
+
+    @Test
+    void cancelScheduledTransfer_NotFound() {
+        when(scheduledTransferRepository.findWithLockById(5)).thenReturn(Optional.empty());
+
+        assertThrows(ScheduledTransferNotFoundException.class, () -> scheduledTransferService.cancelScheduledTransfer(5));
+    }
+
+    @Test
+    void dispatchDue_ExecutesStandingOrderAndReschedulesIt() throws Exception {
+        var standingOrder = new ScheduledTransfer(1, 2, 100, NOW.plusSeconds(1), 3600);
+        standingOrder.setId(7);
+        timingWheel.schedule(7, NOW.plusSeconds(1).toEpochMilli());
+        when(scheduledTransferRepository.findAllById(List.of(7))).thenReturn(List.of(standingOrder));
+        when(scheduledTransferRepository.findForExecutionById(7)).thenReturn(Optional.of(standingOrder));
+
+        int dispatched = scheduledTransferService.dispatchDue(NOW.plusSeconds(2));
+
+        assertEquals(1, dispatched);
+        verify(accountService).transfer(1, 2, 100);
+        assertEquals(NOW.plusSeconds(3601), standingOrder.getNextExecutionAt());
+        assertEquals(ScheduledTransferStatus.ACTIVE, standingOrder.getStatus());
+        assertTrue(timingWheel.contains(7));
+    }
+
+    @Test
+    void dispatchDue_MarksFailedOneOffTransfer() throws Exception {
+        var oneOff = new ScheduledTransfer(1, 2, 100, NOW.plusSeconds(1), 0);
+        oneOff.setId(8);
+        timingWheel.schedule(8, NOW.plusSeconds(1).toEpochMilli());
+        when(scheduledTransferRepository.findAllById(List.of(8))).thenReturn(List.of(oneOff));
+        when(scheduledTransferRepository.findForExecutionById(8)).thenReturn(Optional.of(oneOff));
+        doThrow(new IllegalArgumentException("Insufficient funds")).when(accountService).transfer(1, 2, 100);
+
+        scheduledTransferService.dispatchDue(NOW.plusSeconds(2));
+
+        assertEquals(ScheduledTransferStatus.FAILED, oneOff.getStatus());
+        assertEquals("Insufficient funds", oneOff.getLastError());
+        assertFalse(timingWheel.contains(8));
+        verify(scheduledTransferRepository).save(oneOff);
+    }
+
+    @Test
+    void dispatchDue_SkipsTransferCancelledAfterBatchRead() throws Exception {
+        var snapshot = new ScheduledTransfer(1, 2, 100, NOW.plusSeconds(1), 0);
+        snapshot.setId(9);
+        var cancelled = new ScheduledTransfer(1, 2, 100, NOW.plusSeconds(1), 0);
+        cancelled.setId(9);
+        cancelled.setStatus(ScheduledTransferStatus.CANCELLED);
+        timingWheel.schedule(9, NOW.plusSeconds(1).toEpochMilli());
+        when(scheduledTransferRepository.findAllById(List.of(9))).thenReturn(List.of(snapshot));
+        when(scheduledTransferRepository.findForExecutionById(9)).thenReturn(Optional.of(cancelled));
+
+        scheduledTransferService.dispatchDue(NOW.plusSeconds(2));
+
+        verify(accountService, never()).transfer(anyInt(), anyInt(), anyLong());
+        verify(scheduledTransferRepository, never()).save(any());
+        assertFalse(timingWheel.contains(9));
+    }
+
+    @Test
+    void dispatchDue_RetriesTransferLockedByAnotherExecution() throws Exception {
+        var snapshot = new ScheduledTransfer(1, 2, 100, NOW.plusSeconds(1), 0);
+        snapshot.setId(10);
+        timingWheel.schedule(10, NOW.plusSeconds(1).toEpochMilli());
+        when(scheduledTransferRepository.findAllById(List.of(10))).thenReturn(List.of(snapshot));
+        when(scheduledTransferRepository.findForExecutionById(10)).thenReturn(Optional.empty());
+
+        scheduledTransferService.dispatchDue(NOW.plusSeconds(2));
+
+        verify(accountService, never()).transfer(anyInt(), anyInt(), anyLong());
+        verify(scheduledTransferRepository, never()).save(any());
+        assertTrue(timingWheel.contains(10));
+    }
+}
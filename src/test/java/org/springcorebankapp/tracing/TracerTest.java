@@ -0,0 +1,97 @@
+package org.springcorebankapp.tracing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TracerTest {
+    private final InMemorySpanExporter exporter = new InMemorySpanExporter(100);
+
+    @Test
+    void startSpan_NestsChildSpansUnderCurrentSpan() {
+        // given
+        Tracer tracer = tracer(1.0);
+
+        // when
+        try (Span root = tracer.startSpan("AccountController.transfer", SpanKind.SERVER)) {
+            try (Span child = tracer.startSpan("AccountService.transfer", SpanKind.INTERNAL)) {
+                child.setAttribute("fromAccountId", 1);
+                assertSame(child, tracer.currentSpan());
+            }
+            assertSame(root, tracer.currentSpan());
+        }
+
+        // then
+        assertFalse(tracer.currentSpan().recording());
+        List<Span> spans = exporter.getFinishedSpans();
+        assertEquals(2, spans.size());
+        Span child = spans.get(0);
+        Span root = spans.get(1);
+        assertEquals(root.getTraceId(), child.getTraceId());
+        assertEquals(root.getSpanId(), child.getParentSpanId());
+        assertNull(root.getParentSpanId());
+        assertEquals(1, child.getAttributes().get("fromAccountId"));
+        assertTrue(child.getDurationMicros() >= 0);
+    }
+
+    @Test
+    void startSpan_ContinuesIncomingTraceparent() {
+        // given
+        Tracer tracer = tracer(0.0);
+        String traceparent = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+        // when
+        try (Span span = tracer.startSpan("UserController.findUserById", SpanKind.SERVER, traceparent)) {
+            assertTrue(span.recording());
+        }
+
+        // then
+        Span span = exporter.getFinishedSpans().get(0);
+        assertEquals("4bf92f3577b34da6a3ce929d0e0e4736", span.getTraceId());
+        assertEquals("00f067aa0ba902b7", span.getParentSpanId());
+    }
+
+    @Test
+    void startSpan_RecordsNothingForUnsampledTraces() {
+        // given
+        Tracer tracer = tracer(0.0);
+
+        // when
+        try (Span root = tracer.startSpan("AccountController.transfer", SpanKind.SERVER)) {
+            assertFalse(root.recording());
+            try (Span child = tracer.startSpan("AccountService.transfer", SpanKind.INTERNAL)) {
+                assertSame(Span.NOOP, child);
+            }
+            assertSame(root, tracer.currentSpan());
+        }
+
+        // then
+        assertTrue(exporter.getFinishedSpans().isEmpty());
+        assertSame(Span.NOOP, tracer.currentSpan());
+    }
+
+    @Test
+    void end_RestoresParentWhenChildSpanLeaks() {
+        // given
+        Tracer tracer = tracer(1.0);
+
+        // when
+        try (Span root = tracer.startSpan("AccountController.transfer", SpanKind.SERVER)) {
+            tracer.startSpan("AccountService.transfer", SpanKind.INTERNAL);
+        }
+
+        // then
+        assertSame(Span.NOOP, tracer.currentSpan());
+    }
+
+    private Tracer tracer(double sampleRatio) {
+        Tracer tracer = new Tracer();
+        ReflectionTestUtils.setField(tracer, "tracingProperties",
+                new TracingProperties(true, sampleRatio, "spans.jsonl", 100));
+        ReflectionTestUtils.setField(tracer, "spanExporters", List.of(exporter));
+        return tracer;
+    }
+}
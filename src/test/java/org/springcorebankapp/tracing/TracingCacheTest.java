@@ -0,0 +1,62 @@
+package org.springcorebankapp.tracing;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TracingCacheTest {
+    private final InMemorySpanExporter exporter = new InMemorySpanExporter(100);
+
+    @Test
+    void get_RecordsHitAndMissAsChildSpans() {
+        // given
+        Tracer tracer = tracer();
+        Cache cache = new TracingCacheManager(new ConcurrentMapCacheManager("accounts"), tracer).getCache("accounts");
+
+        // when
+        try (Span root = tracer.startSpan("AccountService.findAccountById", SpanKind.INTERNAL)) {
+            cache.get(1);
+            cache.put(1, "account");
+            cache.get(1);
+            cache.get(2, () -> "loaded");
+        }
+
+        // then
+        List<Span> spans = exporter.getFinishedSpans();
+        assertEquals(5, spans.size());
+        assertEquals("cache.get", spans.get(0).getName());
+        assertEquals(false, spans.get(0).getAttributes().get("cache.hit"));
+        assertEquals("cache.put", spans.get(1).getName());
+        assertEquals(true, spans.get(2).getAttributes().get("cache.hit"));
+        assertEquals(false, spans.get(3).getAttributes().get("cache.hit"));
+        assertEquals("accounts", spans.get(3).getAttributes().get("cache.name"));
+        assertEquals("2", spans.get(3).getAttributes().get("cache.key"));
+        assertEquals(spans.get(4).getSpanId(), spans.get(0).getParentSpanId());
+    }
+
+    @Test
+    void get_CreatesNoSpansOutsideTraces() {
+        // given
+        Cache cache = new TracingCacheManager(new ConcurrentMapCacheManager("accounts"), tracer()).getCache("accounts");
+
+        // when
+        cache.put(1, "account");
+
+        // then
+        assertEquals("account", cache.get(1).get());
+        assertTrue(exporter.getFinishedSpans().isEmpty());
+    }
+
+    private Tracer tracer() {
+        Tracer tracer = new Tracer();
+        ReflectionTestUtils.setField(tracer, "tracingProperties",
+                new TracingProperties(true, 1.0, "spans.jsonl", 100));
+        ReflectionTestUtils.setField(tracer, "spanExporters", List.of(exporter));
+        return tracer;
+    }
+}
@@ -0,0 +1,32 @@
+package org.springcorebankapp.user;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoginBloomFilterTest {
+
+    @Test
+    void mightContain_NeverMissesAddedLoginsAndKeepsFalsePositiveRate() {
+        // given
+        int logins = 100_000;
+        LoginBloomFilter filter = new LoginBloomFilter(logins, 0.01);
+
+        // when
+        for (int i = 0; i < logins; i++) {
+            filter.add("user-" + i);
+        }
+
+        // then
+        for (int i = 0; i < logins; i++) {
+            assertTrue(filter.mightContain("user-" + i));
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < logins; i++) {
+            if (filter.mightContain("unknown-" + i)) {
+                falsePositives++;
+            }
+        }
+        assertTrue(falsePositives < logins * 0.02, "false positives: " + falsePositives);
+    }
+}
@@ -0,0 +1,55 @@
+package org.springcorebankapp.user;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LoginFilterServiceTest {
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private UserProperties userProperties;
+    @InjectMocks
+    private LoginFilterService loginFilterService;
+
+    @Test
+    void mightExist_RebuiltFilterRejectsUnknownLogin() {
+        // given
+        when(userProperties.isLoginFilterEnabled()).thenReturn(true);
+        when(userProperties.getLoginFilterExpectedInsertions()).thenReturn(1000L);
+        when(userProperties.getLoginFilterFalsePositiveRate()).thenReturn(0.01);
+        when(userRepository.streamAllLogins()).thenReturn(Stream.of("alice"));
+        loginFilterService.init();
+
+        // when
+        loginFilterService.rebuild();
+
+        // then
+        assertTrue(loginFilterService.mightExist("alice"));
+        assertFalse(loginFilterService.mightExist("bob"));
+    }
+
+    @Test
+    void mightExist_DisabledFilterReportsEveryLogin() {
+        // given
+        when(userProperties.isLoginFilterEnabled()).thenReturn(false);
+        when(userProperties.getLoginFilterExpectedInsertions()).thenReturn(1000L);
+        when(userProperties.getLoginFilterFalsePositiveRate()).thenReturn(0.01);
+        loginFilterService.init();
+
+        // when
+        loginFilterService.rebuild();
+
+        // then
+        assertTrue(loginFilterService.mightExist("bob"));
+        verify(userRepository, never()).streamAllLogins();
+    }
+}
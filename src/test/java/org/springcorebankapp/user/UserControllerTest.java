@@ -144,16 +144,36 @@ class UserControllerTest {
         user.setId(userId);
         user.setLogin("user1");
 
+        Mockito.doReturn("\"5a\"").when(this.userService).findUserETag(userId);
         Mockito.doReturn(user).when(this.userService).findUserById(userId);
 
         // when
-        var response = this.userController.findUserById(userId);
+        var response = this.userController.findUserById(userId, null);
 
         // then
         assertNotNull(response);
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertNotNull(response.getBody());
         assertEquals(user, response.getBody());
+        assertEquals("\"5a\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    @DisplayName("GET /find-user-by-id/{userId} - Not Modified")
+    void handleFindUserById_NotModified() {
+        // given
+        int userId = 1;
+
+        Mockito.doReturn("\"5a\"").when(this.userService).findUserETag(userId);
+
+        // when
+        var response = this.userController.findUserById(userId, "W/\"5a\"");
+
+        // then
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertNull(response.getBody());
+        assertEquals("\"5a\"", response.getHeaders().getETag());
+        verify(this.userService, Mockito.never()).findUserById(userId);
     }
 
     @Test
@@ -162,10 +182,10 @@ class UserControllerTest {
         // given
         int userId = 1;
 
-        Mockito.doThrow(new UserNotFoundException("User not found")).when(this.userService).findUserById(userId);
+        Mockito.doThrow(new UserNotFoundException("User not found")).when(this.userService).findUserETag(userId);
 
         // when
-        var response = this.userController.findUserById(userId);
+        var response = this.userController.findUserById(userId, null);
 
         // then
         assertNotNull(response);
@@ -182,7 +202,7 @@ class UserControllerTest {
         Mockito.doThrow(new RuntimeException("Unexpected error")).when(this.userService).findUserById(userId);
 
         // when
-        var response = this.userController.findUserById(userId);
+        var response = this.userController.findUserById(userId, null);
 
         // then
         assertNotNull(response);
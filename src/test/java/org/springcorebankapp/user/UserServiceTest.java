@@ -8,14 +8,19 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springcorebankapp.account.AccountService;
+import org.springcorebankapp.cache.NegativeLookupCache;
 import org.springcorebankapp.exception.LoginIsBusyException;
 import org.springcorebankapp.exception.UserNotFoundException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +29,10 @@ public class UserServiceTest {
     private UserRepository userRepository;
     @Mock
     private AccountService accountService;
+    @Mock
+    private LoginFilterService loginFilterService;
+    @Mock
+    private NegativeLookupCache negativeLookupCache;
     @InjectMocks
     private UserService userService;
 
@@ -57,6 +66,7 @@ public class UserServiceTest {
     void handleCreateUser_LoginIsBusy() {
         // given
         String login = "existingUser";
+        Mockito.when(loginFilterService.mightExist(login)).thenReturn(true);
         Mockito.when(userRepository.existsUserByLogin(login)).thenReturn(true);
 
         // when
@@ -66,6 +76,53 @@ public class UserServiceTest {
         Mockito.verify(accountService, Mockito.never()).createAccount(Mockito.anyString());
     }
 
+    @Test
+    void handleCreateUser_SkipsExistenceQueryForNewLogin() {
+        // given
+        String login = "newUser";
+        Mockito.when(loginFilterService.mightExist(login)).thenReturn(false);
+
+        // when
+        userService.createUser(login);
+
+        // then
+        Mockito.verify(userRepository, Mockito.never()).existsUserByLogin(login);
+        Mockito.verify(loginFilterService).add(login);
+        Mockito.verify(userRepository).save(Mockito.any(User.class));
+        Mockito.verify(accountService).createAccount(login);
+    }
+
+    @Test
+    void handleCreateUser_ForgetsMissingUserAfterCommit() {
+        // given
+        String login = "newUser";
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            userService.createUser(login);
+            Mockito.verify(negativeLookupCache, Mockito.never()).userCreated(Mockito.anyInt());
+
+            // when
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // then
+        Mockito.verify(negativeLookupCache).userCreated(0);
+    }
+
+    @Test
+    void handleCreateUser_LoginTakenConcurrently() {
+        // given
+        String login = "newUser";
+        Mockito.when(userRepository.save(Mockito.any(User.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+
+        // when / then
+        Assertions.assertThrows(LoginIsBusyException.class, () -> userService.createUser(login));
+        Mockito.verify(accountService, Mockito.never()).createAccount(Mockito.anyString());
+    }
+
     // find user by id
 
     @Test
@@ -96,6 +153,65 @@ public class UserServiceTest {
 
         // when / then
         Assertions.assertThrows(UserNotFoundException.class, () -> this.userService.findUserById(userId));
+        Mockito.verify(negativeLookupCache).userMissing(userId);
+    }
+
+    @Test
+    void handleFindUserById_KnownMissingSkipsQuery() {
+        // given
+        int userId = 999;
+        Mockito.when(negativeLookupCache.isUserMissing(userId)).thenReturn(true);
+
+        // when / then
+        Assertions.assertThrows(UserNotFoundException.class, () -> this.userService.findUserById(userId));
+        Mockito.verify(userRepository, Mockito.never()).findById(userId);
+    }
+
+    @Test
+    void handleFindUserETag_ChangesWithAccountVersions() {
+        // given
+        int userId = 1;
+        UserAccountVersion first = accountVersion(10, 0);
+        UserAccountVersion second = accountVersion(11, 3);
+        UserAccountVersion secondChanged = accountVersion(11, 4);
+        Mockito.when(userRepository.findAccountVersionsById(userId))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(first, second))
+                .thenReturn(List.of(first, secondChanged));
+
+        // when
+        String eTag = this.userService.findUserETag(userId);
+        String sameETag = this.userService.findUserETag(userId);
+        String changedETag = this.userService.findUserETag(userId);
+
+        // then
+        assertEquals(eTag, sameETag);
+        assertNotEquals(eTag, changedETag);
+    }
+
+    @Test
+    void handleFindUserETag_UserNotFound() {
+        // given
+        int userId = 999;
+
+        Mockito.when(userRepository.findAccountVersionsById(userId)).thenReturn(List.of());
+
+        // when / then
+        Assertions.assertThrows(UserNotFoundException.class, () -> this.userService.findUserETag(userId));
+    }
+
+    private static UserAccountVersion accountVersion(int accountId, long version) {
+        return new UserAccountVersion() {
+            @Override
+            public Integer getAccountId() {
+                return accountId;
+            }
+
+            @Override
+            public Long getVersion() {
+                return version;
+            }
+        };
     }
 
     // get all users
@@ -0,0 +1,31 @@
+package org.springcorebankapp.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ETagsTest {
+
+    @Test
+    void of_IsStableQuotedAndOrderSensitive() {
+        // when
+        String eTag = ETags.of(1, 2);
+
+        // then
+        assertEquals(eTag, ETags.of(1, 2));
+        assertTrue(eTag.startsWith("\"") && eTag.endsWith("\""));
+        assertNotEquals(eTag, ETags.of(2, 1));
+        assertNotEquals(eTag, ETags.of(1, 3));
+    }
+
+    @Test
+    void matches_UsesWeakComparisonOverTagLists() {
+        String eTag = ETags.of(7, 1);
+
+        assertTrue(ETags.matches(eTag, eTag));
+        assertTrue(ETags.matches("\"other\", W/" + eTag, eTag));
+        assertTrue(ETags.matches("*", eTag));
+        assertFalse(ETags.matches("\"other\"", eTag));
+        assertFalse(ETags.matches(null, eTag));
+    }
+}
@@ -0,0 +1,88 @@
+package org.springcorebankapp.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springcorebankapp.fx.Currency;
+import org.springcorebankapp.fx.FxRateTable;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmark of the transfer fee and conversion hot path.
+ * <p>
+ * Compares the fixed-point {@link Money} arithmetic with the equivalent {@link BigDecimal} computation.
+ * Run {@link #main(String[])} from the test classpath; the GC profiler reports {@code gc.alloc.rate.norm},
+ * which must be {@code 0} bytes per operation for the fixed-point benchmarks.
+ * </p>
+ *
+ * @author Mukhammed Lolo
+ * @version 1.0.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+    private static final long COMMISSION_PPM = 10_000;
+    private static final BigDecimal COMMISSION = new BigDecimal("0.01");
+
+    private FxRateTable table;
+    private BigDecimal eurToUsd;
+    private long amount;
+
+    @Setup
+    public void setUp() {
+        Map<Currency, BigDecimal> quotes = new EnumMap<>(Currency.class);
+        for (Currency currency : Currency.values()) {
+            quotes.put(currency, BigDecimal.ONE);
+        }
+        quotes.put(Currency.EUR, new BigDecimal("0.92"));
+        table = FxRateTable.of(Currency.USD, quotes, Instant.now());
+        eurToUsd = BigDecimal.ONE.divide(new BigDecimal("0.92"), FxRateTable.SCALE_DIGITS, RoundingMode.DOWN);
+        amount = 123_456_789L;
+    }
+
+    @Benchmark
+    public long fixedPointCommission() {
+        return Money.percentOf(amount, COMMISSION_PPM, RoundingMode.UP);
+    }
+
+    @Benchmark
+    public long fixedPointTransfer() {
+        long commission = Money.percentOf(amount, COMMISSION_PPM, RoundingMode.UP);
+        return table.convert(amount - commission, Currency.EUR, Currency.USD);
+    }
+
+    @Benchmark
+    public long bigDecimalTransfer() {
+        BigDecimal value = BigDecimal.valueOf(amount);
+        BigDecimal commission = value.multiply(COMMISSION).setScale(0, RoundingMode.UP);
+        return value.subtract(commission).multiply(eurToUsd).setScale(0, RoundingMode.DOWN).longValueExact();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MoneyBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,92 @@
+package org.springcorebankapp.util;
+
+import org.junit.jupiter.api.Test;
+import org.springcorebankapp.fx.Currency;
+import org.springcorebankapp.fx.FxRateTable;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MoneyTest {
+
+    @Test
+    void divide_MatchesBigDecimalForEveryRoundingMode() {
+        long[] dividends = {-25, -15, -11, -10, -9, -5, 0, 5, 9, 10, 11, 15, 25, Long.MAX_VALUE, Long.MIN_VALUE + 1};
+        for (RoundingMode mode : RoundingMode.values()) {
+            if (mode == RoundingMode.UNNECESSARY) {
+                continue;
+            }
+            for (long dividend : dividends) {
+                for (long divisor : new long[]{10, -10, 3, 1_000_000}) {
+                    long expected = BigDecimal.valueOf(dividend)
+                            .divide(BigDecimal.valueOf(divisor), 0, mode)
+                            .longValueExact();
+                    assertEquals(expected, Money.divide(dividend, divisor, mode),
+                            "%s / %s with %s".formatted(dividend, divisor, mode));
+                }
+            }
+        }
+        assertThrows(ArithmeticException.class, () -> Money.divide(11, 10, RoundingMode.UNNECESSARY));
+        assertEquals(2, Money.divide(20, 10, RoundingMode.UNNECESSARY));
+    }
+
+    @Test
+    void percentOf_RoundsCommissionExplicitly() {
+        // given
+        long ppm = Money.toPpm(new BigDecimal("0.01"));
+
+        // when / then
+        assertEquals(10_000, ppm);
+        assertEquals(11, Money.percentOf(1_001, ppm, RoundingMode.UP));
+        assertEquals(10, Money.percentOf(1_001, ppm, RoundingMode.DOWN));
+        assertEquals(10, Money.percentOf(1_050, ppm, RoundingMode.HALF_EVEN));
+        assertEquals(11, Money.percentOf(1_050, ppm, RoundingMode.HALF_UP));
+        assertEquals(92_233_720_368_547_758L, Money.percentOf(Long.MAX_VALUE, ppm, RoundingMode.DOWN));
+        assertThrows(ArithmeticException.class, () -> Money.toPpm(new BigDecimal("0.0000001")));
+    }
+
+    @Test
+    void addAndSubtract_DetectOverflow() {
+        assertEquals(Long.MAX_VALUE, Money.add(Long.MAX_VALUE - 1, 1));
+        assertThrows(ArithmeticException.class, () -> Money.add(Long.MAX_VALUE, 1));
+        assertThrows(ArithmeticException.class, () -> Money.subtract(Long.MIN_VALUE, 1));
+    }
+
+    @Test
+    void transferHotPath_DoesNotAllocate() {
+        // given
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Map<Currency, BigDecimal> quotes = new EnumMap<>(Currency.class);
+        for (Currency currency : Currency.values()) {
+            quotes.put(currency, new BigDecimal("1.2345"));
+        }
+        quotes.put(Currency.USD, BigDecimal.ONE);
+        FxRateTable table = FxRateTable.of(Currency.USD, quotes, Instant.EPOCH);
+        long sink = transferHotPath(table, 10_000);
+
+        // when
+        long before = threads.getCurrentThreadAllocatedBytes();
+        sink += transferHotPath(table, 1_000_000);
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+
+        // then
+        assertNotEquals(0, sink);
+        assertTrue(allocated < 1_024, "Hot path allocated %s bytes".formatted(allocated));
+    }
+
+    private static long transferHotPath(FxRateTable table, int iterations) {
+        long sink = 0;
+        for (int i = 1; i <= iterations; i++) {
+            long commission = Money.percentOf(i * 37L, 10_000, RoundingMode.UP);
+            long converted = table.convert(i * 37L - commission, Currency.EUR, Currency.USD);
+            sink = Money.add(sink, converted);
+        }
+        return sink;
+    }
+}